@@ -0,0 +1,36 @@
+package com.example.mate.config.redisConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import redis.embedded.RedisServer;
+
+public class RedisTestServerConfig {
+
+    private final int port = findFreePort();
+
+    @Bean
+    public RedisConnectionFactory redisConnectionFactory(RedisServer redisServer) {
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+    }
+
+    @Bean(destroyMethod = "stop")
+    public RedisServer redisServer() throws IOException {
+        RedisServer redisServer = new RedisServer(port);
+        redisServer.start();
+
+        return redisServer;
+    }
+
+    private static int findFreePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.mate.domain.chat.bucket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.mate.domain.chat.archive.ChatMessageArchive;
+import com.example.mate.domain.chat.persistence.ChatMessageIndexInitializer;
+import com.example.mate.domain.chat.persistence.ChatMessageWriter;
+import com.example.mate.domain.constant.MessageType;
+import com.example.mate.domain.mateChat.document.MateChatMessage;
+import com.example.mate.domain.mateChat.repository.MateChatMessageRepositoryCustomImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * 채팅 메시지 저장 구조(document / bucket) 비교
+ * 실제 MongoDB 에서만 의미가 있으므로 CHAT_BENCHMARK_MONGO_URI 환경 변수가 있을 때만 실행됩니다.
+ * 예) CHAT_BENCHMARK_MONGO_URI=mongodb://localhost:27017/chat_benchmark ./gradlew benchmark --tests '*ChatMessageLayoutBenchmark'
+ * - 저장 속도 : 채팅방 ROOMS 개에 메시지를 하나씩 sync 모드로 저장한 초당 메시지 수
+ * - 크기      : collStats 의 데이터 크기와 인덱스 크기
+ * - 조회 지연 : 임의 위치 커서로 20개씩 조회한 p50 / p99
+ */
+@EnabledIfEnvironmentVariable(named = "CHAT_BENCHMARK_MONGO_URI", matches = ".+")
+class ChatMessageLayoutBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatMessageLayoutBenchmark.class);
+
+    private static final int ROOMS = 50;
+    private static final int MESSAGES_PER_ROOM = 2_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int READS = 2_000;
+
+    @TempDir
+    Path journalDirectory;
+
+    private SimpleMongoClientDatabaseFactory databaseFactory;
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        databaseFactory = new SimpleMongoClientDatabaseFactory(System.getenv("CHAT_BENCHMARK_MONGO_URI"));
+        mongoTemplate = new MongoTemplate(databaseFactory);
+        mongoTemplate.getDb().drop();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mongoTemplate.getDb().drop();
+        databaseFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("메시지 문서 구조와 bucket 구조의 저장 속도, 인덱스 크기, 페이지 조회 지연을 비교한다")
+    void compare_layouts() {
+        Result document = run(ChatMessageBucketStore.LAYOUT_DOCUMENT, "mate_chat_message");
+        Result bucket = run(ChatMessageBucketStore.LAYOUT_BUCKET, "mate_chat_message_bucket");
+
+        for (Result result : List.of(document, bucket)) {
+            log.info("Chat message layout measured. [layout={}, insert={} msg/s, data={} KB, index={} KB, "
+                            + "p50={} us, p99={} us]", result.layout(), Math.round(result.insertRate()),
+                    result.dataSize() / 1024, result.indexSize() / 1024, result.p50Micros(), result.p99Micros());
+        }
+
+        assertThat(document.pageSizeRead()).isEqualTo(PAGE_SIZE);
+        assertThat(bucket.pageSizeRead()).isEqualTo(PAGE_SIZE);
+    }
+
+    private Result run(String layout, String collection) {
+        ChatMessageBucketStore bucketStore = new ChatMessageBucketStore(mongoTemplate, layout, 200);
+        MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+        new ChatMessageIndexInitializer(mongoTemplate, mappingContext, bucketStore).ensureIndexes();
+        ChatMessageWriter writer = new ChatMessageWriter(mongoTemplate, bucketStore, new SimpleMeterRegistry(),
+                ChatMessageWriter.MODE_SYNC, 100, 500, 200, journalDirectory, false, 10, 5);
+
+        // 저장 - 여러 채팅방에 번갈아 가며 저장
+        List<List<String>> idsByRoom = new ArrayList<>();
+        for (int room = 0; room < ROOMS; room++) {
+            idsByRoom.add(new ArrayList<>());
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < MESSAGES_PER_ROOM; i++) {
+            for (int room = 0; room < ROOMS; room++) {
+                String id = new ObjectId().toHexString();
+                writer.write(MateChatMessage.builder()
+                        .id(id)
+                        .roomId((long) room)
+                        .senderId((long) (i % 2))
+                        .content("benchmark message " + i)
+                        .type(MessageType.TALK)
+                        .sendTime(LocalDateTime.now())
+                        .build());
+                idsByRoom.get(room).add(id);
+            }
+        }
+        double insertRate = ROOMS * MESSAGES_PER_ROOM / ((System.nanoTime() - started) / 1e9);
+
+        Document stats = mongoTemplate.getDb().runCommand(new Document("collStats", collection));
+
+        // 조회 - 임의 채팅방의 임의 위치부터 한 페이지
+        MateChatMessageRepositoryCustomImpl repository = new MateChatMessageRepositoryCustomImpl(mongoTemplate,
+                bucketStore, new ChatMessageArchive(mongoTemplate, 1000));
+        Random random = new Random(42);
+        long[] latencies = new long[READS];
+        int pageSizeRead = 0;
+        for (int i = 0; i < READS; i++) {
+            int room = random.nextInt(ROOMS);
+            List<String> ids = idsByRoom.get(room);
+            ObjectId before = new ObjectId(ids.get(PAGE_SIZE + random.nextInt(ids.size() - PAGE_SIZE)));
+
+            long readStarted = System.nanoTime();
+            pageSizeRead = repository.getChatMessagesBefore((long) room, null, before, PAGE_SIZE).size();
+            latencies[i] = System.nanoTime() - readStarted;
+        }
+        Arrays.sort(latencies);
+
+        return new Result(layout, insertRate, stats.get("size", Number.class).longValue(),
+                stats.get("totalIndexSize", Number.class).longValue(),
+                latencies[READS / 2] / 1_000, latencies[READS * 99 / 100] / 1_000, pageSizeRead);
+    }
+
+    private record Result(String layout, double insertRate, long dataSize, long indexSize,
+                          long p50Micros, long p99Micros, int pageSizeRead) {
+    }
+}
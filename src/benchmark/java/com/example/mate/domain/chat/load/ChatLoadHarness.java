@@ -0,0 +1,333 @@
+package com.example.mate.domain.chat.load;
+
+import static com.example.mate.domain.match.entity.MatchStatus.SCHEDULED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.mate.common.security.util.JwtUtil;
+import com.example.mate.config.mongoConfig.EnableMongoTestServer;
+import com.example.mate.config.redisConfig.EnableRedisTestServer;
+import com.example.mate.domain.constant.Gender;
+import com.example.mate.domain.constant.MessageType;
+import com.example.mate.domain.goodsChat.dto.request.GoodsChatMessageRequest;
+import com.example.mate.domain.goodsChat.service.GoodsChatService;
+import com.example.mate.domain.goodsPost.dto.response.LocationInfo;
+import com.example.mate.domain.goodsPost.entity.Category;
+import com.example.mate.domain.goodsPost.entity.GoodsPost;
+import com.example.mate.domain.goodsPost.repository.GoodsPostRepository;
+import com.example.mate.domain.match.entity.Match;
+import com.example.mate.domain.match.repository.MatchRepository;
+import com.example.mate.domain.mateChat.dto.request.MateChatMessageRequest;
+import com.example.mate.domain.mateChat.entity.MateChatRoom;
+import com.example.mate.domain.mateChat.service.MateChatRoomService;
+import com.example.mate.domain.matePost.entity.Age;
+import com.example.mate.domain.matePost.entity.MatePost;
+import com.example.mate.domain.matePost.entity.TransportType;
+import com.example.mate.domain.matePost.repository.MatePostRepository;
+import com.example.mate.domain.member.entity.Member;
+import com.example.mate.domain.member.repository.MemberRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+/**
+ * 한 노드가 감당하는 채팅 동시 사용자 수 측정
+ * MongoDB 는 mongo-java-server, JPA 는 H2, Redis 는 embedded-redis 를 사용하므로
+ * 안 읽은 메시지 수와 접속 상태의 Redis 왕복도 지연에 포함됩니다.
+ * 회원을 메이트 채팅방(MAX_MEMBERS 명)과 굿즈거래 채팅방(2명)에 나누어 입장시킨 뒤
+ * 회원마다 액세스 토큰으로 /ws/chat 에 STOMP 연결을 맺고 메시지를 보내, 발신부터 같은 채팅방 구독자의 수신까지의 지연과 초당 수신 메시지 수를 출력합니다.
+ * CHAT_LOAD_CLIENTS 환경 변수가 있을 때만 실행됩니다.
+ * 예) CHAT_LOAD_CLIENTS=2000 CHAT_LOAD_MESSAGES=20 ./gradlew benchmark --tests '*ChatLoadHarness'
+ */
+@EnabledIfEnvironmentVariable(named = "CHAT_LOAD_CLIENTS", matches = "\\d+")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnableMongoTestServer
+@EnableRedisTestServer
+class ChatLoadHarness {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatLoadHarness.class);
+
+    private static final String LOAD_MESSAGE_PREFIX = "load:";
+    private static final long SEND_INTERVAL_MILLIS = 1_000;
+    private static final long RECEIVE_TIMEOUT_SECONDS = 60;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired private MateChatRoomService mateChatRoomService;
+    @Autowired private GoodsChatService goodsChatService;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private MatchRepository matchRepository;
+    @Autowired private MatePostRepository matePostRepository;
+    @Autowired private GoodsPostRepository goodsPostRepository;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private JwtUtil jwtUtil;
+
+    private final List<LoadClient> clients = new ArrayList<>();
+    private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong lastReceivedAt = new AtomicLong();
+    private WebSocketStompClient stompClient;
+    private ThreadPoolTaskScheduler heartbeatScheduler;
+    private int memberSequence;
+
+    @AfterEach
+    void tearDown() {
+        clients.forEach(client -> {
+            if (client.session != null && client.session.isConnected()) {
+                client.session.disconnect();
+            }
+        });
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+        if (heartbeatScheduler != null) {
+            heartbeatScheduler.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 접속 채팅 사용자의 메시지 전달 지연과 처리량을 측정한다")
+    void measure_chat_throughput() throws Exception {
+        int clientCount = Integer.parseInt(System.getenv("CHAT_LOAD_CLIENTS"));
+        int messagesPerClient = Integer.parseInt(System.getenv().getOrDefault("CHAT_LOAD_MESSAGES", "10"));
+
+        // given - 절반은 메이트 채팅방, 나머지는 굿즈거래 채팅방
+        int mateClients = clientCount / 2 / MateChatRoom.MAX_MEMBERS * MateChatRoom.MAX_MEMBERS;
+        for (int i = 0; i < mateClients / MateChatRoom.MAX_MEMBERS; i++) {
+            joinMateChatRoom();
+        }
+        for (int i = 0; i < (clientCount - mateClients) / 2; i++) {
+            joinGoodsChatRoom();
+        }
+        connectAll();
+
+        // when
+        long expected = 0;
+        long startedAt = System.nanoTime();
+        for (int round = 0; round < messagesPerClient; round++) {
+            long roundStartedAt = System.currentTimeMillis();
+            for (LoadClient client : clients) {
+                client.send(System.nanoTime());
+                expected += client.roomSize;
+            }
+            long elapsed = System.currentTimeMillis() - roundStartedAt;
+            if (elapsed < SEND_INTERVAL_MILLIS) {
+                Thread.sleep(SEND_INTERVAL_MILLIS - elapsed);
+            }
+        }
+        awaitReceived(expected);
+
+        // then
+        report(expected, startedAt);
+        assertThat(received.get()).isPositive();
+    }
+
+    private void joinMateChatRoom() {
+        Member author = createMember();
+        Match match = matchRepository.save(Match.builder()
+                .homeTeamId(1L)
+                .awayTeamId(2L)
+                .stadiumId(1L)
+                .status(SCHEDULED)
+                .matchTime(LocalDateTime.now().plusDays(2))
+                .build());
+        MatePost matePost = matePostRepository.save(MatePost.builder()
+                .author(author)
+                .teamId(1L)
+                .match(match)
+                .title("load test")
+                .content("load test")
+                .status(com.example.mate.domain.matePost.entity.Status.OPEN)
+                .maxParticipants(MateChatRoom.MAX_MEMBERS)
+                .age(Age.ALL)
+                .gender(Gender.ANY)
+                .transport(TransportType.PUBLIC)
+                .build());
+
+        Long roomId = mateChatRoomService.createOrJoinChatRoomFromPost(matePost.getId(), author.getId()).getRoomId();
+        clients.add(new LoadClient(LoadClient.MATE, roomId, author.getId(), accessToken(author),
+                MateChatRoom.MAX_MEMBERS));
+        for (int i = 1; i < MateChatRoom.MAX_MEMBERS; i++) {
+            Member member = createMember();
+            mateChatRoomService.createOrJoinChatRoomFromPost(matePost.getId(), member.getId());
+            clients.add(new LoadClient(LoadClient.MATE, roomId, member.getId(), accessToken(member),
+                    MateChatRoom.MAX_MEMBERS));
+        }
+    }
+
+    private void joinGoodsChatRoom() {
+        Member seller = createMember();
+        Member buyer = createMember();
+        GoodsPost goodsPost = goodsPostRepository.save(GoodsPost.builder()
+                .teamId(1L)
+                .seller(seller)
+                .title("load test")
+                .content("load test")
+                .price(10_000)
+                .status(com.example.mate.domain.goodsPost.entity.Status.OPEN)
+                .category(Category.ACCESSORY)
+                .location(LocationInfo.toEntity(LocationInfo.builder()
+                        .placeName("Stadium Plaza")
+                        .longitude("127.12345")
+                        .latitude("37.56789")
+                        .build()))
+                .build());
+
+        Long roomId = goodsChatService.getOrCreateGoodsChatRoom(buyer.getId(), goodsPost.getId()).getChatRoomId();
+        clients.add(new LoadClient(LoadClient.GOODS, roomId, seller.getId(), accessToken(seller), 2));
+        clients.add(new LoadClient(LoadClient.GOODS, roomId, buyer.getId(), accessToken(buyer), 2));
+    }
+
+    // 접속 상태는 CONNECT 에서 인증된 회원 기준으로 기록되므로 회원마다 액세스 토큰으로 연결
+    private String accessToken(Member member) {
+        return jwtUtil.createAccessToken(member.getPayload(), new Date());
+    }
+
+    private Member createMember() {
+        String name = "load" + memberSequence++;
+        return memberRepository.save(Member.builder()
+                .name(name)
+                .nickname(name)
+                .email(name + "@load.test")
+                .imageUrl("upload/test.jpg")
+                .gender(Gender.FEMALE)
+                .age(25)
+                .manner(0.3f)
+                .teamId(1L)
+                .build());
+    }
+
+    private void connectAll() throws Exception {
+        heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(4);
+        heartbeatScheduler.initialize();
+
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(converter);
+        stompClient.setTaskScheduler(heartbeatScheduler);
+
+        String url = "ws://localhost:" + port + "/ws/chat/websocket";
+        for (LoadClient client : clients) {
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("Authorization", "Bearer " + client.accessToken);
+            client.session = stompClient.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders,
+                    new StompSessionHandlerAdapter() {
+                    }).get(10, TimeUnit.SECONDS);
+            client.session.subscribe(client.destination(), new LoadFrameHandler());
+        }
+        // 구독이 브로커에 등록될 때까지 대기
+        Thread.sleep(1_000);
+    }
+
+    private void awaitReceived(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(RECEIVE_TIMEOUT_SECONDS);
+        while (received.get() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+    }
+
+    private void report(long expected, long startedAt) {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        double seconds = Math.max(lastReceivedAt.get() - startedAt, 1) / 1_000_000_000.0;
+
+        log.info("Chat load measured. [clients={}, received={}/{}, lost={}%, throughput={} msg/s]",
+                clients.size(), received.get(), expected,
+                String.format("%.2f", expected == 0 ? 0 : (expected - received.get()) * 100.0 / expected),
+                Math.round(received.get() / seconds));
+        log.info("Chat load latency. [{}]", String.format("p50=%.1f ms, p95=%.1f ms, p99=%.1f ms, max=%.1f ms",
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                percentile(sorted, 1.0)));
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    // 메시지 내용에 담긴 발신 시각으로 지연 계산 (같은 JVM 이므로 nanoTime 사용)
+    private class LoadFrameHandler implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return Map.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            long now = System.nanoTime();
+            Object message = ((Map<?, ?>) payload).get("message");
+            if (message == null || !message.toString().startsWith(LOAD_MESSAGE_PREFIX)) {
+                return;
+            }
+            long sentAt = Long.parseLong(message.toString().substring(LOAD_MESSAGE_PREFIX.length()));
+            latencies.add(now - sentAt);
+            received.incrementAndGet();
+            lastReceivedAt.accumulateAndGet(now, Math::max);
+        }
+    }
+
+    private static class LoadClient {
+
+        private static final String MATE = "mate";
+        private static final String GOODS = "goods";
+
+        private final String type;
+        private final Long roomId;
+        private final Long memberId;
+        private final String accessToken;
+        private final int roomSize;
+        private StompSession session;
+
+        private LoadClient(String type, Long roomId, Long memberId, String accessToken, int roomSize) {
+            this.type = type;
+            this.roomId = roomId;
+            this.memberId = memberId;
+            this.accessToken = accessToken;
+            this.roomSize = roomSize;
+        }
+
+        private String destination() {
+            return "/sub/chat/" + type + "/" + roomId;
+        }
+
+        private void send(long sentAt) {
+            String content = LOAD_MESSAGE_PREFIX + sentAt;
+            if (MATE.equals(type)) {
+                session.send("/pub/chat/mate/message", new MateChatMessageRequest("TALK", roomId, memberId, content));
+            } else {
+                session.send("/pub/chat/goods/message",
+                        new GoodsChatMessageRequest(roomId, memberId, content, MessageType.TALK));
+            }
+        }
+    }
+}
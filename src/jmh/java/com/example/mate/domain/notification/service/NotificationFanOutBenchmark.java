@@ -0,0 +1,149 @@
+package com.example.mate.domain.notification.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.example.mate.common.cluster.StandaloneClusterBus;
+import com.example.mate.domain.constant.Gender;
+import com.example.mate.domain.member.entity.Member;
+import com.example.mate.domain.member.repository.MemberRepository;
+import com.example.mate.domain.notification.entity.Notification;
+import com.example.mate.domain.notification.entity.NotificationType;
+import com.example.mate.domain.notification.repository.EmitterRepository;
+import com.example.mate.domain.notification.repository.EmitterRepositoryImpl;
+import com.example.mate.domain.notification.repository.NotificationRepository;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 등록된 Emitter 수에 따른 알림 전송(send) 지연 측정 (JMH)
+ * 회원마다 EMITTERS_PER_MEMBER 개의 Emitter 를 등록한 뒤 임의의 회원에게 알림을 보내며,
+ * SampleTime 모드로 p50 / p99 를 포함한 지연 분포를 출력합니다.
+ * 비교를 위해 전체 Emitter 를 회원 ID 접두사로 찾던 이전 방식의 조회(prefixScan)도 함께 측정합니다.
+ * 알림 저장은 mock 으로, 노드 간 전달은 단일 노드 버스로 대체하고, Emitter 는 실제 연결 없이 전송된 이벤트를 소비만 합니다.
+ * 예) ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationFanOutBenchmark {
+
+    private static final int EMITTERS_PER_MEMBER = 2;
+    private static final int RECEIVERS = 1 << 14;
+
+    @Param({"10000", "100000"})
+    private int emitters;
+
+    private NotificationService notificationService;
+    private Map<String, SseEmitter> flatEmitters;
+    private Member[] receivers;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        int memberCount = emitters / EMITTERS_PER_MEMBER;
+        EmitterRepository emitterRepository = new EmitterRepositoryImpl();
+        flatEmitters = new ConcurrentHashMap<>();
+        for (long memberId = 1; memberId <= memberCount; memberId++) {
+            for (int i = 0; i < EMITTERS_PER_MEMBER; i++) {
+                String emitterId = memberId + "_" + i;
+                SseEmitter emitter = new ConsumingEmitter(blackhole);
+                emitterRepository.save(memberId, emitterId, emitter);
+                flatEmitters.put(emitterId, emitter);
+            }
+        }
+
+        NotificationRepository notificationRepository = mock(NotificationRepository.class,
+                withSettings().stubOnly());
+        AtomicLong notificationIds = new AtomicLong();
+        when(notificationRepository.save(any(Notification.class))).thenAnswer(invocation -> {
+            Notification notification = invocation.getArgument(0);
+            ReflectionTestUtils.setField(notification, "id", notificationIds.incrementAndGet());
+            return notification;
+        });
+        NotificationDispatcher notificationDispatcher = new NotificationDispatcher(new StandaloneClusterBus(),
+                emitterRepository);
+        notificationDispatcher.subscribe();
+        notificationService = new NotificationService(emitterRepository, notificationRepository,
+                mock(MemberRepository.class), notificationDispatcher);
+
+        receivers = new Member[RECEIVERS];
+        Random random = new Random(42);
+        for (int i = 0; i < RECEIVERS; i++) {
+            receivers[i] = createMember(1L + random.nextInt(memberCount));
+        }
+    }
+
+    @Benchmark
+    public void send() {
+        notificationService.send(NotificationType.MATE_CLOSED, "알림", "url", nextReceiver());
+    }
+
+    // 이전 방식 - 전체 Emitter 중 회원 ID 로 시작하는 항목 조회
+    @Benchmark
+    public void prefixScan(Blackhole blackhole) {
+        String prefix = String.valueOf(nextReceiver().getId());
+        blackhole.consume(flatEmitters.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+    }
+
+    private Member nextReceiver() {
+        next = (next + 1) & (RECEIVERS - 1);
+        return receivers[next];
+    }
+
+    private Member createMember(Long id) {
+        return Member.builder()
+                .id(id)
+                .name("member" + id)
+                .nickname("member" + id)
+                .email("member" + id + "@gmail.com")
+                .imageUrl("image.png")
+                .gender(Gender.MALE)
+                .age(25)
+                .manner(0.3f)
+                .teamId(1L)
+                .build();
+    }
+
+    // 연결 없이 전송된 이벤트를 Blackhole 로 소비하는 Emitter
+    private static class ConsumingEmitter extends SseEmitter {
+
+        private final Blackhole blackhole;
+
+        ConsumingEmitter(Blackhole blackhole) {
+            super(60L * 1000 * 60);
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            blackhole.consume(builder);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.mate.common.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+
+/**
+ * 도메인별 비동기 이벤트 처리용 executor
+ * 동시 실행 수(concurrency)와 대기 작업 수(queue-capacity)를 합한 만큼만 작업을 받아,
+ * 한 도메인의 이벤트 폭주가 다른 도메인의 이벤트 처리를 막지 않도록 합니다.
+ * - platform : 고정 크기 스레드 풀 (기본값)
+ * - virtual  : 작업마다 가상 스레드를 생성하고 동시 실행 수만 제한 (JDK 21 이상, 미지원 시 platform 으로 동작)
+ * 가득 찬 경우의 처리 방식
+ * - caller-runs : 이벤트를 발행한 스레드에서 직접 실행 (기본값)
+ * - discard     : 경고 로그를 남기고 버림
+ * - abort       : RejectedExecutionException 발생
+ */
+@Slf4j
+public class BoundedEventExecutor implements TaskExecutor, DisposableBean {
+
+    public static final String MODE_PLATFORM = "platform";
+    public static final String MODE_VIRTUAL = "virtual";
+
+    public static final String REJECT_CALLER_RUNS = "caller-runs";
+    public static final String REJECT_DISCARD = "discard";
+    public static final String REJECT_ABORT = "abort";
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final String name;
+    private final String rejectionPolicy;
+    private final int capacity;
+    private final Semaphore admission;
+    private final Semaphore concurrency;
+    private final ExecutorService threadPool;
+    private final ThreadFactory virtualThreadFactory;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private volatile boolean shutdown;
+
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedEventExecutor(String name, String mode, int concurrency, int queueCapacity,
+                                String rejectionPolicy, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.rejectionPolicy = rejectionPolicy;
+        this.capacity = concurrency + queueCapacity;
+        this.admission = new Semaphore(capacity);
+
+        ThreadFactory virtualFactory = MODE_VIRTUAL.equals(mode) ? createVirtualThreadFactory(name) : null;
+        if (virtualFactory != null) {
+            this.virtualThreadFactory = virtualFactory;
+            this.concurrency = new Semaphore(concurrency);
+            this.threadPool = null;
+        } else {
+            this.virtualThreadFactory = null;
+            this.concurrency = null;
+            this.threadPool = createThreadPool(name, concurrency);
+        }
+
+        Gauge.builder("event.executor.queue.depth", queued, AtomicInteger::get)
+                .tag("executor", name)
+                .description("실행을 기다리는 이벤트 처리 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("event.executor.active", active, AtomicInteger::get)
+                .tag("executor", name)
+                .description("실행 중인 이벤트 처리 작업 수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("event.executor.wait")
+                .tag("executor", name)
+                .description("이벤트 처리 작업의 대기 시간")
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("event.executor.execution")
+                .tag("executor", name)
+                .description("이벤트 처리 작업의 실행 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("event.executor.rejected")
+                .tag("executor", name)
+                .description("가득 차서 거절된 이벤트 처리 작업 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (shutdown || !admission.tryAcquire()) {
+            reject(task);
+            return;
+        }
+
+        long queuedAt = System.nanoTime();
+        queued.incrementAndGet();
+        Runnable admitted = () -> {
+            try {
+                runMeasured(task, queuedAt);
+            } finally {
+                admission.release();
+            }
+        };
+
+        try {
+            if (virtualThreadFactory != null) {
+                virtualThreadFactory.newThread(admitted).start();
+            } else {
+                threadPool.execute(admitted);
+            }
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            admission.release();
+            reject(task);
+        }
+    }
+
+    private void runMeasured(Runnable task, long queuedAt) {
+        boolean acquired = false;
+        try {
+            if (concurrency != null) {
+                concurrency.acquire();
+                acquired = true;
+            }
+            queued.decrementAndGet();
+            waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+
+            active.incrementAndGet();
+            try {
+                executionTimer.record(task);
+            } finally {
+                active.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            queued.decrementAndGet();
+            Thread.currentThread().interrupt();
+        } finally {
+            if (acquired) {
+                concurrency.release();
+            }
+        }
+    }
+
+    private void reject(Runnable task) {
+        rejectedCounter.increment();
+        if (REJECT_CALLER_RUNS.equals(rejectionPolicy)) {
+            executionTimer.record(task);
+            return;
+        }
+        if (REJECT_DISCARD.equals(rejectionPolicy)) {
+            log.warn("Event task discarded. [executor={}]", name);
+            return;
+        }
+        throw new RejectedExecutionException("Event executor is full. [executor=" + name + "]");
+    }
+
+    // 실행 중이거나 대기 중인 작업이 끝날 때까지 대기한 뒤 종료
+    @Override
+    public void destroy() throws InterruptedException {
+        shutdown = true;
+        if (!admission.tryAcquire(capacity, SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Event executor did not drain before shutdown. [executor={}, queued={}, active={}]",
+                    name, queued.get(), active.get());
+        }
+        if (threadPool != null) {
+            threadPool.shutdownNow();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isVirtual() {
+        return virtualThreadFactory != null;
+    }
+
+    private static ExecutorService createThreadPool(String name, int concurrency) {
+        AtomicInteger sequence = new AtomicInteger();
+        // 대기 작업 수는 admission 으로 제한하므로 내부 queue 는 제한하지 않음
+        return new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 빌드 대상 JDK 가 17 이므로 가상 스레드 API 는 리플렉션으로 접근
+    private static ThreadFactory createVirtualThreadFactory(String name) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, name + "-", 1L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Virtual threads are not available on this JVM, falling back to platform threads. "
+                    + "[executor={}, java.version={}]", name, System.getProperty("java.version"));
+            return null;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.mate.common.cluster;
+
+/**
+ * 애플리케이션 노드 간 메시지 버스
+ * publish 된 메시지는 현재 노드를 포함한 모든 노드의 구독자에게 전달됩니다.
+ * 채널 패턴은 끝에 '*' 를 붙여 접두사 구독을 할 수 있습니다. (예: "chat:relay:*")
+ */
+public interface ClusterBus {
+
+    // 현재 노드 식별자
+    String nodeId();
+
+    // 다른 노드와 메시지를 주고받는 분산 모드인지 여부
+    boolean isDistributed();
+
+    void publish(String channel, Object message);
+
+    <T> void subscribe(String channelPattern, Class<T> type, ClusterMessageListener<T> listener);
+}
@@ -0,0 +1,7 @@
+package com.example.mate.common.cluster;
+
+@FunctionalInterface
+public interface ClusterMessageListener<T> {
+
+    void onMessage(String channel, T message);
+}
@@ -0,0 +1,34 @@
+package com.example.mate.common.cluster;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * 같은 JVM 안의 여러 애플리케이션 컨텍스트를 하나의 클러스터로 묶는 버스
+ * Redis 없이 다중 노드 동작을 통합 테스트하기 위한 대체 구현입니다.
+ */
+public class LocalClusterBus extends StandaloneClusterBus implements DisposableBean {
+
+    // JVM 전체에서 공유되는 노드 목록
+    private static final Set<LocalClusterBus> NODES = new CopyOnWriteArraySet<>();
+
+    public LocalClusterBus() {
+        NODES.add(this);
+    }
+
+    @Override
+    public boolean isDistributed() {
+        return true;
+    }
+
+    @Override
+    public void publish(String channel, Object message) {
+        NODES.forEach(node -> node.deliver(channel, message));
+    }
+
+    @Override
+    public void destroy() {
+        NODES.remove(this);
+    }
+}
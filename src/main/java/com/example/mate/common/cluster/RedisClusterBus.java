@@ -0,0 +1,64 @@
+package com.example.mate.common.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+/**
+ * Redis Pub/Sub 기반 버스
+ * 메시지는 JSON 으로 직렬화되어 모든 노드(자기 자신 포함)에 전달됩니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisClusterBus implements ClusterBus {
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public boolean isDistributed() {
+        return true;
+    }
+
+    @Override
+    public void publish(String channel, Object message) {
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cluster message serialization failed. [channel=" + channel + "]", e);
+        }
+    }
+
+    @Override
+    public <T> void subscribe(String channelPattern, Class<T> type, ClusterMessageListener<T> listener) {
+        Topic topic = channelPattern.endsWith("*") ? new PatternTopic(channelPattern) : new ChannelTopic(channelPattern);
+
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+            try {
+                listener.onMessage(channel, objectMapper.readValue(message.getBody(), type));
+            } catch (IOException e) {
+                log.error("Cluster message deserialization failed. [channel={}]", channel, e);
+            } catch (RuntimeException e) {
+                log.error("Cluster message listener failed. [channel={}]", channel, e);
+            }
+        }, topic);
+    }
+}
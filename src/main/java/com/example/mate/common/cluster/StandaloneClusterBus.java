@@ -0,0 +1,64 @@
+package com.example.mate.common.cluster;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 단일 노드 운영용 버스
+ * 메시지를 현재 노드의 구독자에게만 동기적으로 전달합니다.
+ */
+@Slf4j
+public class StandaloneClusterBus implements ClusterBus {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Subscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public boolean isDistributed() {
+        return false;
+    }
+
+    @Override
+    public void publish(String channel, Object message) {
+        deliver(channel, message);
+    }
+
+    @Override
+    public <T> void subscribe(String channelPattern, Class<T> type, ClusterMessageListener<T> listener) {
+        subscriptions.add(new Subscription<>(channelPattern, type, listener));
+    }
+
+    // 채널 패턴이 일치하는 구독자에게 메시지 전달
+    void deliver(String channel, Object message) {
+        for (Subscription<?> subscription : subscriptions) {
+            if (matches(subscription.channelPattern(), channel) && subscription.type().isInstance(message)) {
+                try {
+                    subscription.dispatch(channel, message);
+                } catch (RuntimeException e) {
+                    log.error("Cluster message listener failed. [channel={}]", channel, e);
+                }
+            }
+        }
+    }
+
+    static boolean matches(String channelPattern, String channel) {
+        if (channelPattern.endsWith("*")) {
+            return channel.startsWith(channelPattern.substring(0, channelPattern.length() - 1));
+        }
+        return channelPattern.equals(channel);
+    }
+
+    private record Subscription<T>(String channelPattern, Class<T> type, ClusterMessageListener<T> listener) {
+
+        void dispatch(String channel, Object message) {
+            listener.onMessage(channel, type.cast(message));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.mate.common.config;
+
+import com.example.mate.common.async.BoundedEventExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 비동기 이벤트 처리 executor 설정
+ * 채팅 시스템 메시지(입장/퇴장/거래완료)와 알림 전송을 서로 다른 executor 에서 처리합니다.
+ */
+@Configuration
+public class AsyncConfig {
+
+    public static final String CHAT_EVENT_EXECUTOR = "chatEventExecutor";
+    public static final String NOTIFICATION_EVENT_EXECUTOR = "notificationEventExecutor";
+
+    @Bean(name = CHAT_EVENT_EXECUTOR)
+    public BoundedEventExecutor chatEventExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${async.chat.mode:platform}") String mode,
+            @Value("${async.chat.concurrency:8}") int concurrency,
+            @Value("${async.chat.queue-capacity:2000}") int queueCapacity,
+            @Value("${async.chat.rejection-policy:caller-runs}") String rejectionPolicy) {
+        return new BoundedEventExecutor("chat-event", mode, concurrency, queueCapacity, rejectionPolicy,
+                meterRegistry);
+    }
+
+    @Bean(name = NOTIFICATION_EVENT_EXECUTOR)
+    public BoundedEventExecutor notificationEventExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${async.notification.mode:platform}") String mode,
+            @Value("${async.notification.concurrency:4}") int concurrency,
+            @Value("${async.notification.queue-capacity:1000}") int queueCapacity,
+            @Value("${async.notification.rejection-policy:caller-runs}") String rejectionPolicy) {
+        return new BoundedEventExecutor("notification-event", mode, concurrency, queueCapacity, rejectionPolicy,
+                meterRegistry);
+    }
+}
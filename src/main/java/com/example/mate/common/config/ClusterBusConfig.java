@@ -0,0 +1,51 @@
+package com.example.mate.common.config;
+
+import com.example.mate.common.cluster.ClusterBus;
+import com.example.mate.common.cluster.LocalClusterBus;
+import com.example.mate.common.cluster.RedisClusterBus;
+import com.example.mate.common.cluster.StandaloneClusterBus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 노드 간 메시지 버스 설정
+ * - standalone : 단일 노드 (기본값)
+ * - local      : 같은 JVM 의 여러 컨텍스트를 하나의 클러스터로 묶는 테스트용 모드
+ * - redis      : Redis Pub/Sub 을 이용한 다중 노드 모드
+ */
+@Configuration
+public class ClusterBusConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "cluster.mode", havingValue = "standalone", matchIfMissing = true)
+    public ClusterBus standaloneClusterBus() {
+        return new StandaloneClusterBus();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cluster.mode", havingValue = "local")
+    public ClusterBus localClusterBus() {
+        return new LocalClusterBus();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cluster.mode", havingValue = "redis")
+    public RedisMessageListenerContainer clusterListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cluster.mode", havingValue = "redis")
+    public ClusterBus redisClusterBus(StringRedisTemplate redisTemplate,
+                                      RedisMessageListenerContainer clusterListenerContainer,
+                                      ObjectMapper objectMapper) {
+        return new RedisClusterBus(redisTemplate, clusterListenerContainer, objectMapper);
+    }
+}
@@ -1,17 +1,51 @@
 package com.example.mate.common.config;
 
-import lombok.RequiredArgsConstructor;
+import com.example.mate.common.websocket.ChatBrokerRelay;
+import com.example.mate.common.websocket.SlowConsumerGuard;
+import com.example.mate.common.websocket.UnreadSubscriptionGuard;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker  // WebSocket 메시지 브로커 활성화
-@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final ChatBrokerRelay chatBrokerRelay;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final UnreadSubscriptionGuard unreadSubscriptionGuard;
+    private final ChannelPool inboundPool;
+    private final ChannelPool outboundPool;
+    private final int sendTimeLimitMillis;
+    private final int sendBufferSizeLimit;
+    private final int messageSizeLimit;
+
+    public WebSocketConfig(ChatBrokerRelay chatBrokerRelay, SlowConsumerGuard slowConsumerGuard,
+                           UnreadSubscriptionGuard unreadSubscriptionGuard,
+                           @Value("${websocket.inbound.core-pool-size:8}") int inboundCorePoolSize,
+                           @Value("${websocket.inbound.max-pool-size:16}") int inboundMaxPoolSize,
+                           @Value("${websocket.inbound.queue-capacity:10000}") int inboundQueueCapacity,
+                           @Value("${websocket.outbound.core-pool-size:16}") int outboundCorePoolSize,
+                           @Value("${websocket.outbound.max-pool-size:32}") int outboundMaxPoolSize,
+                           @Value("${websocket.outbound.queue-capacity:10000}") int outboundQueueCapacity,
+                           @Value("${websocket.transport.send-time-limit-ms:10000}") int sendTimeLimitMillis,
+                           @Value("${websocket.transport.send-buffer-size-limit:524288}") int sendBufferSizeLimit,
+                           @Value("${websocket.transport.message-size-limit:65536}") int messageSizeLimit) {
+        this.chatBrokerRelay = chatBrokerRelay;
+        this.slowConsumerGuard = slowConsumerGuard;
+        this.unreadSubscriptionGuard = unreadSubscriptionGuard;
+        this.inboundPool = new ChannelPool(inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity);
+        this.outboundPool = new ChannelPool(outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity);
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.messageSizeLimit = messageSizeLimit;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 구독 경로 설정 - 클라이언트가 구독할 수 있는 endpoint 설정
@@ -19,12 +53,16 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.enableSimpleBroker(
                 "/sub/chat/mate",     // 메이트 채팅 (다대다 채팅)
                 "/sub/chat/goods",    // 굿즈거래 채팅 (1:1)
-                "/sub/chat/dm"        // 일반 DM (1:1)
+                "/sub/chat/dm",       // 일반 DM (1:1)
+                "/sub/chat/unread"    // 안 읽은 메시지 수 (회원별, 본인만 구독 가능)
         );
 
         // 발행 경로 설정 - 클라이언트가 메시지를 발행할 때 사용할 prefix
         // 클라이언트가 메시지를 보낼 때는 이 prefix로 시작하는 endpoint로 메시지를 전송
         registry.setApplicationDestinationPrefixes("/pub");
+
+        // 브로커 채널 인터셉터 - 다중 노드 운영 시 채팅 메시지를 다른 노드의 구독자에게 중계
+        registry.configureBrokerChannel().interceptors(chatBrokerRelay);
     }
 
     @Override
@@ -37,4 +75,37 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 // SockJS 지원 추가 (WebSocket을 지원하지 않는 브라우저를 위한 fallback)
                 .withSockJS();
     }
+
+    // 클라이언트 -> 서버 메시지 처리 스레드 풀 - 안 읽은 메시지 수는 본인만 구독할 수 있도록 구독 요청 확인
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        inboundPool.apply(registration);
+        registration.interceptors(unreadSubscriptionGuard);
+    }
+
+    // 서버 -> 클라이언트 메시지 전송 스레드 풀 - 느린 구독자가 다른 세션의 전송을 막지 않도록 세션별 대기 메시지 수 제한
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        outboundPool.apply(registration);
+        registration.interceptors(slowConsumerGuard);
+    }
+
+    // 세션별 전송 시간, 전송 버퍼 한도 - 넘으면 해당 세션의 연결 종료
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(slowConsumerGuard);
+    }
+
+    private record ChannelPool(int corePoolSize, int maxPoolSize, int queueCapacity) {
+
+        void apply(ChannelRegistration registration) {
+            registration.taskExecutor()
+                    .corePoolSize(corePoolSize)
+                    .maxPoolSize(maxPoolSize)
+                    .queueCapacity(queueCapacity);
+        }
+    }
 }
\ No newline at end of file
@@ -146,6 +146,8 @@ public enum ErrorCode {
     CHAT_NOT_AVAILABLE(HttpStatus.BAD_REQUEST, "CHAT009", "2명 이상의 사용자가 있어야 채팅이 가능합니다."),
     MESSAGE_CONTENT_EMPTY(HttpStatus.BAD_REQUEST, "CHAT010", "메시지 내용을 입력해주세요."),
     INVALID_MESSAGE_TYPE(HttpStatus.BAD_REQUEST, "CHAT011", "잘못된 메시지 타입입니다."),
+    INVALID_CHAT_CURSOR(HttpStatus.BAD_REQUEST, "CHAT012", "잘못된 채팅 내역 커서입니다."),
+    INVALID_CHAT_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "CHAT013", "검색어는 1자 이상 50자 이하의 글자나 숫자를 포함해야 합니다."),
 
     // Notification
     NOTIFICATION_SEND_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "N001", "알림 전송에 실패했습니다."),
@@ -0,0 +1,59 @@
+package com.example.mate.common.outbox;
+
+import com.example.mate.common.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 트랜잭션 아웃박스 이벤트
+ * 도메인 변경과 같은 트랜잭션에 저장되고, OutboxRelay 가 커밋 이후 전달합니다.
+ */
+@Entity
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_event_pending", columnList = "processed_at, available_at"),
+        @Index(name = "idx_outbox_event_claim_token", columnList = "claim_token")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "event_type", length = 50, nullable = false)
+    private String eventType;
+
+    @Column(name = "payload", columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    // 전달 가능 시각 - 전달 중(lease)이거나 재시도 대기 중이면 미래 시각
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    public OutboxEvent(String eventType, String payload) {
+        this.eventType = eventType;
+        this.payload = payload;
+        this.availableAt = LocalDateTime.now();
+        this.attempts = 0;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.mate.common.outbox;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * 아웃박스 이벤트 유형별 전달 처리
+ * 같은 이벤트가 두 번 이상 전달될 수 있으므로 (at-least-once) 중복 전달에 안전하게 처리해야 합니다.
+ * 묶음이 롤백된 뒤 이벤트별로 다시 전달될 수 있으므로, 푸시처럼 되돌릴 수 없는 전송은 트랜잭션 커밋 이후에 실행해야 합니다.
+ */
+public interface OutboxEventHandler<T> {
+
+    String eventType();
+
+    Class<T> payloadType();
+
+    // 같은 유형의 이벤트 묶음을 전달
+    // 예외가 발생하면 묶음 전체가 롤백되고, 이벤트를 하나씩 다시 전달해 실패한 이벤트만 재시도 대상으로 남김
+    void handle(List<OutboxMessage<T>> messages);
+
+    // 전달 작업을 실행할 executor
+    Executor executor();
+}
@@ -0,0 +1,62 @@
+package com.example.mate.common.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query("""
+            SELECT e.id
+            FROM OutboxEvent e
+            WHERE e.processedAt IS NULL
+            AND e.availableAt <= :now
+            ORDER BY e.id
+            """)
+    List<Long> findAvailableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 다른 노드가 먼저 가져간 이벤트는 available_at 이 미래 시각이므로 제외됨
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e
+            SET e.claimToken = :claimToken, e.availableAt = :leaseUntil
+            WHERE e.id IN :ids
+            AND e.processedAt IS NULL
+            AND e.availableAt <= :now
+            """)
+    int claim(@Param("ids") List<Long> ids, @Param("claimToken") String claimToken,
+              @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    List<OutboxEvent> findAllByClaimTokenOrderByIdAsc(String claimToken);
+
+    // lease 가 끝나 다른 전달이 다시 가져간 이벤트는 claim_token 이 달라 갱신되지 않음
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e
+            SET e.processedAt = :processedAt
+            WHERE e.id IN :ids
+            AND e.claimToken = :claimToken
+            AND e.processedAt IS NULL
+            """)
+    int markProcessed(@Param("ids") List<Long> ids, @Param("claimToken") String claimToken,
+                      @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e
+            SET e.attempts = e.attempts + 1, e.availableAt = :retryAt
+            WHERE e.id = :id
+            AND e.claimToken = :claimToken
+            AND e.processedAt IS NULL
+            """)
+    int markFailed(@Param("id") Long id, @Param("claimToken") String claimToken,
+                   @Param("retryAt") LocalDateTime retryAt);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,41 @@
+package com.example.mate.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxEventWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final OutboxRelay outboxRelay;
+
+    // 호출한 트랜잭션과 함께 저장되며, 커밋 직후 전달을 요청
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String eventType, Object payload) {
+        outboxEventRepository.save(new OutboxEvent(eventType, serialize(payload)));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.requestDrain();
+            }
+        });
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Outbox payload is not serializable. [type="
+                    + payload.getClass().getSimpleName() + "]", e);
+        }
+    }
+}
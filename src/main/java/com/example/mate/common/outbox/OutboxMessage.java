@@ -0,0 +1,23 @@
+package com.example.mate.common.outbox;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import org.bson.types.ObjectId;
+
+/**
+ * 핸들러에 전달되는 아웃박스 이벤트
+ */
+public record OutboxMessage<T>(Long id, LocalDateTime createdAt, T payload) {
+
+    // 이벤트마다 항상 같은 ObjectId 를 생성 - 재전달 시에도 같은 메시지 ID 를 사용해 중복 저장을 막음
+    // 앞 4바이트는 이벤트 생성 시각(초), 뒤 8바이트는 이벤트 ID
+    public String objectId() {
+        int seconds = (int) createdAt.atZone(ZoneId.systemDefault()).toEpochSecond();
+        byte[] bytes = ByteBuffer.allocate(12)
+                .putInt(seconds)
+                .putLong(id)
+                .array();
+        return new ObjectId(bytes).toHexString();
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.mate.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아웃박스 이벤트 전달
+ * 커밋 직후 요청(requestDrain)과 주기적인 폴링으로 대기 중인 이벤트를 batch-size 만큼 가져와
+ * 이벤트 유형별로 묶어 핸들러에 한 번에 전달합니다.
+ * - 가져온 이벤트는 lease 동안 다른 노드나 다음 폴링에서 가져가지 않으며, 전달 도중 종료되면 lease 이후 다시 전달됩니다.
+ * - 핸들러 처리와 처리 완료 표시는 같은 트랜잭션에서 실행됩니다.
+ * - 실패한 이벤트는 지수 백오프로 재시도하고, max-attempts 를 넘으면 오류 로그를 남기고 처리 완료로 표시합니다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements DisposableBean {
+
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, OutboxEventHandler<?>> handlers;
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    private final ExecutorService drainExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter dead;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager, List<OutboxEventHandler<?>> handlers,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.batch-size:100}") int batchSize,
+                       @Value("${outbox.lease:30s}") Duration lease,
+                       @Value("${outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.retention:7d}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(OutboxEventHandler::eventType, Function.identity()));
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+        this.delivered = meterRegistry.counter("outbox.delivered");
+        this.failed = meterRegistry.counter("outbox.failed");
+        this.dead = meterRegistry.counter("outbox.dead");
+    }
+
+    // 커밋 직후 호출 - 이미 전달 요청이 대기 중이면 합쳐서 한 번만 실행
+    public void requestDrain() {
+        if (!drainRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            drainExecutor.execute(() -> {
+                drainRequested.set(false);
+                drain();
+            });
+        } catch (RejectedExecutionException e) {
+            drainRequested.set(false);
+        }
+    }
+
+    // 커밋 직후 요청이 유실되거나 재시도 대상이 된 이벤트를 주기적으로 전달
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}")
+    public void poll() {
+        requestDrain();
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.cleanup-interval-ms:3600000}",
+            initialDelayString = "${outbox.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        try {
+            Integer deleted = transactionTemplate.execute(status ->
+                    outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minus(retention)));
+            if (deleted != null && deleted > 0) {
+                log.info("Processed outbox events deleted. [count={}]", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.error("Outbox cleanup failed.", e);
+        }
+    }
+
+    void drain() {
+        try {
+            List<OutboxEvent> claimed;
+            do {
+                claimed = claim();
+                dispatch(claimed);
+            } while (claimed.size() == batchSize);
+        } catch (RuntimeException e) {
+            log.error("Outbox drain failed.", e);
+        }
+    }
+
+    private List<OutboxEvent> claim() {
+        String claimToken = UUID.randomUUID().toString();
+        List<OutboxEvent> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = outboxEventRepository.findAvailableIds(now, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return Collections.emptyList();
+            }
+            outboxEventRepository.claim(ids, claimToken, now, now.plus(lease));
+            return outboxEventRepository.findAllByClaimTokenOrderByIdAsc(claimToken);
+        });
+        return claimed == null ? Collections.emptyList() : claimed;
+    }
+
+    private void dispatch(List<OutboxEvent> events) {
+        Map<String, List<OutboxEvent>> eventsByType = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            eventsByType.computeIfAbsent(event.getEventType(), type -> new ArrayList<>()).add(event);
+        }
+
+        eventsByType.forEach((type, typedEvents) -> {
+            OutboxEventHandler<?> handler = handlers.get(type);
+            if (handler == null) {
+                log.error("No outbox handler registered. [type={}, count={}]", type, typedEvents.size());
+                return;
+            }
+            dispatch(handler, typedEvents);
+        });
+    }
+
+    private <T> void dispatch(OutboxEventHandler<T> handler, List<OutboxEvent> events) {
+        Executor executor = handler.executor();
+        try {
+            executor.execute(() -> deliver(handler, events));
+        } catch (RejectedExecutionException e) {
+            // 가져온 이벤트는 lease 이후 다시 전달됨
+            log.warn("Outbox delivery rejected. [type={}, count={}]", handler.eventType(), events.size());
+        }
+    }
+
+    private <T> void deliver(OutboxEventHandler<T> handler, List<OutboxEvent> events) {
+        try {
+            deliverInTransaction(handler, events);
+            return;
+        } catch (LeaseLostException e) {
+            log.warn("Outbox lease expired before delivery completed, delivery rolled back. [type={}, count={}]",
+                    handler.eventType(), events.size());
+            return;
+        } catch (RuntimeException e) {
+            if (events.size() == 1) {
+                markFailed(handler, events.get(0), e);
+                return;
+            }
+            log.warn("Outbox batch delivery failed, retrying one by one. [type={}, count={}]",
+                    handler.eventType(), events.size(), e);
+        }
+
+        // 묶음 전달이 실패하면 이벤트별로 다시 전달해 실패한 이벤트만 재시도 대상으로 남김
+        for (OutboxEvent event : events) {
+            try {
+                deliverInTransaction(handler, List.of(event));
+            } catch (LeaseLostException e) {
+                log.warn("Outbox lease expired before delivery completed, delivery rolled back. [type={}, id={}]",
+                        handler.eventType(), event.getId());
+            } catch (RuntimeException e) {
+                markFailed(handler, event, e);
+            }
+        }
+    }
+
+    private <T> void deliverInTransaction(OutboxEventHandler<T> handler, List<OutboxEvent> events) {
+        List<OutboxMessage<T>> messages = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            messages.add(new OutboxMessage<>(event.getId(), event.getCreatedAt(),
+                    deserialize(event, handler.payloadType())));
+        }
+        List<Long> ids = events.stream().map(OutboxEvent::getId).toList();
+        String claimToken = events.get(0).getClaimToken();
+
+        // 대기열에서 기다리거나 전달이 길어져 lease 가 끝나면 다른 전달이 같은 이벤트를 가져갈 수 있으므로,
+        // 가져온 claim_token 그대로 처리 완료로 표시하지 못하면 롤백해 핸들러의 변경(알림 저장 등)을 한 번만 커밋
+        transactionTemplate.executeWithoutResult(status -> {
+            handler.handle(messages);
+            if (outboxEventRepository.markProcessed(ids, claimToken, LocalDateTime.now()) != ids.size()) {
+                throw new LeaseLostException();
+            }
+        });
+        delivered.increment(events.size());
+    }
+
+    private void markFailed(OutboxEventHandler<?> handler, OutboxEvent event, RuntimeException cause) {
+        int attempts = event.getAttempts() + 1;
+        try {
+            if (attempts >= maxAttempts) {
+                dead.increment();
+                log.error("Outbox event discarded after max attempts. [type={}, id={}, attempts={}, payload={}]",
+                        handler.eventType(), event.getId(), attempts, event.getPayload(), cause);
+                transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markProcessed(
+                        List.of(event.getId()), event.getClaimToken(), LocalDateTime.now()));
+                return;
+            }
+            failed.increment();
+            log.warn("Outbox event delivery failed. [type={}, id={}, attempts={}]",
+                    handler.eventType(), event.getId(), attempts, cause);
+            LocalDateTime retryAt = LocalDateTime.now().plus(backoff(attempts));
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.markFailed(event.getId(), event.getClaimToken(), retryAt));
+        } catch (RuntimeException e) {
+            // 실패 기록도 실패하면 lease 이후 다시 전달됨
+            log.error("Outbox failure could not be recorded. [id={}]", event.getId(), e);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = Duration.ofSeconds(1L << Math.min(attempts, 20));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+
+    private <T> T deserialize(OutboxEvent event, Class<T> payloadType) {
+        try {
+            return objectMapper.readValue(event.getPayload(), payloadType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox payload is not readable. [id=" + event.getId() + "]", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        drainExecutor.shutdownNow();
+    }
+
+    // 처리 완료로 표시하기 전에 lease 가 끝나 다른 전달이 이벤트를 다시 가져감
+    private static class LeaseLostException extends RuntimeException {
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.mate.common.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorResponse<T> {
+    private List<T> content;         // 실제 데이터 목록
+    private String nextCursor;       // 다음 페이지 조회에 사용할 커서 (다음 페이지가 없으면 null)
+    private boolean hasNext;         // 다음 페이지 존재 여부
+
+    /**
+     * 조회 결과를 기반으로 CursorResponse 를 생성하는 팩토리 메서드
+     *
+     * @param content    조회된 데이터 리스트
+     * @param nextCursor 마지막 데이터의 커서, 다음 페이지가 없으면 null
+     * @param <T>        데이터 타입
+     * @return CursorResponse
+     */
+    public static <T> CursorResponse<T> of(List<T> content, String nextCursor) {
+        return CursorResponse.<T>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
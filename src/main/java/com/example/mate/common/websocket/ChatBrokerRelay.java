@@ -0,0 +1,88 @@
+package com.example.mate.common.websocket;
+
+import com.example.mate.common.cluster.ClusterBus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 채팅 메시지를 다른 노드의 Simple Broker 로 중계하는 브로커 채널 인터셉터
+ * 현재 노드의 구독자에게는 그대로 전달하고, 분산 모드일 때 채팅방 단위 채널로 발행합니다.
+ * 다른 노드에서 수신한 메시지는 현재 노드의 브로커로 다시 주입됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatBrokerRelay implements ChannelInterceptor {
+
+    private static final String CHAT_DESTINATION_PREFIX = "/sub/chat/";
+    private static final String RELAY_CHANNEL_PREFIX = "chat:relay:";
+    private static final String RELAY_ORIGIN_HEADER = "chatRelayOrigin";
+
+    private final ClusterBus clusterBus;
+
+    // 브로커 설정과 순환 참조가 생기지 않도록 지연 조회
+    private final ObjectProvider<SimpMessageSendingOperations> messagingTemplateProvider;
+
+    @PostConstruct
+    public void subscribe() {
+        clusterBus.subscribe(RELAY_CHANNEL_PREFIX + "*", ChatRelayMessage.class, (channel, message) -> receive(message));
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (clusterBus.isDistributed() && isRelayTarget(message)) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+            MimeType contentType = accessor.getContentType();
+            String destination = accessor.getDestination();
+
+            clusterBus.publish(RELAY_CHANNEL_PREFIX + destination, new ChatRelayMessage(
+                    clusterBus.nodeId(),
+                    destination,
+                    contentType != null ? contentType.toString() : null,
+                    (byte[]) message.getPayload()
+            ));
+        }
+        return message;
+    }
+
+    private boolean isRelayTarget(Message<?> message) {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        return SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE
+                && destination != null
+                && destination.startsWith(CHAT_DESTINATION_PREFIX)
+                && !message.getHeaders().containsKey(RELAY_ORIGIN_HEADER)
+                && message.getPayload() instanceof byte[];
+    }
+
+    // 다른 노드에서 발행된 메시지를 현재 노드의 구독자에게 전달
+    void receive(ChatRelayMessage relayMessage) {
+        if (clusterBus.nodeId().equals(relayMessage.origin())) {
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(relayMessage.destination());
+        if (relayMessage.contentType() != null) {
+            accessor.setContentType(MimeTypeUtils.parseMimeType(relayMessage.contentType()));
+        }
+        accessor.setHeader(RELAY_ORIGIN_HEADER, relayMessage.origin());
+        accessor.setLeaveMutable(true);
+
+        messagingTemplateProvider.getObject().send(
+                relayMessage.destination(),
+                MessageBuilder.createMessage(relayMessage.payload(), accessor.getMessageHeaders())
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.mate.common.websocket;
+
+/**
+ * 다른 노드로 중계되는 STOMP 메시지
+ *
+ * @param origin      메시지를 발행한 노드 ID
+ * @param destination 구독 경로 (예: /sub/chat/mate/1)
+ * @param contentType 직렬화된 payload 의 content-type
+ * @param payload     직렬화된 메시지 본문
+ */
+public record ChatRelayMessage(String origin, String destination, String contentType, byte[] payload) {
+}
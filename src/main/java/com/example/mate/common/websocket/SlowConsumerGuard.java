@@ -0,0 +1,167 @@
+package com.example.mate.common.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+/**
+ * 느린 구독자 감지 - clientOutboundChannel 인터셉터
+ * 세션별로 전송을 기다리는 메시지 수를 세고, max-pending 을 넘은 세션에 대한 브로드캐스트(MESSAGE)를 정책에 따라 처리합니다.
+ * - drop       : 해당 메시지만 버리고 연결은 유지 (기본값)
+ * - disconnect : 연결을 끊어 클라이언트가 재연결 후 메시지를 다시 조회하도록 함
+ * 전송 시간, 버퍼 크기 한도를 넘은 세션은 WebSocket 전송 설정(send-time-limit, send-buffer-size-limit)에 따라 연결이 끊어집니다.
+ */
+@Slf4j
+@Component
+public class SlowConsumerGuard implements ExecutorChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    public static final String POLICY_DROP = "drop";
+    public static final String POLICY_DISCONNECT = "disconnect";
+
+    private final String policy;
+    private final int maxPending;
+
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger totalPending = new AtomicInteger();
+
+    private final Counter droppedCounter;
+    private final Counter disconnectedCounter;
+
+    public SlowConsumerGuard(MeterRegistry meterRegistry,
+                             @Value("${websocket.slow-consumer.policy:drop}") String policy,
+                             @Value("${websocket.slow-consumer.max-pending:1000}") int maxPending) {
+        this.policy = policy;
+        this.maxPending = maxPending;
+
+        Gauge.builder("websocket.sessions", sessions, Map::size)
+                .description("연결된 WebSocket 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.pending", totalPending, AtomicInteger::get)
+                .description("세션으로 전송을 기다리는 메시지 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("websocket.slow-consumer.dropped")
+                .description("느린 구독자에게 전송하지 않고 버린 메시지 수")
+                .register(meterRegistry);
+        this.disconnectedCounter = Counter.builder("websocket.slow-consumer.disconnected")
+                .description("느린 구독자로 판단되어 연결을 끊은 세션 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), new SessionState(session));
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                SessionState state = sessions.remove(session.getId());
+                if (state != null) {
+                    totalPending.addAndGet(-state.pending.get());
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SessionState state = findSession(message);
+        if (state == null) {
+            return message;
+        }
+
+        if (state.pending.get() >= maxPending
+                && SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+            handleSlowConsumer(state);
+            return null;
+        }
+        state.pending.incrementAndGet();
+        totalPending.incrementAndGet();
+        return message;
+    }
+
+    // executor 에 전달하지 못한 경우 (대기열 초과 등)
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (ex != null) {
+            release(message);
+        }
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+                                    Exception ex) {
+        release(message);
+    }
+
+    public int getPending(String sessionId) {
+        SessionState state = sessions.get(sessionId);
+        return state != null ? state.pending.get() : 0;
+    }
+
+    private void handleSlowConsumer(SessionState state) {
+        if (!POLICY_DISCONNECT.equals(policy)) {
+            droppedCounter.increment();
+            return;
+        }
+        if (!state.closing.compareAndSet(false, true)) {
+            return;
+        }
+
+        disconnectedCounter.increment();
+        log.warn("Disconnecting slow WebSocket consumer. [sessionId={}, pending={}]",
+                state.session.getId(), state.pending.get());
+        try {
+            state.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.warn("Failed to close slow WebSocket session. [sessionId={}]", state.session.getId(), e);
+        }
+    }
+
+    private void release(Message<?> message) {
+        SessionState state = findSession(message);
+        if (state != null && state.pending.getAndUpdate(pending -> Math.max(pending - 1, 0)) > 0) {
+            totalPending.decrementAndGet();
+        }
+    }
+
+    private SessionState findSession(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        return sessionId != null ? sessions.get(sessionId) : null;
+    }
+
+    private static class SessionState {
+
+        private final WebSocketSession session;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean closing = new AtomicBoolean();
+
+        private SessionState(WebSocketSession session) {
+            this.session = session;
+        }
+    }
+}
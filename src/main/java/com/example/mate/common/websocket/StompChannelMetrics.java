@@ -0,0 +1,48 @@
+package com.example.mate.common.websocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.ToDoubleFunction;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP clientInboundChannel, clientOutboundChannel executor 지표
+ * /actuator/metrics/websocket.channel.queue.size?tag=channel:outbound 처럼 채널별로 조회합니다.
+ */
+@Component
+public class StompChannelMetrics {
+
+    public StompChannelMetrics(MeterRegistry meterRegistry,
+                               @Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor inboundExecutor,
+                               @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor outboundExecutor) {
+        register(meterRegistry, "inbound", inboundExecutor);
+        register(meterRegistry, "outbound", outboundExecutor);
+    }
+
+    private static void register(MeterRegistry meterRegistry, String channel, ThreadPoolTaskExecutor executor) {
+        gauge(meterRegistry, "websocket.channel.queue.size", "처리를 기다리는 STOMP 메시지 수",
+                channel, executor, pool -> pool.getQueue().size());
+        gauge(meterRegistry, "websocket.channel.active", "STOMP 메시지를 처리 중인 스레드 수",
+                channel, executor, ThreadPoolExecutor::getActiveCount);
+        gauge(meterRegistry, "websocket.channel.pool.size", "STOMP 채널 executor 의 스레드 수",
+                channel, executor, ThreadPoolExecutor::getPoolSize);
+    }
+
+    // executor 가 초기화되기 전이나 종료된 뒤에는 0
+    private static void gauge(MeterRegistry meterRegistry, String name, String description, String channel,
+                              ThreadPoolTaskExecutor executor, ToDoubleFunction<ThreadPoolExecutor> value) {
+        Gauge.builder(name, executor, target -> {
+                    try {
+                        return value.applyAsDouble(target.getThreadPoolExecutor());
+                    } catch (IllegalStateException e) {
+                        return 0;
+                    }
+                })
+                .tag("channel", channel)
+                .description(description)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.mate.common.websocket;
+
+import com.example.mate.common.error.CustomException;
+import com.example.mate.common.error.ErrorCode;
+import com.example.mate.common.security.auth.AuthMember;
+import com.example.mate.common.security.util.JwtUtil;
+import com.example.mate.domain.member.service.LogoutRedisService;
+import java.security.Principal;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 안 읽은 메시지 수 구독을 본인에게만 허용하는 인바운드 채널 인터셉터
+ * WebSocket 연결(/ws/chat)은 JWT 필터를 거치지 않으므로, STOMP CONNECT 의 Authorization 헤더로 세션의 회원을 설정합니다.
+ * /sub/chat/unread/{memberId} 구독은 세션의 회원 ID 와 같을 때만 허용하고, 그 외의 구독은 그대로 통과시킵니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadSubscriptionGuard implements ChannelInterceptor {
+
+    public static final String UNREAD_DESTINATION_PREFIX = "/sub/chat/unread/";
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final LogoutRedisService logoutRedisService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            authenticate(accessor);
+        } else if (accessor.getCommand() == StompCommand.SUBSCRIBE) {
+            checkUnreadSubscription(accessor);
+        }
+        return message;
+    }
+
+    // 토큰 없이 연결한 세션은 채팅방 구독만 가능하고, 잘못된 토큰은 연결을 거부
+    private void authenticate(StompHeaderAccessor accessor) {
+        String headerAuth = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+        if (headerAuth == null) {
+            return;
+        }
+        if (!headerAuth.startsWith(BEARER_PREFIX)) {
+            throw new CustomException(ErrorCode.AUTH_UNAUTHORIZED);
+        }
+
+        String accessToken = headerAuth.substring(BEARER_PREFIX.length());
+        if (logoutRedisService.isTokenBlacklisted(accessToken)) {
+            throw new CustomException(ErrorCode.AUTH_UNAUTHORIZED);
+        }
+
+        Map<String, Object> claims;
+        try {
+            claims = jwtUtil.validateToken(accessToken);
+        } catch (RuntimeException e) {
+            log.debug("Invalid access token on STOMP CONNECT.", e);
+            throw new CustomException(ErrorCode.AUTH_UNAUTHORIZED);
+        }
+        accessor.setUser(new AuthMember(claims.get("email").toString(),
+                Long.valueOf(claims.get("memberId").toString())));
+    }
+
+    private void checkUnreadSubscription(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(UNREAD_DESTINATION_PREFIX)) {
+            return;
+        }
+
+        Principal user = accessor.getUser();
+        if (!(user instanceof AuthMember authMember)) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED_USER);
+        }
+        String memberId = destination.substring(UNREAD_DESTINATION_PREFIX.length());
+        if (!memberId.equals(String.valueOf(authMember.getMemberId()))) {
+            throw new CustomException(ErrorCode.MEMBER_UNAUTHORIZED_ACCESS);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.mate.domain.chat;
+
+import com.example.mate.common.error.CustomException;
+import com.example.mate.common.error.ErrorCode;
+import com.example.mate.common.response.CursorResponse;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import org.bson.types.ObjectId;
+
+/**
+ * 채팅 내역 커서 페이징에 사용하는 커서
+ * 마지막으로 조회한 메시지의 ObjectId 를 URL-safe Base64 로 인코딩한 값이며,
+ * 클라이언트는 값의 형식에 의존하지 않고 받은 값을 그대로 전달합니다.
+ */
+public final class ChatMessageCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private ChatMessageCursor() {
+    }
+
+    public static String encode(String messageId) {
+        return ENCODER.encodeToString(new ObjectId(messageId).toByteArray());
+    }
+
+    // 주어진 메시지를 포함해 이전 메시지를 조회하는 커서 - ID 가 1 큰 ObjectId 를 기준으로 사용
+    public static String encodeFrom(String messageId) {
+        byte[] bytes = new ObjectId(messageId).toByteArray();
+        for (int i = bytes.length - 1; i >= 0; i--) {
+            if (++bytes[i] != 0) {
+                break;
+            }
+        }
+        return ENCODER.encodeToString(bytes);
+    }
+
+    // 커서가 없으면 최신 메시지부터 조회
+    public static ObjectId decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new ObjectId(DECODER.decode(cursor));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_CHAT_CURSOR);
+        }
+    }
+
+    /**
+     * size + 1 개까지 조회한 메시지 목록으로 커서 페이지 응답을 생성합니다.
+     * size 개를 초과하면 다음 페이지가 있는 것으로 보고, 마지막 메시지의 커서를 함께 반환합니다.
+     */
+    public static <T> CursorResponse<T> toResponse(List<T> messages, int size, Function<T, String> idExtractor) {
+        if (messages.size() <= size) {
+            return CursorResponse.of(messages, null);
+        }
+        List<T> content = messages.subList(0, size);
+        return CursorResponse.of(content, encode(idExtractor.apply(content.get(size - 1))));
+    }
+
+    /**
+     * 검색처럼 한 번에 읽는 양을 제한한 조회의 커서 페이지 응답을 생성합니다.
+     * size 개를 채우지 못했더라도 continueBefore 가 있으면 그 위치부터 이어서 조회하는 커서를 반환합니다.
+     */
+    public static <T> CursorResponse<T> toResponse(List<T> messages, int size, Function<T, String> idExtractor,
+                                                   ObjectId continueBefore) {
+        if (messages.size() <= size && continueBefore != null) {
+            return CursorResponse.of(messages, ENCODER.encodeToString(continueBefore.toByteArray()));
+        }
+        return toResponse(messages, size, idExtractor);
+    }
+
+    // 주어진 시각(초)에 생성될 수 있는 가장 작은 ObjectId, 시각 조건을 _id 범위 조건으로 바꿀 때 사용
+    public static ObjectId minIdAt(LocalDateTime time) {
+        long seconds = time.atZone(ZoneId.systemDefault()).toEpochSecond();
+        return new ObjectId(String.format("%08x%016x", seconds, 0));
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.mate.domain.chat;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ChatRoomType {
+    MATE("mate_chat_room", "modified_at"),
+    GOODS("goods_chat_room", null);
+
+    private final String tableName;
+
+    // JPA Auditing 으로 관리되는 수정 시각 컬럼 (없으면 null) - JDBC 로 직접 갱신할 때 함께 설정
+    private final String modifiedAtColumn;
+}
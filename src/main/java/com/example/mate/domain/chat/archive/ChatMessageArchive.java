@@ -0,0 +1,194 @@
+package com.example.mate.domain.chat.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보관(cold tier) 채팅 메시지 저장소
+ * 더 이상 대화가 없는 채팅방의 메시지를 ID 순서대로 segment-size 개씩 gzip 으로 압축해
+ * <컬렉션>_archive 컬렉션에 추가만 합니다.
+ * { _id: "채팅방 ID:첫 메시지 ID", room_id, first_id, last_id, count, data: gzip(BSON { messages: [...] }) }
+ * segment ID 가 채팅방과 첫 메시지로 정해지므로 같은 segment 를 두 번 저장하지 않습니다.
+ * 채팅 내역 조회 시 최근 메시지 저장소에서 부족한 만큼 readThrough 로 이어서 조회합니다.
+ */
+@Component
+public class ChatMessageArchive {
+
+    private static final String ARCHIVE_SUFFIX = "_archive";
+    private static final String ID = "_id";
+    private static final String ROOM_ID = "room_id";
+    private static final String FIRST_ID = "first_id";
+    private static final String LAST_ID = "last_id";
+    private static final String COUNT = "count";
+    private static final String DATA = "data";
+    private static final String MESSAGES = "messages";
+
+    private static final Comparator<Document> ID_DESC =
+            Comparator.comparing((Document message) -> message.getObjectId(ID)).reversed();
+
+    private final MongoTemplate mongoTemplate;
+    private final int segmentSize;
+
+    public ChatMessageArchive(MongoTemplate mongoTemplate,
+                              @Value("${chat.archive.segment-size:1000}") int segmentSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.segmentSize = segmentSize;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public static String archiveCollection(String collection) {
+        return collection + ARCHIVE_SUFFIX;
+    }
+
+    public void ensureIndexes(String collection) {
+        mongoTemplate.indexOps(archiveCollection(collection)).ensureIndex(new Index()
+                .named("idx_room_id_last_id")
+                .on(ROOM_ID, Direction.ASC)
+                .on(LAST_ID, Direction.DESC));
+    }
+
+    // ID 오름차순으로 정렬된 메시지를 segment 단위로 압축해 추가
+    public void append(String collection, Long roomId, List<Document> messages) {
+        for (int from = 0; from < messages.size(); from += segmentSize) {
+            List<Document> segment = messages.subList(from, Math.min(from + segmentSize, messages.size()));
+            ObjectId firstId = segment.get(0).getObjectId(ID);
+            Document document = new Document(ID, roomId + ":" + firstId.toHexString())
+                    .append(ROOM_ID, roomId)
+                    .append(FIRST_ID, firstId)
+                    .append(LAST_ID, segment.get(segment.size() - 1).getObjectId(ID))
+                    .append(COUNT, segment.size())
+                    .append(DATA, new Binary(compress(segment)));
+            try {
+                mongoTemplate.insert(document, archiveCollection(collection));
+            } catch (DuplicateKeyException e) {
+                // 다른 노드나 이전 실행에서 이미 저장한 segment
+            }
+        }
+    }
+
+    // 보관된 메시지 중 가장 최근 메시지의 ID (없으면 null)
+    public ObjectId findLastArchivedId(String collection, Long roomId) {
+        Query query = new Query(Criteria.where(ROOM_ID).is(roomId))
+                .with(Sort.by(Direction.DESC, LAST_ID))
+                .limit(1);
+        query.fields().include(LAST_ID);
+        Document latest = mongoTemplate.findOne(query, Document.class, archiveCollection(collection));
+        return latest == null ? null : latest.getObjectId(LAST_ID);
+    }
+
+    /**
+     * 보관된 메시지 중 ID 가 from 이상 before 미만이고 filter 를 만족하는 메시지를
+     * ID 내림차순으로 최대 size 개 반환합니다. (from, before 가 null 이면 제한 없음)
+     */
+    public List<Document> find(String collection, Long roomId, ObjectId before, ObjectId from, int size,
+                               Predicate<Document> filter) {
+        Criteria criteria = Criteria.where(ROOM_ID).is(roomId);
+        if (before != null) {
+            criteria.and(FIRST_ID).lt(before);
+        }
+        if (from != null) {
+            criteria.and(LAST_ID).gte(from);
+        }
+        Query query = new Query(criteria).with(Sort.by(Direction.DESC, LAST_ID));
+
+        List<Document> collected = new ArrayList<>();
+        try (Stream<Document> segments = mongoTemplate.stream(query, Document.class, archiveCollection(collection))) {
+            Iterator<Document> iterator = segments.iterator();
+            // segment 는 ID 범위가 겹치지 않으므로 size 개를 모으면 중단
+            while (iterator.hasNext() && collected.size() < size) {
+                List<Document> messages = decompress(iterator.next().get(DATA, Binary.class).getData());
+                messages.sort(ID_DESC);
+                for (Document message : messages) {
+                    ObjectId id = message.getObjectId(ID);
+                    if ((before == null || id.compareTo(before) < 0)
+                            && (from == null || id.compareTo(from) >= 0)
+                            && filter.test(message)
+                            && collected.size() < size) {
+                        collected.add(message);
+                    }
+                }
+            }
+        }
+        return collected;
+    }
+
+    /**
+     * 최근 메시지 저장소에서 조회한 메시지(ID 내림차순)가 size 개보다 적으면,
+     * 가장 오래된 메시지 이전의 보관 메시지로 나머지를 채워 반환합니다.
+     */
+    public <T> List<T> readThrough(List<T> recent, Class<T> type, Long roomId, ObjectId before, ObjectId from,
+                                   int size, Predicate<Document> filter, Function<T, String> idExtractor) {
+        if (recent.size() >= size) {
+            return recent;
+        }
+        ObjectId archiveBefore = recent.isEmpty()
+                ? before
+                : new ObjectId(idExtractor.apply(recent.get(recent.size() - 1)));
+        List<Document> archived = find(mongoTemplate.getCollectionName(type), roomId, archiveBefore, from,
+                size - recent.size(), filter);
+        if (archived.isEmpty()) {
+            return recent;
+        }
+
+        List<T> messages = new ArrayList<>(recent);
+        archived.forEach(message -> messages.add(mongoTemplate.getConverter().read(type, message)));
+        return messages;
+    }
+
+    public void deleteRoom(String collection, Long roomId) {
+        mongoTemplate.remove(new Query(Criteria.where(ROOM_ID).is(roomId)), archiveCollection(collection));
+    }
+
+    private static byte[] compress(List<Document> messages) {
+        RawBsonDocument bson = new RawBsonDocument(new Document(MESSAGES, messages), new DocumentCodec());
+        ByteBuffer buffer = bson.getByteBuffer().asNIO();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    private static List<Document> decompress(byte[] data) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            Document document = new RawBsonDocument(gzip.readAllBytes()).decode(new DocumentCodec());
+            return new ArrayList<>(document.getList(MESSAGES, Document.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.mate.domain.chat.archive;
+
+import com.example.mate.domain.chat.ChatMessageCursor;
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.chat.bucket.ChatMessageBucketStore;
+import com.example.mate.domain.goodsChat.repository.GoodsChatRoomRepository;
+import com.example.mate.domain.mateChat.repository.MateChatRoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대화가 끝난 채팅방의 메시지 보관 작업
+ * 직관완료된 메이트 채팅방과 거래완료된 굿즈 채팅방 중 마지막 채팅 이후 inactive-after 가 지난 채팅방의
+ * 메시지를 ChatMessageArchive 로 옮기고 최근 메시지 저장소에서 삭제합니다.
+ * 마지막 채팅 시각의 하한 없이 조건을 만족하는 모든 채팅방을 대상으로 하므로, 작업을 켜기 전에 대화가 끝난 채팅방과
+ * 작업이 실패한 동안 대상이 된 채팅방도 다음 실행에서 처리됩니다. 이미 보관된 채팅방은 보관할 메시지가 없어 바로 넘어갑니다.
+ * 채팅방의 메시지를 한 번에 읽지 않고 segment 단위로 읽어 보관, 삭제하며,
+ * 다른 예약 작업이 기다리지 않도록 스케줄러 스레드가 아닌 별도 스레드에서 실행합니다.
+ * 보관 후 삭제 전에 중단되면 다음 실행에서 이미 보관된 메시지는 건너뛰고 삭제만 합니다.
+ */
+@Slf4j
+@Component
+public class ChatMessageArchiver implements DisposableBean {
+
+    private static final Map<ChatRoomType, String> COLLECTIONS = Map.of(
+            ChatRoomType.MATE, "mate_chat_message",
+            ChatRoomType.GOODS, "goods_chat_message"
+    );
+
+    private final ChatMessageArchive archive;
+    private final ChatMessageBucketStore bucketStore;
+    private final MongoTemplate mongoTemplate;
+    private final MateChatRoomRepository mateChatRoomRepository;
+    private final GoodsChatRoomRepository goodsChatRoomRepository;
+    private final boolean enabled;
+    private final Duration inactiveAfter;
+
+    private final ExecutorService archiveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-archiver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Counter archivedRooms;
+    private final Counter archivedMessages;
+
+    public ChatMessageArchiver(ChatMessageArchive archive, ChatMessageBucketStore bucketStore,
+                               MongoTemplate mongoTemplate, MateChatRoomRepository mateChatRoomRepository,
+                               GoodsChatRoomRepository goodsChatRoomRepository, MeterRegistry meterRegistry,
+                               @Value("${chat.archive.enabled:false}") boolean enabled,
+                               @Value("${chat.archive.inactive-after:30d}") Duration inactiveAfter) {
+        this.archive = archive;
+        this.bucketStore = bucketStore;
+        this.mongoTemplate = mongoTemplate;
+        this.mateChatRoomRepository = mateChatRoomRepository;
+        this.goodsChatRoomRepository = goodsChatRoomRepository;
+        this.enabled = enabled;
+        this.inactiveAfter = inactiveAfter;
+        this.archivedRooms = meterRegistry.counter("chat.archive.rooms");
+        this.archivedMessages = meterRegistry.counter("chat.archive.messages");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            COLLECTIONS.values().forEach(archive::ensureIndexes);
+        } catch (RuntimeException e) {
+            log.error("Chat message archive index creation failed.", e);
+        }
+    }
+
+    @Scheduled(cron = "${chat.archive.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void archiveInactiveRooms() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            archiveExecutor.execute(() -> {
+                try {
+                    archiveAll();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    // 다른 예약 작업이 스케줄러 스레드를 기다리지 않도록 chat-archiver 스레드에서 실행
+    void archiveAll() {
+        LocalDateTime before = LocalDateTime.now().minus(inactiveAfter);
+        try {
+            archiveRooms(ChatRoomType.MATE, mateChatRoomRepository.findArchivableChatRoomIds(before), before);
+            archiveRooms(ChatRoomType.GOODS, goodsChatRoomRepository.findArchivableChatRoomIds(before), before);
+        } catch (RuntimeException e) {
+            log.error("Chat message archiving failed.", e);
+        }
+    }
+
+    private void archiveRooms(ChatRoomType type, List<Long> roomIds, LocalDateTime before) {
+        long messages = 0;
+        for (Long roomId : roomIds) {
+            messages += archiveRoom(type, roomId, before);
+        }
+        log.info("Chat messages archived. [type={}, rooms={}, messages={}]", type, roomIds.size(), messages);
+    }
+
+    // before 이전에 보낸 메시지를 segment 단위로 보관하고 최근 메시지 저장소에서 삭제, 보관한 메시지 수를 반환
+    public long archiveRoom(ChatRoomType type, Long roomId, LocalDateTime before) {
+        String collection = COLLECTIONS.get(type);
+        ObjectId cutoff = ChatMessageCursor.minIdAt(before);
+        ObjectId lastArchivedId = archive.findLastArchivedId(collection, roomId);
+        if (lastArchivedId != null) {
+            deleteArchived(collection, roomId, lastArchivedId);
+        }
+
+        int segmentSize = archive.getSegmentSize();
+        long archived = 0;
+        List<Document> segment;
+        do {
+            segment = findRecentMessages(collection, roomId, lastArchivedId, cutoff, segmentSize);
+            if (segment.isEmpty()) {
+                break;
+            }
+            archive.append(collection, roomId, segment);
+            lastArchivedId = segment.get(segment.size() - 1).getObjectId("_id");
+            deleteArchived(collection, roomId, lastArchivedId);
+            archived += segment.size();
+        } while (segment.size() == segmentSize);
+
+        if (archived > 0) {
+            archivedRooms.increment();
+            archivedMessages.increment(archived);
+        }
+        return archived;
+    }
+
+    @Override
+    public void destroy() {
+        archiveExecutor.shutdownNow();
+    }
+
+    // 보관된 메시지만 삭제 (보관 이후 저장된 메시지는 남김)
+    private void deleteArchived(String collection, Long roomId, ObjectId lastArchivedId) {
+        if (bucketStore.writesDocuments()) {
+            mongoTemplate.remove(new Query(Criteria.where(ChatMessageBucketStore.roomField(collection)).is(roomId)
+                    .and("_id").lte(lastArchivedId)), collection);
+        }
+        if (bucketStore.writesBuckets()) {
+            bucketStore.deleteUpTo(collection, roomId, lastArchivedId);
+        }
+    }
+
+    // 최근 메시지 저장소에서 ID 가 after 초과 before 미만인 메시지를 ID 오름차순으로 최대 size 개 조회
+    private List<Document> findRecentMessages(String collection, Long roomId, ObjectId after, ObjectId before,
+                                              int size) {
+        if (bucketStore.readsBuckets()) {
+            return bucketStore.findOldest(collection, roomId, after, before, size);
+        }
+
+        Criteria idCriteria = Criteria.where("_id").lt(before);
+        if (after != null) {
+            idCriteria.gt(after);
+        }
+        Query query = new Query(Criteria.where(ChatMessageBucketStore.roomField(collection)).is(roomId)
+                .andOperator(idCriteria))
+                .with(Sort.by(Direction.ASC, "_id"))
+                .limit(size);
+        return mongoTemplate.find(query, Document.class, collection);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.mate.domain.chat.bucket;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메시지 문서 컬렉션의 채팅 메시지를 bucket 컬렉션으로 옮기는 작업
+ * 채팅방별로 메시지를 ID 순서대로 읽어 capacity 개씩 bucket 에 추가하며, 이미 옮긴 메시지는 건너뛰므로
+ * 중단된 경우 처음부터 다시 실행하면 됩니다. 메시지 문서는 삭제하지 않습니다.
+ * 전환 순서
+ * 1. chat.storage.layout=dual 로 배포해 새 메시지를 두 방식 모두에 저장
+ * 2. chat.storage.bucket.migration.enabled=true 로 이 작업을 실행해 기존 메시지를 옮김
+ * 3. chat.storage.layout=bucket 으로 배포해 bucket 에서 조회
+ */
+@Slf4j
+@Component
+public class ChatMessageBucketMigration {
+
+    private static final List<String> COLLECTIONS = List.of("mate_chat_message", "goods_chat_message");
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatMessageBucketStore bucketStore;
+    private final boolean enabled;
+    private final int chunkSize;
+
+    public ChatMessageBucketMigration(MongoTemplate mongoTemplate, ChatMessageBucketStore bucketStore,
+                                      @Value("${chat.storage.bucket.migration.enabled:false}") boolean enabled,
+                                      @Value("${chat.storage.bucket.capacity:200}") int chunkSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.bucketStore = bucketStore;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        if (!bucketStore.writesBuckets()) {
+            // 옮기는 동안 저장되는 새 메시지가 bucket 에 저장되지 않으므로 실행하지 않음
+            log.warn("Chat message bucket migration skipped. Set chat.storage.layout to dual first. [layout={}]",
+                    bucketStore.getLayout());
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                migrate();
+            } catch (RuntimeException e) {
+                log.error("Chat message bucket migration failed. Run it again to resume.", e);
+            }
+        }, "chat-bucket-migration");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public long migrate() {
+        long migrated = 0;
+        for (String collection : COLLECTIONS) {
+            migrated += migrate(collection);
+        }
+        return migrated;
+    }
+
+    public long migrate(String collection) {
+        String roomField = ChatMessageBucketStore.roomField(collection);
+        List<Long> roomIds = mongoTemplate.findDistinct(new Query(), roomField, collection, Long.class);
+
+        long migrated = 0;
+        for (Long roomId : roomIds) {
+            migrated += migrateRoom(collection, roomField, roomId);
+        }
+        log.info("Chat messages migrated to buckets. [collection={}, rooms={}, messages={}]",
+                collection, roomIds.size(), migrated);
+        return migrated;
+    }
+
+    private long migrateRoom(String collection, String roomField, Long roomId) {
+        Query query = new Query(Criteria.where(roomField).is(roomId)).with(Sort.by(Direction.ASC, "_id"));
+
+        long migrated = 0;
+        List<Document> chunk = new ArrayList<>(chunkSize);
+        try (Stream<Document> messages = mongoTemplate.stream(query, Document.class, collection)) {
+            Iterator<Document> iterator = messages.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize) {
+                    bucketStore.append(collection, chunk);
+                    migrated += chunk.size();
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            bucketStore.append(collection, chunk);
+            migrated += chunk.size();
+        }
+        return migrated;
+    }
+}
@@ -0,0 +1,426 @@
+package com.example.mate.domain.chat.bucket;
+
+import com.example.mate.domain.chat.search.ChatSearchResult;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방별 시간 구간(bucket) 단위 채팅 메시지 저장소
+ * 메시지 하나를 문서 하나로 저장하는 대신, 채팅방의 메시지를 ID 순서대로 최대 capacity 개씩 묶어
+ * <컬렉션>_bucket 컬렉션의 문서 하나에 저장합니다.
+ * { _id, room_id, seq, open, first_id, last_id, count, messages: [ 기존 메시지 문서 ] }
+ * 새 메시지는 채팅방마다 하나뿐인 열린(open) bucket 에만 추가되므로 bucket 의 ID 범위가 서로 겹치지 않습니다.
+ * 인덱스는 { room_id, last_id } 하나이며, 채팅 내역 한 페이지는 대부분 문서 1~2개에서 조회됩니다.
+ * 저장 방식(chat.storage.layout)
+ * - document : 메시지 문서 컬렉션에 저장/조회 (기본값)
+ * - dual     : 두 방식 모두 저장하고 메시지 문서 컬렉션에서 조회 (ChatMessageBucketMigration 실행 중 사용)
+ * - bucket   : bucket 컬렉션에 저장/조회
+ */
+@Component
+public class ChatMessageBucketStore {
+
+    public static final String LAYOUT_DOCUMENT = "document";
+    public static final String LAYOUT_DUAL = "dual";
+    public static final String LAYOUT_BUCKET = "bucket";
+
+    private static final String BUCKET_SUFFIX = "_bucket";
+    private static final String ID = "_id";
+    private static final String ROOM_ID = "room_id";
+    private static final String FIRST_ID = "first_id";
+    private static final String LAST_ID = "last_id";
+    private static final String COUNT = "count";
+    private static final String OPEN = "open";
+    private static final String SEQUENCE = "seq";
+    private static final String MESSAGES = "messages";
+
+    // 메시지 문서 컬렉션별 채팅방 ID 필드
+    private static final Map<String, String> ROOM_FIELDS = Map.of(
+            "mate_chat_message", "room_id",
+            "goods_chat_message", "chat_room_id"
+    );
+
+    private static final Comparator<Document> ID_ASC = Comparator.comparing(message -> message.getObjectId(ID));
+    private static final Comparator<Document> ID_DESC = ID_ASC.reversed();
+
+    private final MongoTemplate mongoTemplate;
+    private final String layout;
+    private final int capacity;
+
+    public ChatMessageBucketStore(MongoTemplate mongoTemplate,
+                                  @Value("${chat.storage.layout:document}") String layout,
+                                  @Value("${chat.storage.bucket.capacity:200}") int capacity) {
+        this.mongoTemplate = mongoTemplate;
+        this.layout = layout;
+        this.capacity = capacity;
+    }
+
+    public boolean writesDocuments() {
+        return !LAYOUT_BUCKET.equals(layout);
+    }
+
+    public boolean writesBuckets() {
+        return LAYOUT_DUAL.equals(layout) || LAYOUT_BUCKET.equals(layout);
+    }
+
+    public boolean readsBuckets() {
+        return LAYOUT_BUCKET.equals(layout);
+    }
+
+    public String getLayout() {
+        return layout;
+    }
+
+    public static String roomField(String collection) {
+        String roomField = ROOM_FIELDS.get(collection);
+        if (roomField == null) {
+            throw new IllegalArgumentException("Not a chat message collection. [collection=" + collection + "]");
+        }
+        return roomField;
+    }
+
+    public static String bucketCollection(String collection) {
+        return collection + BUCKET_SUFFIX;
+    }
+
+    public void ensureIndexes() {
+        for (String collection : ROOM_FIELDS.keySet()) {
+            mongoTemplate.indexOps(bucketCollection(collection)).ensureIndex(new Index()
+                    .named("idx_room_id_last_id")
+                    .on(ROOM_ID, Direction.ASC)
+                    .on(LAST_ID, Direction.DESC));
+        }
+    }
+
+    /**
+     * 메시지 문서들을 채팅방의 bucket 에 추가합니다.
+     * 이미 저장된 ID 의 메시지는 건너뛰므로 같은 메시지를 다시 저장해도 중복되지 않습니다.
+     * 새 메시지는 채팅방의 열린 bucket 에 capacity 까지 채우고, 가득 차면 닫은 뒤 다음 순번의 bucket 을 엽니다.
+     * 가장 최근 bucket 보다 이전 메시지(마이그레이션)는 열린 bucket 과 범위가 겹치지 않도록 닫힌 bucket 으로 따로 저장합니다.
+     */
+    public void append(String collection, List<Document> messages) {
+        String roomField = roomField(collection);
+        Map<Object, List<Document>> messagesByRoom = new LinkedHashMap<>();
+        messages.forEach(message -> messagesByRoom
+                .computeIfAbsent(message.get(roomField), roomId -> new ArrayList<>())
+                .add(message));
+
+        messagesByRoom.forEach((roomId, roomMessages) -> {
+            List<Document> pending = new ArrayList<>(roomMessages);
+            pending.sort(ID_ASC);
+            Set<ObjectId> existingIds = findExistingIds(collection, roomId,
+                    pending.get(0).getObjectId(ID), pending.get(pending.size() - 1).getObjectId(ID));
+            pending.removeIf(message -> existingIds.contains(message.getObjectId(ID)));
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            ObjectId newestFirstId = findNewestFirstId(collection, roomId);
+            int split = 0;
+            while (split < pending.size() && newestFirstId != null
+                    && pending.get(split).getObjectId(ID).compareTo(newestFirstId) < 0) {
+                split++;
+            }
+            for (int from = 0; from < split; from += capacity) {
+                insertBucket(collection, roomId, null, pending.subList(from, Math.min(from + capacity, split)));
+            }
+            appendToOpenBucket(collection, roomId, pending.subList(split, pending.size()));
+        });
+    }
+
+    // 채팅방의 열린 bucket 에 추가 - 다른 노드와 동시에 추가해도 중복 저장되거나 열린 bucket 이 둘이 되지 않도록
+    // 중복 확인과 남은 자리 확인은 update 조건으로, bucket 교체는 순번을 _id 로 사용하는 insert 로 처리
+    private void appendToOpenBucket(String collection, Object roomId, List<Document> messages) {
+        List<Document> pending = new ArrayList<>(messages);
+        while (!pending.isEmpty()) {
+            Query openQuery = new Query(Criteria.where(ROOM_ID).is(roomId).and(OPEN).is(true))
+                    .with(Sort.by(Direction.DESC, LAST_ID));
+            openQuery.fields().include(COUNT, SEQUENCE, MESSAGES + "." + ID);
+            Document open = mongoTemplate.findOne(openQuery, Document.class, bucketCollection(collection));
+
+            if (open == null) {
+                List<Document> chunk = pending.subList(0, Math.min(capacity, pending.size()));
+                if (insertBucket(collection, roomId, nextSequence(collection, roomId), chunk)) {
+                    chunk.clear();
+                }
+                continue;
+            }
+
+            Set<ObjectId> existingIds = new HashSet<>();
+            open.getList(MESSAGES, Document.class).forEach(message -> existingIds.add(message.getObjectId(ID)));
+            pending.removeIf(message -> existingIds.contains(message.getObjectId(ID)));
+            if (pending.isEmpty()) {
+                break;
+            }
+            int space = capacity - open.getInteger(COUNT);
+            if (space <= 0) {
+                // 닫은 뒤 다음 반복에서 다음 순번의 bucket 을 생성
+                mongoTemplate.updateFirst(new Query(Criteria.where(ID).is(open.get(ID)).and(OPEN).is(true)),
+                        new Update().set(OPEN, false), bucketCollection(collection));
+                continue;
+            }
+
+            List<Document> chunk = pending.subList(0, Math.min(space, pending.size()));
+            Query query = new Query(Criteria.where(ID).is(open.get(ID))
+                    .and(OPEN).is(true)
+                    .and(COUNT).lte(capacity - chunk.size())
+                    .and(MESSAGES + "." + ID).nin(chunk.stream().map(message -> message.getObjectId(ID)).toList()));
+            Update update = new Update()
+                    .push(MESSAGES).each(chunk.toArray())
+                    .inc(COUNT, chunk.size())
+                    .min(FIRST_ID, chunk.get(0).getObjectId(ID))
+                    .max(LAST_ID, chunk.get(chunk.size() - 1).getObjectId(ID));
+            // 조건이 맞지 않으면 다른 노드가 먼저 추가하거나 bucket 을 닫은 것이므로 다시 조회
+            if (mongoTemplate.updateFirst(query, update, bucketCollection(collection)).getModifiedCount() > 0) {
+                chunk.clear();
+            }
+        }
+    }
+
+    // 새 bucket 저장 - sequence 가 있으면 열린 bucket 으로, 없으면 닫힌 bucket 으로 저장하고
+    // 같은 순번의 bucket 을 다른 노드가 먼저 만들었으면 false 반환
+    private boolean insertBucket(String collection, Object roomId, Long sequence, List<Document> chunk) {
+        Document bucket = new Document();
+        if (sequence != null) {
+            bucket.append(ID, roomId + ":" + sequence).append(SEQUENCE, sequence);
+        }
+        bucket.append(ROOM_ID, roomId)
+                .append(OPEN, sequence != null)
+                .append(FIRST_ID, chunk.get(0).getObjectId(ID))
+                .append(LAST_ID, chunk.get(chunk.size() - 1).getObjectId(ID))
+                .append(COUNT, chunk.size())
+                .append(MESSAGES, new ArrayList<>(chunk));
+        try {
+            mongoTemplate.insert(bucket, bucketCollection(collection));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private long nextSequence(String collection, Object roomId) {
+        Query query = new Query(Criteria.where(ROOM_ID).is(roomId).and(SEQUENCE).exists(true))
+                .with(Sort.by(Direction.DESC, SEQUENCE))
+                .limit(1);
+        query.fields().include(SEQUENCE);
+        Document latest = mongoTemplate.findOne(query, Document.class, bucketCollection(collection));
+        return latest == null ? 0 : latest.get(SEQUENCE, Number.class).longValue() + 1;
+    }
+
+    private ObjectId findNewestFirstId(String collection, Object roomId) {
+        Query query = new Query(Criteria.where(ROOM_ID).is(roomId))
+                .with(Sort.by(Direction.DESC, LAST_ID))
+                .limit(1);
+        query.fields().include(FIRST_ID);
+        Document newest = mongoTemplate.findOne(query, Document.class, bucketCollection(collection));
+        return newest == null ? null : newest.getObjectId(FIRST_ID);
+    }
+
+    // from ~ to 범위의 ID 를 포함할 수 있는 bucket 에 저장된 메시지 ID
+    private Set<ObjectId> findExistingIds(String collection, Object roomId, ObjectId from, ObjectId to) {
+        Query query = new Query(Criteria.where(ROOM_ID).is(roomId).and(LAST_ID).gte(from).and(FIRST_ID).lte(to));
+        query.fields().include(MESSAGES + "." + ID);
+
+        Set<ObjectId> existingIds = new HashSet<>();
+        for (Document bucket : mongoTemplate.find(query, Document.class, bucketCollection(collection))) {
+            bucket.getList(MESSAGES, Document.class)
+                    .forEach(message -> existingIds.add(message.getObjectId(ID)));
+        }
+        return existingIds;
+    }
+
+    public Set<String> findExistingIds(String collection, Long roomId, Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        List<ObjectId> objectIds = ids.stream().map(ObjectId::new).sorted().toList();
+        Set<String> existingIds = new HashSet<>();
+        for (ObjectId id : findExistingIds(collection, roomId, objectIds.get(0),
+                objectIds.get(objectIds.size() - 1))) {
+            if (ids.contains(id.toHexString())) {
+                existingIds.add(id.toHexString());
+            }
+        }
+        return existingIds;
+    }
+
+    /**
+     * 채팅방의 메시지 중 ID 가 from 이상 before 미만이고 filter 를 만족하는 메시지를
+     * ID 내림차순으로 최대 size 개 반환합니다. (from, before 가 null 이면 제한 없음)
+     * bucket 을 last_id 내림차순으로 읽으며, size 개를 모은 뒤 남은 bucket 의 last_id 가
+     * 모은 메시지 중 가장 오래된 ID 보다 작아지면 더 읽지 않습니다.
+     */
+    public List<Document> find(String collection, Long roomId, ObjectId before, ObjectId from, int size,
+                               Predicate<Document> filter) {
+        return scan(collection, roomId, before, from, size, filter, Integer.MAX_VALUE).messages();
+    }
+
+    /**
+     * find 와 같지만 scanLimit 개 이상의 메시지를 읽은 뒤에도 size 개를 채우지 못하면 읽은 bucket 까지만 검색하고,
+     * 읽은 bucket 중 가장 작은 first_id 를 이어서 검색할 위치로 반환합니다.
+     */
+    public <T> ChatSearchResult<T> search(Class<T> type, Long roomId, ObjectId before, ObjectId from, int size,
+                                          Predicate<Document> filter, int scanLimit) {
+        return scan(mongoTemplate.getCollectionName(type), roomId, before, from, size, filter, scanLimit)
+                .map(messages -> messages.stream()
+                        .map(message -> mongoTemplate.getConverter().read(type, message))
+                        .toList());
+    }
+
+    private ChatSearchResult<Document> scan(String collection, Long roomId, ObjectId before, ObjectId from,
+                                            int size, Predicate<Document> filter, int scanLimit) {
+        Criteria criteria = Criteria.where(ROOM_ID).is(roomId);
+        if (before != null) {
+            criteria.and(FIRST_ID).lt(before);
+        }
+        if (from != null) {
+            criteria.and(LAST_ID).gte(from);
+        }
+        Query query = new Query(criteria).with(Sort.by(Direction.DESC, LAST_ID));
+
+        List<Document> collected = new ArrayList<>();
+        int scanned = 0;
+        ObjectId scannedFrom = null;
+        try (Stream<Document> buckets = mongoTemplate.stream(query, Document.class, bucketCollection(collection))) {
+            Iterator<Document> iterator = buckets.iterator();
+            while (iterator.hasNext()) {
+                Document bucket = iterator.next();
+                if (collected.size() >= size
+                        && bucket.getObjectId(LAST_ID).compareTo(collected.get(size - 1).getObjectId(ID)) < 0) {
+                    break;
+                }
+                if (scanned >= scanLimit) {
+                    return new ChatSearchResult<>(collected, scannedFrom);
+                }
+                List<Document> bucketMessages = bucket.getList(MESSAGES, Document.class);
+                scanned += bucketMessages.size();
+                ObjectId firstId = bucket.getObjectId(FIRST_ID);
+                if (scannedFrom == null || firstId.compareTo(scannedFrom) < 0) {
+                    scannedFrom = firstId;
+                }
+                for (Document message : bucketMessages) {
+                    ObjectId id = message.getObjectId(ID);
+                    if ((before == null || id.compareTo(before) < 0)
+                            && (from == null || id.compareTo(from) >= 0)
+                            && filter.test(message)) {
+                        collected.add(message);
+                    }
+                }
+                collected.sort(ID_DESC);
+                if (collected.size() > size) {
+                    collected.subList(size, collected.size()).clear();
+                }
+            }
+        }
+        return ChatSearchResult.complete(collected);
+    }
+
+    /**
+     * 채팅방의 메시지 중 ID 가 after 초과 before 미만인 메시지를 ID 오름차순으로 최대 size 개 반환합니다.
+     * (after 가 null 이면 제한 없음)
+     * bucket 을 last_id 오름차순으로 읽으며, size 개를 모은 뒤 남은 bucket 의 first_id 가
+     * 모은 메시지 중 가장 최근 ID 보다 커지면 더 읽지 않습니다.
+     */
+    public List<Document> findOldest(String collection, Long roomId, ObjectId after, ObjectId before, int size) {
+        Criteria criteria = Criteria.where(ROOM_ID).is(roomId).and(FIRST_ID).lt(before);
+        if (after != null) {
+            criteria.and(LAST_ID).gt(after);
+        }
+        Query query = new Query(criteria).with(Sort.by(Direction.ASC, LAST_ID));
+
+        List<Document> collected = new ArrayList<>();
+        try (Stream<Document> buckets = mongoTemplate.stream(query, Document.class, bucketCollection(collection))) {
+            Iterator<Document> iterator = buckets.iterator();
+            while (iterator.hasNext()) {
+                Document bucket = iterator.next();
+                if (collected.size() >= size
+                        && bucket.getObjectId(FIRST_ID).compareTo(collected.get(size - 1).getObjectId(ID)) > 0) {
+                    break;
+                }
+                for (Document message : bucket.getList(MESSAGES, Document.class)) {
+                    ObjectId id = message.getObjectId(ID);
+                    if ((after == null || id.compareTo(after) > 0) && id.compareTo(before) < 0) {
+                        collected.add(message);
+                    }
+                }
+                collected.sort(ID_ASC);
+                if (collected.size() > size) {
+                    collected.subList(size, collected.size()).clear();
+                }
+            }
+        }
+        return collected;
+    }
+
+    // 시간 필드가 after 이후, before 이전인 메시지 (null 이면 제한 없음)
+    // 저장된 시각과 같은 규칙(KST 변환 컨버터)으로 경계를 변환해 비교
+    public Predicate<Document> sentBetween(String timeField, LocalDateTime after, LocalDateTime before) {
+        Date afterDate = after == null ? null : (Date) mongoTemplate.getConverter().convertToMongoType(after);
+        Date beforeDate = before == null ? null : (Date) mongoTemplate.getConverter().convertToMongoType(before);
+        return message -> {
+            Date sentAt = message.getDate(timeField);
+            return (afterDate == null || sentAt.after(afterDate)) && (beforeDate == null || sentAt.before(beforeDate));
+        };
+    }
+
+    public <T> List<T> find(Class<T> type, Long roomId, ObjectId before, ObjectId from, int size,
+                            Predicate<Document> filter) {
+        return find(mongoTemplate.getCollectionName(type), roomId, before, from, size, filter).stream()
+                .map(message -> mongoTemplate.getConverter().read(type, message))
+                .toList();
+    }
+
+    // 채팅방에서 ID 가 after 보다 크고 filter 를 만족하는 메시지 수
+    public long count(String collection, Long roomId, ObjectId after, Predicate<Document> filter) {
+        Query query = new Query(Criteria.where(ROOM_ID).is(roomId).and(LAST_ID).gt(after));
+        long count = 0;
+        for (Document bucket : mongoTemplate.find(query, Document.class, bucketCollection(collection))) {
+            count += bucket.getList(MESSAGES, Document.class).stream()
+                    .filter(message -> message.getObjectId(ID).compareTo(after) > 0)
+                    .filter(filter)
+                    .count();
+        }
+        return count;
+    }
+
+    public ObjectId findLatestId(String collection, Long roomId) {
+        Query query = new Query(Criteria.where(ROOM_ID).is(roomId))
+                .with(Sort.by(Direction.DESC, LAST_ID))
+                .limit(1);
+        query.fields().include(LAST_ID);
+        Document latest = mongoTemplate.findOne(query, Document.class, bucketCollection(collection));
+        return latest == null ? null : latest.getObjectId(LAST_ID);
+    }
+
+    // 모든 메시지의 ID 가 upTo 이하인 bucket 삭제
+    public void deleteUpTo(String collection, Long roomId, ObjectId upTo) {
+        mongoTemplate.remove(new Query(Criteria.where(ROOM_ID).is(roomId).and(LAST_ID).lte(upTo)),
+                bucketCollection(collection));
+    }
+
+    public void deleteRoom(String collection, Long roomId) {
+        mongoTemplate.remove(new Query(Criteria.where(ROOM_ID).is(roomId)), bucketCollection(collection));
+    }
+}
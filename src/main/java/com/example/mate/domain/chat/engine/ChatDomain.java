@@ -0,0 +1,40 @@
+package com.example.mate.domain.chat.engine;
+
+import com.example.mate.common.error.ErrorCode;
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.chat.recent.RecentChatMessageBuffer;
+import com.example.mate.domain.constant.MessageType;
+import com.example.mate.domain.member.cache.MemberCard;
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 엔진에 연결되는 채팅 도메인 (메이트, 굿즈거래)
+ * 도메인마다 다른 메시지 document 와 응답 형태, 오류 코드, 이벤트 메시지 문구만 제공하고
+ * 검증, 저장, 마지막 채팅 반영, 안 읽은 메시지 수, 전송과 최신 메시지 조회는
+ * ChatMessagePipeline 과 ChatHistoryReader 가 공통으로 처리합니다.
+ *
+ * @param <M> 저장되는 메시지 document
+ * @param <R> 구독자에게 전송되는 메시지 응답
+ */
+public interface ChatDomain<M, R> {
+
+    ChatRoomType type();
+
+    // 채팅방 메시지 구독 경로
+    String destination(Long roomId);
+
+    ErrorCode roomNotFound();
+
+    ErrorCode memberNotInRoom();
+
+    ChatEventMessages eventMessages();
+
+    RecentChatMessageBuffer<R> recentBuffer();
+
+    M createMessage(String messageId, Long roomId, Long senderId, String content, MessageType type,
+                    LocalDateTime sentAt);
+
+    Long senderId(M message);
+
+    R toResponse(M message, MemberCard sender);
+}
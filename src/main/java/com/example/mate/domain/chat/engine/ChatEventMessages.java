@@ -0,0 +1,30 @@
+package com.example.mate.domain.chat.engine;
+
+import com.example.mate.domain.constant.MessageType;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 입장, 퇴장 등 이벤트 메시지 문구
+ * 회원 닉네임 뒤에 이벤트 종류별 문구를 붙여 메시지 내용을 만듭니다.
+ */
+public final class ChatEventMessages {
+
+    private final Map<MessageType, String> suffixes;
+
+    private ChatEventMessages(Map<MessageType, String> suffixes) {
+        this.suffixes = new EnumMap<>(suffixes);
+    }
+
+    public static ChatEventMessages of(Map<MessageType, String> suffixes) {
+        return new ChatEventMessages(suffixes);
+    }
+
+    public String format(String nickname, MessageType type) {
+        String suffix = suffixes.get(type);
+        if (suffix == null) {
+            throw new IllegalArgumentException("Unsupported chat event type. [type=" + type + "]");
+        }
+        return nickname + suffix;
+    }
+}
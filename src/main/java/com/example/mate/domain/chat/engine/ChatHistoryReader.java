@@ -0,0 +1,55 @@
+package com.example.mate.domain.chat.engine;
+
+import com.example.mate.common.error.CustomException;
+import com.example.mate.common.error.ErrorCode;
+import com.example.mate.domain.chat.recent.RecentChatMessageBuffer;
+import com.example.mate.domain.member.cache.MemberCard;
+import com.example.mate.domain.member.cache.MemberCardCache;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메이트, 굿즈거래 채팅이 공통으로 사용하는 채팅 내역 조회
+ * 최신 메시지는 최근 메시지 버퍼에서 응답하고, 저장된 메시지는 발신자 정보를 한 번에 조회해 응답으로 변환합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatHistoryReader {
+
+    private final MemberCardCache memberCardCache;
+
+    /**
+     * after 이후에 전송된 최신 메시지를 최대 size 개 ID 내림차순으로 반환합니다.
+     * 버퍼가 없거나 비어 있는 채팅방은 loader 로 최신 메시지를 버퍼 크기만큼 조회해 버퍼를 채웁니다.
+     */
+    public <M, R> List<R> readLatest(ChatDomain<M, R> domain, Long roomId, int size, LocalDateTime after,
+                                     IntFunction<List<M>> loader) {
+        RecentChatMessageBuffer<R> buffer = domain.recentBuffer();
+        return buffer.getLatest(roomId, size, after,
+                () -> toResponses(domain, loader.apply(buffer.getCapacity())));
+    }
+
+    // 저장된 메시지를 발신자 정보와 함께 응답으로 변환
+    public <M, R> List<R> toResponses(ChatDomain<M, R> domain, List<M> messages) {
+        Set<Long> senderIds = messages.stream()
+                .map(domain::senderId)
+                .collect(Collectors.toSet());
+        Map<Long, MemberCard> senders = memberCardCache.getAll(senderIds);
+
+        return messages.stream()
+                .map(message -> {
+                    MemberCard sender = senders.get(domain.senderId(message));
+                    if (sender == null) {
+                        throw new CustomException(ErrorCode.MEMBER_NOT_FOUND_BY_ID);
+                    }
+                    return domain.toResponse(message, sender);
+                })
+                .toList();
+    }
+}
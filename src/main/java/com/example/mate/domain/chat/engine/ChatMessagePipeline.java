@@ -0,0 +1,92 @@
+package com.example.mate.domain.chat.engine;
+
+import com.example.mate.common.error.CustomException;
+import com.example.mate.common.error.ErrorCode;
+import com.example.mate.domain.chat.persistence.ChatMessageWriter;
+import com.example.mate.domain.chat.state.ChatRoomState;
+import com.example.mate.domain.chat.state.ChatRoomStateCache;
+import com.example.mate.domain.chat.summary.ChatRoomSummaryBuffer;
+import com.example.mate.domain.chat.unread.ChatUnreadCounter;
+import com.example.mate.domain.constant.MessageType;
+import com.example.mate.domain.member.cache.MemberCard;
+import com.example.mate.domain.member.cache.MemberCardCache;
+import com.example.mate.domain.member.entity.Member;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메이트, 굿즈거래 채팅이 공통으로 사용하는 메시지 전송 과정
+ * 1. 채팅방 상태 캐시로 채팅방, 참여 여부, 전송 가능 여부 검증 (DB 조회 없음)
+ * 2. 메시지 저장 (ChatMessageWriter)
+ * 3. 채팅방 마지막 채팅 반영 (ChatRoomSummaryBuffer)
+ * 4. 대화 메시지인 경우 발신자를 제외한 멤버의 안 읽은 메시지 수 증가
+ * 5. 최근 메시지 버퍼 반영 후 구독자에게 전송
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMessagePipeline {
+
+    private final ChatRoomStateCache chatRoomStateCache;
+    private final MemberCardCache memberCardCache;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatRoomSummaryBuffer chatRoomSummaryBuffer;
+    private final ChatUnreadCounter chatUnreadCounter;
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    // 회원이 보낸 메시지 전송
+    public <M, R> R send(ChatDomain<M, R> domain, Long roomId, Long senderId, String content, MessageType type) {
+        ChatRoomState chatRoomState = validateMessageable(domain, roomId, senderId);
+        MemberCard sender = memberCardCache.get(senderId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND_BY_ID));
+
+        LocalDateTime sentAt = LocalDateTime.now();
+        M message = domain.createMessage(new ObjectId().toHexString(), roomId, sender.id(), content, type, sentAt);
+        store(domain, roomId, message, content, sentAt);
+
+        if (type == MessageType.TALK) {
+            chatUnreadCounter.increment(domain.type(), roomId, chatRoomState.activeMemberIds(), sender.id());
+        }
+        return broadcast(domain, roomId, message, sender);
+    }
+
+    // 입장, 퇴장 등 이벤트 메시지 전송 - 아웃박스 이벤트로 전달되는 경우 이벤트마다 정해진 메시지 ID 를 사용
+    public <M, R> R sendEvent(ChatDomain<M, R> domain, Long roomId, Member member, MessageType type,
+                              String messageId) {
+        chatRoomStateCache.get(domain.type(), roomId)
+                .orElseThrow(() -> new CustomException(domain.roomNotFound()));
+
+        String content = domain.eventMessages().format(member.getNickname(), type);
+        LocalDateTime sentAt = LocalDateTime.now();
+        M message = domain.createMessage(messageId, roomId, member.getId(), content, type, sentAt);
+        store(domain, roomId, message, content, sentAt);
+
+        return broadcast(domain, roomId, message, MemberCard.from(member));
+    }
+
+    private ChatRoomState validateMessageable(ChatDomain<?, ?> domain, Long roomId, Long senderId) {
+        ChatRoomState chatRoomState = chatRoomStateCache.get(domain.type(), roomId)
+                .orElseThrow(() -> new CustomException(domain.roomNotFound()));
+        if (!chatRoomState.isActiveMember(senderId)) {
+            throw new CustomException(domain.memberNotInRoom());
+        }
+        if (!chatRoomState.messageable()) {
+            throw new CustomException(ErrorCode.CHAT_ROOM_NOT_MESSAGEABLE);
+        }
+        return chatRoomState;
+    }
+
+    private <M> void store(ChatDomain<M, ?> domain, Long roomId, M message, String content, LocalDateTime sentAt) {
+        chatMessageWriter.write(message);
+        chatRoomSummaryBuffer.record(domain.type(), roomId, content, sentAt);
+    }
+
+    private <M, R> R broadcast(ChatDomain<M, R> domain, Long roomId, M message, MemberCard sender) {
+        R response = domain.toResponse(message, sender);
+        domain.recentBuffer().append(roomId, response);
+        messagingTemplate.convertAndSend(domain.destination(roomId), response);
+        return response;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.mate.domain.chat.persistence;
+
+import com.example.mate.domain.chat.bucket.ChatMessageBucketStore;
+import com.example.mate.domain.goodsChat.document.GoodsChatMessage;
+import com.example.mate.domain.mateChat.document.MateChatMessage;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 컬렉션의 인덱스 생성
+ * auto-index-creation 설정과 관계없이 채팅 내역 조회에 필요한 @CompoundIndex 를 생성합니다.
+ * bucket 컬렉션에 저장하는 경우 bucket 컬렉션의 인덱스도 함께 생성합니다.
+ * 이미 존재하는 인덱스는 다시 생성하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageIndexInitializer {
+
+    private static final List<Class<?>> CHAT_MESSAGE_DOCUMENTS = List.of(MateChatMessage.class, GoodsChatMessage.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mongoMappingContext;
+    private final ChatMessageBucketStore bucketStore;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mongoMappingContext);
+        for (Class<?> documentType : CHAT_MESSAGE_DOCUMENTS) {
+            try {
+                IndexOperations indexOperations = mongoTemplate.indexOps(documentType);
+                resolver.resolveIndexFor(documentType).forEach(indexOperations::ensureIndex);
+            } catch (RuntimeException e) {
+                log.error("Chat message index creation failed. [document={}]", documentType.getSimpleName(), e);
+            }
+        }
+        if (bucketStore.writesBuckets()) {
+            try {
+                bucketStore.ensureIndexes();
+            } catch (RuntimeException e) {
+                log.error("Chat message bucket index creation failed.", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.mate.domain.chat.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 저장 대기 메시지를 위한 로컬 append-only 저널
+ * 메시지는 active 파일에 추가되고, flush 시점에 segment 파일로 교체됩니다.
+ * flush 에 성공한 segment 는 삭제되며, 남아있는 segment 는 재시작 후에도 다시 저장됩니다.
+ * 디스크 동기화(force)는 메시지마다 하지 않고 force() 호출 시점과 segment 교체 시점에 모아서 수행합니다.
+ * 반복해서 저장에 실패한 segment 는 quarantine 디렉터리로 옮겨 재처리 대상에서 제외합니다.
+ */
+class ChatMessageJournal {
+
+    private static final String ACTIVE_FILE = "active.log";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String QUARANTINE_DIRECTORY = "quarantine";
+
+    private final Path directory;
+    private final boolean force;
+    private final AtomicLong segmentSequence = new AtomicLong();
+
+    private volatile FileChannel activeChannel;
+
+    ChatMessageJournal(Path directory, boolean force) {
+        this.directory = directory;
+        this.force = force;
+        try {
+            Files.createDirectories(directory);
+            // 비정상 종료로 남은 active 파일은 재처리 대상 segment 로 전환
+            if (Files.exists(activePath())) {
+                Files.move(activePath(), nextSegmentPath(), StandardCopyOption.ATOMIC_MOVE);
+            }
+            this.activeChannel = openActive();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Chat message journal initialization failed. [dir=" + directory + "]", e);
+        }
+    }
+
+    void append(PendingChatMessage message) {
+        byte[] line = (message.toJournalLine() + "\n").getBytes(StandardCharsets.UTF_8);
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                activeChannel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Chat message journal append failed.", e);
+        }
+    }
+
+    // 마지막 force 이후 추가된 메시지를 한 번에 디스크에 동기화 (group commit)
+    void force() {
+        if (!force) {
+            return;
+        }
+        FileChannel channel = activeChannel;
+        try {
+            channel.force(false);
+        } catch (ClosedChannelException e) {
+            // 교체된 active 파일은 rotate 에서 동기화됨
+        } catch (IOException e) {
+            throw new UncheckedIOException("Chat message journal force failed.", e);
+        }
+    }
+
+    // 현재 active 파일을 segment 로 교체하고 새 active 파일을 연다
+    Path rotate() {
+        try {
+            if (force) {
+                activeChannel.force(false);
+            }
+            activeChannel.close();
+            Path segment = nextSegmentPath();
+            Files.move(activePath(), segment, StandardCopyOption.ATOMIC_MOVE);
+            activeChannel = openActive();
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Chat message journal rotation failed.", e);
+        }
+    }
+
+    List<Path> segments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Chat message journal listing failed.", e);
+        }
+    }
+
+    List<PendingChatMessage> read(Path segment) {
+        try (Stream<String> lines = Files.lines(segment, StandardCharsets.UTF_8)) {
+            return lines.filter(line -> !line.isBlank())
+                    .map(PendingChatMessage::fromJournalLine)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Chat message journal read failed. [segment=" + segment + "]", e);
+        }
+    }
+
+    void delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Chat message journal delete failed. [segment=" + segment + "]", e);
+        }
+    }
+
+    // 저장에 반복해서 실패한 segment 를 재처리 대상에서 제외하고, 옮겨진 경로를 반환
+    Path quarantine(Path segment) {
+        try {
+            Path quarantineDirectory = Files.createDirectories(directory.resolve(QUARANTINE_DIRECTORY));
+            return Files.move(segment, quarantineDirectory.resolve(segment.getFileName()),
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Chat message journal quarantine failed. [segment=" + segment + "]", e);
+        }
+    }
+
+    void close() {
+        try {
+            if (force) {
+                activeChannel.force(false);
+            }
+            activeChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Chat message journal close failed.", e);
+        }
+    }
+
+    private FileChannel openActive() throws IOException {
+        return FileChannel.open(activePath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private Path activePath() {
+        return directory.resolve(ACTIVE_FILE);
+    }
+
+    // 파일 이름 정렬 순서가 생성 순서와 같도록 0 으로 채운 시각과 일련번호 사용
+    private Path nextSegmentPath() {
+        return directory.resolve(String.format("%s%015d-%06d%s", SEGMENT_PREFIX, System.currentTimeMillis(),
+                segmentSequence.incrementAndGet() % 1_000_000, SEGMENT_SUFFIX));
+    }
+}
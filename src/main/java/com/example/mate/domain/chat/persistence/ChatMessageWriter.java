@@ -0,0 +1,323 @@
+package com.example.mate.domain.chat.persistence;
+
+import com.example.mate.domain.chat.bucket.ChatMessageBucketStore;
+import com.example.mate.domain.chat.search.ChatSearchTokenizer;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.model.InsertManyOptions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 저장 파이프라인
+ * - sync         : 메시지마다 즉시 MongoDB 에 저장 (기본값)
+ * - write-behind : 로컬 저널에 기록한 뒤 노드별 bounded queue 에 적재하고,
+ *                  batch-size 또는 flush-interval 중 먼저 도달한 시점에 insertMany 로 일괄 저장
+ * 메시지 ID 는 저장 전에 애플리케이션에서 할당되므로, 재처리로 인한 중복 저장은 무시됩니다.
+ * 저널은 메시지마다 디스크에 동기화하지 않고 journal.force-interval-ms 마다, 그리고 flush 직전에 모아서 동기화합니다.
+ * 따라서 OS 장애 시에는 마지막 동기화 이후 force-interval-ms 동안 기록된 메시지가 유실될 수 있습니다.
+ * 저장 대상 컬렉션은 chat.storage.layout 에 따라 정해집니다. (ChatMessageBucketStore 참고)
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+
+    public static final String MODE_SYNC = "sync";
+    public static final String MODE_WRITE_BEHIND = "write-behind";
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatMessageBucketStore bucketStore;
+    private final boolean writeBehind;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Path journalDirectory;
+    private final boolean journalForce;
+    private final long journalForceIntervalMillis;
+    private final int maxReplayAttempts;
+
+    private final BlockingQueue<PendingChatMessage> queue;
+    private final Object appendLock = new Object();
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    // 다른 저장은 성공하는 동안 재처리에 실패한 segment 별 실패 횟수 (flushLock 안에서만 접근)
+    private final Map<Path, Integer> replayFailures = new HashMap<>();
+
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter overflowCounter;
+    private final Counter quarantinedCounter;
+
+    private ChatMessageJournal journal;
+    private ScheduledExecutorService flushExecutor;
+    private ScheduledExecutorService journalSyncExecutor;
+
+    public ChatMessageWriter(MongoTemplate mongoTemplate,
+                             ChatMessageBucketStore bucketStore,
+                             MeterRegistry meterRegistry,
+                             @Value("${chat.persistence.mode:sync}") String mode,
+                             @Value("${chat.persistence.queue-capacity:10000}") int queueCapacity,
+                             @Value("${chat.persistence.batch-size:500}") int batchSize,
+                             @Value("${chat.persistence.flush-interval-ms:200}") long flushIntervalMillis,
+                             @Value("${chat.persistence.journal.dir:./data/chat-journal}") Path journalDirectory,
+                             @Value("${chat.persistence.journal.force:true}") boolean journalForce,
+                             @Value("${chat.persistence.journal.force-interval-ms:10}") long journalForceIntervalMillis,
+                             @Value("${chat.persistence.journal.max-replay-attempts:5}") int maxReplayAttempts) {
+        this.mongoTemplate = mongoTemplate;
+        this.bucketStore = bucketStore;
+        this.writeBehind = MODE_WRITE_BEHIND.equals(mode);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.journalDirectory = journalDirectory;
+        this.journalForce = journalForce;
+        this.journalForceIntervalMillis = journalForceIntervalMillis;
+        this.maxReplayAttempts = maxReplayAttempts;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("chat.persistence.queue.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.persistence.flush.latency")
+                .description("채팅 메시지 일괄 저장 소요 시간")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("chat.persistence.flushed")
+                .description("일괄 저장된 채팅 메시지 수")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("chat.persistence.overflow")
+                .description("queue 가 가득 차 즉시 저장된 채팅 메시지 수")
+                .register(meterRegistry);
+        this.quarantinedCounter = Counter.builder("chat.persistence.journal.quarantined")
+                .description("반복해서 저장에 실패해 재처리 대상에서 제외된 저널 segment 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!writeBehind) {
+            return;
+        }
+        journal = new ChatMessageJournal(journalDirectory, journalForce);
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("chat-message-flusher"));
+        // 저장 중인 flush 에 막히지 않도록 저널 동기화는 별도 스레드에서 수행
+        if (journalForce) {
+            journalSyncExecutor = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("chat-journal-sync"));
+            journalSyncExecutor.scheduleWithFixedDelay(this::forceJournalQuietly, journalForceIntervalMillis,
+                    journalForceIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        // 이전 실행에서 저장되지 못한 저널을 먼저 처리한 뒤 주기적으로 flush
+        flushQuietly();
+        flushExecutor.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!writeBehind) {
+            return;
+        }
+        flushExecutor.shutdown();
+        // 인터럽트되면 FileChannel 이 닫히므로 shutdownNow 대신 shutdown 사용
+        if (journalSyncExecutor != null) {
+            journalSyncExecutor.shutdown();
+        }
+        try {
+            flushExecutor.awaitTermination(flushIntervalMillis * 5, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+        journal.close();
+    }
+
+    // 채팅 메시지 저장 - ID 는 호출 전에 할당되어 있어야 함
+    public void write(Object message) {
+        if (!writeBehind) {
+            PendingChatMessage pending = toPending(message);
+            if (bucketStore.writesDocuments()) {
+                mongoTemplate.insert(pending.document(), pending.collection());
+            }
+            if (bucketStore.writesBuckets()) {
+                bucketStore.append(pending.collection(), List.of(pending.document()));
+            }
+            return;
+        }
+
+        PendingChatMessage pending = toPending(message);
+        boolean queued;
+        synchronized (appendLock) {
+            queued = queue.remainingCapacity() > 0;
+            if (queued) {
+                journal.append(pending);
+                queue.add(pending);
+            }
+        }
+
+        // queue 가 가득 찬 경우 호출 스레드에서 직접 저장 (backpressure)
+        if (!queued) {
+            overflowCounter.increment();
+            insert(List.of(pending));
+            return;
+        }
+        // 이미 예약된 flush 가 있으면 추가로 예약하지 않음
+        if (queue.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                try {
+                    flushQuietly();
+                } finally {
+                    flushScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    public void flush() {
+        synchronized (flushLock) {
+            ReplayResult replay = replayLeftoverSegments();
+            boolean stored = replay.stored();
+
+            List<PendingChatMessage> batch = new ArrayList<>();
+            Path segment = null;
+            synchronized (appendLock) {
+                queue.drainTo(batch);
+                if (!batch.isEmpty()) {
+                    segment = journal.rotate();
+                }
+            }
+
+            // 저장에 실패한 segment 는 삭제하지 않고 다음 flush 에서 다시 처리
+            if (segment != null) {
+                flushTimer.record(() -> insert(batch));
+                journal.delete(segment);
+                stored = true;
+            }
+
+            // 다른 저장은 성공했으므로 MongoDB 장애가 아닌 segment 자체의 문제로 보고 실패 횟수를 누적
+            if (replay.failedSegment() != null && stored) {
+                recordReplayFailure(replay.failedSegment());
+            }
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Chat message flush failed. Pending journal segments will be retried.", e);
+        }
+    }
+
+    private void forceJournalQuietly() {
+        try {
+            journal.force();
+        } catch (RuntimeException e) {
+            log.error("Chat message journal force failed.", e);
+        }
+    }
+
+    // 남아 있는 segment 를 순서대로 다시 저장하고, 실패한 segment 가 있으면 그 이후 segment 는 다음 flush 에서 처리
+    private ReplayResult replayLeftoverSegments() {
+        boolean stored = false;
+        for (Path segment : journal.segments()) {
+            try {
+                List<PendingChatMessage> messages = journal.read(segment);
+                flushTimer.record(() -> insert(messages));
+                journal.delete(segment);
+                replayFailures.remove(segment);
+                stored = true;
+                log.info("Replayed chat message journal segment. [segment={}, size={}]", segment, messages.size());
+            } catch (RuntimeException e) {
+                log.warn("Chat message journal segment replay failed. [segment={}]", segment, e);
+                return new ReplayResult(stored, segment);
+            }
+        }
+        return new ReplayResult(stored, null);
+    }
+
+    private void recordReplayFailure(Path segment) {
+        int attempts = replayFailures.merge(segment, 1, Integer::sum);
+        if (attempts < maxReplayAttempts) {
+            return;
+        }
+        replayFailures.remove(segment);
+        Path quarantined = journal.quarantine(segment);
+        quarantinedCounter.increment();
+        log.error("Chat message journal segment quarantined after repeated replay failures. "
+                + "[segment={}, attempts={}]", quarantined, attempts);
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private PendingChatMessage toPending(Object message) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(message, document);
+        ChatSearchTokenizer.index(document);
+        return new PendingChatMessage(mongoTemplate.getCollectionName(message.getClass()), document);
+    }
+
+    // 컬렉션별로 batch-size 단위 insertMany 수행
+    private void insert(List<PendingChatMessage> messages) {
+        Map<String, List<Document>> documentsByCollection = new LinkedHashMap<>();
+        messages.forEach(message -> documentsByCollection
+                .computeIfAbsent(message.collection(), collection -> new ArrayList<>())
+                .add(message.document()));
+
+        documentsByCollection.forEach((collection, documents) -> {
+            if (bucketStore.writesDocuments()) {
+                for (int from = 0; from < documents.size(); from += batchSize) {
+                    List<Document> chunk = documents.subList(from, Math.min(from + batchSize, documents.size()));
+                    insertIgnoringDuplicates(collection, chunk);
+                }
+            }
+            if (bucketStore.writesBuckets()) {
+                bucketStore.append(collection, documents);
+            }
+        });
+        flushedCounter.increment(messages.size());
+    }
+
+    private void insertIgnoringDuplicates(String collection, List<Document> documents) {
+        try {
+            mongoTemplate.getCollection(collection).insertMany(documents, new InsertManyOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            boolean onlyDuplicates = e.getWriteErrors().stream()
+                    .allMatch(error -> ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY);
+            if (!onlyDuplicates) {
+                throw e;
+            }
+        }
+    }
+
+    private record ReplayResult(boolean stored, Path failedSegment) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.mate.domain.chat.persistence;
+
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+
+/**
+ * 저장 대기 중인 채팅 메시지
+ *
+ * @param collection 저장될 컬렉션 이름
+ * @param document   변환이 끝난 MongoDB 문서
+ */
+public record PendingChatMessage(String collection, Document document) {
+
+    private static final JsonWriterSettings JOURNAL_JSON = JsonWriterSettings.builder()
+            .outputMode(JsonMode.EXTENDED)
+            .build();
+
+    // 저널 한 줄로 직렬화 (타입 정보를 보존하기 위해 Extended JSON 사용)
+    public String toJournalLine() {
+        return new Document("collection", collection)
+                .append("document", document)
+                .toJson(JOURNAL_JSON);
+    }
+
+    public static PendingChatMessage fromJournalLine(String line) {
+        Document entry = Document.parse(line);
+        return new PendingChatMessage(entry.getString("collection"), entry.get("document", Document.class));
+    }
+}
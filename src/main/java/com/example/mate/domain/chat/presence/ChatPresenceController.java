@@ -0,0 +1,35 @@
+package com.example.mate.domain.chat.presence;
+
+import com.example.mate.common.security.auth.AuthMember;
+import com.example.mate.domain.chat.ChatRoomType;
+import jakarta.validation.Valid;
+import java.security.Principal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Controller;
+
+@Controller
+@RequiredArgsConstructor
+public class ChatPresenceController {
+
+    private final ChatPresenceTracker chatPresenceTracker;
+
+    @MessageMapping("/chat/mate/typing")
+    public void handleMateTyping(@Payload @Valid ChatTypingRequest request, Principal principal) {
+        typing(ChatRoomType.MATE, request, principal);
+    }
+
+    @MessageMapping("/chat/goods/typing")
+    public void handleGoodsTyping(@Payload @Valid ChatTypingRequest request, Principal principal) {
+        typing(ChatRoomType.GOODS, request, principal);
+    }
+
+    // 입력 중 상태는 인증된 세션의 회원 기준으로만 반영
+    private void typing(ChatRoomType type, ChatTypingRequest request, Principal principal) {
+        if (principal instanceof AuthMember authMember) {
+            chatPresenceTracker.typing(new ChatPresenceRoom(type, request.getRoomId()),
+                    authMember.getMemberId(), request.isTyping());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.mate.domain.chat.presence;
+
+import java.util.List;
+
+/**
+ * 채팅방 접속 상태
+ * /sub/chat/{type}/{roomId}/presence 구독자에게 전송됩니다.
+ *
+ * @param roomType        채팅방 종류 (mate, goods)
+ * @param roomId          채팅방 ID
+ * @param onlineMemberIds 채팅방에 접속 중인 회원 ID
+ * @param typingMemberIds 메시지를 입력 중인 회원 ID
+ */
+public record ChatPresenceResponse(String roomType, Long roomId, List<Long> onlineMemberIds,
+                                   List<Long> typingMemberIds) {
+}
@@ -0,0 +1,36 @@
+package com.example.mate.domain.chat.presence;
+
+import com.example.mate.domain.chat.ChatRoomType;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 접속 상태를 관리하는 채팅방
+ * /sub/chat/mate/{roomId}, /sub/chat/goods/{roomId} 구독을 채팅방 입장으로 간주합니다.
+ */
+public record ChatPresenceRoom(ChatRoomType type, Long roomId) {
+
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/sub/chat/(mate|goods)/(\\d+)$");
+
+    public static Optional<ChatPresenceRoom> fromDestination(String destination) {
+        if (destination == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = ROOM_DESTINATION.matcher(destination);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ChatPresenceRoom(ChatRoomType.valueOf(matcher.group(1).toUpperCase()),
+                Long.valueOf(matcher.group(2))));
+    }
+
+    public String typeName() {
+        return type.name().toLowerCase();
+    }
+
+    // 접속 상태 전송 경로 - /sub/chat/{type}/{roomId}/presence
+    public String presenceDestination() {
+        return "/sub/chat/" + typeName() + "/" + roomId + "/presence";
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.mate.domain.chat.presence;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 접속, 입력 중 상태 저장소
+ * 채팅방마다 만료 시각(epoch millis)을 score 로 하는 Redis Sorted Set 두 개를 사용합니다.
+ * - chat:presence:{type}:{roomId} : 접속 중인 회원 ID
+ * - chat:typing:{type}:{roomId}   : 입력 중인 회원 ID
+ * 각 노드가 자신에게 연결된 회원의 만료 시각을 주기적으로 연장하므로, 노드가 종료되어도 값은 ttl 이후 사라집니다.
+ * MySQL, MongoDB 에는 기록하지 않으며 Redis 장애 시에는 접속 상태 없이 채팅만 동작합니다.
+ */
+@Slf4j
+@Component
+public class ChatPresenceStore {
+
+    private static final String PRESENCE_KEY_PREFIX = "chat:presence:";
+    private static final String TYPING_KEY_PREFIX = "chat:typing:";
+
+    // 만료된 회원을 제거한 뒤 회원들의 만료 시각을 연장하고, 제거된 회원 수를 반환
+    private static final RedisScript<Long> TOUCH_SCRIPT = new DefaultRedisScript<>("""
+            local removed = redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+            for i = 4, #ARGV do
+                redis.call('ZADD', KEYS[1], ARGV[2], ARGV[i])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return removed
+            """, Long.class);
+
+    // 만료된 회원을 제거한 뒤 접속 중인 회원과 입력 중인 회원을 함께 반환
+    private static final RedisScript<List> SNAPSHOT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+            return {redis.call('ZRANGE', KEYS[1], 0, -1), redis.call('ZRANGE', KEYS[2], 0, -1)}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final Duration typingTtl;
+
+    public ChatPresenceStore(StringRedisTemplate redisTemplate,
+                             @Value("${chat.presence.ttl:30s}") Duration ttl,
+                             @Value("${chat.presence.typing-ttl:5s}") Duration typingTtl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.typingTtl = typingTtl;
+    }
+
+    // 채팅방 입장, 접속 유지 - 만료된 다른 회원이 제거되었다면 true
+    public boolean touch(ChatPresenceRoom room, Collection<Long> memberIds, long now) {
+        return touch(presenceKey(room), memberIds, now, ttl) > 0;
+    }
+
+    public void leave(ChatPresenceRoom room, Long memberId) {
+        remove(presenceKey(room), memberId);
+        remove(typingKey(room), memberId);
+    }
+
+    public void startTyping(ChatPresenceRoom room, Long memberId, long now) {
+        touch(typingKey(room), List.of(memberId), now, typingTtl);
+    }
+
+    public void stopTyping(ChatPresenceRoom room, Long memberId) {
+        remove(typingKey(room), memberId);
+    }
+
+    // 전송할 접속 상태 조회 - Redis 장애 시 null
+    public ChatPresenceResponse snapshot(ChatPresenceRoom room, long now) {
+        try {
+            List<?> result = redisTemplate.execute(SNAPSHOT_SCRIPT, List.of(presenceKey(room), typingKey(room)),
+                    String.valueOf(now));
+            return new ChatPresenceResponse(room.typeName(), room.roomId(),
+                    toMemberIds(result.get(0)), toMemberIds(result.get(1)));
+        } catch (RuntimeException e) {
+            log.warn("Chat presence lookup failed. [room={}]", room, e);
+            return null;
+        }
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public Duration getTypingTtl() {
+        return typingTtl;
+    }
+
+    private long touch(String key, Collection<Long> memberIds, long now, Duration duration) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(now));
+        args.add(String.valueOf(now + duration.toMillis()));
+        args.add(String.valueOf(duration.toMillis()));
+        memberIds.forEach(memberId -> args.add(String.valueOf(memberId)));
+        try {
+            Long removed = redisTemplate.execute(TOUCH_SCRIPT, List.of(key), args.toArray());
+            return removed != null ? removed : 0;
+        } catch (RuntimeException e) {
+            log.warn("Chat presence update failed. [key={}]", key, e);
+            return 0;
+        }
+    }
+
+    private void remove(String key, Long memberId) {
+        try {
+            redisTemplate.opsForZSet().remove(key, String.valueOf(memberId));
+        } catch (RuntimeException e) {
+            log.warn("Chat presence remove failed. [key={}, memberId={}]", key, memberId, e);
+        }
+    }
+
+    private static List<Long> toMemberIds(Object values) {
+        List<Long> memberIds = new ArrayList<>();
+        for (Object value : (List<?>) values) {
+            memberIds.add(Long.valueOf(value.toString()));
+        }
+        return memberIds;
+    }
+
+    private static String presenceKey(ChatPresenceRoom room) {
+        return PRESENCE_KEY_PREFIX + room.typeName() + ":" + room.roomId();
+    }
+
+    private static String typingKey(ChatPresenceRoom room) {
+        return TYPING_KEY_PREFIX + room.typeName() + ":" + room.roomId();
+    }
+}
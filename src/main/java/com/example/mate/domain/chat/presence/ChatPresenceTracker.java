@@ -0,0 +1,212 @@
+package com.example.mate.domain.chat.presence;
+
+import com.example.mate.common.security.auth.AuthMember;
+import com.example.mate.domain.goodsChat.repository.GoodsChatPartRepository;
+import com.example.mate.domain.mateChat.repository.MateChatRoomMemberRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * STOMP 세션 이벤트로 채팅방 접속, 입력 중 상태를 관리
+ * 회원은 CONNECT 에서 인증된 세션의 회원(UnreadSubscriptionGuard 가 설정한 AuthMember)을 사용하며,
+ * 채팅방의 활성 멤버가 채팅방을 구독하면 입장, 구독 해제나 연결 종료 시 퇴장한 것으로 처리합니다.
+ * 입력 중 상태는 현재 노드에서 채팅방에 입장한 회원의 요청만 반영합니다.
+ * 상태가 바뀐 채팅방은 표시만 해 두고 broadcast-interval 마다 채팅방별로 한 번만 전송하므로
+ * 입력 이벤트가 많아도 전송량은 채팅방 수에 비례합니다.
+ */
+@Slf4j
+@Component
+public class ChatPresenceTracker {
+
+    private final ChatPresenceStore presenceStore;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final MateChatRoomMemberRepository mateChatRoomMemberRepository;
+    private final GoodsChatPartRepository goodsChatPartRepository;
+
+    private final Map<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+    // 현재 노드에 연결된 채팅방별 회원과 회원별 세션 수
+    private final Map<ChatPresenceRoom, Map<Long, AtomicInteger>> localMembers = new ConcurrentHashMap<>();
+    // 현재 노드에서 받은 입력 중 상태의 만료 시각
+    private final Map<Typing, Long> typingUntil = new ConcurrentHashMap<>();
+    private final Set<ChatPresenceRoom> changedRooms = ConcurrentHashMap.newKeySet();
+
+    public ChatPresenceTracker(ChatPresenceStore presenceStore, SimpMessageSendingOperations messagingTemplate,
+                               MateChatRoomMemberRepository mateChatRoomMemberRepository,
+                               GoodsChatPartRepository goodsChatPartRepository) {
+        this.presenceStore = presenceStore;
+        this.messagingTemplate = messagingTemplate;
+        this.mateChatRoomMemberRepository = mateChatRoomMemberRepository;
+        this.goodsChatPartRepository = goodsChatPartRepository;
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        subscribe(event.getMessage());
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        SessionPresence session = sessions.get(accessor.getSessionId());
+        if (session == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        ChatPresenceRoom room = session.subscriptions.remove(accessor.getSubscriptionId());
+        if (room != null) {
+            leave(room, session.memberId);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        SessionPresence session = sessions.remove(event.getSessionId());
+        if (session != null) {
+            session.subscriptions.values().forEach(room -> leave(room, session.memberId));
+        }
+    }
+
+    void subscribe(Message<?> message) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        ChatPresenceRoom room = ChatPresenceRoom.fromDestination(accessor.getDestination()).orElse(null);
+        if (room == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        // 인증되지 않은 세션이나 채팅방 멤버가 아닌 회원의 구독은 입장으로 보지 않음
+        if (!(accessor.getUser() instanceof AuthMember authMember)
+                || !isActiveMember(room, authMember.getMemberId())) {
+            return;
+        }
+        SessionPresence session = sessions.computeIfAbsent(accessor.getSessionId(),
+                id -> new SessionPresence(authMember.getMemberId()));
+        if (session.subscriptions.putIfAbsent(accessor.getSubscriptionId(), room) != null) {
+            return;
+        }
+        join(room, session.memberId);
+    }
+
+    // 입력 중 상태 변경 - 만료 시각의 절반이 지나기 전의 반복 요청은 Redis 에 기록하지 않음
+    public void typing(ChatPresenceRoom room, Long memberId, boolean typing) {
+        Map<Long, AtomicInteger> members = localMembers.get(room);
+        if (members == null || !members.containsKey(memberId)) {
+            return;
+        }
+        Typing key = new Typing(room, memberId);
+        if (!typing) {
+            if (typingUntil.remove(key) != null) {
+                presenceStore.stopTyping(room, memberId);
+                changedRooms.add(room);
+            }
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long typingTtlMillis = presenceStore.getTypingTtl().toMillis();
+        Long previous = typingUntil.get(key);
+        if (previous != null && previous - now > typingTtlMillis / 2) {
+            return;
+        }
+        typingUntil.put(key, now + typingTtlMillis);
+        presenceStore.startTyping(room, memberId, now);
+        if (previous == null || previous <= now) {
+            changedRooms.add(room);
+        }
+    }
+
+    // 상태가 바뀐 채팅방마다 접속 상태를 한 번씩 전송
+    @Scheduled(fixedDelayString = "${chat.presence.broadcast-interval-ms:1000}")
+    public void broadcast() {
+        long now = System.currentTimeMillis();
+        typingUntil.forEach((key, until) -> {
+            if (until <= now && typingUntil.remove(key, until)) {
+                changedRooms.add(key.room());
+            }
+        });
+
+        List<ChatPresenceRoom> targets = new ArrayList<>(changedRooms);
+        targets.forEach(changedRooms::remove);
+        for (ChatPresenceRoom room : targets) {
+            ChatPresenceResponse response = presenceStore.snapshot(room, now);
+            if (response == null) {
+                continue;
+            }
+            try {
+                messagingTemplate.convertAndSend(room.presenceDestination(), response);
+            } catch (RuntimeException e) {
+                log.warn("Chat presence broadcast failed. [room={}]", room, e);
+            }
+        }
+    }
+
+    // 현재 노드에 연결된 회원의 만료 시각 연장 - 종료된 다른 노드의 회원이 만료되었다면 변경으로 처리
+    @Scheduled(fixedDelayString = "${chat.presence.refresh-interval-ms:10000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        localMembers.forEach((room, members) -> {
+            List<Long> memberIds = new ArrayList<>(members.keySet());
+            if (!memberIds.isEmpty() && presenceStore.touch(room, memberIds, now)) {
+                changedRooms.add(room);
+            }
+        });
+    }
+
+    private void join(ChatPresenceRoom room, Long memberId) {
+        AtomicInteger count = localMembers.computeIfAbsent(room, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(memberId, key -> new AtomicInteger());
+        if (count.incrementAndGet() == 1) {
+            presenceStore.touch(room, List.of(memberId), System.currentTimeMillis());
+            changedRooms.add(room);
+        }
+    }
+
+    private void leave(ChatPresenceRoom room, Long memberId) {
+        Map<Long, AtomicInteger> members = localMembers.get(room);
+        if (members == null || !members.containsKey(memberId)) {
+            return;
+        }
+        // 같은 회원의 다른 세션이 채팅방에 남아 있으면 접속 중으로 유지
+        boolean left = members.computeIfPresent(memberId,
+                (key, count) -> count.decrementAndGet() > 0 ? count : null) == null;
+        if (!left) {
+            return;
+        }
+        localMembers.computeIfPresent(room, (key, value) -> value.isEmpty() ? null : value);
+        typingUntil.remove(new Typing(room, memberId));
+        presenceStore.leave(room, memberId);
+        changedRooms.add(room);
+    }
+
+    private boolean isActiveMember(ChatPresenceRoom room, Long memberId) {
+        return switch (room.type()) {
+            case MATE -> mateChatRoomMemberRepository.existsActiveMember(room.roomId(), memberId);
+            case GOODS -> goodsChatPartRepository.existsActiveMember(room.roomId(), memberId);
+        };
+    }
+
+    private static class SessionPresence {
+
+        private final Long memberId;
+        private final Map<String, ChatPresenceRoom> subscriptions = new ConcurrentHashMap<>();
+
+        private SessionPresence(Long memberId) {
+            this.memberId = memberId;
+        }
+    }
+
+    private record Typing(ChatPresenceRoom room, Long memberId) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.mate.domain.chat.presence;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ChatTypingRequest {
+
+    @NotNull(message = "채팅방 ID는 필수입니다.")
+    private Long roomId;
+
+    // false 인 경우 입력 중 상태 해제 (메시지 전송, 입력창 비움)
+    private boolean typing;
+}
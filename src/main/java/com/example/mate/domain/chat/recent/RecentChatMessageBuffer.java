@@ -0,0 +1,119 @@
+package com.example.mate.domain.chat.recent;
+
+import com.example.mate.common.cluster.ClusterBus;
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.member.cache.MemberCardCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.util.Assert;
+
+/**
+ * 채팅방별 최근 메시지(응답 DTO) 버퍼
+ * 전송 경로에서 만들어진 응답을 채팅방마다 capacity 개까지 보관하여,
+ * 채팅방 입장과 첫 페이지 조회를 MongoDB 조회와 발신자 조회 없이 처리합니다.
+ * 버퍼가 없거나 비어 있는 채팅방은 최신 메시지를 한 번 조회해 채운 뒤 사용합니다.
+ * 분산 모드에서는 다른 노드에서 전송된 메시지도 ClusterBus 로 전달받아 반영합니다.
+ */
+public abstract class RecentChatMessageBuffer<T> {
+
+    private static final String CHANNEL_PREFIX = "chat:recent:";
+    private static final String EVICTION_CHANNEL = "chat:recent:evict";
+
+    private final ChatRoomType type;
+    private final Class<T> messageType;
+    private final ClusterBus clusterBus;
+    private final int capacity;
+    private final String channelPrefix;
+    private final Cache<Long, RecentMessageRing<T>> rings;
+
+    protected RecentChatMessageBuffer(ChatRoomType type, Class<T> messageType, ClusterBus clusterBus,
+                                      MeterRegistry meterRegistry, int capacity, long maximumRooms, Duration ttl) {
+        Assert.isTrue(capacity > 0, "capacity must be positive");
+        this.type = type;
+        this.messageType = messageType;
+        this.clusterBus = clusterBus;
+        this.capacity = capacity;
+        this.channelPrefix = CHANNEL_PREFIX + type.name().toLowerCase() + ":";
+        // 대화가 없는 채팅방은 ttl 이후 제거
+        this.rings = Caffeine.newBuilder()
+                .maximumSize(maximumRooms)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rings, "recentChatMessage", "type", type.name());
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        clusterBus.subscribe(channelPrefix + "*", messageType,
+                (channel, message) -> receive(Long.valueOf(channel.substring(channelPrefix.length())), message));
+        clusterBus.subscribe(EVICTION_CHANNEL, RecentChatMessageEviction.class, (channel, eviction) -> {
+            if (eviction.type() == type) {
+                rings.invalidate(eviction.roomId());
+            }
+        });
+        // 발신자 정보가 바뀌면 이전 정보로 만들어진 응답을 가진 채팅방 버퍼 제거
+        clusterBus.subscribe(MemberCardCache.INVALIDATION_CHANNEL, Long.class, (channel, memberId) ->
+                rings.asMap().values().removeIf(ring -> ring.anyMatch(message -> memberId.equals(senderId(message)))));
+    }
+
+    // 전송된 메시지 추가
+    public void append(Long roomId, T message) {
+        receive(roomId, message);
+
+        if (clusterBus.isDistributed()) {
+            clusterBus.publish(channelPrefix + roomId, message);
+        }
+    }
+
+    /**
+     * after 이후에 전송된 최신 메시지를 최대 limit 개 ID 내림차순으로 반환합니다.
+     * 버퍼만으로 응답할 수 없으면 loader 로 최신 메시지를 ID 내림차순으로 capacity 개까지 조회해 버퍼를 채웁니다.
+     */
+    public List<T> getLatest(Long roomId, int limit, LocalDateTime after, Supplier<List<T>> loader) {
+        Assert.isTrue(limit <= capacity, "limit must not exceed capacity");
+        RecentMessageRing<T> ring = rings.getIfPresent(roomId);
+        if (ring != null) {
+            List<T> latest = ring.latest(limit, after);
+            if (latest != null) {
+                return latest;
+            }
+        }
+
+        List<T> loaded = loader.get();
+        ring = rings.get(roomId, this::newRing);
+        ring.seed(loaded);
+        return ring.latest(limit, after);
+    }
+
+    // 채팅방 삭제 시 모든 노드에서 제거
+    public void evict(Long roomId) {
+        rings.invalidate(roomId);
+        clusterBus.publish(EVICTION_CHANNEL, new RecentChatMessageEviction(type, roomId));
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    protected abstract String messageId(T message);
+
+    protected abstract Long senderId(T message);
+
+    protected abstract LocalDateTime sentAt(T message);
+
+    private void receive(Long roomId, T message) {
+        rings.get(roomId, this::newRing).add(message);
+    }
+
+    private RecentMessageRing<T> newRing(Long roomId) {
+        return new RecentMessageRing<>(capacity, this::messageId, this::sentAt);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.mate.domain.chat.recent;
+
+import com.example.mate.domain.chat.ChatRoomType;
+
+/**
+ * 다른 노드에 전달되는 최근 메시지 버퍼 제거 요청
+ *
+ * @param type   채팅방 종류
+ * @param roomId 채팅방 ID
+ */
+public record RecentChatMessageEviction(ChatRoomType type, Long roomId) {
+}
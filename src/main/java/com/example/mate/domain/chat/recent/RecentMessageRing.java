@@ -0,0 +1,138 @@
+package com.example.mate.domain.chat.recent;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 채팅방 하나의 최근 메시지를 보관하는 고정 크기 ring buffer
+ * 메시지는 ID(ObjectId) 오름차순으로 유지되며, 가득 차면 가장 오래된 메시지를 덮어씁니다.
+ * ID 순서는 채팅 내역의 커서 페이징 순서와 같습니다.
+ * seeded 는 저장소의 최신 메시지로 채워진 이후 모든 메시지가 반영되었음을 의미합니다.
+ */
+class RecentMessageRing<T> {
+
+    private final Object[] slots;
+    private final Function<T, String> idExtractor;
+    private final Function<T, LocalDateTime> sentAtExtractor;
+
+    private int head;
+    private int size;
+    private boolean seeded;
+
+    RecentMessageRing(int capacity, Function<T, String> idExtractor, Function<T, LocalDateTime> sentAtExtractor) {
+        this.slots = new Object[capacity];
+        this.idExtractor = idExtractor;
+        this.sentAtExtractor = sentAtExtractor;
+    }
+
+    synchronized void add(T message) {
+        if (contains(idExtractor.apply(message))) {
+            return;
+        }
+
+        // 대부분의 메시지는 가장 최신 메시지 뒤에 추가됨
+        if (size == 0 || compare(message, get(size - 1)) >= 0) {
+            append(message);
+            return;
+        }
+        // 다른 노드에서 늦게 도착한 메시지는 ID 순서에 맞게 다시 정렬
+        if (size == slots.length && compare(message, get(0)) < 0) {
+            return;
+        }
+        List<T> messages = snapshot();
+        messages.add(message);
+        rebuild(messages);
+    }
+
+    // 저장소에서 조회한 최신 메시지와 그 사이 추가된 메시지를 합쳐 채움
+    synchronized void seed(Collection<T> messages) {
+        List<T> merged = snapshot();
+        for (T message : messages) {
+            if (!contains(idExtractor.apply(message))) {
+                merged.add(message);
+            }
+        }
+        rebuild(merged);
+        seeded = true;
+    }
+
+    /**
+     * after 이후에 전송된 최신 메시지를 최대 limit 개 ID 내림차순으로 반환합니다.
+     * 메모리에 있는 메시지만으로 저장소 조회 결과와 같음을 보장할 수 없으면 null 을 반환합니다.
+     */
+    synchronized List<T> latest(int limit, LocalDateTime after) {
+        List<T> result = new ArrayList<>(Math.min(limit, size));
+        for (int i = size - 1; i >= 0 && result.size() < limit; i--) {
+            T message = get(i);
+            if (after != null && !sentAtExtractor.apply(message).isAfter(after)) {
+                // 이보다 오래된 메시지도 모두 조건을 만족하지 않음
+                return result;
+            }
+            result.add(message);
+        }
+        return seeded || result.size() == limit ? result : null;
+    }
+
+    synchronized boolean anyMatch(Predicate<T> predicate) {
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void append(T message) {
+        if (size < slots.length) {
+            slots[(head + size) % slots.length] = message;
+            size++;
+            return;
+        }
+        slots[head] = message;
+        head = (head + 1) % slots.length;
+    }
+
+    private void rebuild(List<T> messages) {
+        messages.sort(this::compare);
+        int from = Math.max(0, messages.size() - slots.length);
+        Arrays.fill(slots, null);
+        head = 0;
+        size = 0;
+        for (T message : messages.subList(from, messages.size())) {
+            append(message);
+        }
+    }
+
+    private boolean contains(String id) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(idExtractor.apply(get(i)), id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<T> snapshot() {
+        List<T> messages = new ArrayList<>(size + 1);
+        for (int i = 0; i < size; i++) {
+            messages.add(get(i));
+        }
+        return messages;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T get(int index) {
+        return (T) slots[(head + index) % slots.length];
+    }
+
+    // 16진수 ObjectId 는 문자열 비교 순서와 생성 순서가 같음
+    private int compare(T left, T right) {
+        return idExtractor.apply(left).compareTo(idExtractor.apply(right));
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.mate.domain.chat.search;
+
+import com.example.mate.domain.chat.ChatMessageCursor;
+
+/**
+ * 채팅 메시지 검색 결과
+ *
+ * @param message       검색된 메시지
+ * @param historyCursor 이 메시지부터 이전 채팅 내역을 조회하는 커서 - 채팅 내역 커서 조회 API 의 cursor 로 전달
+ */
+public record ChatMessageSearchHit<T>(T message, String historyCursor) {
+
+    public static <T> ChatMessageSearchHit<T> of(T message, String messageId) {
+        return new ChatMessageSearchHit<>(message, ChatMessageCursor.encodeFrom(messageId));
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.mate.domain.chat.search;
+
+import com.example.mate.common.error.CustomException;
+import com.example.mate.common.error.ErrorCode;
+import java.util.List;
+import java.util.function.Predicate;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+/**
+ * 채팅 메시지 검색 조건
+ *
+ * @param keyword 정규화된 검색어
+ * @param tokens  검색어의 n-gram 토큰
+ */
+public record ChatSearchQuery(String keyword, List<String> tokens) {
+
+    public static final int MAX_KEYWORD_LENGTH = 50;
+
+    public static ChatSearchQuery of(String keyword) {
+        if (keyword == null || keyword.isBlank() || keyword.length() > MAX_KEYWORD_LENGTH) {
+            throw new CustomException(ErrorCode.INVALID_CHAT_SEARCH_KEYWORD);
+        }
+        List<String> tokens = ChatSearchTokenizer.queryTokens(keyword);
+        if (tokens.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_CHAT_SEARCH_KEYWORD);
+        }
+        return new ChatSearchQuery(ChatSearchTokenizer.normalize(keyword.strip()), tokens);
+    }
+
+    // 인덱스 조건 - 검색어의 토큰을 모두 포함하는 메시지
+    public Criteria tokenCriteria() {
+        return Criteria.where(ChatSearchTokenizer.TOKENS_FIELD).all(tokens);
+    }
+
+    // 토큰 순서까지 확인 - 본문에 검색어가 포함된 메시지
+    public boolean matches(String content) {
+        return content != null && ChatSearchTokenizer.normalize(content).contains(keyword);
+    }
+
+    // bucket, 보관 segment 처럼 토큰 인덱스가 없는 저장소에서 사용하는 조건
+    public Predicate<Document> filter() {
+        return message -> matches(message.getString(ChatSearchTokenizer.CONTENT_FIELD));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.mate.domain.chat.search;
+
+import java.util.List;
+import java.util.function.Function;
+import org.bson.types.ObjectId;
+
+/**
+ * 스캔 한도 안에서 찾은 채팅 메시지 검색 결과
+ * 드문 검색어로 채팅방 전체를 한 번에 스캔하지 않도록, 한도에 도달하면 페이지를 다 채우지 못해도 멈추고 이어서 검색할 위치를 반환합니다.
+ *
+ * @param messages       찾은 메시지 (ID 내림차순)
+ * @param continueBefore 스캔 한도에 도달해 멈춘 경우 이어서 검색할 위치 (이 ID 보다 작은 메시지부터), 끝까지 검색했으면 null
+ */
+public record ChatSearchResult<T>(List<T> messages, ObjectId continueBefore) {
+
+    public static <T> ChatSearchResult<T> complete(List<T> messages) {
+        return new ChatSearchResult<>(messages, null);
+    }
+
+    public <R> ChatSearchResult<R> map(Function<List<T>, List<R>> mapper) {
+        return new ChatSearchResult<>(mapper.apply(messages), continueBefore);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.mate.domain.chat.search;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 토큰 없이 저장된 메시지 문서에 토큰을 기록하는 작업
+ * 토큰이 없는 메시지만 대상으로 하므로 중단된 경우 다시 실행하면 이어서 처리합니다.
+ * bucket, 보관 segment 의 메시지는 본문으로 검색하므로 대상이 아닙니다.
+ */
+@Slf4j
+@Component
+public class ChatSearchTokenBackfill {
+
+    private static final List<String> COLLECTIONS = List.of("mate_chat_message", "goods_chat_message");
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public ChatSearchTokenBackfill(MongoTemplate mongoTemplate,
+                                   @Value("${chat.search.backfill.enabled:false}") boolean enabled,
+                                   @Value("${chat.search.backfill.batch-size:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                backfill();
+            } catch (RuntimeException e) {
+                log.error("Chat search token backfill failed. Run it again to resume.", e);
+            }
+        }, "chat-search-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public long backfill() {
+        long updated = 0;
+        for (String collection : COLLECTIONS) {
+            updated += backfill(collection);
+        }
+        return updated;
+    }
+
+    public long backfill(String collection) {
+        Query query = new Query(Criteria.where(ChatSearchTokenizer.TOKENS_FIELD).exists(false)
+                .and(ChatSearchTokenizer.CONTENT_FIELD).exists(true));
+        query.fields().include(ChatSearchTokenizer.CONTENT_FIELD);
+
+        long updated = 0;
+        List<Document> batch = new ArrayList<>(batchSize);
+        try (Stream<Document> messages = mongoTemplate.stream(query, Document.class, collection)) {
+            Iterator<Document> iterator = messages.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize) {
+                    updated += write(collection, batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            updated += write(collection, batch);
+        }
+        log.info("Chat search tokens backfilled. [collection={}, messages={}]", collection, updated);
+        return updated;
+    }
+
+    private int write(String collection, List<Document> messages) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkMode.UNORDERED, collection);
+        for (Document message : messages) {
+            operations.updateOne(new Query(Criteria.where("_id").is(message.get("_id"))),
+                    new Update().set(ChatSearchTokenizer.TOKENS_FIELD,
+                            ChatSearchTokenizer.tokenize(message.getString(ChatSearchTokenizer.CONTENT_FIELD))));
+        }
+        return operations.execute().getModifiedCount();
+    }
+}
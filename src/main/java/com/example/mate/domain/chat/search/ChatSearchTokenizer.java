@@ -0,0 +1,87 @@
+package com.example.mate.domain.chat.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.bson.Document;
+
+/**
+ * 채팅 메시지 검색용 n-gram 토큰 생성
+ * 한국어는 조사가 붙고 띄어쓰기가 일정하지 않아 형태소 분석 없이도 부분 일치를 찾을 수 있도록
+ * 단어마다 글자(1-gram)와 연속된 두 글자(2-gram)를 메시지 저장 시 search_tokens 필드에 기록합니다.
+ * 검색 시에는 검색어의 토큰을 모두 포함하는 메시지를 인덱스로 찾은 뒤 본문에 검색어가 포함되어 있는지 다시 확인합니다.
+ */
+public final class ChatSearchTokenizer {
+
+    public static final String TOKENS_FIELD = "search_tokens";
+    public static final String CONTENT_FIELD = "content";
+
+    // 긴 메시지의 토큰 수 제한 - 앞부분만 검색 대상
+    private static final int MAX_TOKENS = 512;
+
+    private ChatSearchTokenizer() {
+    }
+
+    // 전각/반각, 대소문자 차이 제거
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    // 저장할 토큰 - 단어별 1-gram, 2-gram
+    public static List<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length() && tokens.size() < MAX_TOKENS; i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    // 검색할 토큰 - 한 글자 단어는 1-gram, 나머지는 2-gram
+    public static List<String> queryTokens(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(keyword)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    // 저장할 메시지 문서에 검색 토큰 추가
+    public static void index(Document message) {
+        Object content = message.get(CONTENT_FIELD);
+        if (content instanceof String text && !text.isBlank()) {
+            message.put(TOKENS_FIELD, tokenize(text));
+        }
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        String normalized = normalize(text);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
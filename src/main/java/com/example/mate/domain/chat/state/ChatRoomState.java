@@ -0,0 +1,19 @@
+package com.example.mate.domain.chat.state;
+
+import java.util.Set;
+
+/**
+ * 메시지 전송 검증에 필요한 채팅방 상태
+ * - messageable     : 메시지 전송 가능 여부
+ * - activeMemberIds : 현재 채팅방에 참여 중인 회원 ID
+ */
+public record ChatRoomState(boolean messageable, Set<Long> activeMemberIds) {
+
+    public ChatRoomState {
+        activeMemberIds = Set.copyOf(activeMemberIds);
+    }
+
+    public boolean isActiveMember(Long memberId) {
+        return activeMemberIds.contains(memberId);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.mate.domain.chat.state;
+
+import com.example.mate.common.cluster.ClusterBus;
+import com.example.mate.domain.chat.ChatRoomType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 채팅 메시지 전송 검증용 채팅방 상태 캐시
+ * 입장, 퇴장 등 상태가 바뀌는 트랜잭션이 커밋되면 모든 노드에서 무효화됩니다.
+ * 무효화될 때마다 채팅방별 version 이 증가하며, 조회 도중 version 이 바뀐 경우
+ * 조회 결과를 캐시에 저장하지 않아 무효화 이전 상태가 다시 적재되지 않습니다.
+ */
+@Component
+public class ChatRoomStateCache {
+
+    private static final String INVALIDATION_CHANNEL = "chat:room-state:invalidate";
+
+    private final ClusterBus clusterBus;
+    private final Map<ChatRoomType, ChatRoomStateLoader> loaders = new EnumMap<>(ChatRoomType.class);
+    private final Cache<RoomKey, ChatRoomState> states;
+    private final Cache<RoomKey, Long> versions;
+
+    public ChatRoomStateCache(ClusterBus clusterBus,
+                              List<ChatRoomStateLoader> loaders,
+                              MeterRegistry meterRegistry,
+                              @Value("${chat.room-state.maximum-size:10000}") long maximumSize,
+                              @Value("${chat.room-state.ttl:5m}") Duration ttl) {
+        this.clusterBus = clusterBus;
+        loaders.forEach(loader -> this.loaders.put(loader.type(), loader));
+        // 무효화 메시지가 유실되더라도 ttl 이후에는 다시 조회
+        this.states = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl.multipliedBy(2))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, states, "chatRoomState");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        clusterBus.subscribe(INVALIDATION_CHANNEL, ChatRoomStateInvalidation.class,
+                (channel, invalidation) -> evict(new RoomKey(invalidation.type(), invalidation.roomId())));
+    }
+
+    public Optional<ChatRoomState> get(ChatRoomType type, Long roomId) {
+        RoomKey key = new RoomKey(type, roomId);
+        ChatRoomState cached = states.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long version = versionOf(key);
+        Optional<ChatRoomState> loaded = loaders.get(type).load(roomId);
+        loaded.ifPresent(state -> {
+            if (versionOf(key) == version) {
+                states.asMap().putIfAbsent(key, state);
+            }
+        });
+        return loaded;
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 모든 노드에서 무효화
+    public void invalidate(ChatRoomType type, Long roomId) {
+        ChatRoomStateInvalidation invalidation = new ChatRoomStateInvalidation(type, roomId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clusterBus.publish(INVALIDATION_CHANNEL, invalidation);
+            return;
+        }
+
+        // 커밋 전에 조회된 상태가 캐시에 남지 않도록 현재 노드는 즉시 무효화
+        evict(new RoomKey(type, roomId));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                clusterBus.publish(INVALIDATION_CHANNEL, invalidation);
+            }
+        });
+    }
+
+    private long versionOf(RoomKey key) {
+        Long version = versions.getIfPresent(key);
+        return version != null ? version : 0L;
+    }
+
+    private void evict(RoomKey key) {
+        versions.asMap().merge(key, 1L, Long::sum);
+        states.invalidate(key);
+    }
+
+    private record RoomKey(ChatRoomType type, Long roomId) {
+    }
+}
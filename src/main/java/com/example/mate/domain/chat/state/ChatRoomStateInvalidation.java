@@ -0,0 +1,6 @@
+package com.example.mate.domain.chat.state;
+
+import com.example.mate.domain.chat.ChatRoomType;
+
+public record ChatRoomStateInvalidation(ChatRoomType type, Long roomId) {
+}
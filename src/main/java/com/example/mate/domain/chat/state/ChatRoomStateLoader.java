@@ -0,0 +1,14 @@
+package com.example.mate.domain.chat.state;
+
+import com.example.mate.domain.chat.ChatRoomType;
+import java.util.Optional;
+
+/**
+ * 채팅방 종류별 상태 조회 - 캐시에 없는 경우에만 호출됩니다.
+ */
+public interface ChatRoomStateLoader {
+
+    ChatRoomType type();
+
+    Optional<ChatRoomState> load(Long roomId);
+}
@@ -0,0 +1,156 @@
+package com.example.mate.domain.chat.summary;
+
+import com.example.mate.common.cluster.ClusterBus;
+import com.example.mate.domain.chat.ChatRoomType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 마지막 채팅(내용, 시각) 갱신을 모아서 반영하는 버퍼
+ * 메시지마다 채팅방 row 를 갱신하지 않고, 채팅방별 최신 값만 메모리에 유지한 뒤
+ * flush-interval 마다 한 번의 batch UPDATE 로 반영합니다.
+ * 반영 전의 값은 채팅방 목록 조회 시 DB 값 위에 덮어써서 사용합니다.
+ */
+@Slf4j
+@Component
+public class ChatRoomSummaryBuffer {
+
+    private static final String SUMMARY_CHANNEL = "chat:summary";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterBus clusterBus;
+    private final long remoteRetentionMillis;
+
+    private final Map<ChatRoomType, Map<Long, Pending>> pendingByType = new EnumMap<>(ChatRoomType.class);
+
+    public ChatRoomSummaryBuffer(JdbcTemplate jdbcTemplate, ClusterBus clusterBus,
+                                 @Value("${chat.summary.flush-interval-ms:1000}") long flushIntervalMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clusterBus = clusterBus;
+        // 다른 노드의 값은 해당 노드가 반영할 때까지 충분히 유지한 뒤 제거
+        this.remoteRetentionMillis = flushIntervalMillis * 5;
+        for (ChatRoomType type : ChatRoomType.values()) {
+            pendingByType.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        clusterBus.subscribe(SUMMARY_CHANNEL, ChatRoomSummaryUpdate.class, (channel, update) -> receive(update));
+    }
+
+    // 마지막 채팅 갱신 - 같은 채팅방의 이전 값보다 최신인 경우에만 반영
+    public void record(ChatRoomType type, Long roomId, String content, LocalDateTime sentAt) {
+        merge(type, roomId, new Pending(new LastChat(content, sentAt), true, System.currentTimeMillis()));
+
+        if (clusterBus.isDistributed()) {
+            clusterBus.publish(SUMMARY_CHANNEL,
+                    new ChatRoomSummaryUpdate(clusterBus.nodeId(), type, roomId, content, sentAt));
+        }
+    }
+
+    // DB 값과 반영 대기 중인 값 중 최신 값 반환
+    public LastChat resolve(ChatRoomType type, Long roomId, String persistedContent, LocalDateTime persistedSentAt) {
+        LastChat persisted = new LastChat(persistedContent, persistedSentAt);
+        Pending pending = pendingByType.get(type).get(roomId);
+        if (pending == null || !pending.lastChat().isNewerThan(persisted)) {
+            return persisted;
+        }
+        return pending.lastChat();
+    }
+
+    // 반영 대기 중인 값이 적용된 목록을 마지막 채팅 시각 내림차순으로 재정렬
+    public <T> List<T> sortByLastChat(List<T> responses, Function<T, LocalDateTime> sentAtExtractor) {
+        List<T> sorted = new ArrayList<>(responses);
+        sorted.sort(Comparator.comparing(sentAtExtractor, Comparator.nullsLast(Comparator.reverseOrder())));
+        return sorted;
+    }
+
+    @Scheduled(fixedDelayString = "${chat.summary.flush-interval-ms:1000}")
+    public void flush() {
+        pendingByType.forEach(this::flush);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flush(ChatRoomType type, Map<Long, Pending> pending) {
+        List<Map.Entry<Long, Pending>> targets = new ArrayList<>();
+        long expiredBefore = System.currentTimeMillis() - remoteRetentionMillis;
+        pending.forEach((roomId, value) -> {
+            if (value.local()) {
+                targets.add(Map.entry(roomId, value));
+            } else if (value.recordedAt() < expiredBefore) {
+                pending.remove(roomId, value);
+            }
+        });
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        // JDBC 갱신은 JPA Auditing 을 거치지 않으므로 수정 시각을 직접 설정
+        String modifiedAtColumn = type.getModifiedAtColumn();
+        Timestamp modifiedAt = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            // 이미 더 최신 값이 반영된 채팅방은 갱신하지 않음
+            jdbcTemplate.batchUpdate("UPDATE " + type.getTableName()
+                            + " SET last_chat_content = ?, last_chat_sent_at = ?"
+                            + (modifiedAtColumn != null ? ", " + modifiedAtColumn + " = ?" : "")
+                            + " WHERE id = ? AND (last_chat_sent_at IS NULL OR last_chat_sent_at <= ?)",
+                    targets, targets.size(), (ps, entry) -> {
+                        Timestamp sentAt = Timestamp.valueOf(entry.getValue().lastChat().sentAt());
+                        int index = 1;
+                        ps.setString(index++, entry.getValue().lastChat().content());
+                        ps.setTimestamp(index++, sentAt);
+                        if (modifiedAtColumn != null) {
+                            ps.setTimestamp(index++, modifiedAt);
+                        }
+                        ps.setLong(index++, entry.getKey());
+                        ps.setTimestamp(index, sentAt);
+                    });
+        } catch (RuntimeException e) {
+            log.error("Chat room summary flush failed. [type={}, size={}]", type, targets.size(), e);
+            return;
+        }
+
+        // flush 도중 새 값이 들어온 채팅방은 다음 flush 대상으로 유지
+        targets.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+    }
+
+    private void receive(ChatRoomSummaryUpdate update) {
+        if (clusterBus.nodeId().equals(update.origin())) {
+            return;
+        }
+        merge(update.type(), update.roomId(),
+                new Pending(new LastChat(update.content(), update.sentAt()), false, System.currentTimeMillis()));
+    }
+
+    private void merge(ChatRoomType type, Long roomId, Pending value) {
+        pendingByType.get(type).merge(roomId, value, (current, candidate) ->
+                candidate.lastChat().isNewerThan(current.lastChat()) ? candidate.inheritOwnership(current) : current);
+    }
+
+    private record Pending(LastChat lastChat, boolean local, long recordedAt) {
+
+        // 다른 노드의 값으로 교체되더라도 현재 노드가 반영해야 할 값이었다면 반영 책임 유지
+        Pending inheritOwnership(Pending previous) {
+            return previous.local() && !local ? new Pending(lastChat, true, recordedAt) : this;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.mate.domain.chat.summary;
+
+import com.example.mate.domain.chat.ChatRoomType;
+import java.time.LocalDateTime;
+
+/**
+ * 노드 간 공유되는 마지막 채팅 갱신 메시지
+ */
+public record ChatRoomSummaryUpdate(String origin, ChatRoomType type, Long roomId, String content,
+                                    LocalDateTime sentAt) {
+}
@@ -0,0 +1,14 @@
+package com.example.mate.domain.chat.summary;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방의 마지막 채팅 내용과 전송 시각
+ */
+public record LastChat(String content, LocalDateTime sentAt) {
+
+    public boolean isNewerThan(LastChat other) {
+        return other == null || other.sentAt() == null
+                || (sentAt != null && !sentAt.isBefore(other.sentAt()));
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.mate.domain.chat.unread;
+
+import com.example.mate.common.websocket.UnreadSubscriptionGuard;
+import com.example.mate.domain.chat.ChatRoomType;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 회원별 안 읽은 메시지 수
+ * 채팅방마다 Redis Hash 두 개를 사용합니다.
+ * - chat:unread:{type}:{roomId} : 회원 ID -> 안 읽은 메시지 수
+ * - chat:read:{type}:{roomId}   : 회원 ID -> 마지막으로 읽은 시점의 ObjectId (보정 작업의 기준)
+ * 변경된 값은 /sub/chat/unread/{memberId} 로 전송되며, 본인만 구독할 수 있도록 {@link UnreadSubscriptionGuard} 가 확인합니다.
+ * Redis 장애 시에도 채팅 전송은 계속되고 어긋난 값은 {@link ChatUnreadReconciler} 가 MongoDB 기준으로 보정합니다.
+ */
+@Slf4j
+@Component
+public class ChatUnreadCounter {
+
+    private static final String UNREAD_KEY_PREFIX = "chat:unread:";
+    private static final String READ_KEY_PREFIX = "chat:read:";
+
+    // 발신자를 제외한 회원의 값을 한 번에 증가시키고 증가된 값을 반환
+    private static final RedisScript<List> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local counts = {}
+            for i = 2, #ARGV do
+                counts[i - 1] = redis.call('HINCRBY', KEYS[1], ARGV[i], 1)
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return counts
+            """, List.class);
+
+    // 조회한 이후 값이 바뀌지 않은 경우에만 보정
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], ARGV[1]) or '0'
+            if current ~= ARGV[2] then
+                return 0
+            end
+            if ARGV[3] == '0' then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+            else
+                redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final Duration ttl;
+
+    public ChatUnreadCounter(StringRedisTemplate redisTemplate,
+                             SimpMessageSendingOperations messagingTemplate,
+                             @Value("${chat.unread.ttl:30d}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.ttl = ttl;
+    }
+
+    // 메시지 전송 시 발신자를 제외한 채팅방 회원의 안 읽은 메시지 수 증가
+    public void increment(ChatRoomType type, Long roomId, Collection<Long> memberIds, Long senderId) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttl.toSeconds()));
+        memberIds.stream()
+                .filter(memberId -> !memberId.equals(senderId))
+                .forEach(memberId -> args.add(String.valueOf(memberId)));
+        if (args.size() == 1) {
+            return;
+        }
+
+        try {
+            List<?> counts = redisTemplate.execute(INCREMENT_SCRIPT, List.of(unreadKey(type, roomId)),
+                    args.toArray());
+            for (int i = 0; i < counts.size(); i++) {
+                push(type, roomId, Long.valueOf(args.get(i + 1)), ((Number) counts.get(i)).longValue());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Chat unread increment failed. [type={}, roomId={}]", type, roomId, e);
+        }
+    }
+
+    // 채팅방 입장, 읽음 처리 시 안 읽은 메시지 수 초기화
+    public void markRead(ChatRoomType type, Long roomId, Long memberId) {
+        String field = String.valueOf(memberId);
+        try {
+            redisTemplate.opsForHash().put(readKey(type, roomId), field, new ObjectId().toHexString());
+            redisTemplate.expire(readKey(type, roomId), ttl);
+            redisTemplate.opsForHash().delete(unreadKey(type, roomId), field);
+            push(type, roomId, memberId, 0);
+        } catch (RuntimeException e) {
+            log.warn("Chat unread reset failed. [type={}, roomId={}, memberId={}]", type, roomId, memberId, e);
+        }
+    }
+
+    // 채팅방 퇴장 시 회원 정보 제거
+    public void remove(ChatRoomType type, Long roomId, Long memberId) {
+        String field = String.valueOf(memberId);
+        try {
+            redisTemplate.opsForHash().delete(readKey(type, roomId), field);
+            redisTemplate.opsForHash().delete(unreadKey(type, roomId), field);
+        } catch (RuntimeException e) {
+            log.warn("Chat unread remove failed. [type={}, roomId={}, memberId={}]", type, roomId, memberId, e);
+        }
+    }
+
+    // 채팅방 삭제 시 채팅방 정보 제거
+    public void delete(ChatRoomType type, Long roomId) {
+        try {
+            redisTemplate.delete(List.of(readKey(type, roomId), unreadKey(type, roomId)));
+        } catch (RuntimeException e) {
+            log.warn("Chat unread delete failed. [type={}, roomId={}]", type, roomId, e);
+        }
+    }
+
+    // 채팅방 목록 조회 - 한 번의 pipeline 으로 목록에 포함된 채팅방의 값을 조회
+    public Map<Long, Long> getUnreadCounts(ChatRoomType type, Long memberId, List<Long> roomIds) {
+        Map<Long, Long> unreadCounts = new HashMap<>();
+        if (roomIds.isEmpty()) {
+            return unreadCounts;
+        }
+
+        byte[] field = String.valueOf(memberId).getBytes(StandardCharsets.UTF_8);
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long roomId : roomIds) {
+                    connection.hashCommands().hGet(unreadKey(type, roomId).getBytes(StandardCharsets.UTF_8), field);
+                }
+                return null;
+            });
+            for (int i = 0; i < roomIds.size(); i++) {
+                Object count = results.get(i);
+                unreadCounts.put(roomIds.get(i), count != null ? Long.parseLong(count.toString()) : 0L);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Chat unread lookup failed. [type={}, memberId={}]", type, memberId, e);
+        }
+        return unreadCounts;
+    }
+
+    // 보정 대상 채팅방 조회 - 읽음 기준이 기록된 채팅방
+    public List<ChatUnreadRoom> findRooms() {
+        List<ChatUnreadRoom> rooms = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(READ_KEY_PREFIX + "*").count(500).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                String[] parts = keys.next().substring(READ_KEY_PREFIX.length()).split(":");
+                rooms.add(new ChatUnreadRoom(ChatRoomType.valueOf(parts[0].toUpperCase()), Long.valueOf(parts[1])));
+            }
+        }
+        return rooms;
+    }
+
+    public Map<Long, String> getReadMarkers(ChatRoomType type, Long roomId) {
+        Map<Long, String> markers = new HashMap<>();
+        redisTemplate.opsForHash().entries(readKey(type, roomId))
+                .forEach((field, marker) -> markers.put(Long.valueOf(field.toString()), marker.toString()));
+        return markers;
+    }
+
+    public Map<Long, Long> getUnreadCounts(ChatRoomType type, Long roomId) {
+        Map<Long, Long> counts = new HashMap<>();
+        redisTemplate.opsForHash().entries(unreadKey(type, roomId))
+                .forEach((field, count) -> counts.put(Long.valueOf(field.toString()), Long.valueOf(count.toString())));
+        return counts;
+    }
+
+    // 조회 이후 값이 바뀌지 않았을 때만 보정된 값으로 변경
+    public boolean compareAndSet(ChatRoomType type, Long roomId, Long memberId, long expected, long value) {
+        Long updated = redisTemplate.execute(COMPARE_AND_SET_SCRIPT, List.of(unreadKey(type, roomId)),
+                String.valueOf(memberId), String.valueOf(expected), String.valueOf(value));
+        if (updated == null || updated == 0) {
+            return false;
+        }
+        push(type, roomId, memberId, value);
+        return true;
+    }
+
+    // 여러 노드 중 한 노드만 보정 작업을 수행하도록 잠금
+    public boolean tryLock(String name, Duration duration) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(UNREAD_KEY_PREFIX + name, "locked", duration));
+    }
+
+    private void push(ChatRoomType type, Long roomId, Long memberId, long unreadCount) {
+        messagingTemplate.convertAndSend(UnreadSubscriptionGuard.UNREAD_DESTINATION_PREFIX + memberId,
+                new ChatUnreadResponse(type.name().toLowerCase(), roomId, unreadCount));
+    }
+
+    private static String unreadKey(ChatRoomType type, Long roomId) {
+        return UNREAD_KEY_PREFIX + type.name().toLowerCase() + ":" + roomId;
+    }
+
+    private static String readKey(ChatRoomType type, Long roomId) {
+        return READ_KEY_PREFIX + type.name().toLowerCase() + ":" + roomId;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.mate.domain.chat.unread;
+
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.chat.bucket.ChatMessageBucketStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 안 읽은 메시지 수 보정 작업
+ * Redis 의 값이 유실되거나 어긋난 경우를 대비해, 회원의 마지막 읽음 기준 이후 MongoDB 에 저장된
+ * 다른 회원의 대화 메시지 수로 다시 계산합니다.
+ * 최근 grace 기간 안에 메시지가 있는 채팅방은 아직 저장되지 않은 메시지가 있을 수 있으므로 건너뛰며,
+ * 계산 도중 값이 바뀐 경우에는 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Component
+public class ChatUnreadReconciler {
+
+    private static final String LOCK_NAME = "reconcile-lock";
+    private static final String TALK = "TALK";
+
+    private static final Map<ChatRoomType, MessageFields> MESSAGE_FIELDS = Map.of(
+            ChatRoomType.MATE, new MessageFields("mate_chat_message", "room_id", "sender_id", "type"),
+            ChatRoomType.GOODS, new MessageFields("goods_chat_message", "chat_room_id", "member_id", "message_type")
+    );
+
+    private final ChatUnreadCounter chatUnreadCounter;
+    private final MongoTemplate mongoTemplate;
+    private final ChatMessageBucketStore bucketStore;
+    private final Duration grace;
+    private final Duration lockDuration;
+    private final Counter repaired;
+
+    public ChatUnreadReconciler(ChatUnreadCounter chatUnreadCounter, MongoTemplate mongoTemplate,
+                                ChatMessageBucketStore bucketStore, MeterRegistry meterRegistry,
+                                @Value("${chat.unread.reconcile.grace:1m}") Duration grace,
+                                @Value("${chat.unread.reconcile.interval-ms:600000}") long intervalMillis) {
+        this.chatUnreadCounter = chatUnreadCounter;
+        this.mongoTemplate = mongoTemplate;
+        this.bucketStore = bucketStore;
+        this.grace = grace;
+        this.lockDuration = Duration.ofMillis(intervalMillis / 2);
+        this.repaired = meterRegistry.counter("chat.unread.reconciled");
+    }
+
+    @Scheduled(fixedDelayString = "${chat.unread.reconcile.interval-ms:600000}",
+            initialDelayString = "${chat.unread.reconcile.interval-ms:600000}")
+    public void reconcile() {
+        try {
+            if (!chatUnreadCounter.tryLock(LOCK_NAME, lockDuration)) {
+                return;
+            }
+            int count = 0;
+            for (ChatUnreadRoom room : chatUnreadCounter.findRooms()) {
+                count += reconcile(room.type(), room.roomId());
+            }
+            if (count > 0) {
+                log.info("Chat unread counters reconciled. [count={}]", count);
+            }
+        } catch (RuntimeException e) {
+            log.error("Chat unread reconciliation failed.", e);
+        }
+    }
+
+    // 채팅방 회원별 값을 다시 계산하고 보정된 회원 수를 반환
+    int reconcile(ChatRoomType type, Long roomId) {
+        MessageFields fields = MESSAGE_FIELDS.get(type);
+        if (hasRecentMessage(fields, roomId)) {
+            return 0;
+        }
+
+        Map<Long, Long> counts = chatUnreadCounter.getUnreadCounts(type, roomId);
+        int count = 0;
+        for (Map.Entry<Long, String> marker : chatUnreadCounter.getReadMarkers(type, roomId).entrySet()) {
+            Long memberId = marker.getKey();
+            long current = counts.getOrDefault(memberId, 0L);
+            long expected = countUnread(fields, roomId, memberId, new ObjectId(marker.getValue()));
+            if (current != expected && chatUnreadCounter.compareAndSet(type, roomId, memberId, current, expected)) {
+                repaired.increment();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean hasRecentMessage(MessageFields fields, Long roomId) {
+        ObjectId latestId = bucketStore.readsBuckets()
+                ? bucketStore.findLatestId(fields.collection(), roomId)
+                : findLatestId(fields, roomId);
+        if (latestId == null) {
+            return false;
+        }
+        long latestSeconds = latestId.getTimestamp();
+        return latestSeconds * 1000 > System.currentTimeMillis() - grace.toMillis();
+    }
+
+    private ObjectId findLatestId(MessageFields fields, Long roomId) {
+        Query query = new Query(Criteria.where(fields.roomField()).is(roomId))
+                .with(Sort.by(Sort.Direction.DESC, "_id"))
+                .limit(1);
+        query.fields().include("_id");
+        Document latest = mongoTemplate.findOne(query, Document.class, fields.collection());
+        return latest == null ? null : latest.getObjectId("_id");
+    }
+
+    private long countUnread(MessageFields fields, Long roomId, Long memberId, ObjectId readMarker) {
+        if (bucketStore.readsBuckets()) {
+            return bucketStore.count(fields.collection(), roomId, readMarker,
+                    message -> !memberId.equals(message.get(fields.senderField()))
+                            && TALK.equals(message.get(fields.typeField())));
+        }
+
+        Query query = new Query(Criteria.where(fields.roomField()).is(roomId)
+                .and("_id").gt(readMarker)
+                .and(fields.senderField()).ne(memberId)
+                .and(fields.typeField()).is(TALK));
+        return mongoTemplate.count(query, fields.collection());
+    }
+
+    private record MessageFields(String collection, String roomField, String senderField, String typeField) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.mate.domain.chat.unread;
+
+/**
+ * 안 읽은 메시지 수 변경 알림
+ * /sub/chat/unread/{memberId} 구독자에게 전송됩니다.
+ *
+ * @param roomType    채팅방 종류 (mate, goods)
+ * @param roomId      채팅방 ID
+ * @param unreadCount 안 읽은 메시지 수
+ */
+public record ChatUnreadResponse(String roomType, Long roomId, long unreadCount) {
+}
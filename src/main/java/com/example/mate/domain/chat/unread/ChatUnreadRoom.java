@@ -0,0 +1,12 @@
+package com.example.mate.domain.chat.unread;
+
+import com.example.mate.domain.chat.ChatRoomType;
+
+/**
+ * 안 읽은 메시지 수를 관리 중인 채팅방
+ *
+ * @param type   채팅방 종류
+ * @param roomId 채팅방 ID
+ */
+public record ChatUnreadRoom(ChatRoomType type, Long roomId) {
+}
@@ -1,6 +1,7 @@
 package com.example.mate.domain.crawler.config;
 
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -13,11 +14,17 @@ import lombok.extern.slf4j.Slf4j;
 @EnableScheduling
 @Slf4j
 public class SchedulingConfig {
+    // 직접 등록한 스케줄러는 spring.task.scheduling 설정을 적용받지 않으므로 스레드 수, 이름을 직접 설정
+    // (기본 1개이면 오래 걸리는 작업 하나가 채팅방 요약 반영, 접속 상태, outbox 작업을 모두 멈춤)
     @Bean
-    public TaskScheduler taskScheduler() {
+    public TaskScheduler taskScheduler(@Value("${spring.task.scheduling.pool.size:4}") int poolSize,
+                                       @Value("${spring.task.scheduling.thread-name-prefix:scheduling-}")
+                                       String threadNamePrefix) {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
         scheduler.setErrorHandler(throwable ->
                 log.error("Scheduled task error", throwable));
         return scheduler;
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,11 @@
 package com.example.mate.domain.goodsChat.controller;
 
 import com.example.mate.common.response.ApiResponse;
+import com.example.mate.common.response.CursorResponse;
 import com.example.mate.common.response.PageResponse;
 import com.example.mate.common.security.auth.AuthMember;
 import com.example.mate.common.util.validator.ValidPageable;
+import com.example.mate.domain.chat.search.ChatMessageSearchHit;
 import com.example.mate.domain.goodsChat.dto.response.GoodsChatMessageResponse;
 import com.example.mate.domain.goodsChat.dto.response.GoodsChatRoomResponse;
 import com.example.mate.domain.goodsChat.dto.response.GoodsChatRoomSummaryResponse;
@@ -55,6 +57,31 @@ public class GoodsChatRoomController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/{chatRoomId}/message/scroll")
+    @Operation(summary = "굿즈거래 채팅방 메시지 커서 조회", description = "지정된 채팅방의 메시지를 커서 기반으로 조회합니다. 응답의 nextCursor 로 이전 메시지를 조회합니다.")
+    public ResponseEntity<ApiResponse<CursorResponse<GoodsChatMessageResponse>>> getGoodsChatRoomMessagesByCursor(
+            @AuthenticationPrincipal AuthMember member,
+            @Parameter(description = "채팅방 ID", required = true) @PathVariable Long chatRoomId,
+            @Parameter(description = "이전 조회 결과의 nextCursor") @RequestParam(required = false) String cursor
+    ) {
+        CursorResponse<GoodsChatMessageResponse> response =
+                goodsChatService.getChatRoomMessagesByCursor(chatRoomId, member.getMemberId(), cursor);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/{chatRoomId}/message/search")
+    @Operation(summary = "굿즈거래 채팅방 메시지 검색", description = "지정된 채팅방에서 검색어를 포함하는 메시지를 최신순으로 조회합니다. 결과의 historyCursor 로 메시지 커서 조회를 호출하면 해당 메시지부터 이전 대화를 조회합니다.")
+    public ResponseEntity<ApiResponse<CursorResponse<ChatMessageSearchHit<GoodsChatMessageResponse>>>> searchGoodsChatRoomMessages(
+            @AuthenticationPrincipal AuthMember member,
+            @Parameter(description = "채팅방 ID", required = true) @PathVariable Long chatRoomId,
+            @Parameter(description = "검색어 (50자 이하)", required = true) @RequestParam String keyword,
+            @Parameter(description = "이전 검색 결과의 nextCursor") @RequestParam(required = false) String cursor
+    ) {
+        CursorResponse<ChatMessageSearchHit<GoodsChatMessageResponse>> response =
+                goodsChatService.searchChatRoomMessages(chatRoomId, member.getMemberId(), keyword, cursor);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping
     @Operation(summary = "사용자의 굿즈거래 채팅방 목록 조회", description = "사용자가 참여 중인 굿즈거래 채팅방 목록을 조회합니다.")
     public ResponseEntity<ApiResponse<PageResponse<GoodsChatRoomSummaryResponse>>> getGoodsChatRooms(
@@ -85,6 +112,16 @@ public class GoodsChatRoomController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @PostMapping("/{chatRoomId}/read")
+    @Operation(summary = "굿즈거래 채팅방 읽음 처리", description = "굿즈거래 채팅방의 안 읽은 메시지 수를 초기화합니다.")
+    public ResponseEntity<Void> markGoodsChatRoomAsRead(
+            @AuthenticationPrincipal AuthMember member,
+            @Parameter(description = "채팅방 ID", required = true) @PathVariable Long chatRoomId
+    ) {
+        goodsChatService.markAsRead(member.getMemberId(), chatRoomId);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/{chatRoomId}/members")
     @Operation(summary = "굿즈거래 채팅방 인원 조회", description = "지정된 채팅방에 참여 중인 사용자 목록을 조회합니다.")
     public ResponseEntity<ApiResponse<List<MemberSummaryResponse>>> getGoodsChatRoomMembers(
@@ -19,7 +19,11 @@ import org.springframework.data.mongodb.core.mapping.Field;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @CompoundIndexes({
-        @CompoundIndex(name = "idx_chat_room_id_sent_at", def = "{ 'chat_room_id': 1, 'sent_at': -1 }")
+        @CompoundIndex(name = "idx_chat_room_id_sent_at", def = "{ 'chat_room_id': 1, 'sent_at': -1 }"),
+        @CompoundIndex(name = "idx_chat_room_id_id", def = "{ 'chat_room_id': 1, '_id': -1 }"),
+        // search_tokens 는 저장 시 ChatMessageWriter 가 기록
+        @CompoundIndex(name = "idx_chat_room_id_search_tokens_id",
+                def = "{ 'chat_room_id': 1, 'search_tokens': 1, '_id': -1 }")
 })
 public class GoodsChatMessage {
 
@@ -2,14 +2,17 @@ package com.example.mate.domain.goodsChat.dto.response;
 
 import com.example.mate.domain.file.FileUtils;
 import com.example.mate.domain.goodsChat.document.GoodsChatMessage;
+import com.example.mate.domain.member.cache.MemberCard;
 import com.example.mate.domain.member.entity.Member;
 import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 @RequiredArgsConstructor
 public class GoodsChatMessageResponse {
 
@@ -23,12 +26,16 @@ public class GoodsChatMessageResponse {
     private final LocalDateTime sentAt;
 
     public static GoodsChatMessageResponse of(GoodsChatMessage chatMessage, Member sender) {
+        return of(chatMessage, MemberCard.from(sender));
+    }
+
+    public static GoodsChatMessageResponse of(GoodsChatMessage chatMessage, MemberCard sender) {
         return GoodsChatMessageResponse.builder()
                 .chatMessageId(chatMessage.getId())
                 .roomId(chatMessage.getChatRoomId())
-                .senderId(sender.getId())
-                .senderNickname(sender.getNickname())
-                .senderImageUrl(FileUtils.getThumbnailImageUrl(sender.getImageUrl()))
+                .senderId(sender.id())
+                .senderNickname(sender.nickname())
+                .senderImageUrl(FileUtils.getThumbnailImageUrl(sender.imageUrl()))
                 .message(chatMessage.getContent())
                 .messageType(chatMessage.getMessageType().getValue())
                 .sentAt(chatMessage.getSentAt())
@@ -1,5 +1,6 @@
 package com.example.mate.domain.goodsChat.dto.response;
 
+import com.example.mate.domain.chat.summary.LastChat;
 import com.example.mate.domain.file.FileUtils;
 import com.example.mate.domain.goodsPost.entity.GoodsPost;
 import com.example.mate.domain.goodsChat.entity.GoodsChatRoom;
@@ -21,18 +22,29 @@ public class GoodsChatRoomSummaryResponse {
     private final String placeName;
     private final String goodsMainImageUrl;
     private final String opponentImageUrl;
+    private final Long unreadCount;
 
     public static GoodsChatRoomSummaryResponse of(GoodsChatRoom chatRoom, Member opponent) {
+        return of(chatRoom, opponent, new LastChat(chatRoom.getLastChatContent(), chatRoom.getLastChatSentAt()));
+    }
+
+    public static GoodsChatRoomSummaryResponse of(GoodsChatRoom chatRoom, Member opponent, LastChat lastChat) {
+        return of(chatRoom, opponent, lastChat, 0L);
+    }
+
+    public static GoodsChatRoomSummaryResponse of(GoodsChatRoom chatRoom, Member opponent, LastChat lastChat,
+                                                  long unreadCount) {
         GoodsPost goodsPost = chatRoom.getGoodsPost();
 
         return GoodsChatRoomSummaryResponse.builder()
                 .chatRoomId(chatRoom.getId())
                 .opponentNickname(opponent.getNickname())
-                .lastChatContent(chatRoom.getLastChatContent())
-                .lastChatSentAt(chatRoom.getLastChatSentAt())
+                .lastChatContent(lastChat.content())
+                .lastChatSentAt(lastChat.sentAt())
                 .placeName(goodsPost.getLocation().getPlaceName())
                 .goodsMainImageUrl(FileUtils.getThumbnailImageUrl(goodsPost.getMainImageUrl()))
                 .opponentImageUrl(FileUtils.getThumbnailImageUrl(opponent.getImageUrl()))
+                .unreadCount(unreadCount)
                 .build();
     }
 }
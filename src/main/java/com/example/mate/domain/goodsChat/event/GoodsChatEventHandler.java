@@ -1,20 +1,93 @@
 package com.example.mate.domain.goodsChat.event;
 
+import com.example.mate.common.config.AsyncConfig;
+import com.example.mate.common.outbox.OutboxEventHandler;
+import com.example.mate.common.outbox.OutboxMessage;
+import com.example.mate.domain.goodsChat.entity.GoodsChatRoom;
+import com.example.mate.domain.goodsChat.repository.GoodsChatMessageRepository;
+import com.example.mate.domain.goodsChat.repository.GoodsChatRoomRepository;
 import com.example.mate.domain.goodsChat.service.GoodsChatMessageService;
-import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
+import com.example.mate.domain.member.entity.Member;
+import com.example.mate.domain.member.repository.MemberRepository;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionalEventListener;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
-public class GoodsChatEventHandler {
+public class GoodsChatEventHandler implements OutboxEventHandler<GoodsChatEventPayload> {
+
+    public static final String EVENT_TYPE = "GOODS_CHAT";
 
     private final GoodsChatMessageService messageService;
+    private final GoodsChatMessageRepository messageRepository;
+    private final GoodsChatRoomRepository chatRoomRepository;
+    private final MemberRepository memberRepository;
+    private final Executor executor;
+
+    public GoodsChatEventHandler(GoodsChatMessageService messageService, GoodsChatMessageRepository messageRepository,
+                                 GoodsChatRoomRepository chatRoomRepository, MemberRepository memberRepository,
+                                 @Qualifier(AsyncConfig.CHAT_EVENT_EXECUTOR) Executor executor) {
+        this.messageService = messageService;
+        this.messageRepository = messageRepository;
+        this.chatRoomRepository = chatRoomRepository;
+        this.memberRepository = memberRepository;
+        this.executor = executor;
+    }
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Class<GoodsChatEventPayload> payloadType() {
+        return GoodsChatEventPayload.class;
+    }
+
+    @Override
+    public Executor executor() {
+        return executor;
+    }
+
+    @Override
+    public void handle(List<OutboxMessage<GoodsChatEventPayload>> messages) {
+        // 이미 저장된 메시지(재전달)와 삭제된 채팅방, 탈퇴한 회원의 이벤트는 건너뜀
+        Set<String> sentMessageIds = new HashSet<>();
+        messages.stream()
+                .collect(Collectors.groupingBy(message -> message.payload().chatRoomId(),
+                        Collectors.mapping(OutboxMessage::objectId, Collectors.toList())))
+                .forEach((chatRoomId, messageIds) ->
+                        sentMessageIds.addAll(messageRepository.findExistingIds(chatRoomId, messageIds)));
+        Set<Long> chatRoomIds = chatRoomRepository.findAllById(
+                        messages.stream().map(message -> message.payload().chatRoomId()).distinct().toList()).stream()
+                .map(GoodsChatRoom::getId)
+                .collect(Collectors.toSet());
+        Map<Long, Member> members = memberRepository.findAllById(
+                        messages.stream().map(message -> message.payload().memberId()).distinct().toList()).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
 
-    @Async
-    @TransactionalEventListener
-    public void handle(GoodsChatEvent event) {
-        messageService.sendChatEventMessage(event);
+        for (OutboxMessage<GoodsChatEventPayload> message : messages) {
+            GoodsChatEventPayload payload = message.payload();
+            String messageId = message.objectId();
+            if (sentMessageIds.contains(messageId)) {
+                continue;
+            }
+            Member member = members.get(payload.memberId());
+            if (!chatRoomIds.contains(payload.chatRoomId()) || member == null) {
+                log.warn("Goods chat event skipped. [chatRoomId={}, memberId={}]",
+                        payload.chatRoomId(), payload.memberId());
+                continue;
+            }
+            messageService.sendChatEventMessage(GoodsChatEvent.from(payload.chatRoomId(), member, payload.type()),
+                    messageId);
+        }
     }
 }
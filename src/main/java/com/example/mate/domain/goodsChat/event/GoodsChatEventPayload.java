@@ -0,0 +1,11 @@
+package com.example.mate.domain.goodsChat.event;
+
+import com.example.mate.domain.constant.MessageType;
+
+// 아웃박스에 저장되는 채팅 이벤트 - 회원은 ID 만 저장하고 전달 시점에 조회
+public record GoodsChatEventPayload(Long chatRoomId, Long memberId, MessageType type) {
+
+    public static GoodsChatEventPayload from(GoodsChatEvent event) {
+        return new GoodsChatEventPayload(event.chatRoomId(), event.member().getId(), event.type());
+    }
+}
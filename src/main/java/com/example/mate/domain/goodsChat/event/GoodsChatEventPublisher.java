@@ -1,16 +1,16 @@
 package com.example.mate.domain.goodsChat.event;
 
+import com.example.mate.common.outbox.OutboxEventWriter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class GoodsChatEventPublisher {
 
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final OutboxEventWriter outboxEventWriter;
 
     public void publish(GoodsChatEvent goodsChatEvent) {
-        applicationEventPublisher.publishEvent(goodsChatEvent);
+        outboxEventWriter.append(GoodsChatEventHandler.EVENT_TYPE, GoodsChatEventPayload.from(goodsChatEvent));
     }
 }
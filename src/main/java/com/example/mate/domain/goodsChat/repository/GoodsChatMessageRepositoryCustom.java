@@ -1,9 +1,28 @@
 package com.example.mate.domain.goodsChat.repository;
 
+import com.example.mate.domain.chat.search.ChatSearchQuery;
+import com.example.mate.domain.chat.search.ChatSearchResult;
 import com.example.mate.domain.goodsChat.document.GoodsChatMessage;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import org.bson.types.ObjectId;
 
 public interface GoodsChatMessageRepositoryCustom {
     List<GoodsChatMessage> getChatMessages(Long chatRoomId, LocalDateTime lastSentAt, int size);
+
+    List<GoodsChatMessage> getChatMessagesBefore(Long chatRoomId, ObjectId before, int size);
+
+    // before 보다 이전이고 검색어를 포함하는 메시지를 ID 기준으로 조회
+    ChatSearchResult<GoodsChatMessage> searchMessages(Long chatRoomId, ChatSearchQuery searchQuery, ObjectId before,
+                                                      int size);
+
+    Set<String> findExistingIds(Long chatRoomId, Collection<String> ids);
+
+    /**
+     * 특정 채팅방에 속한 모든 메시지를 삭제합니다.
+     * @param chatRoomId 삭제할 채팅방 ID
+     */
+    void deleteAllByChatRoomId(Long chatRoomId);
 }
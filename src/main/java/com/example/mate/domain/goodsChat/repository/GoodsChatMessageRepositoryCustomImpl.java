@@ -1,9 +1,22 @@
 package com.example.mate.domain.goodsChat.repository;
 
+import com.example.mate.domain.chat.ChatMessageCursor;
+import com.example.mate.domain.chat.archive.ChatMessageArchive;
+import com.example.mate.domain.chat.bucket.ChatMessageBucketStore;
+import com.example.mate.domain.chat.search.ChatSearchQuery;
+import com.example.mate.domain.chat.search.ChatSearchResult;
 import com.example.mate.domain.goodsChat.document.GoodsChatMessage;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -13,24 +26,152 @@ import org.springframework.data.mongodb.core.query.Query;
 @RequiredArgsConstructor
 public class GoodsChatMessageRepositoryCustomImpl implements GoodsChatMessageRepositoryCustom {
 
+    // 토큰 인덱스로 찾은 후보를 본문으로 다시 거르므로 한 번에 size 보다 넉넉하게 조회
+    private static final int SEARCH_BATCH_SIZE = 100;
+    private static final int SEARCH_MAX_BATCHES = 10;
+
     private final MongoTemplate mongoTemplate;
+    private final ChatMessageBucketStore bucketStore;
+    private final ChatMessageArchive archive;
 
     /**
      * 주어진 chatRoomId의 메시지 중에서
      * lastSentAt 보다 오래된 메시지를 최대 size 만큼 반환
-     * 메시지는 sent_at 기준으로 내림차순 정렬됩니다.
+     * 메시지는 sent_at 기준으로 내림차순 정렬되며, 부족한 만큼 보관된 메시지에서 이어서 조회합니다.
      */
     @Override
     public List<GoodsChatMessage> getChatMessages(Long chatRoomId, LocalDateTime lastSentAt, int size) {
-        // 동적으로 조건 생성
-        Criteria criteria = createCriteria(chatRoomId, lastSentAt);
+        // ID 는 전송 시각(초)을 포함하므로 시각 조건을 ID 범위로 바꿔 bucket, 보관 segment 를 좁힌 뒤 시각으로 다시 거름
+        ObjectId before = lastSentAt == null ? null : ChatMessageCursor.minIdAt(lastSentAt.plusSeconds(1));
+        Predicate<Document> sentBefore = bucketStore.sentBetween("sent_at", null, lastSentAt);
+
+        List<GoodsChatMessage> messages;
+        if (bucketStore.readsBuckets()) {
+            messages = bucketStore.find(GoodsChatMessage.class, chatRoomId, before, null, size, sentBefore).stream()
+                    .sorted(Comparator.comparing(GoodsChatMessage::getSentAt).reversed())
+                    .toList();
+        } else {
+            // 동적으로 조건 생성
+            Criteria criteria = createCriteria(chatRoomId, lastSentAt);
 
-        // Query 생성 및 조건 추가
-        Query query = new Query(criteria);
-        query.limit(size);
-        query.with(Sort.by(Direction.DESC, "sent_at"));
+            // Query 생성 및 조건 추가
+            Query query = new Query(criteria);
+            query.limit(size);
+            query.with(Sort.by(Direction.DESC, "sent_at"));
 
-        return mongoTemplate.find(query, GoodsChatMessage.class);
+            messages = mongoTemplate.find(query, GoodsChatMessage.class);
+        }
+
+        return archive.readThrough(messages, GoodsChatMessage.class, chatRoomId, before, null, size, sentBefore,
+                GoodsChatMessage::getId);
+    }
+
+    /**
+     * 주어진 chatRoomId의 메시지 중에서
+     * ID 가 before 보다 작은 메시지를 최대 size 만큼 반환 (before 가 null 이면 최신 메시지부터)
+     * 메시지는 _id 기준으로 내림차순 정렬되며, { chat_room_id, _id } 인덱스 범위 안에서 조회됩니다.
+     * 부족한 만큼 보관된 메시지에서 이어서 조회합니다.
+     */
+    @Override
+    public List<GoodsChatMessage> getChatMessagesBefore(Long chatRoomId, ObjectId before, int size) {
+        List<GoodsChatMessage> messages;
+        if (bucketStore.readsBuckets()) {
+            messages = bucketStore.find(GoodsChatMessage.class, chatRoomId, before, null, size, message -> true);
+        } else {
+            Criteria criteria = Criteria.where("chat_room_id").is(chatRoomId);
+            if (before != null) {
+                criteria = criteria.and("_id").lt(before);
+            }
+
+            Query query = new Query(criteria);
+            query.limit(size);
+            query.with(Sort.by(Direction.DESC, "_id"));
+
+            messages = mongoTemplate.find(query, GoodsChatMessage.class);
+        }
+
+        return archive.readThrough(messages, GoodsChatMessage.class, chatRoomId, before, null, size,
+                message -> true, GoodsChatMessage::getId);
+    }
+
+    /**
+     * 주어진 chatRoomId의 메시지 중에서
+     * ID 가 before 보다 작고 본문에 검색어를 포함하는 메시지를 최대 size 만큼 반환 (before 가 null 이면 최신 메시지부터)
+     * { chat_room_id, search_tokens, _id } 인덱스로 검색어의 토큰을 모두 포함하는 메시지를 찾은 뒤 본문으로 다시 거르며,
+     * bucket 과 보관된 메시지는 본문으로 찾습니다.
+     * 한 번의 검색에서 후보를 SEARCH_MAX_BATCHES 번 (bucket 은 같은 수의 메시지) 까지만 읽고, 그 안에 size 만큼 찾지 못하면
+     * 찾은 메시지와 함께 이어서 검색할 위치를 반환합니다.
+     */
+    @Override
+    public ChatSearchResult<GoodsChatMessage> searchMessages(Long chatRoomId, ChatSearchQuery searchQuery,
+                                                             ObjectId before, int size) {
+        List<GoodsChatMessage> messages;
+        ObjectId continueBefore = null;
+        if (bucketStore.readsBuckets()) {
+            ChatSearchResult<GoodsChatMessage> result = bucketStore.search(GoodsChatMessage.class, chatRoomId, before,
+                    null, size, searchQuery.filter(), SEARCH_BATCH_SIZE * SEARCH_MAX_BATCHES);
+            messages = result.messages();
+            continueBefore = result.continueBefore();
+        } else {
+            messages = new ArrayList<>();
+            ObjectId cursor = before;
+            int batches = 0;
+            while (messages.size() < size) {
+                if (batches == SEARCH_MAX_BATCHES) {
+                    continueBefore = cursor;
+                    break;
+                }
+                batches++;
+                Criteria criteria = Criteria.where("chat_room_id").is(chatRoomId)
+                        .andOperator(searchQuery.tokenCriteria());
+                if (cursor != null) {
+                    criteria = criteria.and("_id").lt(cursor);
+                }
+
+                Query query = new Query(criteria);
+                query.limit(SEARCH_BATCH_SIZE);
+                query.with(Sort.by(Direction.DESC, "_id"));
+
+                List<GoodsChatMessage> candidates = mongoTemplate.find(query, GoodsChatMessage.class);
+                candidates.stream()
+                        .filter(message -> searchQuery.matches(message.getContent()))
+                        .limit(size - messages.size())
+                        .forEach(messages::add);
+                if (candidates.size() < SEARCH_BATCH_SIZE) {
+                    break;
+                }
+                cursor = new ObjectId(candidates.get(candidates.size() - 1).getId());
+            }
+        }
+
+        // 스캔 한도에 도달했으면 보관된 메시지는 이어서 검색할 때 읽음
+        if (continueBefore != null) {
+            return new ChatSearchResult<>(messages, continueBefore);
+        }
+        return ChatSearchResult.complete(archive.readThrough(messages, GoodsChatMessage.class, chatRoomId, before, null,
+                size, searchQuery.filter(), GoodsChatMessage::getId));
+    }
+
+    @Override
+    public Set<String> findExistingIds(Long chatRoomId, Collection<String> ids) {
+        if (bucketStore.readsBuckets()) {
+            return bucketStore.findExistingIds(mongoTemplate.getCollectionName(GoodsChatMessage.class), chatRoomId,
+                    ids);
+        }
+
+        Query query = new Query(Criteria.where("_id").in(ids));
+        query.fields().include("_id");
+        return mongoTemplate.find(query, GoodsChatMessage.class).stream()
+                .map(GoodsChatMessage::getId)
+                .collect(Collectors.toSet());
+    }
+
+    // 저장 방식을 바꾸는 중에도 메시지가 남지 않도록 모든 저장소에서 삭제
+    @Override
+    public void deleteAllByChatRoomId(Long chatRoomId) {
+        mongoTemplate.remove(new Query(Criteria.where("chat_room_id").is(chatRoomId)), GoodsChatMessage.class);
+        bucketStore.deleteRoom(mongoTemplate.getCollectionName(GoodsChatMessage.class), chatRoomId);
+        archive.deleteRoom(mongoTemplate.getCollectionName(GoodsChatMessage.class), chatRoomId);
     }
 
     private Criteria createCriteria(Long chatRoomId, LocalDateTime lastSentAt) {
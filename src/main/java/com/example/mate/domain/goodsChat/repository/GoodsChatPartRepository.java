@@ -17,4 +17,21 @@ public interface GoodsChatPartRepository extends JpaRepository<GoodsChatPart, Go
             AND cr.isActive = true
             """)
     List<GoodsChatPart> findAllWithMemberByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+
+    @Query("""
+            SELECT cp.member.id
+            FROM GoodsChatPart cp
+            WHERE cp.goodsChatRoom.id = :chatRoomId
+            AND cp.isActive = true
+            """)
+    List<Long> findActiveMemberIds(@Param("chatRoomId") Long chatRoomId);
+
+    @Query("""
+            SELECT CASE WHEN COUNT(cp) > 0 THEN true ELSE false END
+            FROM GoodsChatPart cp
+            WHERE cp.goodsChatRoom.id = :chatRoomId
+            AND cp.member.id = :memberId
+            AND cp.isActive = true
+            """)
+    boolean existsActiveMember(@Param("chatRoomId") Long chatRoomId, @Param("memberId") Long memberId);
 }
\ No newline at end of file
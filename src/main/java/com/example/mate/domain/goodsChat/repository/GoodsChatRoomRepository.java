@@ -2,6 +2,8 @@ package com.example.mate.domain.goodsChat.repository;
 
 import com.example.mate.domain.goodsPost.entity.Role;
 import com.example.mate.domain.goodsChat.entity.GoodsChatRoom;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -24,22 +26,33 @@ public interface GoodsChatRoomRepository extends JpaRepository<GoodsChatRoom, Lo
     Optional<GoodsChatRoom> findExistingChatRoom(@Param("postId") Long postId, @Param("buyerId") Long buyerId,
                                                  @Param("role") Role role);
 
+    // 1단계 - 회원이 참여 중인 채팅방 ID 만 페이지 단위로 조회
+    @Query(value = """
+            SELECT cr.id
+            FROM GoodsChatRoom cr
+            JOIN cr.chatParts cp
+            WHERE cp.member.id = :memberId
+            AND cp.isActive = true
+            ORDER BY cr.lastChatSentAt DESC, cr.id DESC
+            """,
+            countQuery = """
+            SELECT COUNT(cp)
+            FROM GoodsChatPart cp
+            WHERE cp.member.id = :memberId
+            AND cp.isActive = true
+            """)
+    Page<Long> findChatRoomIdPageByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 2단계 - 해당 페이지의 채팅방과 게시글, 참여 회원을 한 번에 조회
     @Query("""
-            SELECT cr
+            SELECT DISTINCT cr
             FROM GoodsChatRoom cr
-            JOIN FETCH cr.chatParts cp
             JOIN FETCH cr.goodsPost gp
+            JOIN FETCH cr.chatParts cp
             JOIN FETCH cp.member m
-            WHERE cr.id IN (
-                SELECT gcr.id
-                FROM GoodsChatRoom gcr
-                JOIN gcr.chatParts gcp
-                WHERE gcp.member.id = :memberId
-                AND gcp.isActive = true
-            )
-            ORDER BY cr.lastChatSentAt DESC
+            WHERE cr.id IN :chatRoomIds
             """)
-    Page<GoodsChatRoom> findChatRoomPageByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+    List<GoodsChatRoom> findAllWithChatPartsByIdIn(@Param("chatRoomIds") List<Long> chatRoomIds);
 
     @Query("""
             SELECT cr
@@ -48,4 +61,13 @@ public interface GoodsChatRoomRepository extends JpaRepository<GoodsChatRoom, Lo
             WHERE cr.id = :chatRoomId
             """)
     Optional<GoodsChatRoom> findByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+
+    // 거래완료된 판매글의 채팅방 중 마지막 채팅이 before 이전인 채팅방 ID 조회 (보관 대상)
+    @Query("""
+            SELECT cr.id
+            FROM GoodsChatRoom cr
+            WHERE cr.goodsPost.status = com.example.mate.domain.goodsPost.entity.Status.CLOSED
+            AND cr.lastChatSentAt < :before
+            """)
+    List<Long> findArchivableChatRoomIds(@Param("before") LocalDateTime before);
 }
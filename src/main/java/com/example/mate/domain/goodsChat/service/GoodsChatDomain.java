@@ -0,0 +1,83 @@
+package com.example.mate.domain.goodsChat.service;
+
+import com.example.mate.common.error.ErrorCode;
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.chat.engine.ChatDomain;
+import com.example.mate.domain.chat.engine.ChatEventMessages;
+import com.example.mate.domain.chat.recent.RecentChatMessageBuffer;
+import com.example.mate.domain.constant.MessageType;
+import com.example.mate.domain.goodsChat.document.GoodsChatMessage;
+import com.example.mate.domain.goodsChat.dto.response.GoodsChatMessageResponse;
+import com.example.mate.domain.member.cache.MemberCard;
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class GoodsChatDomain implements ChatDomain<GoodsChatMessage, GoodsChatMessageResponse> {
+
+    private static final String GOODS_CHAT_SUBSCRIBE_PATH = "/sub/chat/goods/";
+
+    private static final ChatEventMessages EVENT_MESSAGES = ChatEventMessages.of(Map.of(
+            MessageType.ENTER, "님이 대화를 시작했습니다.",
+            MessageType.LEAVE, "님이 대화를 떠났습니다.",
+            MessageType.GOODS, "님이 거래를 완료했습니다. 상품에 대한 거래후기를 남겨주세요!"
+    ));
+
+    private final GoodsRecentChatMessageBuffer recentChatMessageBuffer;
+
+    @Override
+    public ChatRoomType type() {
+        return ChatRoomType.GOODS;
+    }
+
+    @Override
+    public String destination(Long roomId) {
+        return GOODS_CHAT_SUBSCRIBE_PATH + roomId;
+    }
+
+    @Override
+    public ErrorCode roomNotFound() {
+        return ErrorCode.GOODS_CHAT_ROOM_NOT_FOUND;
+    }
+
+    @Override
+    public ErrorCode memberNotInRoom() {
+        return ErrorCode.GOODS_CHAT_NOT_FOUND_CHAT_PART;
+    }
+
+    @Override
+    public ChatEventMessages eventMessages() {
+        return EVENT_MESSAGES;
+    }
+
+    @Override
+    public RecentChatMessageBuffer<GoodsChatMessageResponse> recentBuffer() {
+        return recentChatMessageBuffer;
+    }
+
+    @Override
+    public GoodsChatMessage createMessage(String messageId, Long roomId, Long senderId, String content,
+                                          MessageType type, LocalDateTime sentAt) {
+        return GoodsChatMessage.builder()
+                .id(messageId)
+                .chatRoomId(roomId)
+                .memberId(senderId)
+                .sentAt(sentAt)
+                .content(content)
+                .messageType(type)
+                .build();
+    }
+
+    @Override
+    public Long senderId(GoodsChatMessage message) {
+        return message.getMemberId();
+    }
+
+    @Override
+    public GoodsChatMessageResponse toResponse(GoodsChatMessage message, MemberCard sender) {
+        return GoodsChatMessageResponse.of(message, sender);
+    }
+}
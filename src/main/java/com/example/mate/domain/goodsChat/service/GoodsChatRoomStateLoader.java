@@ -0,0 +1,36 @@
+package com.example.mate.domain.goodsChat.service;
+
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.chat.state.ChatRoomState;
+import com.example.mate.domain.chat.state.ChatRoomStateLoader;
+import com.example.mate.domain.goodsChat.repository.GoodsChatPartRepository;
+import com.example.mate.domain.goodsChat.repository.GoodsChatRoomRepository;
+import java.util.HashSet;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class GoodsChatRoomStateLoader implements ChatRoomStateLoader {
+
+    private final GoodsChatRoomRepository chatRoomRepository;
+    private final GoodsChatPartRepository partRepository;
+
+    @Override
+    public ChatRoomType type() {
+        return ChatRoomType.GOODS;
+    }
+
+    // 상대방이 나간 채팅방은 메시지를 보낼 수 없음
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ChatRoomState> load(Long roomId) {
+        return chatRoomRepository.findById(roomId)
+                .map(chatRoom -> new ChatRoomState(
+                        chatRoom.isRoomActive(),
+                        new HashSet<>(partRepository.findActiveMemberIds(roomId))
+                ));
+    }
+}
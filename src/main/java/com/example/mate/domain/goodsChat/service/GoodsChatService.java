@@ -2,7 +2,17 @@ package com.example.mate.domain.goodsChat.service;
 
 import com.example.mate.common.error.CustomException;
 import com.example.mate.common.error.ErrorCode;
+import com.example.mate.common.response.CursorResponse;
 import com.example.mate.common.response.PageResponse;
+import com.example.mate.domain.chat.ChatMessageCursor;
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.chat.engine.ChatHistoryReader;
+import com.example.mate.domain.chat.search.ChatMessageSearchHit;
+import com.example.mate.domain.chat.search.ChatSearchQuery;
+import com.example.mate.domain.chat.search.ChatSearchResult;
+import com.example.mate.domain.chat.state.ChatRoomStateCache;
+import com.example.mate.domain.chat.summary.ChatRoomSummaryBuffer;
+import com.example.mate.domain.chat.unread.ChatUnreadCounter;
 import com.example.mate.domain.constant.MessageType;
 import com.example.mate.domain.goodsChat.document.GoodsChatMessage;
 import com.example.mate.domain.goodsChat.dto.response.GoodsChatMessageResponse;
@@ -28,10 +38,13 @@ import com.example.mate.domain.member.entity.Member;
 import com.example.mate.domain.member.repository.MemberRepository;
 import com.example.mate.domain.notification.entity.NotificationType;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -49,6 +62,13 @@ public class GoodsChatService {
     private final GoodsChatMessageRepository messageRepository;
     private final GoodsChatEventPublisher chatEventPublisher;
     private final GoodsPostEventPublisher notificationEventPublisher;
+    private final ChatRoomSummaryBuffer chatRoomSummaryBuffer;
+    private final ChatRoomStateCache chatRoomStateCache;
+    private final GoodsChatDomain chatDomain;
+    private final ChatHistoryReader chatHistoryReader;
+    private final ChatUnreadCounter chatUnreadCounter;
+
+    private static final int CHAT_MESSAGE_PAGE_SIZE = 20;
 
     // 판매글에서 채팅방 입장 - 채팅방 생성 or 기존 채팅방 입장
     public GoodsChatRoomResponse getOrCreateGoodsChatRoom(Long buyerId, Long goodsPostId) {
@@ -67,30 +87,18 @@ public class GoodsChatService {
 
         // 기존 채팅방이 있으면 반환, 없으면 새 채팅방 생성
         return chatRoomRepository.findExistingChatRoom(goodsPostId, buyerId, Role.BUYER)
-                .map(this::getChatRoomWithMessages)
+                .map(chatRoom -> getChatRoomWithMessages(chatRoom, buyerId))
                 .orElseGet(() -> createChatRoom(goodsPost, buyer, seller));
     }
 
     // 채팅방 정보와 채팅 내역 반환
-    private GoodsChatRoomResponse getChatRoomWithMessages(GoodsChatRoom chatRoom) {
-        List<GoodsChatMessage> chatMessages = messageRepository.getChatMessages(chatRoom.getId(), null, 20);
-        List<GoodsChatMessageResponse> chatMessageResponses = mapMessagesToResponses(chatMessages);
+    private GoodsChatRoomResponse getChatRoomWithMessages(GoodsChatRoom chatRoom, Long memberId) {
+        chatUnreadCounter.markRead(ChatRoomType.GOODS, chatRoom.getId(), memberId);
+        List<GoodsChatMessageResponse> chatMessageResponses = getLatestMessages(chatRoom.getId());
 
         return GoodsChatRoomResponse.of(chatRoom, chatMessageResponses);
     }
 
-    // 메시지 발신자 정보 조회 및 DTO 매핑
-    private List<GoodsChatMessageResponse> mapMessagesToResponses(List<GoodsChatMessage> chatMessages) {
-        List<GoodsChatMessageResponse> goodsChatMessageResponses = new ArrayList<>();
-
-        for (GoodsChatMessage chatMessage : chatMessages) {
-            Long memberId = chatMessage.getMemberId();
-            Member member = findMemberById(memberId);
-            goodsChatMessageResponses.add(GoodsChatMessageResponse.of(chatMessage, member));
-        }
-        return goodsChatMessageResponses;
-    }
-
     // 새 채팅방 생성
     private GoodsChatRoomResponse createChatRoom(GoodsPost goodsPost, Member buyer, Member seller) {
         GoodsChatRoom goodsChatRoom = GoodsChatRoom.builder()
@@ -100,6 +108,8 @@ public class GoodsChatService {
         GoodsChatRoom savedChatRoom = chatRoomRepository.save(goodsChatRoom);
         savedChatRoom.addChatParticipant(buyer, Role.BUYER);
         savedChatRoom.addChatParticipant(seller, Role.SELLER);
+        chatUnreadCounter.markRead(ChatRoomType.GOODS, savedChatRoom.getId(), buyer.getId());
+        chatUnreadCounter.markRead(ChatRoomType.GOODS, savedChatRoom.getId(), seller.getId());
 
         // 입장 메시지 이벤트 전송
         chatEventPublisher.publish(GoodsChatEvent.from(goodsChatRoom.getId(), buyer, MessageType.ENTER));
@@ -111,9 +121,60 @@ public class GoodsChatService {
     @Transactional(readOnly = true)
     public List<GoodsChatMessageResponse> getChatRoomMessages(Long chatRoomId, Long memberId, LocalDateTime lastSentAt) {
         validateMemberInChatRoom(memberId, chatRoomId);
-        List<GoodsChatMessage> chatMessages = messageRepository.getChatMessages(chatRoomId, lastSentAt, 20);
+        if (lastSentAt == null) {
+            return getLatestMessages(chatRoomId);
+        }
+        List<GoodsChatMessage> chatMessages =
+                messageRepository.getChatMessages(chatRoomId, lastSentAt, CHAT_MESSAGE_PAGE_SIZE);
+
+        return chatHistoryReader.toResponses(chatDomain, chatMessages);
+    }
+
+    // 커서 기반 채팅 내역 조회 - 메시지 ID 기준으로 같은 시각의 메시지도 누락이나 중복 없이 조회
+    @Transactional(readOnly = true)
+    public CursorResponse<GoodsChatMessageResponse> getChatRoomMessagesByCursor(Long chatRoomId, Long memberId,
+                                                                                String cursor) {
+        validateMemberInChatRoom(memberId, chatRoomId);
+        ObjectId before = ChatMessageCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        List<GoodsChatMessageResponse> messages = before == null
+                ? getLatestMessages(chatRoomId, CHAT_MESSAGE_PAGE_SIZE + 1)
+                : chatHistoryReader.toResponses(chatDomain,
+                        messageRepository.getChatMessagesBefore(chatRoomId, before, CHAT_MESSAGE_PAGE_SIZE + 1));
+
+        return ChatMessageCursor.toResponse(messages, CHAT_MESSAGE_PAGE_SIZE, GoodsChatMessageResponse::getChatMessageId);
+    }
+
+    // 채팅 내역 검색 - 검색어를 포함하는 메시지를 최신순으로 조회
+    @Transactional(readOnly = true)
+    public CursorResponse<ChatMessageSearchHit<GoodsChatMessageResponse>> searchChatRoomMessages(Long chatRoomId,
+                                                                                               Long memberId,
+                                                                                               String keyword,
+                                                                                               String cursor) {
+        validateMemberInChatRoom(memberId, chatRoomId);
+        ChatSearchQuery searchQuery = ChatSearchQuery.of(keyword);
+        ObjectId before = ChatMessageCursor.decode(cursor);
+
+        ChatSearchResult<GoodsChatMessage> result = messageRepository.searchMessages(chatRoomId, searchQuery, before,
+                CHAT_MESSAGE_PAGE_SIZE + 1);
+        List<ChatMessageSearchHit<GoodsChatMessageResponse>> hits = chatHistoryReader.toResponses(chatDomain,
+                result.messages()).stream()
+                .map(message -> ChatMessageSearchHit.of(message, message.getChatMessageId()))
+                .toList();
+
+        return ChatMessageCursor.toResponse(hits, CHAT_MESSAGE_PAGE_SIZE, hit -> hit.message().getChatMessageId(),
+                result.continueBefore());
+    }
 
-        return mapMessagesToResponses(chatMessages);
+    private List<GoodsChatMessageResponse> getLatestMessages(Long chatRoomId) {
+        return getLatestMessages(chatRoomId, CHAT_MESSAGE_PAGE_SIZE);
+    }
+
+    // 최신 채팅 내역은 최근 메시지 버퍼에서 조회하고, 버퍼가 없는 채팅방만 MongoDB 에서 조회
+    private List<GoodsChatMessageResponse> getLatestMessages(Long chatRoomId, int size) {
+        return chatHistoryReader.readLatest(chatDomain, chatRoomId, size, null,
+                capacity -> messageRepository.getChatMessagesBefore(chatRoomId, null, capacity));
     }
 
     private void validateMemberInChatRoom(Long memberId, Long chatRoomId) {
@@ -126,13 +187,35 @@ public class GoodsChatService {
     @Transactional(readOnly = true)
     public PageResponse<GoodsChatRoomSummaryResponse> getGoodsChatRooms(Long memberId, Pageable pageable) {
         Member member = findMemberById(memberId);
-        Page<GoodsChatRoom> chatRoomPage = chatRoomRepository.findChatRoomPageByMemberId(memberId, pageable);
-
-        List<GoodsChatRoomSummaryResponse> summaries = chatRoomPage.getContent().stream()
-                .map(chatRoom -> GoodsChatRoomSummaryResponse.of(chatRoom, getOpponentMember(chatRoom, member)))
+        Page<Long> chatRoomIdPage = chatRoomRepository.findChatRoomIdPageByMemberId(memberId, pageable);
+        List<GoodsChatRoom> chatRooms = findChatRoomsInOrder(chatRoomIdPage.getContent());
+        Map<Long, Long> unreadCounts = chatUnreadCounter.getUnreadCounts(ChatRoomType.GOODS, memberId,
+                chatRoomIdPage.getContent());
+
+        // 아직 DB 에 반영되지 않은 마지막 채팅을 적용한 뒤 다시 정렬
+        List<GoodsChatRoomSummaryResponse> summaries = chatRooms.stream()
+                .map(chatRoom -> GoodsChatRoomSummaryResponse.of(chatRoom, getOpponentMember(chatRoom, member),
+                        chatRoomSummaryBuffer.resolve(ChatRoomType.GOODS, chatRoom.getId(),
+                                chatRoom.getLastChatContent(), chatRoom.getLastChatSentAt()),
+                        unreadCounts.getOrDefault(chatRoom.getId(), 0L)))
                 .toList();
 
-        return PageResponse.from(chatRoomPage, summaries);
+        return PageResponse.from(chatRoomIdPage,
+                chatRoomSummaryBuffer.sortByLastChat(summaries, GoodsChatRoomSummaryResponse::getLastChatSentAt));
+    }
+
+    // 페이지의 채팅방 ID 순서대로 채팅방, 게시글, 참여 회원을 함께 조회
+    private List<GoodsChatRoom> findChatRoomsInOrder(List<Long> chatRoomIds) {
+        if (chatRoomIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, GoodsChatRoom> chatRooms = chatRoomRepository.findAllWithChatPartsByIdIn(chatRoomIds).stream()
+                .collect(Collectors.toMap(GoodsChatRoom::getId, Function.identity()));
+
+        return chatRoomIds.stream()
+                .map(chatRooms::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     // 상대방 회원 조회
@@ -150,7 +233,14 @@ public class GoodsChatService {
         validateMemberInChatRoom(memberId, chatRoomId);
         GoodsChatRoom chatRoom = findChatRoomById(chatRoomId);
 
-        return getChatRoomWithMessages(chatRoom);
+        return getChatRoomWithMessages(chatRoom, memberId);
+    }
+
+    // 채팅방 읽음 처리 - 안 읽은 메시지 수 초기화
+    @Transactional(readOnly = true)
+    public void markAsRead(Long memberId, Long chatRoomId) {
+        validateMemberInChatRoom(memberId, chatRoomId);
+        chatUnreadCounter.markRead(ChatRoomType.GOODS, chatRoomId, memberId);
     }
 
     // 채팅방 참여 인원 조회
@@ -170,6 +260,8 @@ public class GoodsChatService {
         GoodsChatPart goodsChatPart = partRepository.findById(new GoodsChatPartId(memberId, chatRoomId))
                 .orElseThrow(() -> new CustomException(ErrorCode.GOODS_CHAT_NOT_FOUND_CHAT_PART));
 
+        chatRoomStateCache.invalidate(ChatRoomType.GOODS, chatRoomId);
+        chatUnreadCounter.remove(ChatRoomType.GOODS, chatRoomId, memberId);
         if (!goodsChatPart.leaveAndCheckRoomStatus()) {
             // 퇴장 메시지 전송
             chatEventPublisher.publish(GoodsChatEvent.from(chatRoomId, member, MessageType.LEAVE));
@@ -206,6 +298,8 @@ public class GoodsChatService {
     private void deleteChatRoom(Long chatRoomId) {
         chatRoomRepository.deleteById(chatRoomId);
         messageRepository.deleteAllByChatRoomId(chatRoomId); // 메시지 삭제
+        chatDomain.recentBuffer().evict(chatRoomId);
+        chatUnreadCounter.delete(ChatRoomType.GOODS, chatRoomId);
     }
 
     private GoodsChatRoom findChatRoomById(Long chatRoomId) {
@@ -0,0 +1,38 @@
+package com.example.mate.domain.goodsChat.service;
+
+import com.example.mate.common.cluster.ClusterBus;
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.chat.recent.RecentChatMessageBuffer;
+import com.example.mate.domain.goodsChat.dto.response.GoodsChatMessageResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GoodsRecentChatMessageBuffer extends RecentChatMessageBuffer<GoodsChatMessageResponse> {
+
+    public GoodsRecentChatMessageBuffer(ClusterBus clusterBus, MeterRegistry meterRegistry,
+                                        @Value("${chat.recent.capacity:50}") int capacity,
+                                        @Value("${chat.recent.maximum-rooms:10000}") long maximumRooms,
+                                        @Value("${chat.recent.ttl:30m}") Duration ttl) {
+        super(ChatRoomType.GOODS, GoodsChatMessageResponse.class,
+                clusterBus, meterRegistry, capacity, maximumRooms, ttl);
+    }
+
+    @Override
+    protected String messageId(GoodsChatMessageResponse message) {
+        return message.getChatMessageId();
+    }
+
+    @Override
+    protected Long senderId(GoodsChatMessageResponse message) {
+        return message.getSenderId();
+    }
+
+    @Override
+    protected LocalDateTime sentAt(GoodsChatMessageResponse message) {
+        return message.getSentAt();
+    }
+}
@@ -1,28 +1,73 @@
 package com.example.mate.domain.goodsPost.event;
 
+import com.example.mate.common.config.AsyncConfig;
+import com.example.mate.common.outbox.OutboxEventHandler;
+import com.example.mate.common.outbox.OutboxMessage;
+import com.example.mate.domain.member.entity.Member;
+import com.example.mate.domain.member.repository.MemberRepository;
 import com.example.mate.domain.notification.service.NotificationService;
-import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionalEventListener;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
-public class GoodsPostEventHandler {
+public class GoodsPostEventHandler implements OutboxEventHandler<GoodsPostEventPayload> {
+
+    public static final String EVENT_TYPE = "GOODS_POST_NOTIFICATION";
 
     private final NotificationService notificationService;
+    private final MemberRepository memberRepository;
+    private final Executor executor;
 
     private static final String NOTIFICATION_MESSAGE = "굿즈 거래 후기를 남겨주세요!";
     private static final String BASE_URL = "http://localhost:5173/api/goods/";    // TODO : 프론트엔드 배포 후 변경 필요
 
-    @Async
-    @TransactionalEventListener
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void handle(GoodsPostEvent event) {
-        notificationService.send(event.notificationType(), getMessage(event.goodsPostTitle()),
-                getUrl(event.goodsPostId()), event.receiver());
+    public GoodsPostEventHandler(NotificationService notificationService, MemberRepository memberRepository,
+                                 @Qualifier(AsyncConfig.NOTIFICATION_EVENT_EXECUTOR) Executor executor) {
+        this.notificationService = notificationService;
+        this.memberRepository = memberRepository;
+        this.executor = executor;
+    }
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Class<GoodsPostEventPayload> payloadType() {
+        return GoodsPostEventPayload.class;
+    }
+
+    @Override
+    public Executor executor() {
+        return executor;
+    }
+
+    // SSE 푸시는 NotificationDispatcher 가 커밋 이후에 발행하므로, 묶음이 롤백되어 이벤트별로 다시 전달돼도 한 번만 전송됨
+    @Override
+    public void handle(List<OutboxMessage<GoodsPostEventPayload>> messages) {
+        Map<Long, Member> receivers = memberRepository.findAllById(
+                        messages.stream().map(message -> message.payload().receiverId()).distinct().toList()).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        for (OutboxMessage<GoodsPostEventPayload> message : messages) {
+            GoodsPostEventPayload payload = message.payload();
+            Member receiver = receivers.get(payload.receiverId());
+            if (receiver == null) {
+                log.warn("Goods post notification skipped. [goodsPostId={}, receiverId={}]",
+                        payload.goodsPostId(), payload.receiverId());
+                continue;
+            }
+            notificationService.send(payload.notificationType(), getMessage(payload.goodsPostTitle()),
+                    getUrl(payload.goodsPostId()), receiver);
+        }
     }
 
     private String getMessage(String goodsPostTitle) {
@@ -1,16 +1,16 @@
 package com.example.mate.domain.goodsPost.event;
 
+import com.example.mate.common.outbox.OutboxEventWriter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class GoodsPostEventPublisher {
 
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final OutboxEventWriter outboxEventWriter;
 
     public void publish(GoodsPostEvent goodsPostEvent) {
-        applicationEventPublisher.publishEvent(goodsPostEvent);
+        outboxEventWriter.append(GoodsPostEventHandler.EVENT_TYPE, GoodsPostEventPayload.from(goodsPostEvent));
     }
 }
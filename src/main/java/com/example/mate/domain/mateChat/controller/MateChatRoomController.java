@@ -1,9 +1,11 @@
 package com.example.mate.domain.mateChat.controller;
 
 import com.example.mate.common.response.ApiResponse;
+import com.example.mate.common.response.CursorResponse;
 import com.example.mate.common.response.PageResponse;
 import com.example.mate.common.security.auth.AuthMember;
 import com.example.mate.common.util.validator.ValidPageable;
+import com.example.mate.domain.chat.search.ChatMessageSearchHit;
 import com.example.mate.domain.mateChat.dto.response.MateChatMessageResponse;
 import com.example.mate.domain.mateChat.dto.response.MateChatRoomListResponse;
 import com.example.mate.domain.mateChat.dto.response.MateChatRoomResponse;
@@ -69,6 +71,41 @@ public class MateChatRoomController {
         return ResponseEntity.ok(ApiResponse.success(messages));
     }
 
+    @GetMapping("/{chatroomId}/messages/scroll")
+    @Operation(summary = "채팅방 메세지 커서 조회", description = "메시지 내역을 커서 기반으로 조회합니다. 응답의 nextCursor 로 이전 메시지를 조회합니다.")
+    public ResponseEntity<ApiResponse<CursorResponse<MateChatMessageResponse>>> getChatMessagesByCursor(
+            @Parameter(description = "채팅방 ID") @PathVariable Long chatroomId,
+            @AuthenticationPrincipal AuthMember member,
+            @Parameter(description = "이전 조회 결과의 nextCursor") @RequestParam(required = false) String cursor
+    ) {
+        CursorResponse<MateChatMessageResponse> messages =
+                chatRoomService.getChatMessagesByCursor(chatroomId, member.getMemberId(), cursor);
+        return ResponseEntity.ok(ApiResponse.success(messages));
+    }
+
+    @GetMapping("/{chatroomId}/messages/search")
+    @Operation(summary = "채팅방 메세지 검색", description = "입장 이후 메시지 중 검색어를 포함하는 메시지를 최신순으로 조회합니다. 결과의 historyCursor 로 메시지 커서 조회를 호출하면 해당 메시지부터 이전 대화를 조회합니다.")
+    public ResponseEntity<ApiResponse<CursorResponse<ChatMessageSearchHit<MateChatMessageResponse>>>> searchChatMessages(
+            @Parameter(description = "채팅방 ID") @PathVariable Long chatroomId,
+            @AuthenticationPrincipal AuthMember member,
+            @Parameter(description = "검색어 (50자 이하)", required = true) @RequestParam String keyword,
+            @Parameter(description = "이전 검색 결과의 nextCursor") @RequestParam(required = false) String cursor
+    ) {
+        CursorResponse<ChatMessageSearchHit<MateChatMessageResponse>> hits =
+                chatRoomService.searchChatMessages(chatroomId, member.getMemberId(), keyword, cursor);
+        return ResponseEntity.ok(ApiResponse.success(hits));
+    }
+
+    @PostMapping("/{chatroomId}/read")
+    @Operation(summary = "채팅방 읽음 처리", description = "채팅방의 안 읽은 메시지 수를 초기화합니다.")
+    public ResponseEntity<Void> markChatRoomAsRead(
+            @Parameter(description = "채팅방 ID") @PathVariable Long chatroomId,
+            @AuthenticationPrincipal AuthMember member
+    ) {
+        chatRoomService.markAsRead(chatroomId, member.getMemberId());
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("{chatroomId}/leave")
     @Operation(summary = "채팅방 나가기", description = "채팅방에서 퇴장합니다.")
     public ResponseEntity<Void> leaveChatRoom(
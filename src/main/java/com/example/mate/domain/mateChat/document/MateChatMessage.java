@@ -1,7 +1,7 @@
 package com.example.mate.domain.mateChat.document;
 
 import com.example.mate.common.BaseTimeEntity;
-import com.example.mate.domain.mateChat.message.MessageType;
+import com.example.mate.domain.constant.MessageType;
 import jakarta.persistence.Id;
 import lombok.*;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
@@ -17,7 +17,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 @CompoundIndexes({
-        @CompoundIndex(name = "idx_chat_room_id_sent_at", def = "{ 'room_id': 1, 'send_time': -1 }")
+        @CompoundIndex(name = "idx_chat_room_id_sent_at", def = "{ 'room_id': 1, 'send_time': -1 }"),
+        @CompoundIndex(name = "idx_chat_room_id_id", def = "{ 'room_id': 1, '_id': -1 }"),
+        // search_tokens 는 저장 시 ChatMessageWriter 가 기록
+        @CompoundIndex(name = "idx_chat_room_id_search_tokens_id", def = "{ 'room_id': 1, 'search_tokens': 1, '_id': -1 }")
 }
 )
 public class MateChatMessage extends BaseTimeEntity {
@@ -1,14 +1,17 @@
 package com.example.mate.domain.mateChat.dto.response;
 
 import com.example.mate.domain.mateChat.document.MateChatMessage;
+import com.example.mate.domain.member.cache.MemberCard;
 import com.example.mate.domain.member.entity.Member;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@Jacksonized
 public class MateChatMessageResponse {
     private String messageId;
     private Long roomId;
@@ -20,12 +23,16 @@ public class MateChatMessageResponse {
     private LocalDateTime sendTime;
 
     public static MateChatMessageResponse from(MateChatMessage message, Member sender) {
+        return from(message, MemberCard.from(sender));
+    }
+
+    public static MateChatMessageResponse from(MateChatMessage message, MemberCard sender) {
         return MateChatMessageResponse.builder()
                 .messageId(message.getId())
                 .roomId(message.getRoomId())
                 .senderId(message.getSenderId())
-                .senderNickname(sender.getNickname())
-                .senderImageUrl(sender.getImageUrl())
+                .senderNickname(sender.nickname())
+                .senderImageUrl(sender.imageUrl())
                 .message(message.getContent())
                 .messageType(message.getType().getValue())
                 .sendTime(message.getSendTime())
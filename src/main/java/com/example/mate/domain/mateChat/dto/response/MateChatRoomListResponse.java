@@ -1,5 +1,6 @@
 package com.example.mate.domain.mateChat.dto.response;
 
+import com.example.mate.domain.chat.summary.LastChat;
 import com.example.mate.domain.file.FileUtils;
 import com.example.mate.domain.mateChat.entity.MateChatRoom;
 import lombok.Builder;
@@ -21,20 +22,31 @@ public class MateChatRoomListResponse {
     private Boolean isMessageable;
     private Boolean isAuthorLeft;
     private Boolean isAuthor;
+    private Long unreadCount;
 
     public static MateChatRoomListResponse from(MateChatRoom chatRoom, boolean isAuthor) {
+        return from(chatRoom, isAuthor, new LastChat(chatRoom.getLastChatContent(), chatRoom.getLastChatSentAt()));
+    }
+
+    public static MateChatRoomListResponse from(MateChatRoom chatRoom, boolean isAuthor, LastChat lastChat) {
+        return from(chatRoom, isAuthor, lastChat, 0L);
+    }
+
+    public static MateChatRoomListResponse from(MateChatRoom chatRoom, boolean isAuthor, LastChat lastChat,
+                                                long unreadCount) {
         return MateChatRoomListResponse.builder()
                 .roomId(chatRoom.getId())
                 .postId(chatRoom.getMatePost().getId())
                 .postImageUrl(FileUtils.getThumbnailImageUrl(chatRoom.getMatePost().getImageUrl()))
                 .postTitle(chatRoom.getMatePost().getTitle())
-                .lastMessageContent(chatRoom.getLastChatContent())
-                .lastMessageTime(chatRoom.getLastChatSentAt())
+                .lastMessageContent(lastChat.content())
+                .lastMessageTime(lastChat.sentAt())
                 .currentMembers(chatRoom.getCurrentMembers())
                 .isActive(chatRoom.getIsActive())
                 .isMessageable(chatRoom.getIsMessageable())
                 .isAuthorLeft(chatRoom.getIsAuthorLeft())
                 .isAuthor(isAuthor)
+                .unreadCount(unreadCount)
                 .build();
     }
 }
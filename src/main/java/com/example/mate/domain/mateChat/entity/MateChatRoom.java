@@ -1,11 +1,10 @@
 package com.example.mate.domain.mateChat.entity;
 
 import com.example.mate.common.BaseTimeEntity;
-import com.example.mate.common.error.CustomException;
-import com.example.mate.common.error.ErrorCode;
 import com.example.mate.domain.matePost.entity.MatePost;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -17,7 +16,10 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
+@DynamicUpdate
 public class MateChatRoom extends BaseTimeEntity {
+    public static final int MAX_MEMBERS = 10;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -38,7 +40,9 @@ public class MateChatRoom extends BaseTimeEntity {
     @Builder.Default
     private Boolean isAuthorLeft = false;
 
-    @Column(name = "current_members", nullable = false)
+    // 활성화된 채팅방 멤버 수 (입장/퇴장 시 함께 변경되며, 채팅방 상태와 모집글 상세의 인원 수는 이 값을 사용)
+    // 동시 입장 시 정원 초과를 막기 위해 인원 수는 조건부 UPDATE 로만 변경 (MateChatRoomRepository 참고)
+    @Column(name = "current_members", nullable = false, updatable = false)
     @Builder.Default
     private Integer currentMembers = 1;
 
@@ -73,11 +77,9 @@ public class MateChatRoom extends BaseTimeEntity {
         this.isMessageable = false;
     }
 
-    public void incrementCurrentMembers() {
-        if (this.currentMembers >= 10) {
-            throw new CustomException(ErrorCode.CHAT_ROOM_FULL);
-        }
-        this.currentMembers++;
+    // 입장이 승인된 뒤 조건부 UPDATE 가 반영된 DB 의 현재 인원으로 영속성 컨텍스트의 상태를 맞추기 위해 호출
+    public void applyAdmittedMembers(int currentMembers) {
+        this.currentMembers = currentMembers;
 
         // 2명 이상이면 메시지 전송 가능하도록 설정
         if (this.currentMembers >= 2 && !this.isAuthorLeft) {
@@ -90,10 +92,9 @@ public class MateChatRoom extends BaseTimeEntity {
         }
     }
 
-    public void decrementCurrentMembers() {
-        if (this.currentMembers > 0) {
-            this.currentMembers--;
-        }
+    // 퇴장이 반영된 뒤 조건부 UPDATE 가 반영된 DB 의 현재 인원으로 영속성 컨텍스트의 상태를 맞추기 위해 호출
+    public void applyReleasedMembers(int currentMembers) {
+        this.currentMembers = currentMembers;
 
         // 1명 이하면 메시지 전송 불가능하도록 설정
         if (this.currentMembers <= 1) {
@@ -106,4 +107,17 @@ public class MateChatRoom extends BaseTimeEntity {
             this.isMessageable = false;
         }
     }
+
+    // 인원 수 보정이 반영된 뒤 영속성 컨텍스트의 상태를 맞추기 위해 호출
+    // 보정으로 채팅 불가 상태가 된 경우만 반영하고, 채팅 가능 상태로 되돌리지는 않음
+    public void syncCurrentMembers(int activeMembers) {
+        this.currentMembers = activeMembers;
+
+        if (activeMembers <= 1) {
+            this.isMessageable = false;
+        }
+        if (activeMembers == 0) {
+            this.isActive = false;
+        }
+    }
 }
\ No newline at end of file
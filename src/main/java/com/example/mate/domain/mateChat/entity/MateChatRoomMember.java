@@ -55,9 +55,8 @@ public class MateChatRoomMember extends BaseTimeEntity {
         this.lastEnteredAt = LocalDateTime.now();
     }
 
-    // 비활성화 상태로 변경
+    // 비활성화 상태로 변경 - 채팅방 인원은 MateChatRoomService 에서 조건부 UPDATE 로 감소
     public void deactivate() {
         this.isActive = false;
-        this.mateChatRoom.decrementCurrentMembers();
     }
 }
@@ -1,6 +1,6 @@
 package com.example.mate.domain.mateChat.event;
 
-import com.example.mate.domain.mateChat.message.MessageType;
+import com.example.mate.domain.constant.MessageType;
 import com.example.mate.domain.member.entity.Member;
 
 public record MateChatEvent(Long chatRoomId, Member member, MessageType type) {
@@ -0,0 +1,11 @@
+package com.example.mate.domain.mateChat.event;
+
+import com.example.mate.domain.constant.MessageType;
+
+// 아웃박스에 저장되는 채팅 이벤트 - 회원은 ID 만 저장하고 전달 시점에 조회
+public record MateChatEventPayload(Long chatRoomId, Long memberId, MessageType type) {
+
+    public static MateChatEventPayload from(MateChatEvent event) {
+        return new MateChatEventPayload(event.chatRoomId(), event.member().getId(), event.type());
+    }
+}
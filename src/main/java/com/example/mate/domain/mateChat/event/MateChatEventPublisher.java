@@ -1,15 +1,16 @@
 package com.example.mate.domain.mateChat.event;
 
+import com.example.mate.common.outbox.OutboxEventWriter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class MateChatEventPublisher {
-    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final OutboxEventWriter outboxEventWriter;
 
     public void publish(MateChatEvent mateChatEvent) {
-        applicationEventPublisher.publishEvent(mateChatEvent);
+        outboxEventWriter.append(MateChatEventHandler.EVENT_TYPE, MateChatEventPayload.from(mateChatEvent));
     }
 }
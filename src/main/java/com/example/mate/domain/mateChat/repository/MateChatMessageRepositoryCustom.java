@@ -1,12 +1,27 @@
 package com.example.mate.domain.mateChat.repository;
 
+import com.example.mate.domain.chat.search.ChatSearchQuery;
+import com.example.mate.domain.chat.search.ChatSearchResult;
 import com.example.mate.domain.mateChat.document.MateChatMessage;
+import org.bson.types.ObjectId;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface MateChatMessageRepositoryCustom {
 
     // 마지막 입장시간 이후 메세지 조회
     List<MateChatMessage> getChatMessages(Long roomId, LocalDateTime lastEnterTime, LocalDateTime lastSentAt);
+
+    // 마지막 입장시간 이후 메세지 중 before 보다 이전 메세지를 ID 기준으로 조회
+    List<MateChatMessage> getChatMessagesBefore(Long roomId, LocalDateTime lastEnterTime, ObjectId before, int size);
+
+    // 마지막 입장시간 이후 메세지 중 before 보다 이전이고 검색어를 포함하는 메세지를 ID 기준으로 조회
+    ChatSearchResult<MateChatMessage> searchMessages(Long roomId, LocalDateTime lastEnterTime,
+                                                     ChatSearchQuery searchQuery, ObjectId before, int size);
+
+    // 주어진 메시지 ID 중 이미 저장된 ID 조회
+    Set<String> findExistingIds(Long roomId, Collection<String> ids);
 }
@@ -1,36 +1,196 @@
 package com.example.mate.domain.mateChat.repository;
 
+import com.example.mate.domain.chat.ChatMessageCursor;
+import com.example.mate.domain.chat.archive.ChatMessageArchive;
+import com.example.mate.domain.chat.bucket.ChatMessageBucketStore;
+import com.example.mate.domain.chat.search.ChatSearchQuery;
+import com.example.mate.domain.chat.search.ChatSearchResult;
 import com.example.mate.domain.mateChat.document.MateChatMessage;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 public class MateChatMessageRepositoryCustomImpl implements MateChatMessageRepositoryCustom {
 
+    // 토큰 인덱스로 찾은 후보를 본문으로 다시 거르므로 한 번에 size 보다 넉넉하게 조회
+    private static final int SEARCH_BATCH_SIZE = 100;
+    private static final int SEARCH_MAX_BATCHES = 10;
+
     private final MongoTemplate mongoTemplate;
+    private final ChatMessageBucketStore bucketStore;
+    private final ChatMessageArchive archive;
 
     /**
      * 주어진 chatRoomId의 메시지 중에서
      * lastEnterTime 이후에 보내졌으며
      * lastSentAt 보다 오래된 메시지를 최대 20개 반환
-     * 메시지는 send_time 기준으로 내림차순 정렬됩니다.
+     * 메시지는 send_time 기준으로 내림차순 정렬되며, 부족한 만큼 보관된 메시지에서 이어서 조회합니다.
      */
     @Override
     public List<MateChatMessage> getChatMessages(Long roomId, LocalDateTime lastEnterTime, LocalDateTime lastSentAt) {
-        // 동적으로 조건 생성
-        Criteria criteria = createCriteria(roomId, lastEnterTime, lastSentAt);
+        // ID 는 전송 시각(초)을 포함하므로 시각 조건을 ID 범위로 바꿔 bucket, 보관 segment 를 좁힌 뒤 시각으로 다시 거름
+        ObjectId before = lastSentAt == null ? null : ChatMessageCursor.minIdAt(lastSentAt.plusSeconds(1));
+        ObjectId from = ChatMessageCursor.minIdAt(lastEnterTime);
+        Predicate<Document> sentBetween = bucketStore.sentBetween("send_time", lastEnterTime, lastSentAt);
+
+        List<MateChatMessage> messages;
+        if (bucketStore.readsBuckets()) {
+            messages = bucketStore.find(MateChatMessage.class, roomId, before, from, 20, sentBetween).stream()
+                    .sorted(Comparator.comparing(MateChatMessage::getSendTime).reversed())
+                    .toList();
+        } else {
+            // 동적으로 조건 생성
+            Criteria criteria = createCriteria(roomId, lastEnterTime, lastSentAt);
+
+            Query query = new Query(criteria);
+            query.limit(20);
+            query.with(Sort.by(Sort.Direction.DESC, "send_time"));
+
+            messages = mongoTemplate.find(query, MateChatMessage.class);
+        }
+
+        return archive.readThrough(messages, MateChatMessage.class, roomId, before, from, 20, sentBetween,
+                MateChatMessage::getId);
+    }
+
+    /**
+     * 주어진 roomId의 메시지 중에서
+     * lastEnterTime 이후에 보내졌으며 (null 이면 전체)
+     * ID 가 before 보다 작은 메시지를 최대 size 만큼 반환 (before 가 null 이면 최신 메시지부터)
+     * 메시지는 _id 기준으로 내림차순 정렬되며, { room_id, _id } 인덱스 범위 안에서 조회됩니다.
+     * 부족한 만큼 보관된 메시지에서 이어서 조회합니다.
+     */
+    @Override
+    public List<MateChatMessage> getChatMessagesBefore(Long roomId, LocalDateTime lastEnterTime, ObjectId before,
+                                                       int size) {
+        ObjectId from = lastEnterTime == null ? null : ChatMessageCursor.minIdAt(lastEnterTime);
+        Predicate<Document> sentAfter = bucketStore.sentBetween("send_time", lastEnterTime, null);
+
+        List<MateChatMessage> messages;
+        if (bucketStore.readsBuckets()) {
+            messages = bucketStore.find(MateChatMessage.class, roomId, before, from, size, sentAfter);
+        } else {
+            Criteria idCriteria = Criteria.where("_id");
+            if (before != null) {
+                idCriteria.lt(before);
+            }
+            Criteria criteria = Criteria.where("room_id").is(roomId);
+            if (lastEnterTime != null) {
+                // 입장 시각이 속한 초의 가장 작은 ObjectId 를 하한으로 사용해 인덱스 범위를 제한
+                idCriteria.gte(from);
+                criteria.and("send_time").gt(lastEnterTime);
+            }
+            if (before != null || lastEnterTime != null) {
+                criteria.andOperator(idCriteria);
+            }
+
+            Query query = new Query(criteria);
+            query.limit(size);
+            query.with(Sort.by(Sort.Direction.DESC, "_id"));
+
+            messages = mongoTemplate.find(query, MateChatMessage.class);
+        }
 
-        Query query = new Query(criteria);
-        query.limit(20);
-        query.with(Sort.by(Sort.Direction.DESC, "send_time"));
+        return archive.readThrough(messages, MateChatMessage.class, roomId, before, from, size, sentAfter,
+                MateChatMessage::getId);
+    }
+
+    /**
+     * 주어진 roomId의 메시지 중에서
+     * lastEnterTime 이후에 보내졌으며 (null 이면 전체)
+     * ID 가 before 보다 작고 본문에 검색어를 포함하는 메시지를 최대 size 만큼 반환 (before 가 null 이면 최신 메시지부터)
+     * { room_id, search_tokens, _id } 인덱스로 검색어의 토큰을 모두 포함하는 메시지를 찾은 뒤 본문으로 다시 거르며,
+     * bucket 과 보관된 메시지는 본문으로 찾습니다.
+     * 한 번의 검색에서 후보를 SEARCH_MAX_BATCHES 번 (bucket 은 같은 수의 메시지) 까지만 읽고, 그 안에 size 만큼 찾지 못하면
+     * 찾은 메시지와 함께 이어서 검색할 위치를 반환합니다.
+     */
+    @Override
+    public ChatSearchResult<MateChatMessage> searchMessages(Long roomId, LocalDateTime lastEnterTime,
+                                                            ChatSearchQuery searchQuery, ObjectId before, int size) {
+        ObjectId from = lastEnterTime == null ? null : ChatMessageCursor.minIdAt(lastEnterTime);
+        Predicate<Document> filter = bucketStore.sentBetween("send_time", lastEnterTime, null)
+                .and(searchQuery.filter());
+
+        List<MateChatMessage> messages;
+        ObjectId continueBefore = null;
+        if (bucketStore.readsBuckets()) {
+            ChatSearchResult<MateChatMessage> result = bucketStore.search(MateChatMessage.class, roomId, before, from,
+                    size, filter, SEARCH_BATCH_SIZE * SEARCH_MAX_BATCHES);
+            messages = result.messages();
+            continueBefore = result.continueBefore();
+        } else {
+            messages = new ArrayList<>();
+            ObjectId cursor = before;
+            int batches = 0;
+            while (messages.size() < size) {
+                if (batches == SEARCH_MAX_BATCHES) {
+                    continueBefore = cursor;
+                    break;
+                }
+                batches++;
+                Criteria idCriteria = Criteria.where("_id");
+                if (cursor != null) {
+                    idCriteria.lt(cursor);
+                }
+                Criteria criteria = Criteria.where("room_id").is(roomId)
+                        .andOperator(searchQuery.tokenCriteria());
+                if (lastEnterTime != null) {
+                    idCriteria.gte(from);
+                    criteria.and("send_time").gt(lastEnterTime);
+                }
+                if (cursor != null || lastEnterTime != null) {
+                    criteria = new Criteria().andOperator(criteria, idCriteria);
+                }
+
+                Query query = new Query(criteria);
+                query.limit(SEARCH_BATCH_SIZE);
+                query.with(Sort.by(Sort.Direction.DESC, "_id"));
+
+                List<MateChatMessage> candidates = mongoTemplate.find(query, MateChatMessage.class);
+                candidates.stream()
+                        .filter(message -> searchQuery.matches(message.getContent()))
+                        .limit(size - messages.size())
+                        .forEach(messages::add);
+                if (candidates.size() < SEARCH_BATCH_SIZE) {
+                    break;
+                }
+                cursor = new ObjectId(candidates.get(candidates.size() - 1).getId());
+            }
+        }
+
+        // 스캔 한도에 도달했으면 보관된 메시지는 이어서 검색할 때 읽음
+        if (continueBefore != null) {
+            return new ChatSearchResult<>(messages, continueBefore);
+        }
+        return ChatSearchResult.complete(archive.readThrough(messages, MateChatMessage.class, roomId, before, from,
+                size, filter, MateChatMessage::getId));
+    }
+
+    @Override
+    public Set<String> findExistingIds(Long roomId, Collection<String> ids) {
+        if (bucketStore.readsBuckets()) {
+            return bucketStore.findExistingIds(mongoTemplate.getCollectionName(MateChatMessage.class), roomId, ids);
+        }
 
-        return mongoTemplate.find(query, MateChatMessage.class);
+        Query query = new Query(Criteria.where("_id").in(ids));
+        query.fields().include("_id");
+        return mongoTemplate.find(query, MateChatMessage.class).stream()
+                .map(MateChatMessage::getId)
+                .collect(Collectors.toSet());
     }
 
     private Criteria createCriteria(Long roomId, LocalDateTime lastEnterTime, LocalDateTime lastSentAt) {
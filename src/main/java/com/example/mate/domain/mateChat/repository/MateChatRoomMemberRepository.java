@@ -32,4 +32,17 @@ public interface MateChatRoomMemberRepository extends JpaRepository<MateChatRoom
             "WHERE crm.mateChatRoom.id = :chatRoomId " +
             "AND crm.isActive = true")
     List<MateChatRoomMember> findActiveMembers(@Param("chatRoomId") Long chatRoomId);
+
+    // 특정 채팅방의 활성화된 멤버 ID 목록 조회
+    @Query("SELECT crm.member.id FROM MateChatRoomMember crm " +
+            "WHERE crm.mateChatRoom.id = :chatRoomId " +
+            "AND crm.isActive = true")
+    List<Long> findActiveMemberIds(@Param("chatRoomId") Long chatRoomId);
+
+    // 특정 회원이 채팅방의 활성화된 멤버인지 확인
+    @Query("SELECT CASE WHEN COUNT(crm) > 0 THEN true ELSE false END FROM MateChatRoomMember crm " +
+            "WHERE crm.mateChatRoom.id = :chatRoomId " +
+            "AND crm.member.id = :memberId " +
+            "AND crm.isActive = true")
+    boolean existsActiveMember(@Param("chatRoomId") Long chatRoomId, @Param("memberId") Long memberId);
 }
@@ -4,10 +4,13 @@ import com.example.mate.domain.mateChat.entity.MateChatRoom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -27,4 +30,50 @@ public interface MateChatRoomRepository extends JpaRepository<MateChatRoom, Long
             "AND cr.isActive = true " +
             "ORDER BY cr.lastChatSentAt DESC")
     Page<MateChatRoom> findActiveChatRoomsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
-}
\ No newline at end of file
+
+    // 정원에 여유가 있을 때만 현재 인원을 증가
+    // 한 번의 조건부 UPDATE 로 입장 승인/거절을 결정하며, 승인된 경우 1 을 반환
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MateChatRoom cr SET cr.currentMembers = cr.currentMembers + 1 " +
+            "WHERE cr.id = :chatRoomId " +
+            "AND cr.currentMembers < :capacity")
+    int admitMember(@Param("chatRoomId") Long chatRoomId, @Param("capacity") int capacity);
+
+    // 현재 인원을 감소 (0 미만으로 내려가지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MateChatRoom cr SET cr.currentMembers = cr.currentMembers - 1 " +
+            "WHERE cr.id = :chatRoomId " +
+            "AND cr.currentMembers > 0")
+    int releaseMember(@Param("chatRoomId") Long chatRoomId);
+
+    // 조건부 UPDATE 가 반영된 현재 인원 조회 - 같은 트랜잭션에서 UPDATE 한 뒤 호출하면 다른 트랜잭션의 입장/퇴장까지 반영된 값
+    @Query("SELECT cr.currentMembers FROM MateChatRoom cr WHERE cr.id = :chatRoomId")
+    int findCurrentMembers(@Param("chatRoomId") Long chatRoomId);
+
+    // 현재 인원을 expected 일 때만 activeMembers 로 보정 (보정 도중 입장/퇴장이 반영된 경우 변경하지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MateChatRoom cr SET cr.currentMembers = :activeMembers " +
+            "WHERE cr.id = :chatRoomId " +
+            "AND cr.currentMembers = :expected")
+    int syncCurrentMembers(@Param("chatRoomId") Long chatRoomId, @Param("expected") int expected,
+                           @Param("activeMembers") int activeMembers);
+
+    // 모집글 채팅방의 현재 인원 조회
+    @Query("SELECT cr.currentMembers FROM MateChatRoom cr " +
+            "WHERE cr.matePost.id = :matePostId")
+    Optional<Integer> findCurrentMembersByMatePostId(@Param("matePostId") Long matePostId);
+
+    // 현재 인원이 활성화된 멤버 수와 다른 채팅방 ID 조회 (보정 대상)
+    @Query("SELECT cr.id FROM MateChatRoom cr " +
+            "WHERE cr.currentMembers <> (" +
+            "SELECT COUNT(crm) FROM MateChatRoomMember crm " +
+            "WHERE crm.mateChatRoom = cr " +
+            "AND crm.isActive = true)")
+    List<Long> findDriftedMemberCountChatRoomIds();
+
+    // 직관완료된 모집글의 채팅방 중 마지막 채팅이 before 이전인 채팅방 ID 조회 (보관 대상)
+    @Query("SELECT cr.id FROM MateChatRoom cr " +
+            "WHERE cr.matePost.status = com.example.mate.domain.matePost.entity.Status.VISIT_COMPLETE " +
+            "AND cr.lastChatSentAt < :before")
+    List<Long> findArchivableChatRoomIds(@Param("before") LocalDateTime before);
+}
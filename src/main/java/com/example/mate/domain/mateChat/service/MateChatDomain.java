@@ -0,0 +1,82 @@
+package com.example.mate.domain.mateChat.service;
+
+import com.example.mate.common.error.ErrorCode;
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.chat.engine.ChatDomain;
+import com.example.mate.domain.chat.engine.ChatEventMessages;
+import com.example.mate.domain.chat.recent.RecentChatMessageBuffer;
+import com.example.mate.domain.constant.MessageType;
+import com.example.mate.domain.mateChat.document.MateChatMessage;
+import com.example.mate.domain.mateChat.dto.response.MateChatMessageResponse;
+import com.example.mate.domain.member.cache.MemberCard;
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MateChatDomain implements ChatDomain<MateChatMessage, MateChatMessageResponse> {
+
+    private static final String MATE_CHAT_SUBSCRIBE_PATH = "/sub/chat/mate/";
+
+    private static final ChatEventMessages EVENT_MESSAGES = ChatEventMessages.of(Map.of(
+            MessageType.ENTER, "님이 입장하셨습니다.",
+            MessageType.LEAVE, "님이 퇴장하셨습니다."
+    ));
+
+    private final MateRecentChatMessageBuffer recentChatMessageBuffer;
+
+    @Override
+    public ChatRoomType type() {
+        return ChatRoomType.MATE;
+    }
+
+    @Override
+    public String destination(Long roomId) {
+        return MATE_CHAT_SUBSCRIBE_PATH + roomId;
+    }
+
+    @Override
+    public ErrorCode roomNotFound() {
+        return ErrorCode.CHAT_ROOM_NOT_FOUND;
+    }
+
+    @Override
+    public ErrorCode memberNotInRoom() {
+        return ErrorCode.CHAT_ROOM_MEMBER_NOT_FOUND;
+    }
+
+    @Override
+    public ChatEventMessages eventMessages() {
+        return EVENT_MESSAGES;
+    }
+
+    @Override
+    public RecentChatMessageBuffer<MateChatMessageResponse> recentBuffer() {
+        return recentChatMessageBuffer;
+    }
+
+    @Override
+    public MateChatMessage createMessage(String messageId, Long roomId, Long senderId, String content,
+                                         MessageType type, LocalDateTime sentAt) {
+        return MateChatMessage.builder()
+                .id(messageId)
+                .roomId(roomId)
+                .senderId(senderId)
+                .content(content)
+                .type(type)
+                .sendTime(sentAt)
+                .build();
+    }
+
+    @Override
+    public Long senderId(MateChatMessage message) {
+        return message.getSenderId();
+    }
+
+    @Override
+    public MateChatMessageResponse toResponse(MateChatMessage message, MemberCard sender) {
+        return MateChatMessageResponse.from(message, sender);
+    }
+}
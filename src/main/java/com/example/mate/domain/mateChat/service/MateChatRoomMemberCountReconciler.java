@@ -0,0 +1,83 @@
+package com.example.mate.domain.mateChat.service;
+
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.chat.state.ChatRoomStateCache;
+import com.example.mate.domain.mateChat.repository.MateChatRoomMemberRepository;
+import com.example.mate.domain.mateChat.repository.MateChatRoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 메이트 채팅방 현재 인원 보정 작업
+ * 현재 인원(current_members)은 입장/퇴장 시 조건부 UPDATE 로 변경되는 값이므로,
+ * 장애 등으로 채팅방 멤버의 활성화 상태와 어긋난 경우 활성화된 멤버 수로 다시 맞춥니다.
+ * 보정 도중 입장/퇴장이 반영된 채팅방은 덮어쓰지 않고 다음 보정 때 다시 확인합니다.
+ */
+@Slf4j
+@Component
+public class MateChatRoomMemberCountReconciler {
+
+    private final MateChatRoomRepository chatRoomRepository;
+    private final MateChatRoomMemberRepository chatRoomMemberRepository;
+    private final ChatRoomStateCache chatRoomStateCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter repaired;
+
+    public MateChatRoomMemberCountReconciler(MateChatRoomRepository chatRoomRepository,
+                                             MateChatRoomMemberRepository chatRoomMemberRepository,
+                                             ChatRoomStateCache chatRoomStateCache,
+                                             PlatformTransactionManager transactionManager,
+                                             MeterRegistry meterRegistry) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.chatRoomStateCache = chatRoomStateCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.repaired = meterRegistry.counter("chat.mate.member-count.reconciled");
+    }
+
+    @Scheduled(fixedDelayString = "${chat.member-count.reconcile.interval-ms:600000}",
+            initialDelayString = "${chat.member-count.reconcile.interval-ms:600000}")
+    public void reconcile() {
+        try {
+            int count = 0;
+            for (Long chatRoomId : chatRoomRepository.findDriftedMemberCountChatRoomIds()) {
+                if (reconcile(chatRoomId)) {
+                    count++;
+                }
+            }
+            if (count > 0) {
+                log.info("Mate chat room member counts reconciled. [count={}]", count);
+            }
+        } catch (RuntimeException e) {
+            log.error("Mate chat room member count reconciliation failed.", e);
+        }
+    }
+
+    // 채팅방 현재 인원을 활성화된 멤버 수로 보정하고, 보정된 경우 true 를 반환
+    boolean reconcile(Long chatRoomId) {
+        Boolean result = transactionTemplate.execute(status -> chatRoomRepository.findById(chatRoomId)
+                .map(chatRoom -> {
+                    int expected = chatRoom.getCurrentMembers();
+                    int activeMembers = chatRoomMemberRepository.countByChatRoomIdAndIsActiveTrue(chatRoomId);
+                    if (expected == activeMembers
+                            || chatRoomRepository.syncCurrentMembers(chatRoomId, expected, activeMembers) == 0) {
+                        return false;
+                    }
+                    chatRoom.syncCurrentMembers(activeMembers);
+                    return true;
+                })
+                .orElse(false));
+
+        if (!Boolean.TRUE.equals(result)) {
+            return false;
+        }
+        chatRoomStateCache.invalidate(ChatRoomType.MATE, chatRoomId);
+        repaired.increment();
+        return true;
+    }
+}
@@ -2,8 +2,19 @@ package com.example.mate.domain.mateChat.service;
 
 import com.example.mate.common.error.CustomException;
 import com.example.mate.common.error.ErrorCode;
+import com.example.mate.common.response.CursorResponse;
 import com.example.mate.common.response.PageResponse;
+import com.example.mate.domain.chat.ChatMessageCursor;
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.chat.engine.ChatHistoryReader;
+import com.example.mate.domain.chat.search.ChatMessageSearchHit;
+import com.example.mate.domain.chat.search.ChatSearchQuery;
+import com.example.mate.domain.chat.search.ChatSearchResult;
+import com.example.mate.domain.chat.state.ChatRoomStateCache;
+import com.example.mate.domain.chat.summary.ChatRoomSummaryBuffer;
+import com.example.mate.domain.chat.unread.ChatUnreadCounter;
 import com.example.mate.domain.constant.Gender;
+import com.example.mate.domain.constant.MessageType;
 import com.example.mate.domain.mateChat.document.MateChatMessage;
 import com.example.mate.domain.mateChat.dto.response.MateChatMessageResponse;
 import com.example.mate.domain.mateChat.dto.response.MateChatRoomListResponse;
@@ -12,7 +23,6 @@ import com.example.mate.domain.mateChat.entity.MateChatRoom;
 import com.example.mate.domain.mateChat.entity.MateChatRoomMember;
 import com.example.mate.domain.mateChat.event.MateChatEvent;
 import com.example.mate.domain.mateChat.event.MateChatEventPublisher;
-import com.example.mate.domain.mateChat.message.MessageType;
 import com.example.mate.domain.mateChat.repository.MateChatMessageRepository;
 import com.example.mate.domain.mateChat.repository.MateChatRoomMemberRepository;
 import com.example.mate.domain.mateChat.repository.MateChatRoomRepository;
@@ -25,6 +35,7 @@ import com.example.mate.domain.member.dto.response.MemberSummaryResponse;
 import com.example.mate.domain.member.entity.Member;
 import com.example.mate.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -34,7 +45,6 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.example.mate.common.error.ErrorCode.CHAT_ROOM_MEMBER_NOT_FOUND;
@@ -50,6 +60,13 @@ public class MateChatRoomService {
     private final MemberRepository memberRepository;
     private final VisitPartRepository visitPartRepository;
     private final MateChatEventPublisher eventPublisher;
+    private final ChatRoomSummaryBuffer chatRoomSummaryBuffer;
+    private final ChatRoomStateCache chatRoomStateCache;
+    private final MateChatDomain chatDomain;
+    private final ChatHistoryReader chatHistoryReader;
+    private final ChatUnreadCounter chatUnreadCounter;
+
+    private static final int CHAT_MESSAGE_PAGE_SIZE = 20;
 
     // 메이트 게시글에서 채팅방 생성/입장
     public MateChatRoomResponse createOrJoinChatRoomFromPost(Long postId, Long memberId) {
@@ -93,17 +110,19 @@ public class MateChatRoomService {
         if (!chatRoomMember.getHasEntered() || !chatRoomMember.getIsActive()) {
             chatRoomMember.markAsEntered();
             if (!chatRoomMember.getIsActive()) {
+                admitMember(chatRoom);
                 chatRoomMember.activate();
-                chatRoom.incrementCurrentMembers();
             }
             sendEnterMessage(chatRoom.getId(), member);
         }
 
         // 3. 채팅 가능 상태 업데이트
-        int activeMembers = chatRoomMemberRepository.countByChatRoomIdAndIsActiveTrue(chatRoom.getId());
-        if (activeMembers >= 2) {
+        // 입장 승인 시 DB 에서 다시 읽은 현재 인원을 사용하므로 멤버 수를 다시 조회하지 않음
+        if (chatRoom.getCurrentMembers() >= 2) {
             chatRoom.setMessageable(true);
         }
+        chatRoomStateCache.invalidate(ChatRoomType.MATE, chatRoom.getId());
+        chatUnreadCounter.markRead(ChatRoomType.MATE, chatRoom.getId(), member.getId());
 
         // 4. 메시지 조회
         List<MateChatMessageResponse> initialMessages =
@@ -174,21 +193,27 @@ public class MateChatRoomService {
             return existingMember.get();
         }
 
-        // 신규 멤버인 경우 인원 검증 및 멤버 등록 (기존 코드)
-        int currentMembers = chatRoomMemberRepository.countByChatRoomIdAndIsActiveTrue(chatRoom.getId());
-        if (currentMembers >= 10) {
-            throw new CustomException(ErrorCode.CHAT_ROOM_FULL);
-        }
+        // 신규 멤버인 경우 입장 승인 후 멤버 등록
+        admitMember(chatRoom);
 
         MateChatRoomMember chatRoomMember = MateChatRoomMember.builder()
                 .mateChatRoom(chatRoom)
                 .member(member)
                 .build();
-        chatRoom.incrementCurrentMembers();
 
         return chatRoomMemberRepository.save(chatRoomMember);
     }
 
+    // 조건부 UPDATE 로 정원 이내일 때만 입장 승인
+    // 인원 조회 후 비교하지 않으므로 동시 입장 시에도 정원을 넘지 않음
+    private void admitMember(MateChatRoom chatRoom) {
+        if (chatRoomRepository.admitMember(chatRoom.getId(), MateChatRoom.MAX_MEMBERS) == 0) {
+            throw new CustomException(ErrorCode.CHAT_ROOM_FULL);
+        }
+        // 로딩 이후 다른 요청의 입장/퇴장이 반영되었을 수 있으므로 UPDATE 결과를 다시 읽어 사용
+        chatRoom.applyAdmittedMembers(chatRoomRepository.findCurrentMembers(chatRoom.getId()));
+    }
+
     // 채팅방 현재 명단 조회
     @Transactional(readOnly = true)
     public List<MemberSummaryResponse> getChatRoomMembers(Long roomId, Long memberId) {
@@ -225,6 +250,10 @@ public class MateChatRoomService {
 
         // 퇴장 처리
         chatRoomMember.deactivate();
+        chatRoomRepository.releaseMember(roomId);
+        // 로딩 이후 다른 요청의 입장/퇴장이 반영되었을 수 있으므로 UPDATE 결과를 다시 읽어 사용
+        chatRoom.applyReleasedMembers(chatRoomRepository.findCurrentMembers(roomId));
+        chatUnreadCounter.remove(ChatRoomType.MATE, roomId, memberId);
         sendLeaveMessage(roomId, member);
 
         // 방장 퇴장 시 채팅방 상태 변경
@@ -245,8 +274,9 @@ public class MateChatRoomService {
     }
 
     private void updateChatRoomStatus(MateChatRoom chatRoom) {
-        // 현재 채팅방의 활성화된(아직 퇴장하지 않은) 멤버 수를 조회
-        int activeMembers = chatRoomMemberRepository.countByChatRoomIdAndIsActiveTrue(chatRoom.getId());
+        // 현재 채팅방의 활성화된(아직 퇴장하지 않은) 멤버 수
+        // 퇴장 처리 시 DB 에서 다시 읽은 현재 인원을 사용
+        int activeMembers = chatRoom.getCurrentMembers();
 
         // 활성화된 멤버가 0명인 경우
         if (activeMembers == 0) {
@@ -262,6 +292,21 @@ public class MateChatRoomService {
             chatRoom.setMessageable(false);
         }
         // 활성화된 멤버가 2명 이상인 경우는 정상적으로 채팅방 유지
+
+        // 메시지 전송 검증에 사용되는 채팅방 상태 무효화
+        chatRoomStateCache.invalidate(ChatRoomType.MATE, chatRoom.getId());
+    }
+
+    // 채팅방 읽음 처리 - 안 읽은 메시지 수 초기화
+    @Transactional(readOnly = true)
+    public void markAsRead(Long chatRoomId, Long memberId) {
+        MateChatRoomMember chatRoomMember = chatRoomMemberRepository.findByChatRoomIdAndMemberId(chatRoomId, memberId)
+                .orElseThrow(() -> new CustomException(CHAT_ROOM_MEMBER_NOT_FOUND));
+        if (!chatRoomMember.getIsActive()) {
+            throw new CustomException(CHAT_ROOM_MEMBER_NOT_FOUND);
+        }
+
+        chatUnreadCounter.markRead(ChatRoomType.MATE, chatRoomId, memberId);
     }
 
     // 채팅 메세지 조회
@@ -270,27 +315,62 @@ public class MateChatRoomService {
         MateChatRoomMember chatRoomMember = chatRoomMemberRepository.findByChatRoomIdAndMemberId(chatRoomId, senderId)
                 .orElseThrow(() -> new CustomException(CHAT_ROOM_MEMBER_NOT_FOUND));
 
+        if (lastSentAt == null) {
+            return getLatestMessages(chatRoomId, chatRoomMember.getLastEnteredAt(), CHAT_MESSAGE_PAGE_SIZE);
+        }
+
         List<MateChatMessage> messageList = chatMessageRepository.getChatMessages(
                 chatRoomId,
                 chatRoomMember.getLastEnteredAt(),
                 lastSentAt
         );
 
-        // 발신자 ID 수집 및 조회
-        Set<Long> senderIds = messageList.stream()
-                .map(MateChatMessage::getSenderId)
-                .collect(Collectors.toSet());
+        return chatHistoryReader.toResponses(chatDomain, messageList);
+    }
 
-        Map<Long, Member> senderMap = memberRepository.findAllById(senderIds).stream()
-                .collect(Collectors.toMap(Member::getId, member -> member));
+    // 커서 기반 채팅 메세지 조회 - 메시지 ID 기준으로 같은 시각의 메시지도 누락이나 중복 없이 조회
+    @Transactional(readOnly = true)
+    public CursorResponse<MateChatMessageResponse> getChatMessagesByCursor(Long chatRoomId, Long senderId,
+                                                                           String cursor) {
+        MateChatRoomMember chatRoomMember = chatRoomMemberRepository.findByChatRoomIdAndMemberId(chatRoomId, senderId)
+                .orElseThrow(() -> new CustomException(CHAT_ROOM_MEMBER_NOT_FOUND));
+        ObjectId before = ChatMessageCursor.decode(cursor);
 
-        // senderMap을 사용하여 메시지 변환
-        return messageList.stream()
-                .map(message -> {
-                    Member sender = senderMap.get(message.getSenderId());
-                    return MateChatMessageResponse.from(message, sender);
-                })
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        List<MateChatMessageResponse> messages = before == null
+                ? getLatestMessages(chatRoomId, chatRoomMember.getLastEnteredAt(), CHAT_MESSAGE_PAGE_SIZE + 1)
+                : chatHistoryReader.toResponses(chatDomain, chatMessageRepository.getChatMessagesBefore(
+                        chatRoomId, chatRoomMember.getLastEnteredAt(), before, CHAT_MESSAGE_PAGE_SIZE + 1));
+
+        return ChatMessageCursor.toResponse(messages, CHAT_MESSAGE_PAGE_SIZE, MateChatMessageResponse::getMessageId);
+    }
+
+    // 채팅 메세지 검색 - 입장 이후 메세지 중 검색어를 포함하는 메세지를 최신순으로 조회
+    @Transactional(readOnly = true)
+    public CursorResponse<ChatMessageSearchHit<MateChatMessageResponse>> searchChatMessages(Long chatRoomId,
+                                                                                          Long memberId,
+                                                                                          String keyword,
+                                                                                          String cursor) {
+        MateChatRoomMember chatRoomMember = chatRoomMemberRepository.findByChatRoomIdAndMemberId(chatRoomId, memberId)
+                .orElseThrow(() -> new CustomException(CHAT_ROOM_MEMBER_NOT_FOUND));
+        ChatSearchQuery searchQuery = ChatSearchQuery.of(keyword);
+        ObjectId before = ChatMessageCursor.decode(cursor);
+
+        ChatSearchResult<MateChatMessage> result = chatMessageRepository.searchMessages(chatRoomId,
+                chatRoomMember.getLastEnteredAt(), searchQuery, before, CHAT_MESSAGE_PAGE_SIZE + 1);
+        List<ChatMessageSearchHit<MateChatMessageResponse>> hits = chatHistoryReader.toResponses(chatDomain,
+                result.messages()).stream()
+                .map(message -> ChatMessageSearchHit.of(message, message.getMessageId()))
                 .toList();
+
+        return ChatMessageCursor.toResponse(hits, CHAT_MESSAGE_PAGE_SIZE, hit -> hit.message().getMessageId(),
+                result.continueBefore());
+    }
+
+    // 최신 메세지는 최근 메시지 버퍼에서 조회하고, 버퍼가 없는 채팅방만 MongoDB 에서 조회
+    private List<MateChatMessageResponse> getLatestMessages(Long chatRoomId, LocalDateTime lastEnteredAt, int size) {
+        return chatHistoryReader.readLatest(chatDomain, chatRoomId, size, lastEnteredAt,
+                capacity -> chatMessageRepository.getChatMessagesBefore(chatRoomId, null, null, capacity));
     }
 
     // 내 채팅방 목록 조회
@@ -300,15 +380,21 @@ public class MateChatRoomService {
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND_BY_ID));
 
         Page<MateChatRoom> chatRooms = chatRoomRepository.findActiveChatRoomsByMemberId(memberId, pageable);
+        Map<Long, Long> unreadCounts = chatUnreadCounter.getUnreadCounts(ChatRoomType.MATE, memberId,
+                chatRooms.getContent().stream().map(MateChatRoom::getId).toList());
 
+        // 아직 DB 에 반영되지 않은 마지막 채팅을 적용한 뒤 다시 정렬
         List<MateChatRoomListResponse> responses = chatRooms.getContent().stream()
                 .map(room -> {
                     boolean isAuthor = room.getMatePost().getAuthor().getId().equals(memberId);
-                    return MateChatRoomListResponse.from(room, isAuthor);
+                    return MateChatRoomListResponse.from(room, isAuthor, chatRoomSummaryBuffer.resolve(
+                                    ChatRoomType.MATE, room.getId(), room.getLastChatContent(), room.getLastChatSentAt()),
+                            unreadCounts.getOrDefault(room.getId(), 0L));
                 })
                 .toList();
 
-        return PageResponse.from(chatRooms, responses);
+        return PageResponse.from(chatRooms,
+                chatRoomSummaryBuffer.sortByLastChat(responses, MateChatRoomListResponse::getLastMessageTime));
     }
 
     private void sendEnterMessage(Long roomId, Member member) {
@@ -0,0 +1,35 @@
+package com.example.mate.domain.mateChat.service;
+
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.chat.state.ChatRoomState;
+import com.example.mate.domain.chat.state.ChatRoomStateLoader;
+import com.example.mate.domain.mateChat.repository.MateChatRoomMemberRepository;
+import com.example.mate.domain.mateChat.repository.MateChatRoomRepository;
+import java.util.HashSet;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class MateChatRoomStateLoader implements ChatRoomStateLoader {
+
+    private final MateChatRoomRepository chatRoomRepository;
+    private final MateChatRoomMemberRepository chatRoomMemberRepository;
+
+    @Override
+    public ChatRoomType type() {
+        return ChatRoomType.MATE;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ChatRoomState> load(Long roomId) {
+        return chatRoomRepository.findById(roomId)
+                .map(chatRoom -> new ChatRoomState(
+                        chatRoom.getIsMessageable(),
+                        new HashSet<>(chatRoomMemberRepository.findActiveMemberIds(roomId))
+                ));
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.mate.domain.mateChat.service;
+
+import com.example.mate.common.cluster.ClusterBus;
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.chat.recent.RecentChatMessageBuffer;
+import com.example.mate.domain.mateChat.dto.response.MateChatMessageResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MateRecentChatMessageBuffer extends RecentChatMessageBuffer<MateChatMessageResponse> {
+
+    public MateRecentChatMessageBuffer(ClusterBus clusterBus, MeterRegistry meterRegistry,
+                                       @Value("${chat.recent.capacity:50}") int capacity,
+                                       @Value("${chat.recent.maximum-rooms:10000}") long maximumRooms,
+                                       @Value("${chat.recent.ttl:30m}") Duration ttl) {
+        super(ChatRoomType.MATE, MateChatMessageResponse.class,
+                clusterBus, meterRegistry, capacity, maximumRooms, ttl);
+    }
+
+    @Override
+    protected String messageId(MateChatMessageResponse message) {
+        return message.getMessageId();
+    }
+
+    @Override
+    protected Long senderId(MateChatMessageResponse message) {
+        return message.getSenderId();
+    }
+
+    @Override
+    protected LocalDateTime sentAt(MateChatMessageResponse message) {
+        return message.getSendTime();
+    }
+}
@@ -1,31 +1,78 @@
 package com.example.mate.domain.matePost.event;
 
+import com.example.mate.common.config.AsyncConfig;
+import com.example.mate.common.outbox.OutboxEventHandler;
+import com.example.mate.common.outbox.OutboxMessage;
+import com.example.mate.domain.member.entity.Member;
+import com.example.mate.domain.member.repository.MemberRepository;
 import com.example.mate.domain.notification.entity.NotificationType;
 import com.example.mate.domain.notification.service.NotificationService;
-import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionalEventListener;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
-public class MatePostEventHandler {
+public class MatePostEventHandler implements OutboxEventHandler<MatePostEventPayload> {
+
+    public static final String EVENT_TYPE = "MATE_POST_NOTIFICATION";
 
     private final NotificationService notificationService;
+    private final MemberRepository memberRepository;
+    private final Executor executor;
 
     private static final String NOTIFICATION_MESSAGE_CLOSED = "메이트 모집에 참여되었습니다.";
     private static final String NOTIFICATION_MESSAGE_COMPLETE = "직관 후기를 남겨주세요!";
     private static final String BASE_URL = "http://localhost:5173/api/mates/";    // TODO : 프론트엔드 배포 후 변경 필요
 
-    @Async
-    @TransactionalEventListener
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void handle(MatePostEvent event) {
-        NotificationType type = event.notificationType();
-        notificationService.send(type, getMessage(event.matePostTitle(), type),
-                getUrl(event.matePostId()), event.receiver());
+    public MatePostEventHandler(NotificationService notificationService, MemberRepository memberRepository,
+                                @Qualifier(AsyncConfig.NOTIFICATION_EVENT_EXECUTOR) Executor executor) {
+        this.notificationService = notificationService;
+        this.memberRepository = memberRepository;
+        this.executor = executor;
+    }
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Class<MatePostEventPayload> payloadType() {
+        return MatePostEventPayload.class;
+    }
+
+    @Override
+    public Executor executor() {
+        return executor;
+    }
+
+    // 알림 저장과 이벤트 처리 완료 표시가 같은 트랜잭션에서 커밋되며, lease 가 끝나 다른 전달이 이벤트를 다시 가져간 경우
+    // 처리 완료 표시가 실패해 롤백되므로 같은 알림이 두 번 저장되지 않음
+    // SSE 푸시는 NotificationDispatcher 가 커밋 이후에 발행하므로, 묶음이 롤백되어 이벤트별로 다시 전달돼도 한 번만 전송됨
+    @Override
+    public void handle(List<OutboxMessage<MatePostEventPayload>> messages) {
+        Map<Long, Member> receivers = memberRepository.findAllById(
+                        messages.stream().map(message -> message.payload().receiverId()).distinct().toList()).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        for (OutboxMessage<MatePostEventPayload> message : messages) {
+            MatePostEventPayload payload = message.payload();
+            Member receiver = receivers.get(payload.receiverId());
+            if (receiver == null) {
+                log.warn("Mate post notification skipped. [matePostId={}, receiverId={}]",
+                        payload.matePostId(), payload.receiverId());
+                continue;
+            }
+            NotificationType type = payload.notificationType();
+            notificationService.send(type, getMessage(payload.matePostTitle(), type),
+                    getUrl(payload.matePostId()), receiver);
+        }
     }
 
     private String getMessage(String matePostTitle, NotificationType type) {
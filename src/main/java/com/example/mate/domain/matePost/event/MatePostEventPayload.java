@@ -0,0 +1,13 @@
+package com.example.mate.domain.matePost.event;
+
+import com.example.mate.domain.notification.entity.NotificationType;
+
+// 아웃박스에 저장되는 알림 이벤트 - 수신자는 ID 만 저장하고 전달 시점에 조회
+public record MatePostEventPayload(Long matePostId, String matePostTitle, Long receiverId,
+                                   NotificationType notificationType) {
+
+    public static MatePostEventPayload from(MatePostEvent event) {
+        return new MatePostEventPayload(event.matePostId(), event.matePostTitle(), event.receiver().getId(),
+                event.notificationType());
+    }
+}
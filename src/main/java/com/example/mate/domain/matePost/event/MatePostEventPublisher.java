@@ -1,16 +1,16 @@
 package com.example.mate.domain.matePost.event;
 
+import com.example.mate.common.outbox.OutboxEventWriter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class MatePostEventPublisher {
 
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final OutboxEventWriter outboxEventWriter;
 
     public void publish(MatePostEvent matePostEvent) {
-        applicationEventPublisher.publishEvent(matePostEvent);
+        outboxEventWriter.append(MatePostEventHandler.EVENT_TYPE, MatePostEventPayload.from(matePostEvent));
     }
 }
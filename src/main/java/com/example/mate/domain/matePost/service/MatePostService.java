@@ -18,7 +18,6 @@ import com.example.mate.domain.file.FileService;
 import com.example.mate.domain.file.FileValidator;
 import com.example.mate.domain.match.entity.Match;
 import com.example.mate.domain.match.repository.MatchRepository;
-import com.example.mate.domain.mateChat.repository.MateChatRoomMemberRepository;
 import com.example.mate.domain.mateChat.repository.MateChatRoomRepository;
 import com.example.mate.domain.matePost.dto.request.MatePostCompleteRequest;
 import com.example.mate.domain.matePost.dto.request.MatePostCreateRequest;
@@ -59,7 +58,6 @@ public class MatePostService {
     private final MatchRepository matchRepository;
     private final MemberRepository memberRepository;
     private final MateChatRoomRepository mateChatRoomRepository;
-    private final MateChatRoomMemberRepository mateChatRoomMemberRepository;
     private final FileService fileService;
     private final MatePostEventPublisher eventPublisher;
 
@@ -144,8 +142,7 @@ public class MatePostService {
     }
 
     private Integer getCurrentChatMembers(Long postId) {
-        return mateChatRoomRepository.findByMatePostId(postId)
-                .map(chatRoom -> mateChatRoomMemberRepository.countByChatRoomIdAndIsActiveTrue(chatRoom.getId()))
+        return mateChatRoomRepository.findCurrentMembersByMatePostId(postId)
                 .orElse(0);
     }
 
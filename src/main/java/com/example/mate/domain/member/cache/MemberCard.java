@@ -0,0 +1,13 @@
+package com.example.mate.domain.member.cache;
+
+import com.example.mate.domain.member.entity.Member;
+
+/**
+ * 채팅 메시지 표시에 필요한 최소한의 회원 정보
+ */
+public record MemberCard(Long id, String nickname, String imageUrl) {
+
+    public static MemberCard from(Member member) {
+        return new MemberCard(member.getId(), member.getNickname(), member.getImageUrl());
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.mate.domain.member.cache;
+
+import com.example.mate.common.cluster.ClusterBus;
+import com.example.mate.domain.member.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원 ID → 닉네임, 프로필 이미지 캐시
+ * 채팅 메시지 발신자 정보를 조회할 때 사용하며, 캐시에 없는 회원은 한 번의 IN 쿼리로 조회합니다.
+ * 프로필 수정, 회원 탈퇴 시 모든 노드에서 무효화됩니다.
+ */
+@Component
+public class MemberCardCache {
+
+    // 회원 정보가 바뀐 회원 ID 가 발행되는 채널 - 회원 정보로 만든 다른 캐시도 이 채널로 무효화
+    public static final String INVALIDATION_CHANNEL = "member:card:invalidate";
+
+    private final MemberRepository memberRepository;
+    private final ClusterBus clusterBus;
+    private final Cache<Long, MemberCard> cache;
+
+    public MemberCardCache(MemberRepository memberRepository,
+                           ClusterBus clusterBus,
+                           MeterRegistry meterRegistry,
+                           @Value("${member.card-cache.maximum-size:10000}") long maximumSize,
+                           @Value("${member.card-cache.ttl:10m}") Duration ttl) {
+        this.memberRepository = memberRepository;
+        this.clusterBus = clusterBus;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "memberCard");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        clusterBus.subscribe(INVALIDATION_CHANNEL, Long.class, (channel, memberId) -> cache.invalidate(memberId));
+    }
+
+    public Optional<MemberCard> get(Long memberId) {
+        return Optional.ofNullable(getAll(Set.of(memberId)).get(memberId));
+    }
+
+    // 존재하지 않는 회원은 결과에 포함되지 않음
+    public Map<Long, MemberCard> getAll(Collection<Long> memberIds) {
+        return cache.getAll(Set.copyOf(memberIds), missingIds -> memberRepository.findAllById(missingIds).stream()
+                .map(MemberCard::from)
+                .collect(Collectors.toMap(MemberCard::id, Function.identity())));
+    }
+
+    // 트랜잭션 안에서 호출된 경우 커밋 이후에 다시 한 번 무효화하여 커밋 전 값이 다시 적재되는 것을 방지
+    public void invalidate(Long memberId) {
+        clusterBus.publish(INVALIDATION_CHANNEL, memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clusterBus.publish(INVALIDATION_CHANNEL, memberId);
+                }
+            });
+        }
+    }
+}
@@ -11,6 +11,7 @@ import com.example.mate.domain.goodsPost.repository.GoodsPostRepository;
 import com.example.mate.domain.goodsReview.repository.GoodsReviewRepository;
 import com.example.mate.domain.mateReview.repository.MateReviewRepository;
 import com.example.mate.domain.matePost.repository.VisitPartRepository;
+import com.example.mate.domain.member.cache.MemberCardCache;
 import com.example.mate.domain.member.dto.request.JoinRequest;
 import com.example.mate.domain.member.dto.request.MemberInfoUpdateRequest;
 import com.example.mate.domain.member.dto.request.MemberLoginRequest;
@@ -46,6 +47,7 @@ public class MemberService {
     private final FileService fileService;
     private final LogoutRedisService logoutRedisService;
     private final NotificationService notificationService;
+    private final MemberCardCache memberCardCache;
 
     // CATCH Mi 회원가입 기능
     public JoinResponse join(JoinRequest request) {
@@ -118,7 +120,9 @@ public class MemberService {
             member.changeImageUrl(fileService.uploadImageWithThumbnail(file));
         }
 
-        return MyProfileResponse.from(memberRepository.save(member));
+        Member savedMember = memberRepository.save(member);
+        memberCardCache.invalidate(savedMember.getId());
+        return MyProfileResponse.from(savedMember);
     }
 
     // CATCH Mi 회원 탈퇴
@@ -126,6 +130,7 @@ public class MemberService {
         Member member = findByMemberIdActive(memberId);
         deleteNonDefaultImage(member.getImageUrl());
         memberRepository.deleteById(memberId);
+        memberCardCache.invalidate(memberId);
     }
 
     private void deleteNonDefaultImage(String imageUrl) {
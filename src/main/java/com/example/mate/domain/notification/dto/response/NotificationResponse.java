@@ -6,9 +6,11 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class NotificationResponse {
 
@@ -1,28 +1,26 @@
 package com.example.mate.domain.notification.repository;
 
+import java.util.List;
 import java.util.Map;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface EmitterRepository {
 
     // Emitter 저장
-    SseEmitter save(String emitterId, SseEmitter sseEmitter);
+    SseEmitter save(Long memberId, String emitterId, SseEmitter sseEmitter);
 
-    // 이벤트 저장
-    void saveEventCache(String eventCacheId, Object event);
-
-    // 특정 회원과 관련된 모든 Emitter 조회
-    Map<String, SseEmitter> findAllEmitterStartsWithMemberId(String memberId);
-
-    // 특정 회원과 관련된 모든 이벤트 조회
-    Map<String, Object> findAllEventCacheStartsWithMemberId(String memberId);
+    // 특정 회원의 모든 Emitter 조회
+    Map<String, SseEmitter> findAllEmitterByMemberId(Long memberId);
 
     // Emitter 삭제
-    void deleteById(String id);
+    void deleteById(Long memberId, String emitterId);
+
+    // 특정 회원의 모든 Emitter 삭제
+    void deleteAllEmitterByMemberId(Long memberId);
 
-    // 특정 회원과 관련된 모든 Emitter 삭제
-    void deleteAllEmitterStartsWithMemberId(String memberId);
+    // Emitter 가 연결된 모든 회원 ID 조회
+    List<Long> findAllMemberIds();
 
-    // 특정 회원과 관련된 모든 이벤트 삭제
-    void deleteAllEventCacheStartWithMemberId(String memberId);
+    // 연결된 Emitter 수
+    int countEmitters();
 }
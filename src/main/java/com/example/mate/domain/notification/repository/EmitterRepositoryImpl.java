@@ -1,62 +1,69 @@
 package com.example.mate.domain.notification.repository;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+/**
+ * 회원 ID 별로 Emitter 를 보관하는 저장소
+ * 회원 한 명의 Emitter 는 접속한 탭/기기 수만큼이므로, 회원 ID 로 바로 찾아 전체 Emitter 를 순회하지 않습니다.
+ * 회원의 마지막 Emitter 가 삭제되면 회원 항목도 함께 제거합니다.
+ * 재연결 시 재전송할 알림은 저장된 알림에서 조회하므로 이벤트는 보관하지 않습니다.
+ */
 @Repository
 public class EmitterRepositoryImpl implements EmitterRepository {
 
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final Map<String, Object> eventCaches = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger emitterCount = new AtomicInteger();
 
     @Override
-    public SseEmitter save(String emitterId, SseEmitter sseEmitter) {
-        emitters.put(emitterId, sseEmitter);
+    public SseEmitter save(Long memberId, String emitterId, SseEmitter sseEmitter) {
+        // 회원 항목의 생성이 deleteById 의 빈 항목 제거와 겹치지 않도록 compute 안에서 저장
+        emitters.compute(memberId, (id, memberEmitters) -> {
+            Map<String, SseEmitter> values = memberEmitters == null ? new ConcurrentHashMap<>() : memberEmitters;
+            if (values.put(emitterId, sseEmitter) == null) {
+                emitterCount.incrementAndGet();
+            }
+            return values;
+        });
         return sseEmitter;
     }
 
+    // 전송 중 Emitter 가 삭제될 수 있으므로 조회 시점의 복사본을 반환
     @Override
-    public void saveEventCache(String eventCacheId, Object event) {
-        eventCaches.put(eventCacheId, event);
-    }
-
-    @Override
-    public Map<String, SseEmitter> findAllEmitterStartsWithMemberId(String memberId) {
-        return emitters.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(memberId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public Map<String, SseEmitter> findAllEmitterByMemberId(Long memberId) {
+        Map<String, SseEmitter> memberEmitters = emitters.get(memberId);
+        return memberEmitters == null ? Map.of() : Map.copyOf(memberEmitters);
     }
 
     @Override
-    public Map<String, Object> findAllEventCacheStartsWithMemberId(String memberId) {
-        return eventCaches.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(memberId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public void deleteById(Long memberId, String emitterId) {
+        emitters.computeIfPresent(memberId, (id, memberEmitters) -> {
+            if (memberEmitters.remove(emitterId) != null) {
+                emitterCount.decrementAndGet();
+            }
+            return memberEmitters.isEmpty() ? null : memberEmitters;
+        });
     }
 
     @Override
-    public void deleteById(String id) {
-        emitters.remove(id);
+    public void deleteAllEmitterByMemberId(Long memberId) {
+        Map<String, SseEmitter> removed = emitters.remove(memberId);
+        if (removed != null) {
+            emitterCount.addAndGet(-removed.size());
+        }
     }
 
     @Override
-    public void deleteAllEmitterStartsWithMemberId(String memberId) {
-        emitters.forEach((key, emitter) -> {
-            if (key.startsWith(memberId)) {
-                emitters.remove(key);
-            }
-        });
+    public List<Long> findAllMemberIds() {
+        return List.copyOf(emitters.keySet());
     }
 
     @Override
-    public void deleteAllEventCacheStartWithMemberId(String memberId) {
-        eventCaches.forEach((key, cache) -> {
-            if (key.startsWith(memberId)) {
-                eventCaches.remove(key);
-            }
-        });
+    public int countEmitters() {
+        return emitterCount.get();
     }
 }
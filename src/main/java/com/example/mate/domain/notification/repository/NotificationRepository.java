@@ -1,9 +1,14 @@
 package com.example.mate.domain.notification.repository;
 
 import com.example.mate.domain.notification.entity.Notification;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationRepositoryCustom {
+
+    // 재연결 시 마지막으로 받은 알림 이후의 알림을 ID 오름차순으로 조회 (receiver_id, id 인덱스 사용)
+    List<Notification> findByReceiverIdAndIdGreaterThanOrderByIdAsc(Long receiverId, Long id, Pageable pageable);
 }
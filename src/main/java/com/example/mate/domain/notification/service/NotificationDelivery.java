@@ -0,0 +1,12 @@
+package com.example.mate.domain.notification.service;
+
+import com.example.mate.domain.notification.dto.response.NotificationResponse;
+
+/**
+ * 노드 간 공유되는 알림 전달 메시지
+ *
+ * @param receiverId   알림을 받을 회원 ID
+ * @param notification 회원의 Emitter 로 전송할 알림
+ */
+public record NotificationDelivery(Long receiverId, NotificationResponse notification) {
+}
@@ -0,0 +1,72 @@
+package com.example.mate.domain.notification.service;
+
+import com.example.mate.common.cluster.ClusterBus;
+import com.example.mate.domain.notification.dto.response.NotificationResponse;
+import com.example.mate.domain.notification.repository.EmitterRepository;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 알림을 회원의 SSE 연결이 있는 노드로 전달
+ * 알림은 ClusterBus 로 발행되어 모든 노드가 수신하고, 각 노드는 현재 노드에 연결된 회원의 Emitter 에만 전송합니다.
+ * 단일 노드 모드에서는 현재 노드의 Emitter 에 바로 전송됩니다.
+ * 트랜잭션 안에서 호출된 경우 커밋 이후에 발행하여 롤백된 알림이 전송되지 않도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+    private static final String DELIVERY_CHANNEL = "notification:delivery";
+
+    private final ClusterBus clusterBus;
+    private final EmitterRepository emitterRepository;
+
+    @PostConstruct
+    public void subscribe() {
+        clusterBus.subscribe(DELIVERY_CHANNEL, NotificationDelivery.class, (channel, delivery) -> deliver(delivery));
+    }
+
+    public void dispatch(Long receiverId, NotificationResponse notification) {
+        NotificationDelivery delivery = new NotificationDelivery(receiverId, notification);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clusterBus.publish(DELIVERY_CHANNEL, delivery);
+                }
+            });
+            return;
+        }
+        clusterBus.publish(DELIVERY_CHANNEL, delivery);
+    }
+
+    // 현재 노드에 연결된 회원의 Emitter 에 전송하고, 전송에 실패한 Emitter 는 제거
+    void deliver(NotificationDelivery delivery) {
+        Long receiverId = delivery.receiverId();
+        NotificationResponse notification = delivery.notification();
+
+        emitterRepository.findAllEmitterByMemberId(receiverId).forEach((emitterId, emitter) -> {
+            try {
+                // 재연결 직후 재전송 중인 Emitter 는 재전송이 끝날 때까지 보류했다가 전송
+                if (emitter instanceof NotificationEmitter notificationEmitter) {
+                    notificationEmitter.sendLive(notification);
+                } else {
+                    emitter.send(SseEmitter.event()
+                            .id(notification.getEventId())
+                            .data(notification));
+                }
+            } catch (IOException | IllegalStateException e) {
+                emitterRepository.deleteById(receiverId, emitterId);
+                log.debug("Notification emitter removed after send failure. [memberId={}, emitterId={}]",
+                        receiverId, emitterId);
+            }
+        });
+    }
+}
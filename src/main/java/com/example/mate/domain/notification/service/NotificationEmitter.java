@@ -0,0 +1,60 @@
+package com.example.mate.domain.notification.service;
+
+import com.example.mate.domain.notification.dto.response.NotificationResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 재연결 시 미수신 알림 재전송이 끝날 때까지 실시간 알림을 보류하는 SseEmitter
+ * 재전송 도중 커밋된 알림이 재전송보다 먼저 전송되거나, 재전송과 실시간 전달로 두 번 전송되지 않도록
+ * 재전송이 끝난 뒤 보류한 알림 중 재전송되지 않은 알림만 ID 순서대로 전송합니다.
+ */
+class NotificationEmitter extends SseEmitter {
+
+    private final List<NotificationResponse> pending = new ArrayList<>();
+    private final Set<Long> replayedIds = new HashSet<>();
+    private boolean replaying;
+
+    NotificationEmitter(Long timeout, boolean replaying) {
+        super(timeout);
+        this.replaying = replaying;
+    }
+
+    // 실시간 알림 전송 - 재전송 중이면 보류
+    synchronized void sendLive(NotificationResponse notification) throws IOException {
+        if (replaying) {
+            pending.add(notification);
+            return;
+        }
+        if (!replayedIds.contains(notification.getNotificationId())) {
+            sendNotification(notification);
+        }
+    }
+
+    synchronized void sendReplayed(NotificationResponse notification) throws IOException {
+        sendNotification(notification);
+        replayedIds.add(notification.getNotificationId());
+    }
+
+    // 재전송 완료 - 보류한 알림 중 재전송되지 않은 알림을 ID 순서대로 전송
+    synchronized void finishReplay() throws IOException {
+        replaying = false;
+        List<NotificationResponse> held = new ArrayList<>(pending);
+        pending.clear();
+        held.sort(Comparator.comparing(NotificationResponse::getNotificationId));
+        for (NotificationResponse notification : held) {
+            sendLive(notification);
+        }
+    }
+
+    private void sendNotification(NotificationResponse notification) throws IOException {
+        send(SseEmitter.event()
+                .id(notification.getEventId())
+                .data(notification));
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.mate.domain.notification.service;
+
+import com.example.mate.domain.notification.repository.EmitterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 현재 노드의 모든 SSE 연결에 주기적으로 heartbeat 주석을 전송하는 작업
+ * 모바일 환경 등에서 끊어진 연결은 다음 알림 전송 전까지 드러나지 않으므로,
+ * heartbeat 전송에 실패한 Emitter 를 제거해 끊어진 연결이 타임아웃(1시간)까지 남아 있지 않도록 합니다.
+ * 회원 ID 목록을 batch-size 단위로 나누어 처리하여 한 번에 복사하는 Emitter 수를 제한합니다.
+ * 느린 연결로 전송이 지연되어도 다른 예약 작업에 영향을 주지 않도록 전용 스레드에서 실행하며,
+ * 한 배치가 batch-timeout-ms 를 넘기면 이번 실행을 멈추고 남은 회원부터 다음 실행에서 이어서 전송합니다.
+ */
+@Slf4j
+@Component
+public class NotificationHeartbeat implements DisposableBean {
+
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final EmitterRepository emitterRepository;
+    private final int batchSize;
+    private final long batchTimeoutNanos;
+    private final Counter reaped;
+
+    private final ExecutorService heartbeatExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // 이전 실행이 시간 초과로 멈춘 경우 마지막으로 전송한 회원 ID (heartbeat 스레드에서만 접근)
+    private Long resumeAfter;
+
+    public NotificationHeartbeat(EmitterRepository emitterRepository, MeterRegistry meterRegistry,
+                                 @Value("${notification.heartbeat.batch-size:1000}") int batchSize,
+                                 @Value("${notification.heartbeat.batch-timeout-ms:5000}") long batchTimeoutMs) {
+        Assert.isTrue(batchSize > 0, "batchSize must be positive");
+        Assert.isTrue(batchTimeoutMs >= 0, "batchTimeoutMs must not be negative");
+        this.emitterRepository = emitterRepository;
+        this.batchSize = batchSize;
+        this.batchTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(batchTimeoutMs);
+        this.reaped = meterRegistry.counter("notification.emitter.reaped");
+        Gauge.builder("notification.emitters", emitterRepository, EmitterRepository::countEmitters)
+                .description("현재 노드에 연결된 알림 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.heartbeat.interval-ms:30000}",
+            initialDelayString = "${notification.heartbeat.interval-ms:30000}")
+    public void sendHeartbeat() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            heartbeatExecutor.execute(() -> {
+                try {
+                    sendHeartbeatAll();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    // notification-heartbeat 스레드에서 실행 - 이전 실행이 멈춘 회원 다음부터 전송
+    void sendHeartbeatAll() {
+        try {
+            List<Long> memberIds = resumeOrder(emitterRepository.findAllMemberIds());
+            resumeAfter = null;
+            int count = 0;
+            for (int from = 0; from < memberIds.size(); from += batchSize) {
+                List<Long> batch = memberIds.subList(from, Math.min(from + batchSize, memberIds.size()));
+                BatchResult result = sendHeartbeat(batch, System.nanoTime() + batchTimeoutNanos);
+                count += result.reaped();
+                if (result.sent() < batch.size()) {
+                    resumeAfter = batch.get(result.sent() - 1);
+                    log.warn("Notification heartbeat batch timed out. [sent={}, remaining={}]",
+                            from + result.sent(), memberIds.size() - from - result.sent());
+                    break;
+                }
+            }
+            if (count > 0) {
+                log.info("Dead notification emitters reaped. [count={}, remaining={}]",
+                        count, emitterRepository.countEmitters());
+            }
+        } catch (RuntimeException e) {
+            log.error("Notification heartbeat failed.", e);
+        }
+    }
+
+    // 회원 ID 순으로 정렬하되 이전 실행이 멈춘 회원 다음부터 시작
+    private List<Long> resumeOrder(List<Long> memberIds) {
+        List<Long> sorted = new ArrayList<>(memberIds);
+        sorted.sort(null);
+        if (resumeAfter == null) {
+            return sorted;
+        }
+        int start = 0;
+        while (start < sorted.size() && sorted.get(start) <= resumeAfter) {
+            start++;
+        }
+        List<Long> ordered = new ArrayList<>(sorted.subList(start, sorted.size()));
+        ordered.addAll(sorted.subList(0, start));
+        return ordered;
+    }
+
+    // 회원들의 Emitter 에 heartbeat 를 전송 - 마감 시각이 지나면 남은 회원은 전송하지 않음
+    BatchResult sendHeartbeat(List<Long> memberIds, long deadlineNanos) {
+        int sent = 0;
+        int count = 0;
+        for (Long memberId : memberIds) {
+            Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterByMemberId(memberId);
+            for (Map.Entry<String, SseEmitter> entry : emitters.entrySet()) {
+                try {
+                    entry.getValue().send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+                } catch (IOException | IllegalStateException e) {
+                    emitterRepository.deleteById(memberId, entry.getKey());
+                    reaped.increment();
+                    count++;
+                }
+            }
+            sent++;
+            if (System.nanoTime() - deadlineNanos >= 0) {
+                break;
+            }
+        }
+        return new BatchResult(sent, count);
+    }
+
+    @Override
+    public void destroy() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    // 배치에서 heartbeat 를 전송한 회원 수와 제거한 Emitter 수
+    record BatchResult(int sent, int reaped) {
+    }
+}
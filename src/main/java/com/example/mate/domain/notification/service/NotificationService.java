@@ -12,10 +12,10 @@ import com.example.mate.domain.notification.repository.EmitterRepository;
 import com.example.mate.domain.notification.repository.NotificationRepository;
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,25 +29,30 @@ public class NotificationService {
     private final EmitterRepository emitterRepository;
     private final NotificationRepository notificationRepository;
     private final MemberRepository memberRepository;
+    private final NotificationDispatcher notificationDispatcher;
 
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60; // 연결 지속시간 1시간
+    private static final int LOST_DATA_PAGE_SIZE = 100; // 미수신 알림 재전송 시 한 번에 조회할 알림 수
 
     // 회원 알림 구독
     public SseEmitter subscribe(Long memberId, String lastEventId) {
         String emitterId = makeIdWithTime(memberId);
-        SseEmitter emitter = emitterRepository.save(emitterId, new SseEmitter(DEFAULT_TIMEOUT));
+        Long lastNotificationId = parseEventId(lastEventId);
+
+        // 재전송 도중 커밋된 알림을 놓치지 않도록 먼저 등록하고, 실시간 알림은 재전송이 끝날 때까지 보류
+        NotificationEmitter emitter = new NotificationEmitter(DEFAULT_TIMEOUT, lastNotificationId != null);
+        emitterRepository.save(memberId, emitterId, emitter);
 
         // 비동기 요청, 타임아웃 후 리소스 정리
-        emitter.onCompletion(() -> emitterRepository.deleteById(emitterId));
-        emitter.onTimeout(() -> emitterRepository.deleteById(emitterId));
+        emitter.onCompletion(() -> emitterRepository.deleteById(memberId, emitterId));
+        emitter.onTimeout(() -> emitterRepository.deleteById(memberId, emitterId));
 
-        // 더미 이벤트 생성 -> 503 방지
-        String eventId = makeIdWithTime(memberId);
-        sendNotification(emitter, eventId, emitterId, "EventStream Created. [userId=" + memberId + "]");
+        // 더미 이벤트 생성 -> 503 방지, 클라이언트의 Last-Event-ID 가 바뀌지 않도록 이벤트 ID 없이 전송
+        sendNotification(memberId, emitter, emitterId, "EventStream Created. [userId=" + memberId + "]");
 
-        // 클라이언트가 미수신한 이벤트 목록이 존재할 경우 모두 전송 -> 이벤트 유실 방지
-        if (hasLostData(lastEventId)) {
-            sendLostData(lastEventId, memberId, emitterId, emitter);
+        // 클라이언트가 미수신한 알림이 존재할 경우 모두 전송 -> 이벤트 유실 방지
+        if (lastNotificationId != null) {
+            sendLostData(lastNotificationId, memberId, emitterId, emitter);
         }
 
         return emitter;
@@ -57,41 +62,56 @@ public class NotificationService {
         return memberId + "_" + System.currentTimeMillis();
     }
 
-    private void sendNotification(SseEmitter emitter, String eventId, String emitterId, Object data) {
+    private void sendNotification(Long memberId, SseEmitter emitter, String emitterId, Object data) {
         try {
-            emitter.send(SseEmitter.event()
-                    .id(eventId)
-                    .data(data));
+            emitter.send(SseEmitter.event().data(data));
         } catch (IOException e) {
-            emitterRepository.deleteById(emitterId);
+            emitterRepository.deleteById(memberId, emitterId);
             throw new CustomException(ErrorCode.NOTIFICATION_SEND_ERROR);
         }
     }
 
-    private boolean hasLostData(String lastEventId) {
-        return !lastEventId.isEmpty();
+    // 이벤트 ID 는 알림 ID 이며, 비어 있거나 이전 형식(회원ID_시간)이면 재전송하지 않음
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(lastEventId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
-    private void sendLostData(String lastEventId, Long memberId, String emitterId, SseEmitter emitter) {
-        Map<String, Object> eventCaches = emitterRepository
-                .findAllEventCacheStartsWithMemberId(String.valueOf(memberId));
-        eventCaches.entrySet().stream()
-                .filter(entry -> lastEventId.compareTo(entry.getKey()) < 0)
-                .forEach(entry -> sendNotification(emitter, entry.getKey(), emitterId, entry.getValue()));
+    // 미수신 알림을 페이지 단위로 모두 재전송 - 마지막으로 보낸 알림 ID 이후를 조회하며 페이지가 다 차지 않으면 종료
+    private void sendLostData(Long lastNotificationId, Long memberId, String emitterId,
+                              NotificationEmitter emitter) {
+        Long lastSentId = lastNotificationId;
+        try {
+            List<Notification> lostData;
+            do {
+                lostData = notificationRepository.findByReceiverIdAndIdGreaterThanOrderByIdAsc(
+                        memberId, lastSentId, PageRequest.of(0, LOST_DATA_PAGE_SIZE));
+                for (Notification notification : lostData) {
+                    emitter.sendReplayed(NotificationResponse.of(notification, String.valueOf(notification.getId())));
+                    lastSentId = notification.getId();
+                }
+            } while (lostData.size() == LOST_DATA_PAGE_SIZE);
+            emitter.finishReplay();
+        } catch (IOException e) {
+            emitterRepository.deleteById(memberId, emitterId);
+            throw new CustomException(ErrorCode.NOTIFICATION_SEND_ERROR);
+        }
     }
 
     // 알림 메시지 전송
     public void send(NotificationType notificationType, String content, String url, Member receiver) {
         Notification notification = notificationRepository.save(
                 new Notification(notificationType, content, url, receiver));
-        String eventId = makeIdWithTime(receiver.getId());
-
-        Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterStartsWithMemberId(
-                String.valueOf(receiver.getId()));
-        emitters.forEach((key, emitter) -> {
-            emitterRepository.saveEventCache(key, notification);
-            sendNotification(emitter, eventId, key, NotificationResponse.of(notification, eventId));
-        });
+        String eventId = String.valueOf(notification.getId());
+
+        // 회원의 SSE 연결이 다른 노드에 있을 수 있으므로 모든 노드로 전달
+        notificationDispatcher.dispatch(receiver.getId(), NotificationResponse.of(notification, eventId));
     }
 
     // 알림 페이징 조회
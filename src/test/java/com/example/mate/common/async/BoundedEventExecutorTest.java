@@ -0,0 +1,118 @@
+package com.example.mate.common.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedEventExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedEventExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        executor.destroy();
+    }
+
+    private BoundedEventExecutor createExecutor(String mode, String rejectionPolicy) {
+        return new BoundedEventExecutor("test-event", mode, 1, 1, rejectionPolicy, meterRegistry);
+    }
+
+    // 실행 중인 작업 1개와 대기 중인 작업 1개로 executor 를 가득 채움
+    private void fill(BoundedEventExecutor executor) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> await(release));
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("executor", "test-event").gauge().value();
+    }
+
+    private double rejected() {
+        return meterRegistry.get("event.executor.rejected").tag("executor", "test-event").counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 실행 수와 대기 작업 수를 넘는 작업은 discard 정책에 따라 버려진다")
+    void execute_discards_when_full() throws InterruptedException {
+        // given
+        executor = createExecutor(BoundedEventExecutor.MODE_PLATFORM, BoundedEventExecutor.REJECT_DISCARD);
+        fill(executor);
+        CountDownLatch discarded = new CountDownLatch(1);
+
+        // when
+        executor.execute(discarded::countDown);
+
+        // then
+        assertThat(discarded.getCount()).isEqualTo(1);
+        assertThat(rejected()).isEqualTo(1);
+        assertThat(gauge("event.executor.active")).isEqualTo(1);
+        assertThat(gauge("event.executor.queue.depth")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("caller-runs 정책에서는 가득 찬 경우 호출한 스레드에서 실행된다")
+    void execute_runs_in_caller_thread_when_full() throws InterruptedException {
+        // given
+        executor = createExecutor(BoundedEventExecutor.MODE_PLATFORM, BoundedEventExecutor.REJECT_CALLER_RUNS);
+        fill(executor);
+        AtomicReference<Thread> executedOn = new AtomicReference<>();
+
+        // when
+        executor.execute(() -> executedOn.set(Thread.currentThread()));
+
+        // then
+        assertThat(executedOn.get()).isSameAs(Thread.currentThread());
+        assertThat(rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("abort 정책에서는 가득 찬 경우 예외가 발생한다")
+    void execute_throws_when_full_with_abort_policy() throws InterruptedException {
+        // given
+        executor = createExecutor(BoundedEventExecutor.MODE_PLATFORM, BoundedEventExecutor.REJECT_ABORT);
+        fill(executor);
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(() -> {
+        })).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    @DisplayName("virtual 모드는 가상 스레드를 지원하지 않는 JDK 에서 platform 스레드로 동작한다")
+    void virtual_mode_falls_back_to_platform_threads() throws InterruptedException {
+        // given
+        executor = createExecutor(BoundedEventExecutor.MODE_VIRTUAL, BoundedEventExecutor.REJECT_DISCARD);
+        CountDownLatch executed = new CountDownLatch(1);
+
+        // when
+        executor.execute(executed::countDown);
+
+        // then
+        assertThat(executed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.isVirtual()).isEqualTo(Runtime.version().feature() >= 21);
+    }
+}
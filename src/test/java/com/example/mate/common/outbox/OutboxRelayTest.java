@@ -0,0 +1,191 @@
+package com.example.mate.common.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class OutboxRelayTest {
+
+    private static final String EVENT_TYPE = "TEST";
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String CLAIM_TOKEN = "claim-token";
+
+    private OutboxEventRepository outboxEventRepository;
+    private PlatformTransactionManager transactionManager;
+    private RecordingHandler handler;
+    private OutboxRelay outboxRelay;
+
+    record TestPayload(String value) {
+    }
+
+    // 전달된 묶음을 기록하고, failing 에 포함된 이벤트가 묶음에 있으면 실패하는 핸들러
+    static class RecordingHandler implements OutboxEventHandler<TestPayload> {
+
+        private final List<List<String>> batches = new ArrayList<>();
+        private final Set<Long> failing;
+
+        RecordingHandler(Set<Long> failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public String eventType() {
+            return EVENT_TYPE;
+        }
+
+        @Override
+        public Class<TestPayload> payloadType() {
+            return TestPayload.class;
+        }
+
+        @Override
+        public void handle(List<OutboxMessage<TestPayload>> messages) {
+            if (messages.stream().anyMatch(message -> failing.contains(message.id()))) {
+                throw new IllegalStateException("delivery failed");
+            }
+            batches.add(messages.stream().map(message -> message.payload().value()).toList());
+        }
+
+        @Override
+        public Executor executor() {
+            return Runnable::run;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        // 기본적으로 가져온 이벤트는 모두 처리 완료로 표시됨 (lease 유지)
+        when(outboxEventRepository.markProcessed(anyList(), anyString(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+    }
+
+    private void createRelay(Set<Long> failing) {
+        handler = new RecordingHandler(failing);
+        outboxRelay = new OutboxRelay(outboxEventRepository, new ObjectMapper(),
+                transactionManager, List.of(handler), new SimpleMeterRegistry(),
+                100, Duration.ofSeconds(30), MAX_ATTEMPTS, Duration.ofDays(7));
+    }
+
+    private OutboxEvent createEvent(Long id, String value, int attempts) {
+        OutboxEvent event = mock(OutboxEvent.class);
+        when(event.getId()).thenReturn(id);
+        when(event.getEventType()).thenReturn(EVENT_TYPE);
+        when(event.getPayload()).thenReturn("{\"value\":\"" + value + "\"}");
+        when(event.getAttempts()).thenReturn(attempts);
+        when(event.getCreatedAt()).thenReturn(LocalDateTime.now());
+        when(event.getClaimToken()).thenReturn(CLAIM_TOKEN);
+        return event;
+    }
+
+    private void givenClaimed(List<OutboxEvent> events) {
+        List<Long> ids = events.stream().map(OutboxEvent::getId).toList();
+        when(outboxEventRepository.findAvailableIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(ids);
+        when(outboxEventRepository.findAllByClaimTokenOrderByIdAsc(anyString())).thenReturn(events);
+    }
+
+    @Test
+    @DisplayName("가져온 이벤트를 한 번에 전달하고 처리 완료로 표시한다")
+    void drain_delivers_claimed_events_in_batch() {
+        // given
+        createRelay(Set.of());
+        givenClaimed(List.of(createEvent(1L, "a", 0), createEvent(2L, "b", 0), createEvent(3L, "c", 0)));
+
+        // when
+        outboxRelay.drain();
+
+        // then
+        assertThat(handler.batches).containsExactly(List.of("a", "b", "c"));
+        verify(outboxEventRepository).markProcessed(eq(List.of(1L, 2L, 3L)), eq(CLAIM_TOKEN),
+                any(LocalDateTime.class));
+        verify(outboxEventRepository, never()).markFailed(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("묶음 전달이 실패하면 이벤트별로 다시 전달하고 실패한 이벤트만 재시도 대상으로 남긴다")
+    void drain_retries_one_by_one_when_batch_fails() {
+        // given
+        createRelay(Set.of(2L));
+        givenClaimed(List.of(createEvent(1L, "a", 0), createEvent(2L, "b", 0), createEvent(3L, "c", 0)));
+
+        // when
+        outboxRelay.drain();
+
+        // then
+        assertThat(handler.batches).containsExactly(List.of("a"), List.of("c"));
+        verify(outboxEventRepository).markProcessed(eq(List.of(1L)), eq(CLAIM_TOKEN), any(LocalDateTime.class));
+        verify(outboxEventRepository).markProcessed(eq(List.of(3L)), eq(CLAIM_TOKEN), any(LocalDateTime.class));
+        verify(outboxEventRepository).markFailed(eq(2L), eq(CLAIM_TOKEN), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("전달 중 lease 가 끝나 다른 전달이 이벤트를 다시 가져가면 전달을 롤백하고 실패로 기록하지 않는다")
+    void drain_rolls_back_delivery_when_lease_expired() {
+        // given - 처리 완료로 표시할 때 이미 다른 claim_token 으로 바뀐 이벤트
+        createRelay(Set.of());
+        givenClaimed(List.of(createEvent(1L, "a", 0), createEvent(2L, "b", 0)));
+        when(outboxEventRepository.markProcessed(anyList(), anyString(), any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        outboxRelay.drain();
+
+        // then - 이벤트별로 다시 전달하지 않고 롤백
+        assertThat(handler.batches).containsExactly(List.of("a", "b"));
+        verify(transactionManager, times(1)).rollback(any());
+        verify(outboxEventRepository, never()).markFailed(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("최대 재시도 횟수를 넘은 이벤트는 더 이상 재시도하지 않는다")
+    void drain_discards_event_after_max_attempts() {
+        // given
+        createRelay(Set.of(1L));
+        givenClaimed(List.of(createEvent(1L, "a", MAX_ATTEMPTS - 1)));
+
+        // when
+        outboxRelay.drain();
+
+        // then
+        assertThat(handler.batches).isEmpty();
+        verify(outboxEventRepository).markProcessed(eq(List.of(1L)), eq(CLAIM_TOKEN), any(LocalDateTime.class));
+        verify(outboxEventRepository, never()).markFailed(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("전달할 이벤트가 없으면 아무것도 하지 않는다")
+    void drain_does_nothing_when_no_event_is_available() {
+        // given
+        createRelay(Set.of());
+        when(outboxEventRepository.findAvailableIds(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // when
+        outboxRelay.drain();
+
+        // then
+        verify(outboxEventRepository, never()).claim(anyList(), anyString(), any(), any());
+        verify(outboxEventRepository, never()).markProcessed(anyList(), any(), any());
+    }
+}
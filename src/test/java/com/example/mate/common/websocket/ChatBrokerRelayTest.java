@@ -0,0 +1,173 @@
+package com.example.mate.common.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.mate.common.cluster.ClusterBus;
+import com.example.mate.common.cluster.LocalClusterBus;
+import com.example.mate.common.cluster.StandaloneClusterBus;
+import com.example.mate.common.config.ClusterBusConfig;
+import com.example.mate.common.config.WebSocketConfig;
+import com.example.mate.common.security.util.JwtUtil;
+import com.example.mate.domain.member.service.LogoutRedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+class ChatBrokerRelayTest {
+
+    private final LocalClusterBus nodeA = new LocalClusterBus();
+    private final LocalClusterBus nodeB = new LocalClusterBus();
+
+    @AfterEach
+    void tearDown() {
+        nodeA.destroy();
+        nodeB.destroy();
+    }
+
+    private record RelayNode(ChatBrokerRelay relay, SimpMessageSendingOperations messagingTemplate) {
+    }
+
+    @SuppressWarnings("unchecked")
+    private RelayNode createRelayNode(ClusterBus clusterBus) {
+        SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+        ObjectProvider<SimpMessageSendingOperations> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(messagingTemplate);
+
+        ChatBrokerRelay relay = new ChatBrokerRelay(clusterBus, provider);
+        relay.subscribe();
+        return new RelayNode(relay, messagingTemplate);
+    }
+
+    // WebSocket 설정과 채팅 중계만 등록한 노드 - cluster.mode=local 로 같은 JVM 의 노드와 LocalClusterBus 를 공유
+    private AnnotationConfigApplicationContext startNode() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources()
+                .addFirst(new MapPropertySource("cluster", Map.of("cluster.mode", "local")));
+        context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        context.registerBean(JwtUtil.class, () -> mock(JwtUtil.class));
+        context.registerBean(LogoutRedisService.class, () -> mock(LogoutRedisService.class));
+        context.register(ClusterBusConfig.class, ChatBrokerRelay.class, SlowConsumerGuard.class,
+                UnreadSubscriptionGuard.class, WebSocketConfig.class);
+        context.refresh();
+        return context;
+    }
+
+    private Message<byte[]> createBrokerMessage(String destination, String body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    @Test
+    @DisplayName("채팅 메시지는 다른 노드의 브로커로 중계되고, 발행한 노드로는 다시 주입되지 않는다")
+    void preSend_should_relay_chat_message_to_other_nodes() {
+        // given
+        RelayNode first = createRelayNode(nodeA);
+        RelayNode second = createRelayNode(nodeB);
+        Message<byte[]> message = createBrokerMessage("/sub/chat/mate/1", "{\"message\":\"hello\"}");
+
+        // when
+        Message<?> result = first.relay().preSend(message, mock(MessageChannel.class));
+
+        // then
+        assertThat(result).isSameAs(message);
+        verify(first.messagingTemplate(), never()).send(anyString(), any(Message.class));
+
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(second.messagingTemplate()).send(eq("/sub/chat/mate/1"), captor.capture());
+        Message<?> relayed = captor.getValue();
+        assertThat(new String((byte[]) relayed.getPayload(), StandardCharsets.UTF_8)).isEqualTo("{\"message\":\"hello\"}");
+        assertThat(SimpMessageHeaderAccessor.getDestination(relayed.getHeaders())).isEqualTo("/sub/chat/mate/1");
+    }
+
+    @Test
+    @DisplayName("두 노드의 컨텍스트가 LocalClusterBus 를 공유하면 노드 A 에서 보낸 메시지를 노드 B 의 구독자가 받는다")
+    void message_sent_on_one_node_should_reach_subscriber_on_other_node() throws Exception {
+        try (AnnotationConfigApplicationContext first = startNode();
+             AnnotationConfigApplicationContext second = startNode()) {
+            // given - 노드 B 의 세션이 채팅방을 구독
+            BlockingQueue<Message<?>> received = new LinkedBlockingQueue<>();
+            second.getBean("clientOutboundChannel", SubscribableChannel.class).subscribe(received::add);
+
+            StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            subscribe.setSessionId("session-b");
+            subscribe.setSubscriptionId("sub-1");
+            subscribe.setDestination("/sub/chat/mate/1");
+            second.getBean(SimpleBrokerMessageHandler.class)
+                    .handleMessage(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+
+            // when - 노드 A 의 브로커로 채팅 메시지 전송
+            first.getBean(SimpMessageSendingOperations.class)
+                    .convertAndSend("/sub/chat/mate/1", Map.of("message", "hello"));
+
+            // then
+            Message<?> delivered = received.poll(5, TimeUnit.SECONDS);
+            assertThat(delivered).isNotNull();
+            assertThat(SimpMessageHeaderAccessor.getSessionId(delivered.getHeaders())).isEqualTo("session-b");
+            assertThat(SimpMessageHeaderAccessor.getDestination(delivered.getHeaders())).isEqualTo("/sub/chat/mate/1");
+            assertThat(new String((byte[]) delivered.getPayload(), StandardCharsets.UTF_8)).contains("hello");
+        }
+    }
+
+    @Test
+    @DisplayName("중계되어 주입된 메시지는 다시 중계하지 않는다")
+    void preSend_should_not_relay_relayed_message_again() {
+        // given
+        RelayNode first = createRelayNode(nodeA);
+        RelayNode second = createRelayNode(nodeB);
+        first.relay().preSend(createBrokerMessage("/sub/chat/goods/3", "{}"), mock(MessageChannel.class));
+
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(second.messagingTemplate()).send(eq("/sub/chat/goods/3"), captor.capture());
+
+        // when
+        second.relay().preSend(captor.getValue(), mock(MessageChannel.class));
+
+        // then
+        verify(first.messagingTemplate(), never()).send(anyString(), any(Message.class));
+        verify(second.messagingTemplate()).send(anyString(), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("단일 노드 모드에서는 메시지를 중계하지 않는다")
+    void preSend_should_not_relay_in_standalone_mode() {
+        // given
+        RelayNode node = createRelayNode(new StandaloneClusterBus());
+
+        // when
+        node.relay().preSend(createBrokerMessage("/sub/chat/mate/1", "{}"), mock(MessageChannel.class));
+
+        // then
+        verify(node.messagingTemplate(), never()).send(anyString(), any(Message.class));
+    }
+}
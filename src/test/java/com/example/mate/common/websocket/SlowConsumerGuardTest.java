@@ -0,0 +1,104 @@
+package com.example.mate.common.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+class SlowConsumerGuardTest {
+
+    private static final String SESSION_ID = "session-1";
+    private static final int MAX_PENDING = 2;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final MessageHandler handler = mock(MessageHandler.class);
+    private WebSocketSession session;
+
+    @BeforeEach
+    void setUp() {
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(SESSION_ID);
+    }
+
+    private SlowConsumerGuard createGuard(String policy) throws Exception {
+        SlowConsumerGuard guard = new SlowConsumerGuard(meterRegistry, policy, MAX_PENDING);
+        guard.decorate(mock(WebSocketHandler.class)).afterConnectionEstablished(session);
+        return guard;
+    }
+
+    private Message<byte[]> message(SimpMessageType type) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(SESSION_ID);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    @Test
+    @DisplayName("drop 정책에서는 대기 메시지가 한도를 넘은 세션의 메시지만 버린다")
+    void preSend_drops_message_for_slow_consumer() throws Exception {
+        // given
+        SlowConsumerGuard guard = createGuard(SlowConsumerGuard.POLICY_DROP);
+        guard.preSend(message(SimpMessageType.MESSAGE), channel);
+        guard.preSend(message(SimpMessageType.MESSAGE), channel);
+
+        // when
+        Message<?> dropped = guard.preSend(message(SimpMessageType.MESSAGE), channel);
+        Message<?> heartbeat = guard.preSend(message(SimpMessageType.HEARTBEAT), channel);
+
+        // then
+        assertThat(dropped).isNull();
+        assertThat(heartbeat).isNotNull();
+        assertThat(meterRegistry.get("websocket.slow-consumer.dropped").counter().count()).isEqualTo(1);
+        verify(session, never()).close(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    @Test
+    @DisplayName("전송이 끝나면 대기 메시지 수가 줄어 다시 전송한다")
+    void afterMessageHandled_releases_pending() throws Exception {
+        // given
+        SlowConsumerGuard guard = createGuard(SlowConsumerGuard.POLICY_DROP);
+        Message<byte[]> first = message(SimpMessageType.MESSAGE);
+        guard.preSend(first, channel);
+        guard.preSend(message(SimpMessageType.MESSAGE), channel);
+
+        // when
+        guard.afterMessageHandled(first, channel, handler, null);
+
+        // then
+        assertThat(guard.getPending(SESSION_ID)).isEqualTo(1);
+        assertThat(guard.preSend(message(SimpMessageType.MESSAGE), channel)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("disconnect 정책에서는 느린 세션의 연결을 한 번만 끊는다")
+    void preSend_disconnects_slow_consumer() throws Exception {
+        // given
+        SlowConsumerGuard guard = createGuard(SlowConsumerGuard.POLICY_DISCONNECT);
+        guard.preSend(message(SimpMessageType.MESSAGE), channel);
+        guard.preSend(message(SimpMessageType.MESSAGE), channel);
+
+        // when
+        guard.preSend(message(SimpMessageType.MESSAGE), channel);
+        guard.preSend(message(SimpMessageType.MESSAGE), channel);
+
+        // then
+        verify(session, times(1)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.get("websocket.slow-consumer.disconnected").counter().count()).isEqualTo(1);
+    }
+}
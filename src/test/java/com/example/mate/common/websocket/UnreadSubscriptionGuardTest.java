@@ -0,0 +1,110 @@
+package com.example.mate.common.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.mate.common.error.CustomException;
+import com.example.mate.common.error.ErrorCode;
+import com.example.mate.common.security.auth.AuthMember;
+import com.example.mate.common.security.util.JwtUtil;
+import com.example.mate.domain.member.service.LogoutRedisService;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+class UnreadSubscriptionGuardTest {
+
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+    private final LogoutRedisService logoutRedisService = mock(LogoutRedisService.class);
+    private final UnreadSubscriptionGuard guard = new UnreadSubscriptionGuard(jwtUtil, logoutRedisService);
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    private Message<byte[]> connectMessage(String authorization) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        if (authorization != null) {
+            accessor.addNativeHeader("Authorization", authorization);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> subscribeMessage(String destination, Long memberId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        if (memberId != null) {
+            accessor.setUser(new AuthMember("member" + memberId + "@gmail.com", memberId));
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    @Test
+    @DisplayName("CONNECT 의 액세스 토큰으로 세션의 회원이 설정된다")
+    void preSend_connect_sets_member_from_token() {
+        // given
+        when(jwtUtil.validateToken("token")).thenReturn(Map.of("email", "member1@gmail.com", "memberId", 1));
+        Message<byte[]> message = connectMessage("Bearer token");
+
+        // when
+        guard.preSend(message, channel);
+
+        // then
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        assertThat(accessor.getUser()).isInstanceOf(AuthMember.class);
+        assertThat(((AuthMember) accessor.getUser()).getMemberId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("로그아웃된 토큰으로는 연결할 수 없다")
+    void preSend_connect_rejects_blacklisted_token() {
+        // given
+        when(logoutRedisService.isTokenBlacklisted("token")).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> guard.preSend(connectMessage("Bearer token"), channel))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AUTH_UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("본인의 안 읽은 메시지 수는 구독할 수 있다")
+    void preSend_allows_own_unread_subscription() {
+        // given
+        Message<byte[]> message = subscribeMessage("/sub/chat/unread/1", 1L);
+
+        // when
+        Message<?> result = guard.preSend(message, channel);
+
+        // then
+        assertThat(result).isSameAs(message);
+    }
+
+    @Test
+    @DisplayName("다른 회원의 안 읽은 메시지 수는 구독할 수 없다")
+    void preSend_rejects_other_member_unread_subscription() {
+        // when & then
+        assertThatThrownBy(() -> guard.preSend(subscribeMessage("/sub/chat/unread/2", 1L), channel))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.MEMBER_UNAUTHORIZED_ACCESS);
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 세션은 안 읽은 메시지 수를 구독할 수 없지만 채팅방은 구독할 수 있다")
+    void preSend_anonymous_session_can_only_subscribe_chat_rooms() {
+        // given
+        Message<byte[]> roomMessage = subscribeMessage("/sub/chat/mate/1", null);
+
+        // when & then
+        assertThat(guard.preSend(roomMessage, channel)).isSameAs(roomMessage);
+        assertThatThrownBy(() -> guard.preSend(subscribeMessage("/sub/chat/unread/1", null), channel))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.UNAUTHORIZED_USER);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.mate.domain.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.mate.common.error.CustomException;
+import com.example.mate.common.error.ErrorCode;
+import com.example.mate.common.response.CursorResponse;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChatMessageCursorTest {
+
+    @Test
+    @DisplayName("커서는 메시지 ID 로 다시 복원된다")
+    void encode_and_decode() {
+        // given
+        ObjectId messageId = new ObjectId();
+
+        // when
+        String cursor = ChatMessageCursor.encode(messageId.toHexString());
+
+        // then
+        assertThat(cursor).hasSize(16);
+        assertThat(ChatMessageCursor.decode(cursor)).isEqualTo(messageId);
+        assertThat(ChatMessageCursor.decode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 예외가 발생한다")
+    void decode_invalid_cursor() {
+        assertThatThrownBy(() -> ChatMessageCursor.decode("invalid-cursor!"))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(ErrorCode.INVALID_CHAT_CURSOR.getMessage());
+        assertThatThrownBy(() -> ChatMessageCursor.decode("AAAA"))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(ErrorCode.INVALID_CHAT_CURSOR.getMessage());
+    }
+
+    @Test
+    @DisplayName("size 를 초과해 조회된 경우에만 다음 커서를 반환한다")
+    void toResponse_returns_next_cursor_only_when_more_messages_exist() {
+        // given
+        List<String> ids = List.of(new ObjectId().toHexString(), new ObjectId().toHexString(),
+                new ObjectId().toHexString());
+
+        // when
+        CursorResponse<String> hasNext = ChatMessageCursor.toResponse(ids, 2, id -> id);
+        CursorResponse<String> last = ChatMessageCursor.toResponse(ids, 3, id -> id);
+
+        // then
+        assertThat(hasNext.getContent()).containsExactly(ids.get(0), ids.get(1));
+        assertThat(ChatMessageCursor.decode(hasNext.getNextCursor()).toHexString()).isEqualTo(ids.get(1));
+        assertThat(last.getContent()).hasSize(3);
+        assertThat(last.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("시각의 최소 ObjectId 는 같은 초에 생성된 ObjectId 보다 크지 않다")
+    void minIdAt_is_lower_bound_of_second() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        ObjectId generated = new ObjectId();
+
+        // when
+        ObjectId lowerBound = ChatMessageCursor.minIdAt(now.withNano(0));
+
+        // then
+        assertThat(lowerBound.compareTo(generated)).isLessThanOrEqualTo(0);
+        assertThat((long) lowerBound.getTimestamp()).isEqualTo(now.atZone(ZoneId.systemDefault()).toEpochSecond());
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.mate.domain.chat.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.chat.bucket.ChatMessageBucketStore;
+import com.example.mate.domain.constant.MessageType;
+import com.example.mate.domain.goodsChat.repository.GoodsChatRoomRepository;
+import com.example.mate.domain.mateChat.document.MateChatMessage;
+import com.example.mate.domain.mateChat.repository.MateChatMessageRepositoryCustomImpl;
+import com.example.mate.domain.mateChat.repository.MateChatRoomRepository;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.query.Query;
+
+class ChatMessageArchiverTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    private MongoServer mongoServer;
+    private SimpleMongoClientDatabaseFactory databaseFactory;
+    private MongoTemplate mongoTemplate;
+    private ChatMessageBucketStore bucketStore;
+    private ChatMessageArchive archive;
+    private ChatMessageArchiver archiver;
+    private MateChatRoomRepository mateChatRoomRepository;
+
+    @BeforeEach
+    void setUp() {
+        mongoServer = new MongoServer(new MemoryBackend());
+        mongoServer.bind();
+        databaseFactory = new SimpleMongoClientDatabaseFactory(mongoServer.getConnectionString() + "/test");
+        mongoTemplate = new MongoTemplate(databaseFactory);
+        bucketStore = new ChatMessageBucketStore(mongoTemplate, ChatMessageBucketStore.LAYOUT_DOCUMENT, 200);
+        archive = new ChatMessageArchive(mongoTemplate, 2);
+        mateChatRoomRepository = mock(MateChatRoomRepository.class);
+        archiver = new ChatMessageArchiver(archive, bucketStore, mongoTemplate, mateChatRoomRepository,
+                mock(GoodsChatRoomRepository.class), new SimpleMeterRegistry(), true, Duration.ofDays(30));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        databaseFactory.destroy();
+        mongoServer.shutdown();
+    }
+
+    private MateChatMessage saveMessage(Duration ago, String content) {
+        Instant sentAt = Instant.now().minus(ago);
+        MateChatMessage message = MateChatMessage.builder()
+                .id(new ObjectId(Date.from(sentAt)).toHexString())
+                .roomId(ROOM_ID)
+                .senderId(1L)
+                .content(content)
+                .type(MessageType.TALK)
+                .sendTime(LocalDateTime.ofInstant(sentAt, ZoneId.systemDefault()))
+                .build();
+        return mongoTemplate.insert(message);
+    }
+
+    private List<String> contents(List<MateChatMessage> messages) {
+        return messages.stream().map(MateChatMessage::getContent).toList();
+    }
+
+    @Test
+    @DisplayName("기준 시각 이전 메시지를 압축 보관하고 최근 메시지 저장소에서 삭제한다")
+    void archiveRoom_moves_old_messages_to_archive() {
+        // given
+        List<MateChatMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            messages.add(saveMessage(Duration.ofDays(40 - i), "old " + i));
+        }
+        saveMessage(Duration.ofMinutes(1), "recent");
+
+        // when
+        long archived = archiver.archiveRoom(ChatRoomType.MATE, ROOM_ID, LocalDateTime.now().minusDays(30));
+        long archivedAgain = archiver.archiveRoom(ChatRoomType.MATE, ROOM_ID, LocalDateTime.now().minusDays(30));
+
+        // then
+        assertThat(archived).isEqualTo(5);
+        assertThat(archivedAgain).isZero();
+        assertThat(contents(mongoTemplate.find(new Query(), MateChatMessage.class))).containsExactly("recent");
+        assertThat(mongoTemplate.getCollection("mate_chat_message_archive").countDocuments()).isEqualTo(3);
+        assertThat(archive.findLastArchivedId("mate_chat_message", ROOM_ID).toHexString())
+                .isEqualTo(messages.get(4).getId());
+    }
+
+    @Test
+    @DisplayName("작업을 켜기 훨씬 전에 대화가 끝난 채팅방도 보관 대상으로 조회해 보관한다")
+    void archiveAll_archives_long_inactive_rooms() {
+        // given - 1년 전에 대화가 끝난 채팅방
+        saveMessage(Duration.ofDays(400), "old");
+        when(mateChatRoomRepository.findArchivableChatRoomIds(any())).thenReturn(List.of(ROOM_ID));
+
+        // when
+        archiver.archiveAll();
+
+        // then - 마지막 채팅 시각의 하한 없이 inactive-after 이전만 조건으로 조회
+        ArgumentCaptor<LocalDateTime> before = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(mateChatRoomRepository).findArchivableChatRoomIds(before.capture());
+        assertThat(before.getValue()).isBefore(LocalDateTime.now().minusDays(29));
+        assertThat(mongoTemplate.find(new Query(), MateChatMessage.class)).isEmpty();
+        assertThat(mongoTemplate.getCollection("mate_chat_message_archive").countDocuments()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("채팅 내역 조회 시 최근 메시지가 부족하면 보관된 메시지를 이어서 조회한다")
+    void getChatMessagesBefore_reads_through_archive() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            saveMessage(Duration.ofDays(40 - i), "old " + i);
+        }
+        MateChatMessage recent = saveMessage(Duration.ofMinutes(1), "recent");
+        archiver.archiveRoom(ChatRoomType.MATE, ROOM_ID, LocalDateTime.now().minusDays(30));
+        MateChatMessageRepositoryCustomImpl repository =
+                new MateChatMessageRepositoryCustomImpl(mongoTemplate, bucketStore, archive);
+
+        // when
+        List<MateChatMessage> firstPage = repository.getChatMessagesBefore(ROOM_ID, null, null, 3);
+        List<MateChatMessage> secondPage = repository.getChatMessagesBefore(ROOM_ID, null,
+                new ObjectId(firstPage.get(2).getId()), 3);
+
+        // then
+        assertThat(contents(firstPage)).containsExactly("recent", "old 4", "old 3");
+        assertThat(firstPage.get(0).getId()).isEqualTo(recent.getId());
+        assertThat(contents(secondPage)).containsExactly("old 2", "old 1", "old 0");
+    }
+
+    @Test
+    @DisplayName("bucket 저장 방식에서는 segment 단위로 읽어 보관하고 보관이 끝난 bucket 을 삭제한다")
+    void archiveRoom_archives_bucket_messages_segment_by_segment() {
+        // given - bucket 당 2개, segment 당 2개
+        ChatMessageBucketStore bucketLayoutStore = new ChatMessageBucketStore(mongoTemplate,
+                ChatMessageBucketStore.LAYOUT_BUCKET, 2);
+        ChatMessageArchiver bucketArchiver = new ChatMessageArchiver(archive, bucketLayoutStore, mongoTemplate,
+                mock(MateChatRoomRepository.class), mock(GoodsChatRoomRepository.class), new SimpleMeterRegistry(),
+                true, Duration.ofDays(30));
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            documents.add(toDocument(saveMessage(Duration.ofDays(40 - i), "old " + i)));
+        }
+        documents.add(toDocument(saveMessage(Duration.ofMinutes(1), "recent")));
+        bucketLayoutStore.append("mate_chat_message", documents);
+
+        // when
+        long archived = bucketArchiver.archiveRoom(ChatRoomType.MATE, ROOM_ID, LocalDateTime.now().minusDays(30));
+
+        // then
+        assertThat(archived).isEqualTo(5);
+        assertThat(mongoTemplate.getCollection("mate_chat_message_archive").countDocuments()).isEqualTo(3);
+        // 보관되지 않은 메시지가 남은 마지막 bucket 만 유지
+        assertThat(mongoTemplate.getCollection("mate_chat_message_bucket").countDocuments()).isEqualTo(1);
+        assertThat(archive.findLastArchivedId("mate_chat_message", ROOM_ID))
+                .isEqualTo(documents.get(4).getObjectId("_id"));
+    }
+
+    private Document toDocument(MateChatMessage message) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(message, document);
+        return document;
+    }
+}
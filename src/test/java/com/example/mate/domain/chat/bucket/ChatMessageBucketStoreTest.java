@@ -0,0 +1,209 @@
+package com.example.mate.domain.chat.bucket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.mate.common.config.MongoConfig;
+import com.example.mate.common.util.converter.DateToLocalDateTimeKstConverter;
+import com.example.mate.common.util.converter.LocalDateTimeToDateKstConverter;
+import com.example.mate.domain.constant.MessageType;
+import com.example.mate.domain.mateChat.document.MateChatMessage;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+class ChatMessageBucketStoreTest {
+
+    private static final String COLLECTION = "mate_chat_message";
+    private static final String BUCKET_COLLECTION = "mate_chat_message_bucket";
+    private static final Long ROOM_ID = 1L;
+    private static final int CAPACITY = 3;
+
+    private MongoServer mongoServer;
+    private SimpleMongoClientDatabaseFactory databaseFactory;
+    private MongoTemplate mongoTemplate;
+    private ChatMessageBucketStore bucketStore;
+
+    @BeforeEach
+    void setUp() {
+        mongoServer = new MongoServer(new MemoryBackend());
+        mongoServer.bind();
+        databaseFactory = new SimpleMongoClientDatabaseFactory(mongoServer.getConnectionString() + "/test");
+        mongoTemplate = new MongoTemplate(databaseFactory);
+        bucketStore = new ChatMessageBucketStore(mongoTemplate, ChatMessageBucketStore.LAYOUT_BUCKET, CAPACITY);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        databaseFactory.destroy();
+        mongoServer.shutdown();
+    }
+
+    private List<MateChatMessage> createMessages(int count) {
+        List<MateChatMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            messages.add(MateChatMessage.builder()
+                    .id(new ObjectId().toHexString())
+                    .roomId(ROOM_ID)
+                    .senderId(1L)
+                    .content("message " + i)
+                    .type(MessageType.TALK)
+                    .sendTime(LocalDateTime.now())
+                    .build());
+        }
+        return messages;
+    }
+
+    private List<Document> toDocuments(List<MateChatMessage> messages) {
+        return messages.stream()
+                .map(message -> {
+                    Document document = new Document();
+                    mongoTemplate.getConverter().write(message, document);
+                    return document;
+                })
+                .toList();
+    }
+
+    private List<String> ids(List<MateChatMessage> messages) {
+        return messages.stream().map(MateChatMessage::getId).toList();
+    }
+
+    @Test
+    @DisplayName("메시지를 capacity 개씩 bucket 에 나눠 저장하고, 이미 저장된 메시지는 다시 저장하지 않는다")
+    void append_splits_by_capacity_and_skips_existing_messages() {
+        // given
+        List<MateChatMessage> messages = createMessages(7);
+        bucketStore.append(COLLECTION, toDocuments(messages.subList(0, 5)));
+
+        // when
+        bucketStore.append(COLLECTION, toDocuments(messages));
+
+        // then
+        List<Document> buckets = mongoTemplate.findAll(Document.class, BUCKET_COLLECTION);
+        assertThat(buckets).allSatisfy(bucket -> assertThat(bucket.getInteger("count")).isLessThanOrEqualTo(CAPACITY));
+        assertThat(buckets.stream().mapToInt(bucket -> bucket.getInteger("count")).sum()).isEqualTo(7);
+        assertThat(bucketStore.findExistingIds(COLLECTION, ROOM_ID, ids(messages))).hasSize(7);
+    }
+
+    @Test
+    @DisplayName("여러 bucket 에 걸친 메시지를 ID 내림차순으로 페이지 단위로 조회한다")
+    void find_reads_pages_across_buckets() {
+        // given
+        List<MateChatMessage> messages = createMessages(7);
+        bucketStore.append(COLLECTION, toDocuments(messages));
+
+        // when
+        List<MateChatMessage> firstPage = bucketStore.find(MateChatMessage.class, ROOM_ID, null, null, 5,
+                message -> true);
+        ObjectId cursor = new ObjectId(firstPage.get(firstPage.size() - 1).getId());
+        List<MateChatMessage> secondPage = bucketStore.find(MateChatMessage.class, ROOM_ID, cursor, null, 5,
+                message -> true);
+
+        // then
+        assertThat(ids(firstPage)).containsExactly(
+                messages.get(6).getId(), messages.get(5).getId(), messages.get(4).getId(),
+                messages.get(3).getId(), messages.get(2).getId());
+        assertThat(ids(secondPage)).containsExactly(messages.get(1).getId(), messages.get(0).getId());
+        assertThat(secondPage.get(0).getContent()).isEqualTo("message 1");
+        assertThat(secondPage.get(0).getRoomId()).isEqualTo(ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("메시지 문서를 bucket 으로 옮기고, 다시 실행해도 중복 저장하지 않는다")
+    void migration_moves_documents_idempotently() {
+        // given
+        List<MateChatMessage> messages = createMessages(5);
+        messages.forEach(mongoTemplate::insert);
+        ChatMessageBucketMigration migration = new ChatMessageBucketMigration(mongoTemplate, bucketStore, true,
+                CAPACITY);
+
+        // when
+        long migrated = migration.migrate(COLLECTION);
+        migration.migrate(COLLECTION);
+
+        // then
+        assertThat(migrated).isEqualTo(5);
+        assertThat(bucketStore.find(COLLECTION, ROOM_ID, null, null, 10, message -> true)).hasSize(5);
+        assertThat(bucketStore.findExistingIds(COLLECTION, ROOM_ID, Set.of(messages.get(0).getId())))
+                .containsExactly(messages.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("새 메시지는 가장 최근의 열린 bucket 에만 추가되고, 이전 메시지는 범위가 겹치지 않는 bucket 에 저장된다")
+    void append_keeps_bucket_ranges_disjoint() {
+        // given - 이전 메시지 5개와 dual 저장으로 먼저 저장된 새 메시지 1개
+        List<MateChatMessage> messages = createMessages(8);
+        bucketStore.append(COLLECTION, toDocuments(messages.subList(5, 6)));
+        bucketStore.append(COLLECTION, toDocuments(messages.subList(0, 5)));
+
+        // when
+        bucketStore.append(COLLECTION, toDocuments(messages.subList(6, 8)));
+
+        // then
+        List<Document> buckets = new ArrayList<>(mongoTemplate.findAll(Document.class, BUCKET_COLLECTION));
+        buckets.sort(Comparator.comparing(bucket -> bucket.getObjectId("first_id")));
+        for (int i = 1; i < buckets.size(); i++) {
+            assertThat(buckets.get(i).getObjectId("first_id"))
+                    .isGreaterThan(buckets.get(i - 1).getObjectId("last_id"));
+        }
+        assertThat(buckets).filteredOn(bucket -> bucket.getBoolean("open")).hasSize(1);
+        assertThat(buckets.stream().mapToInt(bucket -> bucket.getInteger("count")).sum()).isEqualTo(8);
+        assertThat(bucketStore.find(COLLECTION, ROOM_ID, null, null, 3, message -> true))
+                .extracting(message -> message.getObjectId("_id").toHexString())
+                .containsExactly(messages.get(7).getId(), messages.get(6).getId(), messages.get(5).getId());
+    }
+
+    @Test
+    @DisplayName("KST 변환 컨버터로 저장된 전송 시각도 같은 규칙으로 비교해 lastSentAt 직전의 메시지를 찾는다")
+    void sentBetween_compares_with_mongo_converters() {
+        // given - MongoConfig 와 같은 컨버터로 저장
+        MappingMongoConverter converter = new MongoConfig().mappingMongoConverter(databaseFactory,
+                new MongoMappingContext(), new LocalDateTimeToDateKstConverter(),
+                new DateToLocalDateTimeKstConverter());
+        converter.afterPropertiesSet();
+        MongoTemplate kstTemplate = new MongoTemplate(databaseFactory, converter);
+        ChatMessageBucketStore kstBucketStore = new ChatMessageBucketStore(kstTemplate,
+                ChatMessageBucketStore.LAYOUT_BUCKET, CAPACITY);
+
+        LocalDateTime lastSentAt = LocalDateTime.now().withNano(0);
+        List<MateChatMessage> messages = createMessages(3);
+        List<LocalDateTime> sendTimes = List.of(lastSentAt.minusHours(1), lastSentAt.minusSeconds(10),
+                lastSentAt.plusSeconds(10));
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            MateChatMessage message = MateChatMessage.builder()
+                    .id(messages.get(i).getId())
+                    .roomId(ROOM_ID)
+                    .senderId(1L)
+                    .content("message " + i)
+                    .type(MessageType.TALK)
+                    .sendTime(sendTimes.get(i))
+                    .build();
+            Document document = new Document();
+            converter.write(message, document);
+            documents.add(document);
+        }
+        kstBucketStore.append(COLLECTION, documents);
+
+        // when
+        List<MateChatMessage> found = kstBucketStore.find(MateChatMessage.class, ROOM_ID, null, null, 10,
+                kstBucketStore.sentBetween("send_time", lastSentAt.minusHours(2), lastSentAt));
+
+        // then
+        assertThat(found).extracting(MateChatMessage::getId)
+                .containsExactly(messages.get(1).getId(), messages.get(0).getId());
+    }
+}
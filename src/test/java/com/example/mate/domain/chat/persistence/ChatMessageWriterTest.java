@@ -0,0 +1,184 @@
+package com.example.mate.domain.chat.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.mate.domain.chat.bucket.ChatMessageBucketStore;
+import com.example.mate.domain.constant.MessageType;
+import com.example.mate.domain.goodsChat.document.GoodsChatMessage;
+import com.example.mate.domain.mateChat.document.MateChatMessage;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.query.Query;
+
+class ChatMessageWriterTest {
+
+    @TempDir
+    Path journalDirectory;
+
+    private MongoServer mongoServer;
+    private SimpleMongoClientDatabaseFactory databaseFactory;
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        mongoServer = new MongoServer(new MemoryBackend());
+        mongoServer.bind();
+        databaseFactory = new SimpleMongoClientDatabaseFactory(mongoServer.getConnectionString() + "/test");
+        mongoTemplate = new MongoTemplate(databaseFactory);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        databaseFactory.destroy();
+        mongoServer.shutdown();
+    }
+
+    private ChatMessageWriter createWriter(String mode, int batchSize) {
+        return createWriter(mode, batchSize, ChatMessageBucketStore.LAYOUT_DOCUMENT);
+    }
+
+    private ChatMessageWriter createWriter(String mode, int batchSize, String layout) {
+        return new ChatMessageWriter(mongoTemplate, new ChatMessageBucketStore(mongoTemplate, layout, 200),
+                new SimpleMeterRegistry(), mode, 100, batchSize, 60_000, journalDirectory, false, 10, 2);
+    }
+
+    private MateChatMessage createMateChatMessage(String content) {
+        return MateChatMessage.builder()
+                .id(new ObjectId().toHexString())
+                .roomId(1L)
+                .senderId(1L)
+                .content(content)
+                .type(MessageType.TALK)
+                .sendTime(LocalDateTime.now())
+                .build();
+    }
+
+    private GoodsChatMessage createGoodsChatMessage(String content) {
+        return GoodsChatMessage.builder()
+                .id(new ObjectId().toHexString())
+                .chatRoomId(1L)
+                .memberId(1L)
+                .content(content)
+                .messageType(MessageType.TALK)
+                .sentAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("sync 모드에서는 메시지가 즉시 저장된다")
+    void write_sync_mode_saves_immediately() {
+        // given
+        ChatMessageWriter writer = createWriter(ChatMessageWriter.MODE_SYNC, 500);
+        writer.start();
+        MateChatMessage message = createMateChatMessage("hello");
+
+        // when
+        writer.write(message);
+
+        // then
+        MateChatMessage saved = mongoTemplate.findById(message.getId(), MateChatMessage.class);
+        assertThat(saved).isNotNull();
+        assertThat(saved.getContent()).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("write-behind 모드에서는 flush 시점에 컬렉션별로 일괄 저장된다")
+    void write_behind_mode_saves_on_flush() {
+        // given
+        ChatMessageWriter writer = createWriter(ChatMessageWriter.MODE_WRITE_BEHIND, 500);
+        writer.start();
+        MateChatMessage mateMessage = createMateChatMessage("mate");
+        GoodsChatMessage goodsMessage = createGoodsChatMessage("goods");
+
+        // when
+        writer.write(mateMessage);
+        writer.write(goodsMessage);
+        long countBeforeFlush = mongoTemplate.count(new Query(), MateChatMessage.class);
+        writer.flush();
+
+        // then
+        assertThat(countBeforeFlush).isZero();
+        assertThat(writer.getQueueDepth()).isZero();
+        assertThat(mongoTemplate.findById(mateMessage.getId(), MateChatMessage.class).getContent()).isEqualTo("mate");
+        assertThat(mongoTemplate.findById(goodsMessage.getId(), GoodsChatMessage.class).getMessageType())
+                .isEqualTo(MessageType.TALK);
+        writer.stop();
+    }
+
+    @Test
+    @DisplayName("저장되지 못한 저널은 재시작 후 다시 저장되고, 이미 저장된 메시지는 중복 저장되지 않는다")
+    void write_behind_mode_replays_journal_after_crash() throws Exception {
+        // given - flush 전에 종료된 노드
+        ChatMessageWriter crashed = createWriter(ChatMessageWriter.MODE_WRITE_BEHIND, 500);
+        crashed.start();
+        MateChatMessage alreadySaved = createMateChatMessage("already saved");
+        MateChatMessage pending = createMateChatMessage("pending");
+        mongoTemplate.insert(alreadySaved);
+        crashed.write(alreadySaved);
+        crashed.write(pending);
+
+        // when - 같은 저널 디렉터리로 재시작
+        ChatMessageWriter restarted = createWriter(ChatMessageWriter.MODE_WRITE_BEHIND, 500);
+        restarted.start();
+
+        // then
+        assertThat(mongoTemplate.findAll(MateChatMessage.class)).hasSize(2);
+        assertThat(mongoTemplate.findById(pending.getId(), MateChatMessage.class).getContent()).isEqualTo("pending");
+        try (var files = Files.list(journalDirectory)) {
+            assertThat(files.filter(file -> file.getFileName().toString().startsWith("segment-"))).isEmpty();
+        }
+        restarted.stop();
+    }
+
+    @Test
+    @DisplayName("다른 메시지가 저장되는 동안 반복해서 재처리에 실패한 저널은 quarantine 디렉터리로 옮겨진다")
+    void write_behind_mode_quarantines_failing_segment() throws Exception {
+        // given - 읽을 수 없는 segment 가 남아 있는 저널
+        Path broken = journalDirectory.resolve("segment-000000000000001-000001.log");
+        Files.writeString(broken, "not a journal line\n");
+        ChatMessageWriter writer = createWriter(ChatMessageWriter.MODE_WRITE_BEHIND, 500);
+        writer.start();
+        MateChatMessage first = createMateChatMessage("first");
+        MateChatMessage second = createMateChatMessage("second");
+
+        // when
+        writer.write(first);
+        writer.flush();
+        writer.write(second);
+        writer.flush();
+
+        // then
+        assertThat(mongoTemplate.findAll(MateChatMessage.class)).hasSize(2);
+        assertThat(broken).doesNotExist();
+        assertThat(journalDirectory.resolve("quarantine").resolve(broken.getFileName())).exists();
+        writer.stop();
+    }
+
+    @Test
+    @DisplayName("dual 저장 방식에서는 메시지 문서와 bucket 에 모두 저장된다")
+    void write_dual_layout_saves_document_and_bucket() {
+        // given
+        ChatMessageWriter writer = createWriter(ChatMessageWriter.MODE_SYNC, 500, ChatMessageBucketStore.LAYOUT_DUAL);
+        writer.start();
+        MateChatMessage message = createMateChatMessage("hello");
+
+        // when
+        writer.write(message);
+
+        // then
+        assertThat(mongoTemplate.findById(message.getId(), MateChatMessage.class)).isNotNull();
+        assertThat(mongoTemplate.getCollection("mate_chat_message_bucket").countDocuments()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.mate.domain.chat.presence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.mate.common.security.auth.AuthMember;
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.goodsChat.repository.GoodsChatPartRepository;
+import com.example.mate.domain.mateChat.repository.MateChatRoomMemberRepository;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+class ChatPresenceTrackerTest {
+
+    private static final ChatPresenceRoom ROOM = new ChatPresenceRoom(ChatRoomType.MATE, 1L);
+    private static final Long MEMBER_ID = 1L;
+    private static final Long OTHER_MEMBER_ID = 2L;
+
+    private ChatPresenceStore presenceStore;
+    private SimpMessageSendingOperations messagingTemplate;
+    private MateChatRoomMemberRepository mateChatRoomMemberRepository;
+    private ChatPresenceTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        presenceStore = mock(ChatPresenceStore.class);
+        messagingTemplate = mock(SimpMessageSendingOperations.class);
+        when(presenceStore.getTypingTtl()).thenReturn(Duration.ofSeconds(5));
+        when(presenceStore.snapshot(eq(ROOM), anyLong()))
+                .thenReturn(new ChatPresenceResponse("mate", 1L, List.of(MEMBER_ID), List.of()));
+        mateChatRoomMemberRepository = mock(MateChatRoomMemberRepository.class);
+        when(mateChatRoomMemberRepository.existsActiveMember(ROOM.roomId(), MEMBER_ID)).thenReturn(true);
+        tracker = new ChatPresenceTracker(presenceStore, messagingTemplate, mateChatRoomMemberRepository,
+                mock(GoodsChatPartRepository.class));
+    }
+
+    private Message<byte[]> subscribeMessage(String sessionId, String subscriptionId, String destination) {
+        return subscribeMessage(sessionId, subscriptionId, destination,
+                new AuthMember("member" + MEMBER_ID + "@gmail.com", MEMBER_ID));
+    }
+
+    private Message<byte[]> subscribeMessage(String sessionId, String subscriptionId, String destination,
+                                             AuthMember user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        accessor.setUser(user);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private SessionDisconnectEvent disconnectEvent(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return new SessionDisconnectEvent(this, MessageBuilder.createMessage(new byte[0],
+                accessor.getMessageHeaders()), sessionId, CloseStatus.NORMAL);
+    }
+
+    @Test
+    @DisplayName("채팅방 구독 시 입장으로 기록하고 다음 전송 주기에 접속 상태를 전송한다")
+    void subscribe_marks_member_online() {
+        // given
+        tracker.subscribe(subscribeMessage("session-1", "sub-1", "/sub/chat/mate/1"));
+
+        // when
+        tracker.broadcast();
+
+        // then
+        verify(presenceStore).touch(eq(ROOM), eq(List.of(MEMBER_ID)), anyLong());
+        verify(messagingTemplate).convertAndSend(eq("/sub/chat/mate/1/presence"), any(ChatPresenceResponse.class));
+    }
+
+    @Test
+    @DisplayName("채팅방이 아닌 경로의 구독은 무시한다")
+    void subscribe_ignores_non_room_destination() {
+        // given
+        tracker.subscribe(subscribeMessage("session-1", "sub-1", "/sub/chat/unread/1"));
+
+        // when
+        tracker.broadcast();
+
+        // then
+        verify(presenceStore, never()).touch(any(), any(), anyLong());
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 세션의 구독은 입장으로 기록하지 않는다")
+    void subscribe_ignores_unauthenticated_session() {
+        // given
+        tracker.subscribe(subscribeMessage("session-1", "sub-1", "/sub/chat/mate/1", null));
+
+        // when
+        tracker.broadcast();
+
+        // then
+        verify(presenceStore, never()).touch(any(), any(), anyLong());
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("채팅방 멤버가 아닌 회원의 구독은 입장으로 기록하지 않는다")
+    void subscribe_ignores_non_member() {
+        // given
+        AuthMember other = new AuthMember("member" + OTHER_MEMBER_ID + "@gmail.com", OTHER_MEMBER_ID);
+        tracker.subscribe(subscribeMessage("session-1", "sub-1", "/sub/chat/mate/1", other));
+
+        // when
+        tracker.broadcast();
+
+        // then
+        verify(mateChatRoomMemberRepository).existsActiveMember(ROOM.roomId(), OTHER_MEMBER_ID);
+        verify(presenceStore, never()).touch(any(), any(), anyLong());
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("채팅방에 입장하지 않은 회원의 입력 중 요청은 무시한다")
+    void typing_ignores_member_not_in_room() {
+        // given
+        tracker.typing(ROOM, OTHER_MEMBER_ID, true);
+
+        // when
+        tracker.broadcast();
+
+        // then
+        verify(presenceStore, never()).startTyping(any(), any(), anyLong());
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("입력 이벤트가 여러 번 들어와도 Redis 기록과 전송은 한 번만 한다")
+    void typing_is_coalesced_per_interval() {
+        // given
+        tracker.subscribe(subscribeMessage("session-1", "sub-1", "/sub/chat/mate/1"));
+        tracker.broadcast();
+        clearInvocations(messagingTemplate);
+        for (int i = 0; i < 20; i++) {
+            tracker.typing(ROOM, MEMBER_ID, true);
+        }
+
+        // when
+        tracker.broadcast();
+        tracker.broadcast();
+
+        // then
+        verify(presenceStore, times(1)).startTyping(eq(ROOM), eq(MEMBER_ID), anyLong());
+        verify(messagingTemplate, times(1)).convertAndSend(eq(ROOM.presenceDestination()),
+                any(ChatPresenceResponse.class));
+    }
+
+    @Test
+    @DisplayName("같은 회원의 다른 세션이 남아 있으면 연결 종료 시에도 퇴장 처리하지 않는다")
+    void disconnect_keeps_member_with_other_session() {
+        // given
+        tracker.subscribe(subscribeMessage("session-1", "sub-1", "/sub/chat/mate/1"));
+        tracker.subscribe(subscribeMessage("session-2", "sub-1", "/sub/chat/mate/1"));
+
+        // when
+        tracker.handleDisconnect(disconnectEvent("session-1"));
+
+        // then
+        verify(presenceStore, never()).leave(ROOM, MEMBER_ID);
+
+        // when
+        tracker.handleDisconnect(disconnectEvent("session-2"));
+
+        // then
+        verify(presenceStore).leave(ROOM, MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("채팅방 구독 경로에서 채팅방 종류와 ID 를 추출한다")
+    void fromDestination_parses_room() {
+        assertThat(ChatPresenceRoom.fromDestination("/sub/chat/goods/12"))
+                .contains(new ChatPresenceRoom(ChatRoomType.GOODS, 12L));
+        assertThat(ChatPresenceRoom.fromDestination("/sub/chat/goods/12/presence")).isEmpty();
+    }
+}
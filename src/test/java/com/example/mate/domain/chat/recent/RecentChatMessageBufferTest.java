@@ -0,0 +1,188 @@
+package com.example.mate.domain.chat.recent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.mate.common.cluster.ClusterBus;
+import com.example.mate.common.cluster.LocalClusterBus;
+import com.example.mate.common.cluster.StandaloneClusterBus;
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.member.cache.MemberCardCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RecentChatMessageBufferTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 11, 1, 12, 0);
+
+    private TestBuffer createBuffer(ClusterBus clusterBus, int capacity) {
+        TestBuffer buffer = new TestBuffer(clusterBus, capacity);
+        buffer.subscribe();
+        return buffer;
+    }
+
+    private TestMessage message(int seq) {
+        return new TestMessage("m" + seq, 1L, NOW.plusSeconds(seq));
+    }
+
+    private List<String> ids(List<TestMessage> messages) {
+        return messages.stream().map(TestMessage::id).toList();
+    }
+
+    @Test
+    @DisplayName("버퍼가 없는 채팅방은 한 번만 조회하고 이후에는 메모리에서 응답한다")
+    void getLatest_loads_once_then_serves_from_memory() {
+        // given
+        TestBuffer buffer = createBuffer(new StandaloneClusterBus(), 5);
+        CountingLoader loader = new CountingLoader(List.of(message(2), message(1)));
+
+        // when
+        List<TestMessage> first = buffer.getLatest(1L, 3, null, loader);
+        buffer.append(1L, message(3));
+        List<TestMessage> second = buffer.getLatest(1L, 3, null, loader);
+
+        // then
+        assertThat(ids(first)).containsExactly("m2", "m1");
+        assertThat(ids(second)).containsExactly("m3", "m2", "m1");
+        assertThat(loader.count.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가득 찬 버퍼는 가장 오래된 메시지를 덮어쓰고 조회 없이 응답한다")
+    void append_overwrites_oldest_when_full() {
+        // given
+        TestBuffer buffer = createBuffer(new StandaloneClusterBus(), 3);
+        CountingLoader loader = new CountingLoader(List.of());
+
+        // when
+        for (int seq = 1; seq <= 5; seq++) {
+            buffer.append(1L, message(seq));
+        }
+        List<TestMessage> latest = buffer.getLatest(1L, 3, null, loader);
+
+        // then
+        assertThat(ids(latest)).containsExactly("m5", "m4", "m3");
+        assertThat(loader.count.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("일부 메시지만 있는 버퍼는 조회 결과와 합쳐서 응답한다")
+    void getLatest_merges_loaded_messages_with_appended_messages() {
+        // given
+        TestBuffer buffer = createBuffer(new StandaloneClusterBus(), 5);
+        buffer.append(1L, message(3));
+        buffer.append(1L, message(4));
+        CountingLoader loader = new CountingLoader(List.of(message(3), message(2), message(1)));
+
+        // when
+        List<TestMessage> latest = buffer.getLatest(1L, 5, null, loader);
+
+        // then
+        assertThat(ids(latest)).containsExactly("m4", "m3", "m2", "m1");
+        assertThat(loader.count.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("입장 시각 이전의 메시지는 제외한다")
+    void getLatest_excludes_messages_before_after() {
+        // given
+        TestBuffer buffer = createBuffer(new StandaloneClusterBus(), 5);
+        CountingLoader loader = new CountingLoader(List.of(message(3), message(2), message(1)));
+
+        // when
+        List<TestMessage> latest = buffer.getLatest(1L, 5, NOW.plusSeconds(1), loader);
+
+        // then
+        assertThat(ids(latest)).containsExactly("m3", "m2");
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 전송된 메시지는 ID 순서대로 반영된다")
+    void remote_messages_are_ordered_by_id() {
+        // given
+        LocalClusterBus originBus = new LocalClusterBus();
+        LocalClusterBus otherBus = new LocalClusterBus();
+        try {
+            TestBuffer origin = createBuffer(originBus, 5);
+            TestBuffer other = createBuffer(otherBus, 5);
+            CountingLoader loader = new CountingLoader(List.of());
+            other.getLatest(1L, 5, null, loader);
+
+            // when
+            other.append(1L, message(3));
+            origin.append(1L, message(2));
+
+            // then
+            assertThat(ids(other.getLatest(1L, 5, null, loader))).containsExactly("m3", "m2");
+            assertThat(loader.count.get()).isEqualTo(1);
+        } finally {
+            originBus.destroy();
+            otherBus.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("발신자 정보가 바뀌면 해당 발신자의 메시지를 가진 버퍼를 제거한다")
+    void member_card_invalidation_evicts_rings_with_sender() {
+        // given
+        StandaloneClusterBus clusterBus = new StandaloneClusterBus();
+        TestBuffer buffer = createBuffer(clusterBus, 5);
+        CountingLoader loader = new CountingLoader(List.of(message(1)));
+        buffer.getLatest(1L, 5, null, loader);
+
+        // when
+        clusterBus.publish(MemberCardCache.INVALIDATION_CHANNEL, 1L);
+        buffer.getLatest(1L, 5, null, loader);
+
+        // then
+        assertThat(loader.count.get()).isEqualTo(2);
+    }
+
+    private record TestMessage(String id, Long senderId, LocalDateTime sentAt) {
+    }
+
+    private static class TestBuffer extends RecentChatMessageBuffer<TestMessage> {
+
+        TestBuffer(ClusterBus clusterBus, int capacity) {
+            super(ChatRoomType.GOODS, TestMessage.class, clusterBus, new SimpleMeterRegistry(),
+                    capacity, 100, Duration.ofMinutes(30));
+        }
+
+        @Override
+        protected String messageId(TestMessage message) {
+            return message.id();
+        }
+
+        @Override
+        protected Long senderId(TestMessage message) {
+            return message.senderId();
+        }
+
+        @Override
+        protected LocalDateTime sentAt(TestMessage message) {
+            return message.sentAt();
+        }
+    }
+
+    private static class CountingLoader implements Supplier<List<TestMessage>> {
+
+        private final List<TestMessage> messages;
+        private final AtomicInteger count = new AtomicInteger();
+
+        CountingLoader(List<TestMessage> messages) {
+            this.messages = messages;
+        }
+
+        @Override
+        public List<TestMessage> get() {
+            count.incrementAndGet();
+            return new ArrayList<>(messages);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.mate.domain.chat.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.mate.common.error.CustomException;
+import com.example.mate.common.error.ErrorCode;
+import com.example.mate.domain.chat.ChatMessageCursor;
+import com.example.mate.domain.chat.archive.ChatMessageArchive;
+import com.example.mate.domain.chat.bucket.ChatMessageBucketStore;
+import com.example.mate.domain.constant.MessageType;
+import com.example.mate.domain.goodsChat.document.GoodsChatMessage;
+import com.example.mate.domain.goodsChat.repository.GoodsChatMessageRepositoryCustomImpl;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+
+class ChatMessageSearchTest {
+
+    private static final Long CHAT_ROOM_ID = 1L;
+
+    private MongoServer mongoServer;
+    private SimpleMongoClientDatabaseFactory databaseFactory;
+    private MongoTemplate mongoTemplate;
+    private GoodsChatMessageRepositoryCustomImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        mongoServer = new MongoServer(new MemoryBackend());
+        mongoServer.bind();
+        databaseFactory = new SimpleMongoClientDatabaseFactory(mongoServer.getConnectionString() + "/test");
+        mongoTemplate = new MongoTemplate(databaseFactory);
+        repository = new GoodsChatMessageRepositoryCustomImpl(mongoTemplate,
+                new ChatMessageBucketStore(mongoTemplate, ChatMessageBucketStore.LAYOUT_DOCUMENT, 200),
+                new ChatMessageArchive(mongoTemplate, 1000));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        databaseFactory.destroy();
+        mongoServer.shutdown();
+    }
+
+    // ChatMessageWriter 와 같은 방식으로 검색 토큰을 기록해 저장
+    private String save(String content) {
+        GoodsChatMessage message = GoodsChatMessage.builder()
+                .id(new ObjectId().toHexString())
+                .chatRoomId(CHAT_ROOM_ID)
+                .memberId(1L)
+                .content(content)
+                .messageType(MessageType.TALK)
+                .sentAt(LocalDateTime.now())
+                .build();
+        Document document = new Document();
+        mongoTemplate.getConverter().write(message, document);
+        ChatSearchTokenizer.index(document);
+        mongoTemplate.insert(document, "goods_chat_message");
+        return message.getId();
+    }
+
+    @Test
+    @DisplayName("조사가 붙거나 띄어쓰기가 달라도 검색어를 포함하는 메시지를 최신순으로 찾는다")
+    void searchMessages_finds_messages_containing_keyword() {
+        // given
+        String first = save("잠실야구장에서 만나요");
+        save("야구 보러 가요");
+        String second = save("내일 잠실야구장 앞");
+        save("실야 구장 잠실 야구");   // 검색어의 토큰은 모두 포함하지만 검색어는 포함하지 않음
+
+        // when
+        List<GoodsChatMessage> hits = repository.searchMessages(CHAT_ROOM_ID, ChatSearchQuery.of("잠실야구장"), null, 10)
+                .messages();
+
+        // then
+        assertThat(hits).extracting(GoodsChatMessage::getId).containsExactly(second, first);
+    }
+
+    @Test
+    @DisplayName("커서 이전의 메시지만 검색한다")
+    void searchMessages_continues_from_cursor() {
+        // given
+        String older = save("유니폼 사이즈 문의");
+        String newer = save("유니폼 거래 가능?");
+
+        // when
+        List<GoodsChatMessage> hits = repository.searchMessages(CHAT_ROOM_ID, ChatSearchQuery.of("유니폼"),
+                new ObjectId(newer), 10).messages();
+
+        // then
+        assertThat(hits).extracting(GoodsChatMessage::getId).containsExactly(older);
+    }
+
+    @Test
+    @DisplayName("스캔 한도 안에 검색어를 찾지 못하면 이어서 검색할 위치를 반환한다")
+    void searchMessages_stops_at_scan_limit() {
+        // given - 검색어의 토큰은 모두 포함하지만 검색어는 포함하지 않는 메시지가 스캔 한도보다 많음
+        String hit = save("잠실야구장에서 만나요");
+        for (int i = 0; i < 1_000; i++) {
+            save("실야 구장 잠실 야구");
+        }
+
+        // when
+        ChatSearchResult<GoodsChatMessage> first = repository.searchMessages(CHAT_ROOM_ID,
+                ChatSearchQuery.of("잠실야구장"), null, 10);
+        ChatSearchResult<GoodsChatMessage> next = repository.searchMessages(CHAT_ROOM_ID,
+                ChatSearchQuery.of("잠실야구장"), first.continueBefore(), 10);
+
+        // then
+        assertThat(first.messages()).isEmpty();
+        assertThat(first.continueBefore()).isNotNull();
+        assertThat(next.messages()).extracting(GoodsChatMessage::getId).containsExactly(hit);
+        assertThat(next.continueBefore()).isNull();
+    }
+
+    @Test
+    @DisplayName("검색 결과의 커서로 조회하면 검색된 메시지부터 이전 메시지를 조회한다")
+    void historyCursor_includes_hit() {
+        // given
+        String messageId = new ObjectId().toHexString();
+
+        // when
+        ObjectId before = ChatMessageCursor.decode(ChatMessageCursor.encodeFrom(messageId));
+
+        // then
+        assertThat(new ObjectId(messageId)).isLessThan(before);
+        assertThat(before.toHexString()).isNotEqualTo(messageId);
+    }
+
+    @Test
+    @DisplayName("글자나 숫자가 없는 검색어는 예외가 발생한다")
+    void of_rejects_blank_keyword() {
+        assertThatThrownBy(() -> ChatSearchQuery.of("?!"))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(ErrorCode.INVALID_CHAT_SEARCH_KEYWORD.getMessage());
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.mate.domain.chat.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.mate.common.cluster.ClusterBus;
+import com.example.mate.common.cluster.LocalClusterBus;
+import com.example.mate.common.cluster.StandaloneClusterBus;
+import com.example.mate.domain.chat.ChatRoomType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChatRoomStateCacheTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    // 호출 횟수를 기록하는 테스트용 로더
+    private static class CountingLoader implements ChatRoomStateLoader {
+
+        private final AtomicInteger loadCount = new AtomicInteger();
+        private Function<Long, Optional<ChatRoomState>> delegate;
+
+        CountingLoader(Function<Long, Optional<ChatRoomState>> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ChatRoomType type() {
+            return ChatRoomType.MATE;
+        }
+
+        @Override
+        public Optional<ChatRoomState> load(Long roomId) {
+            loadCount.incrementAndGet();
+            return delegate.apply(roomId);
+        }
+    }
+
+    private ChatRoomStateCache createCache(ClusterBus clusterBus, ChatRoomStateLoader loader) {
+        ChatRoomStateCache cache = new ChatRoomStateCache(clusterBus, List.of(loader), new SimpleMeterRegistry(),
+                100, Duration.ofMinutes(5));
+        cache.subscribe();
+        return cache;
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 채팅방 상태는 다시 조회하지 않는다")
+    void get_loads_once() {
+        // given
+        CountingLoader loader = new CountingLoader(roomId -> Optional.of(new ChatRoomState(true, Set.of(1L, 2L))));
+        ChatRoomStateCache cache = createCache(new StandaloneClusterBus(), loader);
+
+        // when
+        cache.get(ChatRoomType.MATE, ROOM_ID);
+        Optional<ChatRoomState> state = cache.get(ChatRoomType.MATE, ROOM_ID);
+
+        // then
+        assertThat(state).isPresent();
+        assertThat(state.get().isActiveMember(2L)).isTrue();
+        assertThat(loader.loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 채팅방은 캐시하지 않는다")
+    void get_does_not_cache_missing_room() {
+        // given
+        CountingLoader loader = new CountingLoader(roomId -> Optional.empty());
+        ChatRoomStateCache cache = createCache(new StandaloneClusterBus(), loader);
+
+        // when
+        cache.get(ChatRoomType.MATE, ROOM_ID);
+        cache.get(ChatRoomType.MATE, ROOM_ID);
+
+        // then
+        assertThat(loader.loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 조회 결과를 캐시에 저장하지 않는다")
+    void get_discards_state_invalidated_during_load() {
+        // given
+        StandaloneClusterBus clusterBus = new StandaloneClusterBus();
+        CountingLoader loader = new CountingLoader(null);
+        ChatRoomStateCache cache = createCache(clusterBus, loader);
+        loader.delegate = roomId -> {
+            // 조회 도중 다른 요청이 채팅방 상태를 변경
+            cache.invalidate(ChatRoomType.MATE, roomId);
+            return Optional.of(new ChatRoomState(true, Set.of(1L)));
+        };
+
+        // when
+        cache.get(ChatRoomType.MATE, ROOM_ID);
+        loader.delegate = roomId -> Optional.of(new ChatRoomState(false, Set.of()));
+        Optional<ChatRoomState> state = cache.get(ChatRoomType.MATE, ROOM_ID);
+
+        // then
+        assertThat(state).map(ChatRoomState::messageable).contains(false);
+        assertThat(loader.loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("무효화는 모든 노드에 전파된다")
+    void invalidate_propagates_to_every_node() {
+        // given
+        LocalClusterBus nodeA = new LocalClusterBus();
+        LocalClusterBus nodeB = new LocalClusterBus();
+        try {
+            CountingLoader loaderA = new CountingLoader(roomId -> Optional.of(new ChatRoomState(true, Set.of(1L))));
+            CountingLoader loaderB = new CountingLoader(roomId -> Optional.of(new ChatRoomState(true, Set.of(1L))));
+            ChatRoomStateCache cacheA = createCache(nodeA, loaderA);
+            ChatRoomStateCache cacheB = createCache(nodeB, loaderB);
+            cacheB.get(ChatRoomType.MATE, ROOM_ID);
+            loaderB.delegate = roomId -> Optional.of(new ChatRoomState(false, Set.of()));
+
+            // when
+            cacheA.invalidate(ChatRoomType.MATE, ROOM_ID);
+
+            // then
+            assertThat(cacheB.get(ChatRoomType.MATE, ROOM_ID)).map(ChatRoomState::messageable).contains(false);
+            assertThat(loaderB.loadCount).hasValue(2);
+        } finally {
+            nodeA.destroy();
+            nodeB.destroy();
+        }
+    }
+}
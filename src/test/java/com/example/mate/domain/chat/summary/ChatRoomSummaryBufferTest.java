@@ -0,0 +1,149 @@
+package com.example.mate.domain.chat.summary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.mate.common.cluster.LocalClusterBus;
+import com.example.mate.common.cluster.StandaloneClusterBus;
+import com.example.mate.domain.chat.ChatRoomType;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomSummaryBufferTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 11, 1, 12, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ChatRoomSummaryBuffer createBuffer() {
+        ChatRoomSummaryBuffer buffer = new ChatRoomSummaryBuffer(jdbcTemplate, new StandaloneClusterBus(), 1000);
+        buffer.subscribe();
+        return buffer;
+    }
+
+    @Test
+    @DisplayName("같은 채팅방의 갱신은 최신 값 하나로 합쳐지고 DB 값보다 우선한다")
+    void record_keeps_latest_value_per_room() {
+        // given
+        ChatRoomSummaryBuffer buffer = createBuffer();
+
+        // when
+        buffer.record(ChatRoomType.MATE, 1L, "second", NOW.plusSeconds(2));
+        buffer.record(ChatRoomType.MATE, 1L, "first", NOW.plusSeconds(1));
+
+        // then
+        assertThat(buffer.resolve(ChatRoomType.MATE, 1L, "persisted", NOW))
+                .isEqualTo(new LastChat("second", NOW.plusSeconds(2)));
+        assertThat(buffer.resolve(ChatRoomType.GOODS, 1L, "persisted", NOW))
+                .isEqualTo(new LastChat("persisted", NOW));
+        assertThat(buffer.resolve(ChatRoomType.MATE, 1L, "newer", NOW.plusSeconds(3)))
+                .isEqualTo(new LastChat("newer", NOW.plusSeconds(3)));
+    }
+
+    @Test
+    @DisplayName("flush 는 채팅방 종류별로 한 번의 batch UPDATE 를 수행하고 반영된 값을 비운다")
+    @SuppressWarnings("unchecked")
+    void flush_executes_single_batch_update_per_type() {
+        // given
+        ChatRoomSummaryBuffer buffer = createBuffer();
+        for (int i = 0; i < 10; i++) {
+            buffer.record(ChatRoomType.MATE, 1L, "message " + i, NOW.plusSeconds(i));
+            buffer.record(ChatRoomType.MATE, 2L, "message " + i, NOW.plusSeconds(i));
+        }
+
+        // when
+        buffer.flush();
+        buffer.flush();
+
+        // then
+        verify(jdbcTemplate, times(1)).batchUpdate(contains("mate_chat_room"), anyList(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        verify(jdbcTemplate).batchUpdate(contains("modified_at = ?"), anyList(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        verify(jdbcTemplate, never()).batchUpdate(contains("goods_chat_room"), anyList(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertThat(buffer.resolve(ChatRoomType.MATE, 1L, "persisted", NOW))
+                .isEqualTo(new LastChat("persisted", NOW));
+    }
+
+    @Test
+    @DisplayName("flush 에 실패하면 값을 유지하고 다음 flush 에서 다시 반영한다")
+    @SuppressWarnings("unchecked")
+    void flush_failure_keeps_pending_values() {
+        // given
+        ChatRoomSummaryBuffer buffer = createBuffer();
+        buffer.record(ChatRoomType.GOODS, 1L, "hello", NOW);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(new int[][]{{1}});
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(buffer.resolve(ChatRoomType.GOODS, 1L, null, null)).isEqualTo(new LastChat("hello", NOW));
+        buffer.flush();
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 갱신은 목록 조회에 반영되지만 해당 노드만 DB 에 반영한다")
+    @SuppressWarnings("unchecked")
+    void remote_updates_are_visible_but_not_flushed() {
+        // given
+        LocalClusterBus originBus = new LocalClusterBus();
+        LocalClusterBus otherBus = new LocalClusterBus();
+        try {
+            ChatRoomSummaryBuffer origin = new ChatRoomSummaryBuffer(jdbcTemplate, originBus, 1000);
+            ChatRoomSummaryBuffer other = new ChatRoomSummaryBuffer(jdbcTemplate, otherBus, 1000);
+            origin.subscribe();
+            other.subscribe();
+
+            // when
+            origin.record(ChatRoomType.MATE, 1L, "hello", NOW);
+            other.flush();
+
+            // then
+            assertThat(other.resolve(ChatRoomType.MATE, 1L, null, null)).isEqualTo(new LastChat("hello", NOW));
+            verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(),
+                    any(ParameterizedPreparedStatementSetter.class));
+        } finally {
+            originBus.destroy();
+            otherBus.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("목록은 마지막 채팅 시각 내림차순으로 재정렬된다")
+    void sortByLastChat_orders_by_sent_at_desc() {
+        // given
+        ChatRoomSummaryBuffer buffer = createBuffer();
+        List<LastChat> chats = List.of(
+                new LastChat("old", NOW), new LastChat("none", null), new LastChat("new", NOW.plusMinutes(1)));
+
+        // when
+        List<LastChat> sorted = buffer.sortByLastChat(chats, LastChat::sentAt);
+
+        // then
+        assertThat(sorted).extracting(LastChat::content).containsExactly("new", "old", "none");
+    }
+}
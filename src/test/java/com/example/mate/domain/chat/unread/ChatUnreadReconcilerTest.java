@@ -0,0 +1,133 @@
+package com.example.mate.domain.chat.unread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.chat.bucket.ChatMessageBucketStore;
+import com.example.mate.domain.constant.MessageType;
+import com.example.mate.domain.goodsChat.document.GoodsChatMessage;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Map;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+
+class ChatUnreadReconcilerTest {
+
+    private static final Long CHAT_ROOM_ID = 1L;
+    private static final Long MEMBER_ID = 1L;
+    private static final Long OPPONENT_ID = 2L;
+
+    private MongoServer mongoServer;
+    private SimpleMongoClientDatabaseFactory databaseFactory;
+    private MongoTemplate mongoTemplate;
+    private ChatUnreadCounter chatUnreadCounter;
+    private ChatUnreadReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        mongoServer = new MongoServer(new MemoryBackend());
+        mongoServer.bind();
+        databaseFactory = new SimpleMongoClientDatabaseFactory(mongoServer.getConnectionString() + "/test");
+        mongoTemplate = new MongoTemplate(databaseFactory);
+        chatUnreadCounter = mock(ChatUnreadCounter.class);
+        reconciler = new ChatUnreadReconciler(chatUnreadCounter, mongoTemplate,
+                new ChatMessageBucketStore(mongoTemplate, ChatMessageBucketStore.LAYOUT_DOCUMENT, 200),
+                new SimpleMeterRegistry(), Duration.ofMinutes(1), 600_000);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        databaseFactory.destroy();
+        mongoServer.shutdown();
+    }
+
+    private ObjectId objectIdAt(Duration ago) {
+        return new ObjectId(Date.from(Instant.now().minus(ago)));
+    }
+
+    private void saveGoodsChatMessage(ObjectId id, Long memberId, MessageType type) {
+        mongoTemplate.insert(GoodsChatMessage.builder()
+                .id(id.toHexString())
+                .chatRoomId(CHAT_ROOM_ID)
+                .memberId(memberId)
+                .content("message")
+                .messageType(type)
+                .sentAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    @DisplayName("읽음 기준 이후 상대방의 대화 메시지 수로 어긋난 값을 보정한다")
+    void reconcile_repairs_drifted_counter() {
+        // given
+        ObjectId readMarker = objectIdAt(Duration.ofMinutes(30));
+        saveGoodsChatMessage(objectIdAt(Duration.ofMinutes(40)), OPPONENT_ID, MessageType.TALK);  // 읽은 메시지
+        saveGoodsChatMessage(objectIdAt(Duration.ofMinutes(20)), OPPONENT_ID, MessageType.TALK);
+        saveGoodsChatMessage(objectIdAt(Duration.ofMinutes(15)), OPPONENT_ID, MessageType.TALK);
+        saveGoodsChatMessage(objectIdAt(Duration.ofMinutes(12)), OPPONENT_ID, MessageType.LEAVE); // 대화 메시지 아님
+        saveGoodsChatMessage(objectIdAt(Duration.ofMinutes(10)), MEMBER_ID, MessageType.TALK);    // 본인 메시지
+
+        when(chatUnreadCounter.getUnreadCounts(ChatRoomType.GOODS, CHAT_ROOM_ID)).thenReturn(Map.of(MEMBER_ID, 5L));
+        when(chatUnreadCounter.getReadMarkers(ChatRoomType.GOODS, CHAT_ROOM_ID))
+                .thenReturn(Map.of(MEMBER_ID, readMarker.toHexString()));
+        when(chatUnreadCounter.compareAndSet(ChatRoomType.GOODS, CHAT_ROOM_ID, MEMBER_ID, 5L, 2L)).thenReturn(true);
+
+        // when
+        int repaired = reconciler.reconcile(ChatRoomType.GOODS, CHAT_ROOM_ID);
+
+        // then
+        assertThat(repaired).isEqualTo(1);
+        verify(chatUnreadCounter).compareAndSet(ChatRoomType.GOODS, CHAT_ROOM_ID, MEMBER_ID, 5L, 2L);
+    }
+
+    @Test
+    @DisplayName("값이 일치하면 보정하지 않는다")
+    void reconcile_skips_matching_counter() {
+        // given
+        ObjectId readMarker = objectIdAt(Duration.ofMinutes(30));
+        saveGoodsChatMessage(objectIdAt(Duration.ofMinutes(20)), OPPONENT_ID, MessageType.TALK);
+
+        when(chatUnreadCounter.getUnreadCounts(ChatRoomType.GOODS, CHAT_ROOM_ID)).thenReturn(Map.of(MEMBER_ID, 1L));
+        when(chatUnreadCounter.getReadMarkers(ChatRoomType.GOODS, CHAT_ROOM_ID))
+                .thenReturn(Map.of(MEMBER_ID, readMarker.toHexString()));
+
+        // when
+        int repaired = reconciler.reconcile(ChatRoomType.GOODS, CHAT_ROOM_ID);
+
+        // then
+        assertThat(repaired).isZero();
+        verify(chatUnreadCounter, never()).compareAndSet(eq(ChatRoomType.GOODS), eq(CHAT_ROOM_ID), eq(MEMBER_ID),
+                anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("최근 메시지가 있는 채팅방은 아직 저장되지 않은 메시지가 있을 수 있어 건너뛴다")
+    void reconcile_skips_room_with_recent_message() {
+        // given
+        saveGoodsChatMessage(new ObjectId(), OPPONENT_ID, MessageType.TALK);
+
+        // when
+        int repaired = reconciler.reconcile(ChatRoomType.GOODS, CHAT_ROOM_ID);
+
+        // then
+        assertThat(repaired).isZero();
+        verify(chatUnreadCounter, never()).getReadMarkers(ChatRoomType.GOODS, CHAT_ROOM_ID);
+    }
+}
@@ -12,6 +12,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.example.mate.common.error.CustomException;
 import com.example.mate.common.error.ErrorCode;
+import com.example.mate.common.response.CursorResponse;
 import com.example.mate.common.response.PageResponse;
 import com.example.mate.common.security.filter.JwtCheckFilter;
 import com.example.mate.common.security.util.JwtUtil;
@@ -170,6 +171,38 @@ class GoodsChatRoomControllerTest {
         verify(goodsChatService).getChatRoomMessages(chatRoomId, memberId, null);
     }
 
+    @Test
+    @DisplayName("채팅 내역 커서 조회 성공 - 메시지 목록과 다음 커서를 반환한다.")
+    void getMessagesByCursor_should_return_messages_and_next_cursor() throws Exception {
+        // given
+        Long chatRoomId = 1L;
+        Long memberId = 1L;
+        String cursor = "ZfV2aQAAAAAAAAAB";
+        String nextCursor = "ZfV2aAAAAAAAAAAB";
+
+        GoodsChatMessageResponse message = GoodsChatMessageResponse.builder()
+                .chatMessageId("65f57668000000000000000a")
+                .message("older message")
+                .senderId(memberId)
+                .sentAt(LocalDateTime.now().minusMinutes(10))
+                .build();
+
+        when(goodsChatService.getChatRoomMessagesByCursor(chatRoomId, memberId, cursor))
+                .thenReturn(CursorResponse.of(List.of(message), nextCursor));
+
+        // when & then
+        mockMvc.perform(get("/api/goods/chat/{chatRoomId}/message/scroll", chatRoomId)
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUCCESS"))
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.data.content[0].chatMessageId").value(message.getChatMessageId()))
+                .andExpect(jsonPath("$.data.nextCursor").value(nextCursor))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+
+        verify(goodsChatService).getChatRoomMessagesByCursor(chatRoomId, memberId, cursor);
+    }
+
     @Test
     @DisplayName("굿즈거래 채팅방 상세 조회 성공")
     void getGoodsChatRoomInfo_should_return_chatroom_info_and_latest_message() throws Exception {
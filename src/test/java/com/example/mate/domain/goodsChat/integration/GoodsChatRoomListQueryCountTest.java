@@ -0,0 +1,123 @@
+package com.example.mate.domain.goodsChat.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.mate.common.response.PageResponse;
+import com.example.mate.domain.chat.unread.ChatUnreadCounter;
+import com.example.mate.domain.constant.Gender;
+import com.example.mate.domain.goodsChat.dto.response.GoodsChatRoomSummaryResponse;
+import com.example.mate.domain.goodsChat.entity.GoodsChatRoom;
+import com.example.mate.domain.goodsChat.repository.GoodsChatRoomRepository;
+import com.example.mate.domain.goodsChat.service.GoodsChatService;
+import com.example.mate.domain.goodsPost.dto.response.LocationInfo;
+import com.example.mate.domain.goodsPost.entity.Category;
+import com.example.mate.domain.goodsPost.entity.GoodsPost;
+import com.example.mate.domain.goodsPost.entity.Role;
+import com.example.mate.domain.goodsPost.entity.Status;
+import com.example.mate.domain.goodsPost.repository.GoodsPostRepository;
+import com.example.mate.domain.member.entity.Member;
+import com.example.mate.domain.member.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+public class GoodsChatRoomListQueryCountTest {
+
+    @Autowired private GoodsChatService goodsChatService;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private GoodsPostRepository goodsPostRepository;
+    @Autowired private GoodsChatRoomRepository chatRoomRepository;
+    @Autowired private EntityManager entityManager;
+
+    @MockBean private ChatUnreadCounter chatUnreadCounter;
+
+    private Member buyer;
+    private Statistics statistics;
+    private int sellerSequence;
+
+    @BeforeEach
+    void setUp() {
+        buyer = createMember("buyer");
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("채팅방 수가 늘어나도 채팅방 목록 조회 쿼리 수는 일정하다")
+    void getGoodsChatRooms_statement_count_does_not_grow_with_room_count() {
+        // given
+        Pageable pageable = PageRequest.of(0, 2);
+        createChatRooms(3);
+        long fewRoomsStatements = countStatements(pageable, 2);
+
+        // when
+        createChatRooms(27);
+        long manyRoomsStatements = countStatements(pageable, 2);
+
+        // then - 회원 조회, 채팅방 ID 페이지 조회, 카운트 조회, 채팅방 일괄 조회
+        assertThat(fewRoomsStatements).isEqualTo(4);
+        assertThat(manyRoomsStatements).isEqualTo(fewRoomsStatements);
+    }
+
+    private long countStatements(Pageable pageable, int expectedSize) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        PageResponse<GoodsChatRoomSummaryResponse> response =
+                goodsChatService.getGoodsChatRooms(buyer.getId(), pageable);
+
+        assertThat(response.getContent()).hasSize(expectedSize);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createChatRooms(int count) {
+        for (int i = 0; i < count; i++) {
+            Member seller = createMember("seller" + sellerSequence++);
+            GoodsPost goodsPost = goodsPostRepository.save(GoodsPost.builder()
+                    .teamId(1L)
+                    .seller(seller)
+                    .title("test title")
+                    .content("test content")
+                    .price(10_000)
+                    .status(Status.OPEN)
+                    .category(Category.ACCESSORY)
+                    .location(LocationInfo.toEntity(LocationInfo.builder()
+                            .placeName("Stadium Plaza")
+                            .longitude("127.12345")
+                            .latitude("37.56789")
+                            .build()))
+                    .build());
+
+            GoodsChatRoom chatRoom = GoodsChatRoom.builder()
+                    .goodsPost(goodsPost)
+                    .build();
+            chatRoom.addChatParticipant(buyer, Role.BUYER);
+            chatRoom.addChatParticipant(seller, Role.SELLER);
+            chatRoomRepository.save(chatRoom);
+        }
+    }
+
+    private Member createMember(String name) {
+        return memberRepository.save(Member.builder()
+                .name(name)
+                .nickname(name)
+                .email(name + "@gmail.com")
+                .imageUrl("upload/test.jpg")
+                .gender(Gender.FEMALE)
+                .age(25)
+                .manner(0.3f)
+                .teamId(1L)
+                .build());
+    }
+}
@@ -2,6 +2,7 @@ package com.example.mate.domain.goodsChat.service;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -9,6 +10,13 @@ import static org.mockito.Mockito.when;
 
 import com.example.mate.common.error.CustomException;
 import com.example.mate.common.error.ErrorCode;
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.chat.engine.ChatMessagePipeline;
+import com.example.mate.domain.chat.persistence.ChatMessageWriter;
+import com.example.mate.domain.chat.state.ChatRoomState;
+import com.example.mate.domain.chat.state.ChatRoomStateCache;
+import com.example.mate.domain.chat.summary.ChatRoomSummaryBuffer;
+import com.example.mate.domain.chat.unread.ChatUnreadCounter;
 import com.example.mate.domain.constant.MessageType;
 import com.example.mate.domain.goodsChat.document.GoodsChatMessage;
 import com.example.mate.domain.goodsChat.dto.request.GoodsChatMessageRequest;
@@ -16,17 +24,17 @@ import com.example.mate.domain.goodsChat.dto.response.GoodsChatMessageResponse;
 import com.example.mate.domain.goodsChat.entity.GoodsChatPart;
 import com.example.mate.domain.goodsChat.entity.GoodsChatRoom;
 import com.example.mate.domain.goodsChat.event.GoodsChatEvent;
-import com.example.mate.domain.goodsChat.repository.GoodsChatMessageRepository;
-import com.example.mate.domain.goodsChat.repository.GoodsChatRoomRepository;
+import com.example.mate.domain.member.cache.MemberCard;
+import com.example.mate.domain.member.cache.MemberCardCache;
 import com.example.mate.domain.member.entity.Member;
-import com.example.mate.domain.member.repository.MemberRepository;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -34,21 +42,37 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 @ExtendWith(MockitoExtension.class)
 class GoodsChatMessageServiceTest {
 
-    @InjectMocks
     private GoodsChatMessageService goodsChatMessageService;
 
     @Mock
-    private MemberRepository memberRepository;
+    private MemberCardCache memberCardCache;
 
     @Mock
-    private GoodsChatRoomRepository chatRoomRepository;
+    private ChatMessageWriter chatMessageWriter;
 
     @Mock
-    private GoodsChatMessageRepository messageRepository;
+    private ChatRoomSummaryBuffer chatRoomSummaryBuffer;
+
+    @Mock
+    private ChatRoomStateCache chatRoomStateCache;
+
+    @Mock
+    private ChatUnreadCounter chatUnreadCounter;
+
+    @Mock
+    private GoodsRecentChatMessageBuffer recentChatMessageBuffer;
 
     @Mock
     private SimpMessagingTemplate messagingTemplate;
 
+    @BeforeEach
+    void setUp() {
+        ChatMessagePipeline chatMessagePipeline = new ChatMessagePipeline(chatRoomStateCache, memberCardCache,
+                chatMessageWriter, chatRoomSummaryBuffer, chatUnreadCounter, messagingTemplate);
+        goodsChatMessageService = new GoodsChatMessageService(new GoodsChatDomain(recentChatMessageBuffer),
+                chatMessagePipeline);
+    }
+
     private Member createMember(Long id, String name, String nickname) {
         return Member.builder()
                 .id(id)
@@ -97,17 +121,21 @@ class GoodsChatMessageServiceTest {
             GoodsChatPart chatPart = createGoodsChatPart(member, chatRoom);
             GoodsChatMessage chatMessage = createGoodsChatMessage(request.getMessage(), chatPart, MessageType.TALK);
 
-            when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-            when(chatRoomRepository.findById(chatRoomId)).thenReturn(Optional.of(chatRoom));
-            when(messageRepository.save(any(GoodsChatMessage.class))).thenReturn(chatMessage);
+            when(memberCardCache.get(memberId)).thenReturn(Optional.of(MemberCard.from(member)));
+            when(chatRoomStateCache.get(ChatRoomType.GOODS, chatRoomId))
+                    .thenReturn(Optional.of(new ChatRoomState(true, Set.of(memberId))));
 
             // when
             goodsChatMessageService.sendMessage(request);
 
             // then
-            verify(memberRepository).findById(memberId);
-            verify(chatRoomRepository).findById(chatRoomId);
-            verify(messageRepository).save(any(GoodsChatMessage.class));
+            verify(memberCardCache).get(memberId);
+            verify(chatRoomStateCache).get(ChatRoomType.GOODS, chatRoomId);
+            verify(chatMessageWriter).write(argThat(written ->
+                    written instanceof GoodsChatMessage saved && saved.getContent().equals(chatMessage.getContent())));
+            verify(chatRoomSummaryBuffer).record(eq(ChatRoomType.GOODS), eq(chatRoomId), eq(request.getMessage()),
+                    any(LocalDateTime.class));
+            verify(chatUnreadCounter).increment(ChatRoomType.GOODS, chatRoomId, Set.of(memberId), memberId);
             verify(messagingTemplate).convertAndSend(eq("/sub/chat/goods/" + chatRoomId), any(GoodsChatMessageResponse.class));
         }
 
@@ -119,7 +147,9 @@ class GoodsChatMessageServiceTest {
             Long chatRoomId = 1L;
             GoodsChatMessageRequest request = new GoodsChatMessageRequest(chatRoomId, memberId, "Hello World", MessageType.TALK);
 
-            when(memberRepository.findById(memberId)).thenReturn(Optional.empty());
+            when(chatRoomStateCache.get(ChatRoomType.GOODS, chatRoomId))
+                    .thenReturn(Optional.of(new ChatRoomState(true, Set.of(memberId))));
+            when(memberCardCache.get(memberId)).thenReturn(Optional.empty());
 
             // when
             assertThatThrownBy(() -> goodsChatMessageService.sendMessage(request))
@@ -127,9 +157,9 @@ class GoodsChatMessageServiceTest {
                     .hasMessage(ErrorCode.MEMBER_NOT_FOUND_BY_ID.getMessage());
 
             // then
-            verify(memberRepository).findById(memberId);
-            verify(chatRoomRepository, never()).findById(chatRoomId);
-            verify(messageRepository, never()).save(any(GoodsChatMessage.class));
+            verify(chatRoomStateCache).get(ChatRoomType.GOODS, chatRoomId);
+            verify(memberCardCache).get(memberId);
+            verify(chatMessageWriter, never()).write(any(GoodsChatMessage.class));
             verify(messagingTemplate, never()).convertAndSend(eq("/sub/chat/goods/" + chatRoomId), any(GoodsChatMessageResponse.class));
         }
 
@@ -141,10 +171,7 @@ class GoodsChatMessageServiceTest {
             Long chatRoomId = 1L;
             GoodsChatMessageRequest request = new GoodsChatMessageRequest(chatRoomId, memberId, "Hello World", MessageType.TALK);
 
-            Member member = createMember(memberId, "Test User", "test_user");
-
-            when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-            when(chatRoomRepository.findById(chatRoomId)).thenReturn(Optional.empty());
+            when(chatRoomStateCache.get(ChatRoomType.GOODS, chatRoomId)).thenReturn(Optional.empty());
 
             // when
             assertThatThrownBy(() -> goodsChatMessageService.sendMessage(request))
@@ -152,9 +179,9 @@ class GoodsChatMessageServiceTest {
                     .hasMessage(ErrorCode.GOODS_CHAT_ROOM_NOT_FOUND.getMessage());
 
             // then
-            verify(memberRepository).findById(memberId);
-            verify(chatRoomRepository).findById(chatRoomId);
-            verify(messageRepository, never()).save(any(GoodsChatMessage.class));
+            verify(chatRoomStateCache).get(ChatRoomType.GOODS, chatRoomId);
+            verify(memberCardCache, never()).get(memberId);
+            verify(chatMessageWriter, never()).write(any(GoodsChatMessage.class));
             verify(messagingTemplate, never()).convertAndSend(eq("/sub/chat/goods/" + chatRoomId), any(GoodsChatMessageResponse.class));
         }
 
@@ -165,20 +192,40 @@ class GoodsChatMessageServiceTest {
             Long memberId = 1L;
             Long chatRoomId = 1L;
             GoodsChatMessageRequest request = new GoodsChatMessageRequest(chatRoomId, memberId, "Hello World", MessageType.TALK);
-            Member member = createMember(memberId, "Test User", "test_user");
 
-            when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-            when(chatRoomRepository.findById(chatRoomId)).thenReturn(Optional.empty());
+            when(chatRoomStateCache.get(ChatRoomType.GOODS, chatRoomId))
+                    .thenReturn(Optional.of(new ChatRoomState(true, Set.of(2L))));
 
             // when
             assertThatThrownBy(() -> goodsChatMessageService.sendMessage(request))
                     .isExactlyInstanceOf(CustomException.class)
-                    .hasMessage(ErrorCode.GOODS_CHAT_ROOM_NOT_FOUND.getMessage());
+                    .hasMessage(ErrorCode.GOODS_CHAT_NOT_FOUND_CHAT_PART.getMessage());
+
+            // then
+            verify(chatRoomStateCache).get(ChatRoomType.GOODS, chatRoomId);
+            verify(memberCardCache, never()).get(memberId);
+            verify(chatMessageWriter, never()).write(any(GoodsChatMessage.class));
+            verify(messagingTemplate, never()).convertAndSend(eq("/sub/chat/goods/" + chatRoomId), any(GoodsChatMessageResponse.class));
+        }
+
+        @Test
+        @DisplayName("메시지 전송 실패 - 상대방이 나간 채팅방")
+        void sendMessage_should_throw_custom_exception_for_closed_chatroom() {
+            // given
+            Long memberId = 1L;
+            Long chatRoomId = 1L;
+            GoodsChatMessageRequest request = new GoodsChatMessageRequest(chatRoomId, memberId, "Hello World", MessageType.TALK);
+
+            when(chatRoomStateCache.get(ChatRoomType.GOODS, chatRoomId))
+                    .thenReturn(Optional.of(new ChatRoomState(false, Set.of(memberId))));
+
+            // when
+            assertThatThrownBy(() -> goodsChatMessageService.sendMessage(request))
+                    .isExactlyInstanceOf(CustomException.class)
+                    .hasMessage(ErrorCode.CHAT_ROOM_NOT_MESSAGEABLE.getMessage());
 
             // then
-            verify(memberRepository).findById(memberId);
-            verify(chatRoomRepository).findById(chatRoomId);
-            verify(messageRepository, never()).save(any(GoodsChatMessage.class));
+            verify(chatMessageWriter, never()).write(any(GoodsChatMessage.class));
             verify(messagingTemplate, never()).convertAndSend(eq("/sub/chat/goods/" + chatRoomId), any(GoodsChatMessageResponse.class));
         }
     }
@@ -203,15 +250,16 @@ class GoodsChatMessageServiceTest {
             GoodsChatMessage chatMessage
                     = createGoodsChatMessage(member.getNickname() + "님이 대화를 시작했습니다.", chatPart, event.type());
 
-            when(chatRoomRepository.findById(chatRoomId)).thenReturn(Optional.of(chatRoom));
-            when(messageRepository.save(any(GoodsChatMessage.class))).thenReturn(chatMessage);
+            when(chatRoomStateCache.get(ChatRoomType.GOODS, chatRoomId))
+                    .thenReturn(Optional.of(new ChatRoomState(true, Set.of(memberId))));
 
             // when
             goodsChatMessageService.sendChatEventMessage(event);
 
             // then
-            verify(chatRoomRepository).findById(chatRoomId);
-            verify(messageRepository).save(any(GoodsChatMessage.class));
+            verify(chatRoomStateCache).get(ChatRoomType.GOODS, chatRoomId);
+            verify(chatMessageWriter).write(argThat(written ->
+                    written instanceof GoodsChatMessage saved && saved.getContent().equals(chatMessage.getContent())));
             verify(messagingTemplate).convertAndSend(eq("/sub/chat/goods/" + chatRoomId), any(GoodsChatMessageResponse.class));
         }
 
@@ -231,15 +279,16 @@ class GoodsChatMessageServiceTest {
             GoodsChatMessage chatMessage
                     = createGoodsChatMessage(member.getNickname() + "님이 대화를 떠났습니다.", chatPart, event.type());
 
-            when(chatRoomRepository.findById(chatRoomId)).thenReturn(Optional.of(chatRoom));
-            when(messageRepository.save(any(GoodsChatMessage.class))).thenReturn(chatMessage);
+            when(chatRoomStateCache.get(ChatRoomType.GOODS, chatRoomId))
+                    .thenReturn(Optional.of(new ChatRoomState(true, Set.of(memberId))));
 
             // when
             goodsChatMessageService.sendChatEventMessage(event);
 
             // then
-            verify(chatRoomRepository).findById(chatRoomId);
-            verify(messageRepository).save(any(GoodsChatMessage.class));
+            verify(chatRoomStateCache).get(ChatRoomType.GOODS, chatRoomId);
+            verify(chatMessageWriter).write(argThat(written ->
+                    written instanceof GoodsChatMessage saved && saved.getContent().equals(chatMessage.getContent())));
             verify(messagingTemplate).convertAndSend(eq("/sub/chat/goods/" + chatRoomId), any(GoodsChatMessageResponse.class));
         }
 
@@ -253,7 +302,7 @@ class GoodsChatMessageServiceTest {
             Member member = createMember(memberId, "Test User", "test_user");
             GoodsChatEvent event = new GoodsChatEvent(chatRoomId, member, MessageType.LEAVE);
 
-            when(chatRoomRepository.findById(chatRoomId)).thenReturn(Optional.empty());
+            when(chatRoomStateCache.get(ChatRoomType.GOODS, chatRoomId)).thenReturn(Optional.empty());
 
             // when
             assertThatThrownBy(() -> goodsChatMessageService.sendChatEventMessage(event))
@@ -261,8 +310,8 @@ class GoodsChatMessageServiceTest {
                     .hasMessage(ErrorCode.GOODS_CHAT_ROOM_NOT_FOUND.getMessage());
 
             // then
-            verify(chatRoomRepository).findById(chatRoomId);
-            verify(messageRepository, never()).save(any(GoodsChatMessage.class));
+            verify(chatRoomStateCache).get(ChatRoomType.GOODS, chatRoomId);
+            verify(chatMessageWriter, never()).write(any(GoodsChatMessage.class));
             verify(messagingTemplate, never()).convertAndSend(eq("/sub/chat/goods/" + chatRoomId), any(GoodsChatMessageResponse.class));
         }
     }
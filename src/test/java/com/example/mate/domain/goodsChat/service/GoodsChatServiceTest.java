@@ -6,14 +6,23 @@ import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.example.mate.common.cluster.StandaloneClusterBus;
 import com.example.mate.common.error.CustomException;
 import com.example.mate.common.error.ErrorCode;
+import com.example.mate.common.response.CursorResponse;
 import com.example.mate.common.response.PageResponse;
+import com.example.mate.domain.chat.ChatMessageCursor;
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.chat.engine.ChatHistoryReader;
+import com.example.mate.domain.chat.state.ChatRoomStateCache;
+import com.example.mate.domain.chat.summary.ChatRoomSummaryBuffer;
+import com.example.mate.domain.chat.unread.ChatUnreadCounter;
 import com.example.mate.domain.constant.MessageType;
 import com.example.mate.domain.file.FileUtils;
 import com.example.mate.domain.goodsChat.document.GoodsChatMessage;
@@ -37,23 +46,33 @@ import com.example.mate.domain.goodsPost.entity.Status;
 import com.example.mate.domain.goodsPost.event.GoodsPostEvent;
 import com.example.mate.domain.goodsPost.event.GoodsPostEventPublisher;
 import com.example.mate.domain.goodsPost.repository.GoodsPostRepository;
+import com.example.mate.domain.member.cache.MemberCard;
+import com.example.mate.domain.member.cache.MemberCardCache;
 import com.example.mate.domain.member.dto.response.MemberSummaryResponse;
 import com.example.mate.domain.member.entity.Member;
 import com.example.mate.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class GoodsChatServiceTest {
@@ -82,6 +101,27 @@ class GoodsChatServiceTest {
     @Mock
     private GoodsPostEventPublisher postEventPublisher;
 
+    @Mock
+    private ChatRoomStateCache chatRoomStateCache;
+
+    @Spy
+    private ChatRoomSummaryBuffer chatRoomSummaryBuffer =
+            new ChatRoomSummaryBuffer(mock(JdbcTemplate.class), new StandaloneClusterBus(), 1000);
+
+    @Mock
+    private ChatUnreadCounter chatUnreadCounter;
+
+    private final MemberCardCache memberCardCache = mock(MemberCardCache.class);
+
+    private final GoodsRecentChatMessageBuffer recentChatMessageBuffer = new GoodsRecentChatMessageBuffer(
+            new StandaloneClusterBus(), new SimpleMeterRegistry(), 50, 100, Duration.ofMinutes(30));
+
+    @Spy
+    private GoodsChatDomain chatDomain = new GoodsChatDomain(recentChatMessageBuffer);
+
+    @Spy
+    private ChatHistoryReader chatHistoryReader = new ChatHistoryReader(memberCardCache);
+
     private Member createMember(Long id, String name, String nickname) {
         return Member.builder()
                 .id(id)
@@ -167,7 +207,8 @@ class GoodsChatServiceTest {
             when(memberRepository.findById(buyerId)).thenReturn(Optional.of(buyer));
             when(goodsPostRepository.findById(goodsPostId)).thenReturn(Optional.of(goodsPost));
             when(chatRoomRepository.findExistingChatRoom(goodsPostId, buyerId, Role.BUYER)).thenReturn(Optional.of(existingChatRoom));
-            when(messageRepository.getChatMessages(existingChatRoom.getId(), null, 20)).thenReturn(goodsChatMessages);
+            when(messageRepository.getChatMessagesBefore(existingChatRoom.getId(), null, 50)).thenReturn(goodsChatMessages);
+            when(memberCardCache.getAll(Set.of(buyerId))).thenReturn(Map.of(buyerId, MemberCard.from(buyer)));
 
             // when
             GoodsChatRoomResponse result = goodsChatService.getOrCreateGoodsChatRoom(buyerId, goodsPostId);
@@ -177,7 +218,8 @@ class GoodsChatServiceTest {
             assertThat(result.getGoodsPostId()).isEqualTo(goodsPost.getId());
             assertThat(result.getPostStatus()).isEqualTo(goodsPost.getStatus().getValue());
 
-            verify(memberRepository, times(2)).findById(buyerId);
+            verify(memberRepository).findById(buyerId);
+            verify(memberCardCache).getAll(Set.of(buyerId));
             verify(goodsPostRepository).findById(goodsPostId);
             verify(chatRoomRepository).findExistingChatRoom(goodsPostId, buyerId, Role.BUYER);
             verify(chatRoomRepository, never()).save(any());
@@ -293,8 +335,8 @@ class GoodsChatServiceTest {
             List<GoodsChatMessage> messages = List.of(secondMessage, firstMessage);
 
             when(partRepository.existsById(goodsChatPartId)).thenReturn(true);
-            when(messageRepository.getChatMessages(chatRoomId, null, 20)).thenReturn(messages);
-            when(memberRepository.findById(2L)).thenReturn(Optional.of(member));
+            when(messageRepository.getChatMessagesBefore(chatRoomId, null, 50)).thenReturn(messages);
+            when(memberCardCache.getAll(Set.of(2L))).thenReturn(Map.of(2L, MemberCard.from(member)));
 
             // when
             List<GoodsChatMessageResponse> result = goodsChatService.getChatRoomMessages(chatRoomId, memberId, null);
@@ -308,7 +350,7 @@ class GoodsChatServiceTest {
             assertThat(result.get(1).getChatMessageId()).isEqualTo(firstMessage.getId());
 
             verify(partRepository).existsById(goodsChatPartId);
-            verify(messageRepository).getChatMessages(chatRoomId, null, 20);
+            verify(messageRepository).getChatMessagesBefore(chatRoomId, null, 50);
         }
 
         @Test
@@ -328,7 +370,40 @@ class GoodsChatServiceTest {
 
             // then
             verify(partRepository).existsById(goodsChatPartId);
-            verify(messageRepository, never()).getChatMessages(chatRoomId, null, 20);
+            verify(messageRepository, never()).getChatMessagesBefore(chatRoomId, null, 50);
+        }
+
+        @Test
+        @DisplayName("채팅 내역 커서 조회 성공 - 커서 이전 메시지를 반환하고 다음 커서를 함께 반환한다.")
+        void getMessagesByCursor_should_return_messages_before_cursor() {
+            // given
+            Member member = createMember(2L, "Test Member", "test_member");
+            GoodsChatRoom chatRoom = createGoodsChatRoom(1L, null);
+            Long memberId = member.getId();
+            Long chatRoomId = chatRoom.getId();
+            chatRoom.addChatParticipant(member, Role.BUYER);
+
+            ObjectId before = new ObjectId();
+            List<GoodsChatMessage> messages = new ArrayList<>();
+            for (int i = 0; i < 21; i++) {
+                messages.add(createMessage(chatRoom, new ObjectId().toHexString(), 0, "message " + i,
+                        LocalDateTime.now()));
+            }
+
+            when(partRepository.existsById(new GoodsChatPartId(memberId, chatRoomId))).thenReturn(true);
+            when(messageRepository.getChatMessagesBefore(chatRoomId, before, 21)).thenReturn(messages);
+            when(memberCardCache.getAll(Set.of(2L))).thenReturn(Map.of(2L, MemberCard.from(member)));
+
+            // when
+            CursorResponse<GoodsChatMessageResponse> result = goodsChatService.getChatRoomMessagesByCursor(
+                    chatRoomId, memberId, ChatMessageCursor.encode(before.toHexString()));
+
+            // then
+            assertThat(result.getContent()).hasSize(20);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(ChatMessageCursor.decode(result.getNextCursor()).toHexString())
+                    .isEqualTo(messages.get(19).getId());
+            verify(messageRepository, never()).getChatMessagesBefore(chatRoomId, null, 50);
         }
     }
 
@@ -359,8 +434,8 @@ class GoodsChatServiceTest {
 
             when(partRepository.existsById(goodsChatPartId)).thenReturn(true);
             when(chatRoomRepository.findByChatRoomId(chatRoomId)).thenReturn(Optional.of(chatRoom));
-            when(messageRepository.getChatMessages(chatRoomId, null, 20)).thenReturn(messages);
-            when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+            when(messageRepository.getChatMessagesBefore(chatRoomId, null, 50)).thenReturn(messages);
+            when(memberCardCache.getAll(Set.of(1L))).thenReturn(Map.of(1L, MemberCard.from(member)));
 
             // when
             GoodsChatRoomResponse goodsChatRoomInfo = goodsChatService.getGoodsChatRoomInfo(memberId, chatRoomId);
@@ -383,7 +458,7 @@ class GoodsChatServiceTest {
 
             verify(partRepository).existsById(goodsChatPartId);
             verify(chatRoomRepository).findByChatRoomId(chatRoomId);
-            verify(messageRepository).getChatMessages(chatRoomId, null, 20);
+            verify(messageRepository).getChatMessagesBefore(chatRoomId, null, 50);
         }
 
         @Test
@@ -407,7 +482,7 @@ class GoodsChatServiceTest {
             // then
             verify(partRepository).existsById(goodsChatPartId);
             verify(chatRoomRepository, never()).findByChatRoomId(chatRoomId);
-            verify(messageRepository, never()).getChatMessages(chatRoomId, null, 20);
+            verify(messageRepository, never()).getChatMessagesBefore(chatRoomId, null, 50);
         }
 
         @Test
@@ -431,7 +506,7 @@ class GoodsChatServiceTest {
             // then
             verify(partRepository).existsById(goodsChatPartId);
             verify(chatRoomRepository).findByChatRoomId(chatRoomId);
-            verify(messageRepository, never()).getChatMessages(chatRoomId, null, 20);
+            verify(messageRepository, never()).getChatMessagesBefore(chatRoomId, null, 50);
         }
     }
 
@@ -460,10 +535,13 @@ class GoodsChatServiceTest {
             chatRoom2.addChatParticipant(opponentMember, Role.SELLER);
 
             Pageable pageable = PageRequest.of(0, 10);
-            Page<GoodsChatRoom> chatRoomPage = new PageImpl<>(List.of(chatRoom, chatRoom2), pageable, 2);
+            Page<Long> chatRoomIdPage = new PageImpl<>(List.of(chatRoom.getId(), chatRoom2.getId()), pageable, 2);
 
             when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-            when(chatRoomRepository.findChatRoomPageByMemberId(memberId, pageable)).thenReturn(chatRoomPage);
+            when(chatRoomRepository.findChatRoomIdPageByMemberId(memberId, pageable)).thenReturn(chatRoomIdPage);
+            // 2단계 조회 결과의 순서와 관계없이 ID 페이지 순서를 유지
+            when(chatRoomRepository.findAllWithChatPartsByIdIn(chatRoomIdPage.getContent()))
+                    .thenReturn(List.of(chatRoom2, chatRoom));
 
             // when
             PageResponse<GoodsChatRoomSummaryResponse> result = goodsChatService.getGoodsChatRooms(memberId, pageable);
@@ -481,7 +559,8 @@ class GoodsChatServiceTest {
             assertThat(resultContent.get(1).getOpponentNickname()).isEqualTo(opponentMember.getNickname());
 
             verify(memberRepository).findById(memberId);
-            verify(chatRoomRepository).findChatRoomPageByMemberId(memberId, pageable);
+            verify(chatRoomRepository).findChatRoomIdPageByMemberId(memberId, pageable);
+            verify(chatRoomRepository).findAllWithChatPartsByIdIn(chatRoomIdPage.getContent());
         }
 
         @Test
@@ -500,7 +579,7 @@ class GoodsChatServiceTest {
 
             // then
             verify(memberRepository).findById(memberId);
-            verify(chatRoomRepository, never()).findChatRoomPageByMemberId(anyLong(), any(Pageable.class));
+            verify(chatRoomRepository, never()).findChatRoomIdPageByMemberId(anyLong(), any(Pageable.class));
         }
     }
 
@@ -529,9 +608,9 @@ class GoodsChatServiceTest {
             List<GoodsChatMessage> messages = List.of(secondMessage, firstMessage);
 
             when(partRepository.existsById(goodsChatPartId)).thenReturn(true);
-            when(messageRepository.getChatMessages(chatRoomId, null, 20)).thenReturn(messages);
-            when(memberRepository.findById(1L)).thenReturn(Optional.of(buyer));
-            when(memberRepository.findById(2L)).thenReturn(Optional.of(seller));
+            when(messageRepository.getChatMessagesBefore(chatRoomId, null, 50)).thenReturn(messages);
+            when(memberCardCache.getAll(Set.of(1L, 2L)))
+                    .thenReturn(Map.of(1L, MemberCard.from(buyer), 2L, MemberCard.from(seller)));
 
             // when
             List<GoodsChatMessageResponse> result = goodsChatService.getChatRoomMessages(chatRoomId, buyerId, null);
@@ -546,7 +625,7 @@ class GoodsChatServiceTest {
             assertThat(result.get(1).getSentAt()).isEqualTo(firstMessage.getSentAt());
 
             verify(partRepository).existsById(goodsChatPartId);
-            verify(messageRepository).getChatMessages(chatRoomId, null, 20);
+            verify(messageRepository).getChatMessagesBefore(chatRoomId, null, 50);
         }
 
         @Test
@@ -573,7 +652,7 @@ class GoodsChatServiceTest {
 
             // then
             verify(partRepository).existsById(goodsChatPartId);
-            verify(messageRepository, never()).getChatMessages(chatRoomId, null, 20);
+            verify(messageRepository, never()).getChatMessagesBefore(chatRoomId, null, 50);
         }
 
         @Nested
@@ -609,6 +688,7 @@ class GoodsChatServiceTest {
                 verify(partRepository).findById(new GoodsChatPartId(memberId, chatRoomId));
                 verify(chatRoomRepository, never()).deleteById(chatRoomId);
                 verify(chatEventPublisher).publish(any(GoodsChatEvent.class));
+                verify(chatRoomStateCache).invalidate(ChatRoomType.GOODS, chatRoomId);
             }
 
             @Test
@@ -0,0 +1,145 @@
+package com.example.mate.domain.mateChat.integration;
+
+import static com.example.mate.domain.match.entity.MatchStatus.SCHEDULED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.mate.domain.constant.Gender;
+import com.example.mate.domain.match.entity.Match;
+import com.example.mate.domain.match.repository.MatchRepository;
+import com.example.mate.domain.mateChat.entity.MateChatRoom;
+import com.example.mate.domain.mateChat.repository.MateChatRoomRepository;
+import com.example.mate.domain.matePost.entity.Age;
+import com.example.mate.domain.matePost.entity.MatePost;
+import com.example.mate.domain.matePost.entity.Status;
+import com.example.mate.domain.matePost.entity.TransportType;
+import com.example.mate.domain.matePost.repository.MatePostRepository;
+import com.example.mate.domain.member.entity.Member;
+import com.example.mate.domain.member.repository.MemberRepository;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+public class MateChatRoomAdmissionConcurrencyTest {
+
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private MatePostRepository matePostRepository;
+
+    @Autowired
+    private MateChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private MateChatRoom chatRoom;
+
+    @BeforeEach
+    void setUp() {
+        Member author = memberRepository.save(Member.builder()
+                .name("author")
+                .email("author@test.com")
+                .nickname("author")
+                .imageUrl("author.jpg")
+                .gender(Gender.FEMALE)
+                .age(25)
+                .manner(0.3f)
+                .build());
+
+        Match match = matchRepository.save(Match.builder()
+                .homeTeamId(1L)
+                .awayTeamId(2L)
+                .stadiumId(1L)
+                .status(SCHEDULED)
+                .matchTime(LocalDateTime.now().plusDays(2))
+                .build());
+
+        MatePost matePost = matePostRepository.save(MatePost.builder()
+                .author(author)
+                .teamId(1L)
+                .match(match)
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .status(Status.OPEN)
+                .maxParticipants(MateChatRoom.MAX_MEMBERS)
+                .age(Age.ALL)
+                .gender(Gender.ANY)
+                .transport(TransportType.PUBLIC)
+                .build());
+
+        chatRoom = chatRoomRepository.save(MateChatRoom.builder()
+                .matePost(matePost)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        chatRoomRepository.deleteAll();
+        matePostRepository.deleteAll();
+        matchRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 입장해도 정원을 넘지 않는다")
+    void admitMember_concurrently_never_exceeds_capacity() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    Integer updated = transactionTemplate.execute(status ->
+                            chatRoomRepository.admitMember(chatRoom.getId(), MateChatRoom.MAX_MEMBERS));
+                    if (updated != null && updated == 1) {
+                        admitted.incrementAndGet();
+                    } else {
+                        rejected.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when
+        ready.await();
+        start.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then - 방장 1명을 제외한 나머지 자리만큼만 입장 승인
+        MateChatRoom result = chatRoomRepository.findById(chatRoom.getId()).orElseThrow();
+        assertThat(failed.get()).isZero();
+        assertThat(admitted.get()).isEqualTo(MateChatRoom.MAX_MEMBERS - 1);
+        assertThat(rejected.get()).isEqualTo(THREAD_COUNT - (MateChatRoom.MAX_MEMBERS - 1));
+        assertThat(result.getCurrentMembers()).isEqualTo(MateChatRoom.MAX_MEMBERS);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.mate.domain.mateChat.integration;
+
+import static com.example.mate.domain.match.entity.MatchStatus.SCHEDULED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.mate.domain.constant.Gender;
+import com.example.mate.domain.match.entity.Match;
+import com.example.mate.domain.match.repository.MatchRepository;
+import com.example.mate.domain.mateChat.entity.MateChatRoom;
+import com.example.mate.domain.mateChat.entity.MateChatRoomMember;
+import com.example.mate.domain.mateChat.repository.MateChatRoomMemberRepository;
+import com.example.mate.domain.mateChat.repository.MateChatRoomRepository;
+import com.example.mate.domain.mateChat.service.MateChatRoomMemberCountReconciler;
+import com.example.mate.domain.matePost.entity.Age;
+import com.example.mate.domain.matePost.entity.MatePost;
+import com.example.mate.domain.matePost.entity.Status;
+import com.example.mate.domain.matePost.entity.TransportType;
+import com.example.mate.domain.matePost.repository.MatePostRepository;
+import com.example.mate.domain.member.entity.Member;
+import com.example.mate.domain.member.repository.MemberRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+public class MateChatRoomMemberCountReconcilerTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private MatePostRepository matePostRepository;
+
+    @Autowired
+    private MateChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private MateChatRoomMemberRepository chatRoomMemberRepository;
+
+    @Autowired
+    private MateChatRoomMemberCountReconciler reconciler;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Member author;
+    private MateChatRoom chatRoom;
+
+    @BeforeEach
+    void setUp() {
+        author = memberRepository.save(Member.builder()
+                .name("author")
+                .email("author@test.com")
+                .nickname("author")
+                .imageUrl("author.jpg")
+                .gender(Gender.FEMALE)
+                .age(25)
+                .manner(0.3f)
+                .build());
+
+        Match match = matchRepository.save(Match.builder()
+                .homeTeamId(1L)
+                .awayTeamId(2L)
+                .stadiumId(1L)
+                .status(SCHEDULED)
+                .matchTime(LocalDateTime.now().plusDays(2))
+                .build());
+
+        MatePost matePost = matePostRepository.save(MatePost.builder()
+                .author(author)
+                .teamId(1L)
+                .match(match)
+                .title("테스트 제목")
+                .content("테스트 내용")
+                .status(Status.OPEN)
+                .maxParticipants(MateChatRoom.MAX_MEMBERS)
+                .age(Age.ALL)
+                .gender(Gender.ANY)
+                .transport(TransportType.PUBLIC)
+                .build());
+
+        chatRoom = chatRoomRepository.save(MateChatRoom.builder()
+                .matePost(matePost)
+                .build());
+        chatRoomMemberRepository.save(MateChatRoomMember.builder()
+                .mateChatRoom(chatRoom)
+                .member(author)
+                .hasEntered(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        chatRoomMemberRepository.deleteAll();
+        chatRoomRepository.deleteAll();
+        matePostRepository.deleteAll();
+        matchRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("멤버 등록 없이 증가한 현재 인원을 활성화된 멤버 수로 보정한다")
+    void reconcile_repairs_drifted_member_count() {
+        // given - 입장 승인 후 멤버 등록 전에 실패한 경우
+        for (int i = 0; i < 2; i++) {
+            transactionTemplate.execute(status ->
+                    chatRoomRepository.admitMember(chatRoom.getId(), MateChatRoom.MAX_MEMBERS));
+        }
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        MateChatRoom result = chatRoomRepository.findById(chatRoom.getId()).orElseThrow();
+        assertThat(result.getCurrentMembers()).isEqualTo(1);
+        assertThat(result.getIsMessageable()).isFalse();
+        assertThat(chatRoomRepository.findDriftedMemberCountChatRoomIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("현재 인원이 활성화된 멤버 수와 같으면 보정 대상이 아니다")
+    void findDriftedMemberCountChatRoomIds_skips_consistent_room() {
+        // when & then
+        assertThat(chatRoomRepository.findDriftedMemberCountChatRoomIds()).isEmpty();
+        assertThat(chatRoomRepository.findCurrentMembersByMatePostId(chatRoom.getMatePost().getId())).contains(1);
+    }
+}
@@ -2,27 +2,34 @@ package com.example.mate.domain.mateChat.service;
 
 import com.example.mate.common.error.CustomException;
 import com.example.mate.common.error.ErrorCode;
+import com.example.mate.domain.chat.ChatRoomType;
+import com.example.mate.domain.chat.engine.ChatMessagePipeline;
+import com.example.mate.domain.chat.persistence.ChatMessageWriter;
+import com.example.mate.domain.chat.state.ChatRoomState;
+import com.example.mate.domain.chat.state.ChatRoomStateCache;
+import com.example.mate.domain.chat.summary.ChatRoomSummaryBuffer;
+import com.example.mate.domain.chat.unread.ChatUnreadCounter;
+import com.example.mate.domain.constant.MessageType;
 import com.example.mate.domain.mateChat.document.MateChatMessage;
 import com.example.mate.domain.mateChat.dto.request.MateChatMessageRequest;
 import com.example.mate.domain.mateChat.dto.response.MateChatMessageResponse;
 import com.example.mate.domain.mateChat.entity.MateChatRoom;
 import com.example.mate.domain.mateChat.event.MateChatEvent;
-import com.example.mate.domain.mateChat.message.MessageType;
-import com.example.mate.domain.mateChat.repository.MateChatMessageRepository;
-import com.example.mate.domain.mateChat.repository.MateChatRoomRepository;
+import com.example.mate.domain.member.cache.MemberCard;
+import com.example.mate.domain.member.cache.MemberCardCache;
 import com.example.mate.domain.member.entity.Member;
-import com.example.mate.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,21 +38,37 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class MateChatMessageServiceTest {
 
-    @InjectMocks
     private MateChatMessageService mateChatMessageService;
 
     @Mock
-    private MateChatRoomRepository chatRoomRepository;
+    private ChatMessageWriter chatMessageWriter;
 
     @Mock
-    private MateChatMessageRepository chatMessageRepository;
+    private ChatRoomSummaryBuffer chatRoomSummaryBuffer;
 
     @Mock
-    private MemberRepository memberRepository;
+    private ChatRoomStateCache chatRoomStateCache;
+
+    @Mock
+    private MemberCardCache memberCardCache;
+
+    @Mock
+    private ChatUnreadCounter chatUnreadCounter;
+
+    @Mock
+    private MateRecentChatMessageBuffer recentChatMessageBuffer;
 
     @Mock
     private SimpMessageSendingOperations messagingTemplate;
 
+    @BeforeEach
+    void setUp() {
+        ChatMessagePipeline chatMessagePipeline = new ChatMessagePipeline(chatRoomStateCache, memberCardCache,
+                chatMessageWriter, chatRoomSummaryBuffer, chatUnreadCounter, messagingTemplate);
+        mateChatMessageService = new MateChatMessageService(new MateChatDomain(recentChatMessageBuffer),
+                chatMessagePipeline);
+    }
+
     private Member createMember(Long id) {
         return Member.builder()
                 .id(id)
@@ -88,17 +111,19 @@ class MateChatMessageServiceTest {
             MateChatRoom chatRoom = createMateChatRoom(chatRoomId);
             MateChatMessage chatMessage = createMateChatMessage(chatRoom, sender, message, MessageType.TALK);
 
-            when(memberRepository.findById(memberId)).thenReturn(Optional.of(sender));
-            when(chatRoomRepository.findById(chatRoomId)).thenReturn(Optional.of(chatRoom));
-            when(chatMessageRepository.save(any(MateChatMessage.class))).thenReturn(chatMessage);
+            when(memberCardCache.get(memberId)).thenReturn(Optional.of(MemberCard.from(sender)));
+            when(chatRoomStateCache.get(ChatRoomType.MATE, chatRoomId))
+                    .thenReturn(Optional.of(new ChatRoomState(true, Set.of(memberId))));
 
             // when
             mateChatMessageService.sendMessage(request);
 
             // then
-            verify(memberRepository).findById(memberId);
-            verify(chatRoomRepository).findById(chatRoomId);
-            verify(chatMessageRepository).save(any(MateChatMessage.class));
+            verify(memberCardCache).get(memberId);
+            verify(chatRoomStateCache).get(ChatRoomType.MATE, chatRoomId);
+            verify(chatMessageWriter).write(argThat(written ->
+                    written instanceof MateChatMessage saved && saved.getType() == chatMessage.getType()));
+            verify(chatRoomSummaryBuffer).record(eq(ChatRoomType.MATE), eq(chatRoomId), eq(message), any(LocalDateTime.class));
             verify(messagingTemplate).convertAndSend(eq("/sub/chat/mate/" + chatRoomId), any(MateChatMessageResponse.class));
         }
 
@@ -110,18 +135,18 @@ class MateChatMessageServiceTest {
             Long chatRoomId = 1L;
             MateChatMessageRequest request = new MateChatMessageRequest(MessageType.TALK.name(), chatRoomId, memberId, "Hello");
 
-            MateChatRoom chatRoom = createMateChatRoom(chatRoomId);
-            when(chatRoomRepository.findById(chatRoomId)).thenReturn(Optional.of(chatRoom));
-            when(memberRepository.findById(memberId)).thenReturn(Optional.empty());
+            when(chatRoomStateCache.get(ChatRoomType.MATE, chatRoomId))
+                    .thenReturn(Optional.of(new ChatRoomState(true, Set.of(memberId))));
+            when(memberCardCache.get(memberId)).thenReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> mateChatMessageService.sendMessage(request))
                     .isExactlyInstanceOf(CustomException.class)
                     .hasMessage(ErrorCode.MEMBER_NOT_FOUND_BY_ID.getMessage());
 
-            verify(chatRoomRepository).findById(chatRoomId);
-            verify(memberRepository).findById(memberId);
-            verify(chatMessageRepository, never()).save(any());
+            verify(chatRoomStateCache).get(ChatRoomType.MATE, chatRoomId);
+            verify(memberCardCache).get(memberId);
+            verify(chatMessageWriter, never()).write(any());
             verify(messagingTemplate, never()).convertAndSend(anyString(), Optional.ofNullable(any()));
         }
 
@@ -133,18 +158,58 @@ class MateChatMessageServiceTest {
             Long chatRoomId = 1L;
             MateChatMessageRequest request = new MateChatMessageRequest(MessageType.TALK.name(), chatRoomId, memberId, "Hello");
 
-            when(chatRoomRepository.findById(chatRoomId)).thenReturn(Optional.empty());
+            when(chatRoomStateCache.get(ChatRoomType.MATE, chatRoomId)).thenReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> mateChatMessageService.sendMessage(request))
                     .isExactlyInstanceOf(CustomException.class)
                     .hasMessage(ErrorCode.CHAT_ROOM_NOT_FOUND.getMessage());
 
-            verify(chatRoomRepository).findById(chatRoomId);
-            verify(memberRepository, never()).findById(anyLong());
-            verify(chatMessageRepository, never()).save(any());
+            verify(chatRoomStateCache).get(ChatRoomType.MATE, chatRoomId);
+            verify(memberCardCache, never()).get(anyLong());
+            verify(chatMessageWriter, never()).write(any());
             verify(messagingTemplate, never()).convertAndSend(anyString(), Optional.ofNullable(any()));
         }
+
+        @Test
+        @DisplayName("메시지 전송 실패 - 메시지 전송이 불가능한 채팅방")
+        void sendMessage_should_throw_custom_exception_for_not_messageable_chatroom() {
+            // given
+            Long memberId = 1L;
+            Long chatRoomId = 1L;
+            MateChatMessageRequest request = new MateChatMessageRequest(MessageType.TALK.name(), chatRoomId, memberId, "Hello");
+
+            when(chatRoomStateCache.get(ChatRoomType.MATE, chatRoomId))
+                    .thenReturn(Optional.of(new ChatRoomState(false, Set.of(memberId))));
+
+            // when & then
+            assertThatThrownBy(() -> mateChatMessageService.sendMessage(request))
+                    .isExactlyInstanceOf(CustomException.class)
+                    .hasMessage(ErrorCode.CHAT_ROOM_NOT_MESSAGEABLE.getMessage());
+
+            verify(memberCardCache, never()).get(anyLong());
+            verify(chatMessageWriter, never()).write(any());
+        }
+
+        @Test
+        @DisplayName("메시지 전송 실패 - 채팅방에 참여하지 않은 회원")
+        void sendMessage_should_throw_custom_exception_for_non_member() {
+            // given
+            Long memberId = 1L;
+            Long chatRoomId = 1L;
+            MateChatMessageRequest request = new MateChatMessageRequest(MessageType.TALK.name(), chatRoomId, memberId, "Hello");
+
+            when(chatRoomStateCache.get(ChatRoomType.MATE, chatRoomId))
+                    .thenReturn(Optional.of(new ChatRoomState(true, Set.of(2L))));
+
+            // when & then
+            assertThatThrownBy(() -> mateChatMessageService.sendMessage(request))
+                    .isExactlyInstanceOf(CustomException.class)
+                    .hasMessage(ErrorCode.CHAT_ROOM_MEMBER_NOT_FOUND.getMessage());
+
+            verify(memberCardCache, never()).get(anyLong());
+            verify(chatMessageWriter, never()).write(any());
+        }
     }
 
     @Nested
@@ -168,15 +233,16 @@ class MateChatMessageServiceTest {
                     MessageType.ENTER
             );
 
-            when(chatRoomRepository.findById(chatRoomId)).thenReturn(Optional.of(chatRoom));
-            when(chatMessageRepository.save(any(MateChatMessage.class))).thenReturn(chatMessage);
+            when(chatRoomStateCache.get(ChatRoomType.MATE, chatRoomId))
+                    .thenReturn(Optional.of(new ChatRoomState(true, Set.of(memberId))));
 
             // when
             mateChatMessageService.sendChatEventMessage(event);
 
             // then
-            verify(chatRoomRepository).findById(chatRoomId);
-            verify(chatMessageRepository).save(any(MateChatMessage.class));
+            verify(chatRoomStateCache).get(ChatRoomType.MATE, chatRoomId);
+            verify(chatMessageWriter).write(argThat(written ->
+                    written instanceof MateChatMessage saved && saved.getType() == chatMessage.getType()));
             verify(messagingTemplate).convertAndSend(eq("/sub/chat/mate/" + chatRoomId), any(MateChatMessageResponse.class));
         }
 
@@ -197,15 +263,16 @@ class MateChatMessageServiceTest {
                     MessageType.LEAVE
             );
 
-            when(chatRoomRepository.findById(chatRoomId)).thenReturn(Optional.of(chatRoom));
-            when(chatMessageRepository.save(any(MateChatMessage.class))).thenReturn(chatMessage);
+            when(chatRoomStateCache.get(ChatRoomType.MATE, chatRoomId))
+                    .thenReturn(Optional.of(new ChatRoomState(true, Set.of(memberId))));
 
             // when
             mateChatMessageService.sendChatEventMessage(event);
 
             // then
-            verify(chatRoomRepository).findById(chatRoomId);
-            verify(chatMessageRepository).save(any(MateChatMessage.class));
+            verify(chatRoomStateCache).get(ChatRoomType.MATE, chatRoomId);
+            verify(chatMessageWriter).write(argThat(written ->
+                    written instanceof MateChatMessage saved && saved.getType() == chatMessage.getType()));
             verify(messagingTemplate).convertAndSend(eq("/sub/chat/mate/" + chatRoomId), any(MateChatMessageResponse.class));
         }
 
@@ -218,15 +285,15 @@ class MateChatMessageServiceTest {
             Member member = createMember(memberId);
             MateChatEvent event = MateChatEvent.from(chatRoomId, member, MessageType.ENTER);
 
-            when(chatRoomRepository.findById(chatRoomId)).thenReturn(Optional.empty());
+            when(chatRoomStateCache.get(ChatRoomType.MATE, chatRoomId)).thenReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> mateChatMessageService.sendChatEventMessage(event))
                     .isExactlyInstanceOf(CustomException.class)
                     .hasMessage(ErrorCode.CHAT_ROOM_NOT_FOUND.getMessage());
 
-            verify(chatRoomRepository).findById(chatRoomId);
-            verify(chatMessageRepository, never()).save(any());
+            verify(chatRoomStateCache).get(ChatRoomType.MATE, chatRoomId);
+            verify(chatMessageWriter, never()).write(any());
             verify(messagingTemplate, never()).convertAndSend(anyString(), Optional.ofNullable(any()));
         }
     }
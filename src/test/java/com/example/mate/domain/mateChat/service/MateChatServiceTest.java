@@ -1,8 +1,17 @@
 package com.example.mate.domain.mateChat.service;
 
+import com.example.mate.common.cluster.StandaloneClusterBus;
 import com.example.mate.common.error.CustomException;
 import com.example.mate.common.error.ErrorCode;
+import com.example.mate.common.response.CursorResponse;
+import com.example.mate.domain.chat.ChatMessageCursor;
+import com.example.mate.domain.chat.engine.ChatHistoryReader;
+import com.example.mate.domain.chat.state.ChatRoomStateCache;
+import com.example.mate.domain.chat.unread.ChatUnreadCounter;
 import com.example.mate.domain.constant.Gender;
+import com.example.mate.domain.constant.MessageType;
+import com.example.mate.domain.mateChat.document.MateChatMessage;
+import com.example.mate.domain.mateChat.dto.response.MateChatMessageResponse;
 import com.example.mate.domain.matePost.entity.Age;
 import com.example.mate.domain.matePost.entity.MatePost;
 import com.example.mate.domain.matePost.entity.Status;
@@ -17,24 +26,35 @@ import com.example.mate.domain.mateChat.event.MateChatEventPublisher;
 import com.example.mate.domain.mateChat.repository.MateChatMessageRepository;
 import com.example.mate.domain.mateChat.repository.MateChatRoomMemberRepository;
 import com.example.mate.domain.mateChat.repository.MateChatRoomRepository;
+import com.example.mate.domain.member.cache.MemberCard;
+import com.example.mate.domain.member.cache.MemberCardCache;
 import com.example.mate.domain.member.dto.response.MemberSummaryResponse;
 import com.example.mate.domain.member.entity.Member;
 import com.example.mate.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -55,6 +75,19 @@ class MateChatServiceTest {
     private VisitPartRepository visitPartRepository;
     @Mock
     private MateChatEventPublisher eventPublisher;
+    @Mock
+    private ChatRoomStateCache chatRoomStateCache;
+    @Mock
+    private ChatUnreadCounter chatUnreadCounter;
+
+    private final MemberCardCache memberCardCache = mock(MemberCardCache.class);
+
+    private final MateRecentChatMessageBuffer recentChatMessageBuffer = new MateRecentChatMessageBuffer(
+            new StandaloneClusterBus(), new SimpleMeterRegistry(), 50, 100, Duration.ofMinutes(30));
+    @Spy
+    private MateChatDomain chatDomain = new MateChatDomain(recentChatMessageBuffer);
+    @Spy
+    private ChatHistoryReader chatHistoryReader = new ChatHistoryReader(memberCardCache);
 
     @InjectMocks
     private MateChatRoomService chatRoomService;
@@ -79,9 +112,7 @@ class MateChatServiceTest {
         when(chatRoomMemberRepository.findByChatRoomIdAndMemberId(any(), any()))
                 .thenReturn(Optional.of(chatRoomMember));
 
-        when(chatRoomMemberRepository.countByChatRoomIdAndIsActiveTrue(any()))
-                .thenReturn(2);
-        when(chatMessageRepository.getChatMessages(any(), any(), any()))
+        when(chatMessageRepository.getChatMessagesBefore(any(), any(), any(), anyInt()))
                 .thenReturn(List.of());
 
         // When
@@ -151,9 +182,35 @@ class MateChatServiceTest {
 
         // Then
         verify(eventPublisher).publish(any(MateChatEvent.class));
+        verify(chatRoomRepository).releaseMember(chatRoom.getId());
         assertFalse(chatRoomMember.getIsActive());
     }
 
+    @Test
+    @DisplayName("채팅방 퇴장 - 로딩 이후 다른 회원이 입장했다면 DB 의 현재 인원으로 채팅방 상태를 결정한다")
+    void leaveChatRoom_UsesCurrentMembersFromDatabase() {
+        // Given - 로딩 시점에는 1명이었지만 퇴장 전에 다른 회원이 입장해 DB 에는 퇴장 후 1명
+        Member testMember = createMember(1L, 25, Gender.MALE);
+        Member authorMember = createMember(2L, 25, Gender.FEMALE);
+        MatePost matePost = createMatePost(1L, authorMember, Age.ALL, Gender.ANY, Status.OPEN);
+        MateChatRoom chatRoom = createChatRoom(1L, matePost, true, true);
+        MateChatRoomMember chatRoomMember = createChatRoomMember(1L, chatRoom, testMember, true, true);
+
+        when(chatRoomRepository.findById(chatRoom.getId())).thenReturn(Optional.of(chatRoom));
+        when(memberRepository.findById(testMember.getId())).thenReturn(Optional.of(testMember));
+        when(chatRoomMemberRepository.findByChatRoomIdAndMemberId(chatRoom.getId(), testMember.getId()))
+                .thenReturn(Optional.of(chatRoomMember));
+        when(chatRoomRepository.findCurrentMembers(chatRoom.getId())).thenReturn(1);
+
+        // When
+        chatRoomService.leaveChatRoom(chatRoom.getId(), testMember.getId());
+
+        // Then
+        assertEquals(1, chatRoom.getCurrentMembers());
+        assertTrue(chatRoom.getIsActive());
+        assertFalse(chatRoom.getIsMessageable());
+    }
+
     @Test
     @DisplayName("채팅방 퇴장 - 방장 퇴장 (직관 완료)")
     void leaveChatRoom_Author_VisitComplete() {
@@ -246,6 +303,68 @@ class MateChatServiceTest {
         assertEquals(ErrorCode.CHAT_ROOM_ACCESS_DENIED, exception.getErrorCode());
     }
 
+    @Test
+    @DisplayName("채팅방 입장 - 정원이 가득 찬 경우 입장이 거절된다")
+    void joinExistingChatRoom_RoomFull() {
+        // Given
+        Member testMember = createMember(1L, 25, Gender.MALE);
+        Member authorMember = createMember(2L, 25, Gender.FEMALE);
+        MatePost matePost = createMatePost(1L, authorMember, Age.ALL, Gender.ANY, Status.OPEN);
+        MateChatRoom chatRoom = createChatRoom(1L, matePost, true, true);
+
+        when(memberRepository.findById(testMember.getId())).thenReturn(Optional.of(testMember));
+        when(chatRoomRepository.findById(chatRoom.getId())).thenReturn(Optional.of(chatRoom));
+        when(chatRoomMemberRepository.findByChatRoomIdAndMemberId(chatRoom.getId(), testMember.getId()))
+                .thenReturn(Optional.empty());
+        when(chatRoomRepository.admitMember(chatRoom.getId(), MateChatRoom.MAX_MEMBERS)).thenReturn(0);
+
+        // When & Then
+        CustomException exception = assertThrows(CustomException.class, () ->
+                chatRoomService.joinExistingChatRoom(chatRoom.getId(), testMember.getId())
+        );
+
+        assertEquals(ErrorCode.CHAT_ROOM_FULL, exception.getErrorCode());
+        assertEquals(1, chatRoom.getCurrentMembers());
+        verify(chatRoomMemberRepository, never()).save(any(MateChatRoomMember.class));
+    }
+
+    @Test
+    @DisplayName("채팅 메세지 커서 조회 - 마지막 페이지는 다음 커서를 반환하지 않음")
+    void getChatMessagesByCursor_LastPage() {
+        // Given
+        Member testMember = createMember(1L, 25, Gender.MALE);
+        Member sender = createMember(2L, 25, Gender.FEMALE);
+        MatePost matePost = createMatePost(1L, sender, Age.ALL, Gender.ANY, Status.OPEN);
+        MateChatRoom chatRoom = createChatRoom(1L, matePost, true, true);
+        MateChatRoomMember chatRoomMember = createChatRoomMember(1L, chatRoom, testMember, true, true);
+        ObjectId before = new ObjectId();
+        MateChatMessage message = MateChatMessage.builder()
+                .id(new ObjectId().toHexString())
+                .roomId(chatRoom.getId())
+                .senderId(sender.getId())
+                .content("older message")
+                .type(MessageType.TALK)
+                .sendTime(LocalDateTime.now())
+                .build();
+
+        when(chatRoomMemberRepository.findByChatRoomIdAndMemberId(chatRoom.getId(), testMember.getId()))
+                .thenReturn(Optional.of(chatRoomMember));
+        when(chatMessageRepository.getChatMessagesBefore(chatRoom.getId(), chatRoomMember.getLastEnteredAt(),
+                before, 21)).thenReturn(List.of(message));
+        when(memberCardCache.getAll(Set.of(sender.getId())))
+                .thenReturn(Map.of(sender.getId(), MemberCard.from(sender)));
+
+        // When
+        CursorResponse<MateChatMessageResponse> response = chatRoomService.getChatMessagesByCursor(
+                chatRoom.getId(), testMember.getId(), ChatMessageCursor.encode(before.toHexString()));
+
+        // Then
+        assertEquals(1, response.getContent().size());
+        assertEquals(message.getId(), response.getContent().get(0).getMessageId());
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+
     private Member createMember(Long id, int age, Gender gender) {
         return Member.builder()
                 .id(id)
@@ -35,7 +35,6 @@ import com.example.mate.domain.matePost.entity.Status;
 import com.example.mate.domain.matePost.entity.TransportType;
 import com.example.mate.domain.matePost.entity.Visit;
 import com.example.mate.domain.matePost.repository.MatePostRepository;
-import com.example.mate.domain.mateChat.repository.MateChatRoomMemberRepository;
 import com.example.mate.domain.mateChat.repository.MateChatRoomRepository;
 import com.example.mate.domain.member.entity.Member;
 import com.example.mate.domain.member.repository.MemberRepository;
@@ -76,9 +75,6 @@ class MatePostServiceTest {
     @Mock
     private MateChatRoomRepository chatRoomRepository;
 
-    @Mock
-    private MateChatRoomMemberRepository chatRoomMemberRepository;
-
     private static final Long TEST_MEMBER_ID = 1L;
     private static final Long TEST_MATCH_ID = 1L;
 
@@ -563,6 +559,37 @@ class MatePostServiceTest {
             verify(matePostRepository).findById(POST_ID);
         }
 
+        @Test
+        @DisplayName("메이트 게시글 상세 조회 - 채팅방 현재 인원을 함께 반환")
+        void getMatePostDetail_SuccessWithCurrentChatMembers() {
+            // given
+            MatePost testPost = MatePost.builder()
+                    .id(POST_ID)
+                    .author(createTestMember())
+                    .teamId(1L)
+                    .match(createTestMatch())
+                    .title("테스트 제목")
+                    .content("테스트 내용")
+                    .status(Status.OPEN)
+                    .maxParticipants(4)
+                    .age(Age.TWENTIES)
+                    .gender(Gender.ANY)
+                    .transport(TransportType.PUBLIC)
+                    .build();
+
+            given(matePostRepository.findById(POST_ID))
+                    .willReturn(Optional.of(testPost));
+            given(chatRoomRepository.findCurrentMembersByMatePostId(POST_ID))
+                    .willReturn(Optional.of(3));
+
+            // when
+            MatePostDetailResponse response = matePostService.getMatePostDetail(POST_ID);
+
+            // then
+            assertThat(response.getCurrentChatMembers()).isEqualTo(3);
+            verify(chatRoomRepository).findCurrentMembersByMatePostId(POST_ID);
+        }
+
         @Test
         @DisplayName("메이트 게시글 상세 조회 - 원정팀 팬의 게시글인 경우")
         void getMatePostDetail_SuccessWithAwayTeamFan() {
@@ -0,0 +1,122 @@
+package com.example.mate.domain.member.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.mate.common.cluster.ClusterBus;
+import com.example.mate.common.cluster.LocalClusterBus;
+import com.example.mate.common.cluster.StandaloneClusterBus;
+import com.example.mate.domain.member.entity.Member;
+import com.example.mate.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MemberCardCacheTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private Member createMember(Long id, String nickname) {
+        return Member.builder()
+                .id(id)
+                .nickname(nickname)
+                .imageUrl("member_default.svg")
+                .build();
+    }
+
+    private MemberCardCache createCache(ClusterBus clusterBus) {
+        MemberCardCache cache = new MemberCardCache(memberRepository, clusterBus, new SimpleMeterRegistry(),
+                100, Duration.ofMinutes(10));
+        cache.subscribe();
+        return cache;
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 회원만 한 번의 IN 쿼리로 조회한다")
+    void getAll_loads_only_missing_members_in_single_query() {
+        // given
+        MemberCardCache cache = createCache(new StandaloneClusterBus());
+        when(memberRepository.findAllById(Set.of(1L)))
+                .thenReturn(List.of(createMember(1L, "first")));
+        when(memberRepository.findAllById(Set.of(2L, 3L)))
+                .thenReturn(List.of(createMember(2L, "second"), createMember(3L, "third")));
+        cache.get(1L);
+
+        // when
+        Map<Long, MemberCard> cards = cache.getAll(List.of(1L, 2L, 3L, 3L));
+        cache.getAll(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(cards).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(cards.get(2L).nickname()).isEqualTo("second");
+        verify(memberRepository, times(2)).findAllById(anyIterable());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원은 결과에 포함되지 않는다")
+    void get_returns_empty_for_unknown_member() {
+        // given
+        MemberCardCache cache = createCache(new StandaloneClusterBus());
+        when(memberRepository.findAllById(Set.of(1L))).thenReturn(List.of());
+
+        // when & then
+        assertThat(cache.get(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무효화된 회원은 모든 노드에서 다시 조회된다")
+    void invalidate_evicts_member_on_every_node() {
+        // given
+        LocalClusterBus nodeA = new LocalClusterBus();
+        LocalClusterBus nodeB = new LocalClusterBus();
+        try {
+            MemberCardCache cacheA = createCache(nodeA);
+            MemberCardCache cacheB = createCache(nodeB);
+            when(memberRepository.findAllById(Set.of(1L)))
+                    .thenReturn(List.of(createMember(1L, "before")))
+                    .thenReturn(List.of(createMember(1L, "before")))
+                    .thenReturn(List.of(createMember(1L, "after")));
+            cacheA.get(1L);
+            cacheB.get(1L);
+
+            // when
+            cacheA.invalidate(1L);
+
+            // then
+            assertThat(cacheB.get(1L)).map(MemberCard::nickname).contains("after");
+            verify(memberRepository, times(3)).findAllById(anyIterable());
+        } finally {
+            nodeA.destroy();
+            nodeB.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("캐시된 회원은 다시 조회하지 않는다")
+    void get_uses_cached_member() {
+        // given
+        MemberCardCache cache = createCache(new StandaloneClusterBus());
+        when(memberRepository.findAllById(Set.of(1L))).thenReturn(List.of(createMember(1L, "first")));
+
+        // when
+        cache.get(1L);
+        cache.get(1L);
+
+        // then
+        verify(memberRepository, times(1)).findAllById(anyIterable());
+        verify(memberRepository, never()).findById(1L);
+    }
+}
@@ -23,6 +23,7 @@ import com.example.mate.domain.matePost.entity.VisitPart;
 import com.example.mate.domain.matePost.repository.VisitPartRepository;
 import com.example.mate.domain.mateReview.entity.MateReview;
 import com.example.mate.domain.mateReview.repository.MateReviewRepository;
+import com.example.mate.domain.member.cache.MemberCardCache;
 import com.example.mate.domain.member.dto.request.JoinRequest;
 import com.example.mate.domain.member.dto.request.MemberInfoUpdateRequest;
 import com.example.mate.domain.member.dto.request.MemberLoginRequest;
@@ -78,6 +79,9 @@ class MemberServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private MemberCardCache memberCardCache;
+
     @Mock
     private JwtUtil jwtUtil;
 
@@ -377,6 +381,7 @@ class MemberServiceTest {
             verify(memberRepository).findByIdAndNotDeleted(member.getId());
             verify(memberRepository).existsByNickname(request.getNickname());
             verify(memberRepository).save(any(Member.class));
+            verify(memberCardCache).invalidate(member.getId());
         }
 
         @Test
@@ -469,6 +474,7 @@ class MemberServiceTest {
             // then
             verify(memberRepository).findByIdAndNotDeleted(memberId);
             verify(memberRepository).deleteById(memberId);
+            verify(memberCardCache).invalidate(memberId);
         }
 
         @Test
@@ -2,6 +2,7 @@ package com.example.mate.domain.notification.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -82,6 +83,23 @@ public class NotificationIntegrationTest {
                 .andExpect(content().string(containsString("data:EventStream Created. [userId=" + memberId + "]")));
     }
 
+    @Test
+    @DisplayName("SSE 알림 구독 성공 - 마지막으로 받은 알림 이후의 알림 재전송")
+    @WithAuthMember
+    void subscribe_success_with_last_event_id() throws Exception {
+        // given
+        String lastEventId = String.valueOf(notification1.getId());
+
+        // when & then
+        mockMvc.perform(get("/subscribe")
+                        .header("Last-Event-ID", lastEventId)
+                        .accept(MediaType.TEXT_EVENT_STREAM_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().string(not(containsString("id:" + notification1.getId() + "\n"))))
+                .andExpect(content().string(containsString("id:" + notification2.getId() + "\n")))
+                .andExpect(content().string(containsString("id:" + notification3.getId() + "\n")));
+    }
+
     @Nested
     @DisplayName("알림 페이징 조회")
     class NotificationPage {
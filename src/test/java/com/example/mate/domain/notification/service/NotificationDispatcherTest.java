@@ -0,0 +1,157 @@
+package com.example.mate.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.mate.common.cluster.LocalClusterBus;
+import com.example.mate.domain.notification.dto.response.NotificationResponse;
+import com.example.mate.domain.notification.repository.EmitterRepository;
+import com.example.mate.domain.notification.repository.EmitterRepositoryImpl;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class NotificationDispatcherTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private final LocalClusterBus nodeA = new LocalClusterBus();
+    private final LocalClusterBus nodeB = new LocalClusterBus();
+    private final EmitterRepository emittersA = new EmitterRepositoryImpl();
+    private final EmitterRepository emittersB = new EmitterRepositoryImpl();
+
+    @AfterEach
+    void tearDown() {
+        nodeA.destroy();
+        nodeB.destroy();
+    }
+
+    private NotificationDispatcher createDispatcher(LocalClusterBus clusterBus, EmitterRepository emitterRepository) {
+        NotificationDispatcher dispatcher = new NotificationDispatcher(clusterBus, emitterRepository);
+        dispatcher.subscribe();
+        return dispatcher;
+    }
+
+    private NotificationResponse createNotification(Long notificationId) {
+        return NotificationResponse.builder()
+                .notificationId(notificationId)
+                .notificationType("모집완료")
+                .content("알림")
+                .url("http://test.com")
+                .isRead(false)
+                .eventId(String.valueOf(notificationId))
+                .build();
+    }
+
+    @Test
+    @DisplayName("다른 노드에 연결된 회원의 Emitter 로 알림이 전달된다")
+    void dispatch_delivers_to_emitter_on_other_node() {
+        // given
+        NotificationDispatcher dispatcherA = createDispatcher(nodeA, emittersA);
+        createDispatcher(nodeB, emittersB);
+        CountingEmitter emitter = new CountingEmitter(false);
+        emittersB.save(MEMBER_ID, MEMBER_ID + "_1", emitter);
+
+        // when
+        dispatcherA.dispatch(MEMBER_ID, createNotification(1L));
+
+        // then
+        assertThat(emitter.sent.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 Emitter 는 제거되고 같은 회원의 다른 Emitter 에는 전달된다")
+    void dispatch_removes_failed_emitter() {
+        // given
+        NotificationDispatcher dispatcher = createDispatcher(nodeA, emittersA);
+        CountingEmitter broken = new CountingEmitter(true);
+        CountingEmitter alive = new CountingEmitter(false);
+        emittersA.save(MEMBER_ID, MEMBER_ID + "_1", broken);
+        emittersA.save(MEMBER_ID, MEMBER_ID + "_2", alive);
+
+        // when
+        dispatcher.dispatch(MEMBER_ID, createNotification(1L));
+
+        // then
+        assertThat(alive.sent.get()).isEqualTo(1);
+        assertThat(emittersA.findAllEmitterByMemberId(MEMBER_ID)).containsOnlyKeys(MEMBER_ID + "_2");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 전달한 알림은 커밋 이후에 전송된다")
+    void dispatch_publishes_after_commit() {
+        // given
+        NotificationDispatcher dispatcher = createDispatcher(nodeA, emittersA);
+        CountingEmitter emitter = new CountingEmitter(false);
+        emittersA.save(MEMBER_ID, MEMBER_ID + "_1", emitter);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            dispatcher.dispatch(MEMBER_ID, createNotification(1L));
+            int sentBeforeCommit = emitter.sent.get();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            assertThat(sentBeforeCommit).isZero();
+            assertThat(emitter.sent.get()).isEqualTo(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션에서 전달한 알림은 전송되지 않고, 다시 실행해 커밋되면 한 번만 전송된다")
+    void dispatch_skips_rolled_back_transaction() {
+        // given - 아웃박스 묶음 전달이 롤백된 뒤 이벤트별로 다시 전달되는 경우
+        NotificationDispatcher dispatcher = createDispatcher(nodeA, emittersA);
+        CountingEmitter emitter = new CountingEmitter(false);
+        emittersA.save(MEMBER_ID, MEMBER_ID + "_1", emitter);
+
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            dispatcher.dispatch(MEMBER_ID, createNotification(1L));
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        int sentAfterRollback = emitter.sent.get();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            dispatcher.dispatch(MEMBER_ID, createNotification(1L));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(sentAfterRollback).isZero();
+        assertThat(emitter.sent.get()).isEqualTo(1);
+    }
+
+    // 연결 없이 전송 횟수만 세거나, 끊어진 연결처럼 전송에 실패하는 Emitter
+    private static class CountingEmitter extends SseEmitter {
+
+        private final AtomicInteger sent = new AtomicInteger();
+        private final boolean broken;
+
+        CountingEmitter(boolean broken) {
+            this.broken = broken;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("connection closed");
+            }
+            sent.incrementAndGet();
+        }
+    }
+}
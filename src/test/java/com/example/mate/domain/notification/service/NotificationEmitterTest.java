@@ -0,0 +1,73 @@
+package com.example.mate.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.mate.domain.notification.dto.response.NotificationResponse;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NotificationEmitterTest {
+
+    private NotificationResponse createNotification(Long notificationId) {
+        return NotificationResponse.builder()
+                .notificationId(notificationId)
+                .notificationType("모집완료")
+                .content("알림")
+                .url("http://test.com")
+                .isRead(false)
+                .eventId(String.valueOf(notificationId))
+                .build();
+    }
+
+    @Test
+    @DisplayName("재전송 중 도착한 실시간 알림은 재전송이 끝난 뒤 한 번씩 ID 순서대로 전송된다")
+    void sendLive_holds_notifications_until_replay_finishes() throws Exception {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter(true);
+
+        // when - 재전송 도중 이미 재전송 대상인 알림 2 와 새 알림 4, 3 이 실시간으로 도착
+        emitter.sendReplayed(createNotification(1L));
+        emitter.sendLive(createNotification(4L));
+        emitter.sendLive(createNotification(2L));
+        emitter.sendReplayed(createNotification(2L));
+        emitter.sendLive(createNotification(3L));
+        emitter.finishReplay();
+
+        // then
+        assertThat(emitter.sentIds).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("재전송하지 않는 연결은 실시간 알림을 바로 전송한다")
+    void sendLive_sends_immediately_without_replay() throws Exception {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter(false);
+
+        // when
+        emitter.sendLive(createNotification(1L));
+
+        // then
+        assertThat(emitter.sentIds).containsExactly(1L);
+    }
+
+    // 연결 없이 전송된 알림 ID 만 기록하는 Emitter
+    private static class RecordingEmitter extends NotificationEmitter {
+
+        private final List<Long> sentIds = new ArrayList<>();
+
+        RecordingEmitter(boolean replaying) {
+            super(60_000L, replaying);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(NotificationResponse.class::isInstance)
+                    .map(data -> ((NotificationResponse) data).getNotificationId())
+                    .forEach(sentIds::add);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.mate.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.mate.domain.notification.repository.EmitterRepository;
+import com.example.mate.domain.notification.repository.EmitterRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class NotificationHeartbeatTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmitterRepository emitterRepository = new EmitterRepositoryImpl();
+    private final NotificationHeartbeat heartbeat = new NotificationHeartbeat(emitterRepository, meterRegistry, 2,
+            5000);
+
+    @Test
+    @DisplayName("모든 Emitter 에 heartbeat 를 전송하고 전송에 실패한 Emitter 는 제거한다")
+    void sendHeartbeat_reaps_dead_emitters() {
+        // given
+        HeartbeatEmitter alive1 = new HeartbeatEmitter(false);
+        HeartbeatEmitter alive2 = new HeartbeatEmitter(false);
+        emitterRepository.save(1L, "1_1", alive1);
+        emitterRepository.save(1L, "1_2", new HeartbeatEmitter(true));
+        emitterRepository.save(2L, "2_1", new HeartbeatEmitter(true));
+        emitterRepository.save(3L, "3_1", alive2);
+
+        // when
+        heartbeat.sendHeartbeatAll();
+
+        // then
+        assertThat(alive1.heartbeats.get()).isEqualTo(1);
+        assertThat(alive2.heartbeats.get()).isEqualTo(1);
+        assertThat(emitterRepository.findAllEmitterByMemberId(1L)).containsOnlyKeys("1_1");
+        assertThat(emitterRepository.findAllMemberIds()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(meterRegistry.get("notification.emitter.reaped").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("notification.emitters").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("연결된 Emitter 가 없으면 아무것도 하지 않는다")
+    void sendHeartbeat_without_emitters() {
+        // when
+        heartbeat.sendHeartbeatAll();
+
+        // then
+        assertThat(meterRegistry.get("notification.emitter.reaped").counter().count()).isZero();
+        assertThat(meterRegistry.get("notification.emitters").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("배치 처리 시간이 제한을 넘기면 이번 실행을 멈추고 남은 회원부터 다음 실행에서 전송한다")
+    void sendHeartbeat_resumes_after_batch_timeout() {
+        // given
+        NotificationHeartbeat timedHeartbeat = new NotificationHeartbeat(emitterRepository, meterRegistry, 2, 0);
+        HeartbeatEmitter emitter1 = new HeartbeatEmitter(false);
+        HeartbeatEmitter emitter2 = new HeartbeatEmitter(false);
+        HeartbeatEmitter emitter3 = new HeartbeatEmitter(false);
+        emitterRepository.save(1L, "1_1", emitter1);
+        emitterRepository.save(2L, "2_1", emitter2);
+        emitterRepository.save(3L, "3_1", emitter3);
+
+        // when - 제한 시간이 0 이므로 실행마다 한 회원에게만 전송
+        timedHeartbeat.sendHeartbeatAll();
+        timedHeartbeat.sendHeartbeatAll();
+
+        // then
+        assertThat(emitter1.heartbeats.get()).isEqualTo(1);
+        assertThat(emitter2.heartbeats.get()).isEqualTo(1);
+        assertThat(emitter3.heartbeats.get()).isZero();
+
+        // when
+        timedHeartbeat.sendHeartbeatAll();
+        timedHeartbeat.sendHeartbeatAll();
+
+        // then
+        assertThat(emitter1.heartbeats.get()).isEqualTo(2);
+        assertThat(emitter2.heartbeats.get()).isEqualTo(1);
+        assertThat(emitter3.heartbeats.get()).isEqualTo(1);
+    }
+
+    // 연결 없이 heartbeat 횟수만 세거나, 끊어진 연결처럼 전송에 실패하는 Emitter
+    private static class HeartbeatEmitter extends SseEmitter {
+
+        private final AtomicInteger heartbeats = new AtomicInteger();
+        private final boolean broken;
+
+        HeartbeatEmitter(boolean broken) {
+            this.broken = broken;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("connection reset");
+            }
+            heartbeats.incrementAndGet();
+        }
+    }
+}
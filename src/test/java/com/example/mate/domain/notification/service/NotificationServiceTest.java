@@ -3,7 +3,10 @@ package com.example.mate.domain.notification.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -19,9 +22,9 @@ import com.example.mate.domain.notification.entity.NotificationType;
 import com.example.mate.domain.notification.repository.EmitterRepository;
 import com.example.mate.domain.notification.repository.NotificationRepository;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.stream.LongStream;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -33,6 +36,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +54,9 @@ class NotificationServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
 
     private Member createTestMember() {
@@ -84,18 +91,19 @@ class NotificationServiceTest {
         String lastEventId = "";
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
 
-        given(emitterRepository.save(any(String.class), any(SseEmitter.class))).willAnswer(invocation -> {
-            String actualEmitterId = invocation.getArgument(0); // 첫 번째 인자 캡처
-            Assertions.assertThat(actualEmitterId).startsWith(member.getId() + "_");
-            return emitter;
-        });
+        given(emitterRepository.save(eq(member.getId()), any(String.class), any(SseEmitter.class)))
+                .willAnswer(invocation -> {
+                    String actualEmitterId = invocation.getArgument(1); // 두 번째 인자 캡처
+                    Assertions.assertThat(actualEmitterId).startsWith(member.getId() + "_");
+                    return emitter;
+                });
 
         // when
         SseEmitter response = notificationService.subscribe(member.getId(), lastEventId);
 
         // then
         Assertions.assertThat(response).isNotNull();
-        verify(emitterRepository).save(any(String.class), any(SseEmitter.class));
+        verify(emitterRepository).save(eq(member.getId()), any(String.class), any(SseEmitter.class));
     }
 
     @Test
@@ -113,12 +121,8 @@ class NotificationServiceTest {
                 .receiver(member)
                 .build();
 
-        String eventId = member.getId() + "_123456789";
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-        emitters.put(eventId, emitter);
+        ReflectionTestUtils.setField(notification, "id", 1L);
 
-        given(emitterRepository.findAllEmitterStartsWithMemberId(any(String.class))).willReturn(emitters);
         given(notificationRepository.save(any(Notification.class))).willReturn(notification);
 
         // when
@@ -126,8 +130,84 @@ class NotificationServiceTest {
 
         // then
         verify(notificationRepository).save(any(Notification.class));
-        verify(emitterRepository).findAllEmitterStartsWithMemberId(String.valueOf(member.getId()));
-        verify(emitterRepository).saveEventCache(eventId, notification);
+        verify(notificationDispatcher).dispatch(eq(member.getId()), argThat(response ->
+                response.getNotificationId().equals(1L) && response.getEventId().equals("1")));
+    }
+
+    @Test
+    @DisplayName("알림 구독 성공 - 마지막으로 받은 알림 이후의 알림 재전송")
+    void subscribe_success_with_last_event_id() {
+        // given
+        Member member = createTestMember();
+        Notification notification2 = createTestNotification(NotificationType.MATE_CLOSED, member);
+        Notification notification3 = createTestNotification(NotificationType.GOODS_CLOSED, member);
+        ReflectionTestUtils.setField(notification2, "id", 2L);
+        ReflectionTestUtils.setField(notification3, "id", 3L);
+
+        given(emitterRepository.save(eq(member.getId()), any(String.class), any(SseEmitter.class)))
+                .willReturn(new SseEmitter(DEFAULT_TIMEOUT));
+        given(notificationRepository.findByReceiverIdAndIdGreaterThanOrderByIdAsc(eq(member.getId()), eq(1L),
+                any(Pageable.class))).willReturn(List.of(notification2, notification3));
+
+        // when
+        SseEmitter response = notificationService.subscribe(member.getId(), "1");
+
+        // then
+        Assertions.assertThat(response).isNotNull();
+        verify(notificationRepository).findByReceiverIdAndIdGreaterThanOrderByIdAsc(eq(member.getId()), eq(1L),
+                any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("알림 구독 성공 - 미수신 알림이 한 페이지보다 많으면 모두 재전송한 뒤 실시간 알림 보류 해제")
+    void subscribe_success_with_more_lost_data_than_page_size() {
+        // given
+        Member member = createTestMember();
+        given(emitterRepository.save(eq(member.getId()), any(String.class), any(SseEmitter.class)))
+                .willReturn(new SseEmitter(DEFAULT_TIMEOUT));
+        // 1 ~ 250 번 알림을 미수신한 상태에서 요청한 ID 이후의 알림을 최대 페이지 크기만큼 반환
+        given(notificationRepository.findByReceiverIdAndIdGreaterThanOrderByIdAsc(eq(member.getId()), any(),
+                any(Pageable.class))).willAnswer(invocation -> {
+                    long afterId = invocation.getArgument(1);
+                    Pageable pageable = invocation.getArgument(2);
+                    return LongStream.rangeClosed(afterId + 1, Math.min(afterId + pageable.getPageSize(), 250))
+                            .mapToObj(id -> {
+                                Notification notification = createTestNotification(NotificationType.MATE_CLOSED,
+                                        member);
+                                ReflectionTestUtils.setField(notification, "id", id);
+                                return notification;
+                            })
+                            .toList();
+                });
+
+        // when
+        SseEmitter response = notificationService.subscribe(member.getId(), "0");
+
+        // then
+        verify(notificationRepository).findByReceiverIdAndIdGreaterThanOrderByIdAsc(eq(member.getId()), eq(0L),
+                any(Pageable.class));
+        verify(notificationRepository).findByReceiverIdAndIdGreaterThanOrderByIdAsc(eq(member.getId()), eq(100L),
+                any(Pageable.class));
+        verify(notificationRepository).findByReceiverIdAndIdGreaterThanOrderByIdAsc(eq(member.getId()), eq(200L),
+                any(Pageable.class));
+        verify(notificationRepository, times(3)).findByReceiverIdAndIdGreaterThanOrderByIdAsc(any(), any(), any());
+        assertThat((Set<?>) ReflectionTestUtils.getField(response, "replayedIds")).hasSize(250);
+        assertThat(ReflectionTestUtils.getField(response, "replaying")).isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("알림 구독 성공 - 이전 형식의 이벤트 ID 는 재전송하지 않음")
+    void subscribe_success_with_legacy_last_event_id() {
+        // given
+        Member member = createTestMember();
+        given(emitterRepository.save(eq(member.getId()), any(String.class), any(SseEmitter.class)))
+                .willReturn(new SseEmitter(DEFAULT_TIMEOUT));
+
+        // when
+        notificationService.subscribe(member.getId(), member.getId() + "_1736919132500");
+
+        // then
+        verify(notificationRepository, never()).findByReceiverIdAndIdGreaterThanOrderByIdAsc(any(), any(), any());
     }
 
     @Nested